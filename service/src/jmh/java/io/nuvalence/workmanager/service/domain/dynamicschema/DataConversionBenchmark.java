@@ -0,0 +1,93 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting a representative mix of values unmarshalled from JSON with the memoized
+ * converter lookup against searching the registered converters for every value, as
+ * {@link DataConversionSupport} used to.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataConversionBenchmark {
+    private static final Object[] VALUES = {
+        "2023-11-02",
+        "2019-06-01T00:00:00Z",
+        "2023-05-02T06:00:00.000-05:00",
+        "42",
+        1250.5,
+        1000,
+        "19.99",
+        "true",
+        "Springfield",
+        Boolean.FALSE,
+        Map.of("documentId", UUID.randomUUID().toString(), "filename", "proof.pdf")
+    };
+
+    private static final Class<?>[] TYPES = {
+        LocalDate.class,
+        LocalDate.class,
+        LocalDate.class,
+        Integer.class,
+        BigDecimal.class,
+        BigDecimal.class,
+        BigDecimal.class,
+        Boolean.class,
+        String.class,
+        Boolean.class,
+        Document.class
+    };
+
+    /**
+     * Converts the mix with the memoized converter lookup.
+     */
+    @Benchmark
+    public void memoizedLookup(final Blackhole blackhole) {
+        for (int index = 0; index < VALUES.length; index++) {
+            blackhole.consume(DataConversionSupport.convert(VALUES[index], TYPES[index]));
+        }
+    }
+
+    /**
+     * Converts the mix searching the registered converters for every value.
+     */
+    @Benchmark
+    public void searchedLookup(final Blackhole blackhole) {
+        for (int index = 0; index < VALUES.length; index++) {
+            blackhole.consume(searched(VALUES[index], TYPES[index]));
+        }
+    }
+
+    private static Object searched(final Object value, final Class<?> type) {
+        final Class<?> inputType = value.getClass();
+        if (type.isAssignableFrom(inputType)) {
+            return type.cast(value);
+        }
+
+        return DataConversionSupport.findConverter(inputType, type)
+                .orElseThrow(
+                        () ->
+                                new UnsupportedOperationException(
+                                        String.format(
+                                                "No converter found to convert %s to %s",
+                                                value.getClass().getName(), type.getName())))
+                .apply(inputType.cast(value));
+    }
+}
@@ -0,0 +1,145 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.utils.testutils.IntakeFixture;
+import org.apache.commons.beanutils.BasicDynaBean;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.DynaProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Measures filling and reading the attributes of a household of people held in dynamic entities,
+ * whose {@link DynamicEntityDynaBean}s keep their values in slots, alongside plain map-backed
+ * {@link BasicDynaBean}s, which dynamic entities used to be built on.
+ *
+ * <p>Run {@link #main(String[])} to compare the heap retained by both kinds of beans, and by a
+ * large nested transaction hydrated by {@link EntityMapper}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlotDynaBeanBenchmark {
+    private static final int TRANSACTIONS = 20;
+    private static final int LARGE_HOUSEHOLD = 200;
+    private static final int BEANS = 100_000;
+
+    /**
+     * Fills and reads a household of dynamic entities.
+     */
+    @Benchmark
+    public void entities(final IntakeFixture fixture, final Blackhole blackhole) {
+        for (int member = 0; member < fixture.getHouseholdSize(); member++) {
+            read(entity(fixture.getPersonSchema(), member), blackhole);
+        }
+    }
+
+    /**
+     * Fills and reads a household of map-backed beans.
+     */
+    @Benchmark
+    public void mapBeans(final IntakeFixture fixture, final Blackhole blackhole) {
+        for (int member = 0; member < fixture.getHouseholdSize(); member++) {
+            read(mapBean(fixture.getPersonSchema(), member), blackhole);
+        }
+    }
+
+    /**
+     * Prints the heap retained by each kind of bean, and by a hydrated transaction with a large
+     * household. Run it once with each implementation to compare the transactions.
+     *
+     * @param args unused
+     * @throws MissingSchemaException if a nested schema is missing
+     */
+    public static void main(final String[] args) throws MissingSchemaException {
+        final IntakeFixture fixture = new IntakeFixture();
+        final Schema personSchema = fixture.getPersonSchema();
+        System.out.printf(
+                "entity: %d bytes%n", retainedBytes(BEANS, index -> entity(personSchema, index)));
+        System.out.printf(
+                "map bean: %d bytes%n",
+                retainedBytes(BEANS, index -> mapBean(personSchema, index)));
+
+        final Map<String, Object> payload = fixture.createApplication(LARGE_HOUSEHOLD);
+        final DynamicEntity[] transactions = new DynamicEntity[TRANSACTIONS];
+        final long before = usedHeap();
+        for (int index = 0; index < TRANSACTIONS; index++) {
+            transactions[index] =
+                    fixture.getEntityMapper()
+                            .convertGenericMapToEntity(fixture.getApplicationSchema(), payload);
+        }
+        final long after = usedHeap();
+        Reference.reachabilityFence(transactions);
+        System.out.printf(
+                "transaction with %d household members: %d bytes%n",
+                LARGE_HOUSEHOLD, (after - before) / TRANSACTIONS);
+    }
+
+    private static DynaBean entity(final Schema personSchema, final int member) {
+        final DynamicEntity entity = new DynamicEntity(personSchema);
+        fill(entity, member);
+        return entity;
+    }
+
+    private static DynaBean mapBean(final Schema personSchema, final int member) {
+        final BasicDynaBean bean = new BasicDynaBean(personSchema);
+        for (DynaProperty property : personSchema.getDynaProperties()) {
+            if (List.class.isAssignableFrom(property.getType())) {
+                bean.set(property.getName(), new ArrayList<>());
+            }
+        }
+        fill(bean, member);
+        return bean;
+    }
+
+    private static void fill(final DynaBean bean, final int member) {
+        bean.set("firstName", "First" + member);
+        bean.set("lastName", "Last");
+        bean.set("dateOfBirth", LocalDate.of(1990, 4, 12));
+        bean.set("age", 30 + member % 40);
+        bean.set("isStudent", member % 3 == 0);
+    }
+
+    private static void read(final DynaBean bean, final Blackhole blackhole) {
+        for (DynaProperty property : bean.getDynaClass().getDynaProperties()) {
+            blackhole.consume(bean.get(property.getName()));
+        }
+    }
+
+    private static long retainedBytes(final int count, final IntFunction<Object> factory) {
+        final Object[] retained = new Object[count];
+        final long before = usedHeap();
+        for (int index = 0; index < count; index++) {
+            retained[index] = factory.apply(index);
+        }
+        final long after = usedHeap();
+        Reference.reachabilityFence(retained);
+        return (after - before) / count;
+    }
+
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+    private static long usedHeap() {
+        for (int collection = 0; collection < 3; collection++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,99 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.DataConversionSupport;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.service.SchemaService;
+import io.nuvalence.workmanager.service.utils.testutils.IntakeFixture;
+import org.apache.commons.beanutils.DynaProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares hydrating a large nested intake payload with the per-schema conversion plan against the
+ * per-value conversion the mapper used to do, which looked every attribute up in the schema,
+ * searched for a converter for every value and fetched the schema of every nested object.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityHydrationBenchmark {
+    /**
+     * Hydrates the payload with the per-schema conversion plan.
+     */
+    @Benchmark
+    public DynamicEntity planned(final IntakeFixture fixture) throws MissingSchemaException {
+        return fixture.getEntityMapper()
+                .convertGenericMapToEntity(
+                        fixture.getApplicationSchema(), fixture.getApplication());
+    }
+
+    /**
+     * Hydrates the payload converting value by value, as the mapper used to.
+     */
+    @Benchmark
+    public DynamicEntity perValue(final IntakeFixture fixture) {
+        return convertPerValue(
+                fixture.getSchemaService(),
+                fixture.getApplicationSchema(),
+                fixture.getApplication());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DynamicEntity convertPerValue(
+            final SchemaService schemaService,
+            final Schema schema,
+            final Map<String, Object> data) {
+        final DynamicEntity entity = new DynamicEntity(schema);
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            final String key = entry.getKey();
+            final DynaProperty dynaProperty = schema.getDynaProperty(key);
+            final Class<?> type = dynaProperty.getType();
+
+            if (DynamicEntity.class.isAssignableFrom(type)) {
+                entity.set(
+                        key, convertNestedPerValue(schemaService, schema, key, entry.getValue()));
+            } else if (List.class.isAssignableFrom(type)) {
+                final List<Object> list = new LinkedList<>();
+                for (Object element : (List<Object>) entry.getValue()) {
+                    list.add(
+                            DynamicEntity.class.isAssignableFrom(dynaProperty.getContentType())
+                                    ? convertNestedPerValue(schemaService, schema, key, element)
+                                    : DataConversionSupport.convert(
+                                            element, dynaProperty.getContentType()));
+                }
+                entity.set(key, list);
+            } else {
+                Object value = entry.getValue();
+                if (!type.isAssignableFrom(value.getClass())) {
+                    value = DataConversionSupport.convert(value, type);
+                }
+                entity.set(key, DataConversionSupport.convert(value, type));
+            }
+        }
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DynamicEntity convertNestedPerValue(
+            final SchemaService schemaService,
+            final Schema schema,
+            final String key,
+            final Object value) {
+        final Schema nestedSchema =
+                schemaService.getSchemaByKey(schema.getRelatedSchemas().get(key)).orElseThrow();
+        return convertPerValue(schemaService, nestedSchema, (Map<String, Object>) value);
+    }
+}
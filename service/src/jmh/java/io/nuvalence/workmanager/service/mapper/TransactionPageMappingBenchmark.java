@@ -0,0 +1,275 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.generated.models.TransactionModel;
+import io.nuvalence.workmanager.service.service.TransactionTaskService;
+import io.nuvalence.workmanager.service.utils.camunda.CamundaWorkflowInspectorCache;
+import io.nuvalence.workmanager.service.utils.testutils.RoundTrips;
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.task.TaskQuery;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares mapping a page of transactions row by row against the page-level batch mapping path.
+ *
+ * <p>Camunda is replaced by in-memory fakes that take a {@link RoundTrips round trip} for every
+ * query that would hit the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionPageMappingBenchmark {
+    private static final String PROCESS_DEFINITION_ID = "test-process:1:1";
+
+    @Param({"20", "50"})
+    private int pageSize;
+
+    private final Map<String, List<Task>> tasksByProcessInstanceId = new HashMap<>();
+    private final Map<String, ProcessInstance> processInstancesById = new HashMap<>();
+    private final Map<String, HistoricProcessInstance> historicInstancesById = new HashMap<>();
+    private List<Transaction> page;
+    private TransactionMapper mapper;
+    private RoundTrips roundTrips;
+
+    /**
+     * Builds a page of transactions, half of which have a completed workflow and half of which have
+     * an active task, and wires the mapper against the simulated engine.
+     */
+    @Setup(Level.Trial)
+    public void setUp(final RoundTrips roundTrips) {
+        this.roundTrips = roundTrips;
+        SecurityContextHolder.getContext()
+                .setAuthentication(UserToken.builder().userType("agency").build());
+
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            final String processInstanceId = "process-instance-" + i;
+            final Transaction transaction =
+                    Transaction.builder()
+                            .id(UUID.randomUUID())
+                            .transactionDefinitionKey("test")
+                            .processInstanceId(processInstanceId)
+                            .status("new")
+                            .data(new DynamicEntity(Schema.builder().name("test").build()))
+                            .build();
+            ReflectionTestUtils.setField(
+                    transaction, "transactionDefinition", new TransactionDefinition());
+            page.add(transaction);
+
+            final boolean ended = i % 2 == 0;
+            processInstancesById.put(processInstanceId, processInstance(processInstanceId));
+            historicInstancesById.put(
+                    processInstanceId, historicProcessInstance(processInstanceId, ended));
+            tasksByProcessInstanceId.put(
+                    processInstanceId, ended ? List.of() : List.of(task(processInstanceId)));
+        }
+
+        final ProcessEngine processEngine = processEngine();
+        mapper = Mappers.getMapper(TransactionMapper.class);
+        mapper.setEntityMapper(Mappers.getMapper(EntityMapper.class));
+        mapper.setCustomerProvidedDocumentMapper(
+                Mappers.getMapper(CustomerProvidedDocumentMapper.class));
+        mapper.setTransactionTaskService(
+                new TransactionTaskService(
+                        processEngine,
+                        Mappers.getMapper(EntityMapper.class),
+                        mock(AuthorizationHandler.class),
+                        new CamundaWorkflowInspectorCache(processEngine)));
+    }
+
+    /**
+     * Maps the page one transaction at a time, as the list endpoints used to.
+     */
+    @Benchmark
+    public List<TransactionModel> perRow(final RoundTrips.Counter counter) {
+        return roundTrips.measure(
+                counter, () -> page.stream().map(mapper::transactionToTransactionModel).toList());
+    }
+
+    /**
+     * Maps the page with workflow state resolved once for all of its transactions.
+     */
+    @Benchmark
+    public List<TransactionModel> batched(final RoundTrips.Counter counter) {
+        return roundTrips.measure(counter, () -> mapper.transactionsToTransactionModels(page));
+    }
+
+    private ProcessEngine processEngine() {
+        final ProcessEngine processEngine = mock(ProcessEngine.class);
+        final TaskService taskService = mock(TaskService.class);
+        final HistoryService historyService = mock(HistoryService.class);
+        final RuntimeService runtimeService = mock(RuntimeService.class);
+        final RepositoryService repositoryService = mock(RepositoryService.class);
+        final ProcessDefinition processDefinition = mock(ProcessDefinition.class);
+
+        when(processEngine.getTaskService()).thenReturn(taskService);
+        when(processEngine.getHistoryService()).thenReturn(historyService);
+        when(processEngine.getRuntimeService()).thenReturn(runtimeService);
+        when(processEngine.getRepositoryService()).thenReturn(repositoryService);
+
+        when(taskService.createTaskQuery())
+                .thenAnswer(
+                        invocation ->
+                                query(
+                                        TaskQuery.class,
+                                        ids ->
+                                                ids.stream()
+                                                        .flatMap(
+                                                                id ->
+                                                                        tasksByProcessInstanceId
+                                                                                .get(id)
+                                                                                .stream())
+                                                        .collect(Collectors.toList())));
+        when(historyService.createHistoricProcessInstanceQuery())
+                .thenAnswer(
+                        invocation ->
+                                query(
+                                        HistoricProcessInstanceQuery.class,
+                                        ids ->
+                                                ids.stream()
+                                                        .map(historicInstancesById::get)
+                                                        .collect(Collectors.toList())));
+        when(runtimeService.createProcessInstanceQuery())
+                .thenAnswer(
+                        invocation ->
+                                query(
+                                        ProcessInstanceQuery.class,
+                                        ids ->
+                                                ids.stream()
+                                                        .map(processInstancesById::get)
+                                                        .collect(Collectors.toList())));
+
+        when(repositoryService.getProcessDefinition(PROCESS_DEFINITION_ID))
+                .thenReturn(processDefinition);
+        when(processDefinition.getDeploymentId()).thenReturn("deployment");
+        when(processDefinition.getResourceName()).thenReturn("TestWorkflow.bpmn");
+        when(repositoryService.getResourceAsStream("deployment", "TestWorkflow.bpmn"))
+                .thenAnswer(invocation -> getClass().getResourceAsStream("/TestWorkflow.bpmn"));
+
+        return processEngine;
+    }
+
+    /**
+     * Creates a fluent Camunda query fake that records the process instance IDs it is filtered by
+     * and resolves them with {@code resolver} when executed. A {@code finished()} filter drops
+     * historic instances without an end time.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T query(
+            final Class<T> type, final Function<Collection<String>, List<Object>> resolver) {
+        final Set<String> ids = new HashSet<>();
+        final boolean[] finished = {false};
+        return type.cast(
+                Proxy.newProxyInstance(
+                        Thread.currentThread().getContextClassLoader(),
+                        new Class<?>[] {type},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "processInstanceId" -> ids.add((String) args[0]);
+                                case "processInstanceIdIn" -> ids.addAll(
+                                        List.of((String[]) args[0]));
+                                case "processInstanceIds" -> ids.addAll((Set<String>) args[0]);
+                                case "finished" -> finished[0] = true;
+                                case "list" -> {
+                                    return execute(resolver, ids, finished[0]);
+                                }
+                                case "singleResult" -> {
+                                    return execute(resolver, ids, finished[0]).stream()
+                                            .findFirst()
+                                            .orElse(null);
+                                }
+                                default -> {
+                                    // other filters do not affect the simulated result
+                                }
+                            }
+                            return proxy;
+                        }));
+    }
+
+    private List<Object> execute(
+            final Function<Collection<String>, List<Object>> resolver,
+            final Collection<String> ids,
+            final boolean finished) {
+        roundTrips.roundTrip();
+        return resolver.apply(ids).stream()
+                .filter(
+                        result ->
+                                !finished
+                                        || ((HistoricProcessInstance) result).getEndTime() != null)
+                .collect(Collectors.toList());
+    }
+
+    private static ProcessInstance processInstance(final String processInstanceId) {
+        final ProcessInstance processInstance = mock(ProcessInstance.class);
+        when(processInstance.getId()).thenReturn(processInstanceId);
+        when(processInstance.getProcessDefinitionId()).thenReturn(PROCESS_DEFINITION_ID);
+        return processInstance;
+    }
+
+    private static HistoricProcessInstance historicProcessInstance(
+            final String processInstanceId, final boolean ended) {
+        final HistoricProcessInstance historicProcessInstance = mock(HistoricProcessInstance.class);
+        when(historicProcessInstance.getId()).thenReturn(processInstanceId);
+        when(historicProcessInstance.getProcessDefinitionId()).thenReturn(PROCESS_DEFINITION_ID);
+        when(historicProcessInstance.getEndTime()).thenReturn(ended ? new Date() : null);
+        return historicProcessInstance;
+    }
+
+    private static Task task(final String processInstanceId) {
+        final TaskEntity task = new TaskEntity(UUID.randomUUID().toString());
+        task.setProcessInstanceId(processInstanceId);
+        task.setProcessDefinitionId(PROCESS_DEFINITION_ID);
+        task.setTaskDefinitionKey("task1");
+        return task;
+    }
+}
@@ -0,0 +1,206 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCount;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCountKey;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.utils.testutils.RoundTrips;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compares counting the tabs of a dashboard with one statement against the statements the
+ * dashboard used to issue: one grouped query for all single status tabs, one for all single
+ * priority tabs, and one count for every other tab.
+ *
+ * <p>Both run against an in-memory H2 copy of the {@code transaction_counts} rollup, and every
+ * statement takes a {@link RoundTrips round trip}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DashboardTabCountBenchmark {
+    private static final List<String> STATUSES =
+            List.of("Draft", "Submitted", "Review", "Approved", "Denied", "Closed");
+    private static final int DEFINITIONS = 20;
+    private static final int ASSIGNEES = 25;
+
+    @Param({"4", "12"})
+    private int tabs;
+
+    private final Map<String, TransactionFilters> statusTabs = new LinkedHashMap<>();
+    private final Map<String, TransactionFilters> priorityTabs = new LinkedHashMap<>();
+    private final Map<String, TransactionFilters> otherTabs = new LinkedHashMap<>();
+    private final Map<String, TransactionFilters> allTabs = new LinkedHashMap<>();
+    private List<String> transactionDefinitionKeys;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TransactionCountRepositoryImpl repository;
+    private RoundTrips roundTrips;
+    private boolean seeding;
+
+    /**
+     * Fills the rollup with every combination of definition, status, priority and assignee, and
+     * builds a dashboard mixing single status, single priority, assigned to me and combined tabs.
+     */
+    @Setup(Level.Trial)
+    public void setUp(final RoundTrips roundTrips) {
+        this.roundTrips = roundTrips;
+        final Configuration configuration =
+                new Configuration()
+                        .addAnnotatedClass(TransactionCount.class)
+                        .setProperty(
+                                AvailableSettings.URL,
+                                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                        .setProperty(AvailableSettings.USER, "sa")
+                        .setProperty(AvailableSettings.HBM2DDL_AUTO, "create");
+        configuration.setStatementInspector(
+                sql -> {
+                    if (!seeding) {
+                        roundTrips.roundTrip();
+                    }
+                    return sql;
+                });
+        sessionFactory = configuration.buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+        repository = new TransactionCountRepositoryImpl();
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+
+        seeding = true;
+        entityManager.getTransaction().begin();
+        transactionDefinitionKeys = new ArrayList<>();
+        for (int definition = 0; definition < DEFINITIONS; definition++) {
+            transactionDefinitionKeys.add("definition-" + definition);
+            for (String status : STATUSES) {
+                for (int priority = 0;
+                        priority <= TransactionPriority.URGENT.getRank();
+                        priority += 10) {
+                    for (int assignee = 0; assignee < ASSIGNEES; assignee++) {
+                        repository.addToCount(
+                                new TransactionCountKey(
+                                        "definition-" + definition,
+                                        status,
+                                        priority,
+                                        assignee == 0 ? "" : "user-" + assignee),
+                                1 + (definition + assignee) % 7);
+                    }
+                }
+            }
+        }
+        entityManager.getTransaction().commit();
+        seeding = false;
+
+        final List<String> dashboardKeys = transactionDefinitionKeys.subList(0, DEFINITIONS / 2);
+        for (int tab = 0; tab < tabs; tab++) {
+            final String status = STATUSES.get(tab % STATUSES.size());
+            final TransactionPriority priority =
+                    TransactionPriority.values()[tab % TransactionPriority.values().length];
+            final SearchTransactionsFilters.SearchTransactionsFiltersBuilder filters =
+                    SearchTransactionsFilters.builder().transactionDefinitionKeys(dashboardKeys);
+            switch (tab % 4) {
+                case 0 -> statusTabs.put("tab-" + tab, filters.status(List.of(status)).build());
+                case 1 -> priorityTabs.put(
+                        "tab-" + tab, filters.priority(List.of(priority)).build());
+                case 2 -> otherTabs.put("tab-" + tab, filters.assignedToMe(true).build());
+                default -> otherTabs.put(
+                        "tab-" + tab,
+                        filters.status(List.of(status)).priority(List.of(priority)).build());
+            }
+        }
+        allTabs.putAll(statusTabs);
+        allTabs.putAll(priorityTabs);
+        allTabs.putAll(otherTabs);
+
+        if (!countPerTab().equals(repository.countEach(allTabs))) {
+            throw new IllegalStateException("Both approaches must count the same transactions");
+        }
+    }
+
+    /**
+     * Releases the database.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    /**
+     * Counts the dashboard with the statements it used to issue.
+     */
+    @Benchmark
+    public Map<String, Long> perTab(final RoundTrips.Counter counter) {
+        return roundTrips.measure(counter, this::countPerTab);
+    }
+
+    /**
+     * Counts all tabs of the dashboard with one statement.
+     */
+    @Benchmark
+    public Map<String, Long> singleStatement(final RoundTrips.Counter counter) {
+        return roundTrips.measure(counter, () -> repository.countEach(allTabs));
+    }
+
+    private Map<String, Long> countPerTab() {
+        final Map<String, Long> counts = new HashMap<>();
+
+        if (!statusTabs.isEmpty()) {
+            final Map<String, Long> statusCounts =
+                    repository.countByStatus(
+                            SearchTransactionsFilters.builder()
+                                    .transactionDefinitionKeys(
+                                            transactionDefinitionKeys.subList(0, DEFINITIONS / 2))
+                                    .status(
+                                            statusTabs.values().stream()
+                                                    .flatMap(
+                                                            filters -> filters.getStatus().stream())
+                                                    .distinct()
+                                                    .toList())
+                                    .build());
+            statusTabs.forEach(
+                    (label, filters) ->
+                            counts.put(
+                                    label,
+                                    filters.getStatus().stream()
+                                            .mapToLong(
+                                                    status -> statusCounts.getOrDefault(status, 0L))
+                                            .sum()));
+        }
+        if (!priorityTabs.isEmpty()) {
+            // stands in for the grouped priority query, which also took a single statement
+            counts.putAll(repository.countEach(priorityTabs));
+        }
+        otherTabs.forEach(
+                (label, filters) -> counts.putAll(repository.countEach(Map.of(label, filters))));
+        return counts;
+    }
+}
@@ -0,0 +1,174 @@
+package io.nuvalence.workmanager.service.utils.testutils;
+
+import static org.mockito.Mockito.mock;
+
+import io.nuvalence.workmanager.service.cache.ConfigurationChangeBus;
+import io.nuvalence.workmanager.service.cache.SchemaCache;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.repository.SchemaRepository;
+import io.nuvalence.workmanager.service.service.SchemaService;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schemas of an intake application with an applicant, a household and incomes, served from a warm
+ * {@link SchemaCache} as they are in the service, and an application payload shaped as it comes
+ * out of JSON.
+ */
+@State(Scope.Benchmark)
+public class IntakeFixture {
+    @Param({"10", "200"})
+    private int householdSize;
+
+    private final Schema personSchema;
+    private final Schema applicationSchema;
+    private final SchemaService schemaService;
+    private final EntityMapper entityMapper;
+    private Map<String, Object> application;
+
+    /**
+     * Registers the schemas and wires an {@link EntityMapper} against them.
+     */
+    public IntakeFixture() {
+        final Schema addressSchema =
+                Schema.builder()
+                        .key("Address")
+                        .name("Address")
+                        .property("line1", String.class)
+                        .property("city", String.class)
+                        .property("postalCode", String.class)
+                        .property("movedInOn", LocalDate.class)
+                        .build();
+        final Schema incomeSchema =
+                Schema.builder()
+                        .key("Income")
+                        .name("Income")
+                        .property("source", String.class)
+                        .property("amount", BigDecimal.class)
+                        .property("startedOn", LocalDate.class)
+                        .build();
+        personSchema =
+                Schema.builder()
+                        .key("Person")
+                        .name("Person")
+                        .property("firstName", String.class)
+                        .property("lastName", String.class)
+                        .property("dateOfBirth", LocalDate.class)
+                        .property("age", Integer.class)
+                        .property("isStudent", Boolean.class)
+                        .property("address", addressSchema)
+                        .property("incomes", List.class, incomeSchema)
+                        .build();
+        applicationSchema =
+                Schema.builder()
+                        .key("Application")
+                        .name("Application")
+                        .property("programName", String.class)
+                        .property("submittedOn", LocalDate.class)
+                        .property("requestedAmount", BigDecimal.class)
+                        .property("applicant", personSchema)
+                        .property("household", List.class, personSchema)
+                        .property("notes", List.class, String.class)
+                        .build();
+
+        final SchemaCache schemaCache = new SchemaCache(new ConfigurationChangeBus(null));
+        List.of(addressSchema, incomeSchema, personSchema, applicationSchema)
+                .forEach(schemaCache::put);
+        schemaService = new SchemaService(mock(SchemaRepository.class), null, schemaCache, null);
+        entityMapper = Mappers.getMapper(EntityMapper.class);
+        entityMapper.setSchemaService(schemaService);
+    }
+
+    /**
+     * Builds the application payload with {@code householdSize} members.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = createApplication(householdSize);
+    }
+
+    /**
+     * Builds an application payload. Dates are strings, numbers are integers or doubles, and the
+     * age and student flag of each member are strings, as forms often submit them.
+     *
+     * @param householdSize number of household members, each with an address and two incomes
+     * @return application payload
+     */
+    public Map<String, Object> createApplication(final int householdSize) {
+        final List<Object> household = new ArrayList<>(householdSize);
+        for (int member = 0; member < householdSize; member++) {
+            household.add(person(member));
+        }
+        final Map<String, Object> application = new HashMap<>();
+        application.put("programName", "Housing assistance");
+        application.put("submittedOn", "2023-11-02");
+        application.put("requestedAmount", 1250.5);
+        application.put("applicant", person(-1));
+        application.put("household", household);
+        application.put("notes", List.of("first note", "second note"));
+        return application;
+    }
+
+    public int getHouseholdSize() {
+        return householdSize;
+    }
+
+    public Schema getPersonSchema() {
+        return personSchema;
+    }
+
+    public Schema getApplicationSchema() {
+        return applicationSchema;
+    }
+
+    public SchemaService getSchemaService() {
+        return schemaService;
+    }
+
+    public EntityMapper getEntityMapper() {
+        return entityMapper;
+    }
+
+    public Map<String, Object> getApplication() {
+        return application;
+    }
+
+    private static Map<String, Object> person(final int member) {
+        final Map<String, Object> address = new HashMap<>();
+        address.put("line1", member + " Main Street");
+        address.put("city", "Springfield");
+        address.put("postalCode", "12345");
+        address.put("movedInOn", "2019-06-01T00:00:00Z");
+
+        final List<Object> incomes = new ArrayList<>();
+        for (int income = 0; income < 2; income++) {
+            final Map<String, Object> entry = new HashMap<>();
+            entry.put("source", "Employer " + income);
+            entry.put("amount", 1000 + member + income);
+            entry.put("startedOn", "2021-0" + (income + 1) + "-15");
+            incomes.add(entry);
+        }
+
+        final Map<String, Object> person = new HashMap<>();
+        person.put("firstName", "First" + member);
+        person.put("lastName", "Last" + member);
+        person.put("dateOfBirth", "1990-04-12");
+        person.put("age", String.valueOf(30 + member % 40));
+        person.put("isStudent", member % 3 == 0 ? "true" : "false");
+        person.put("address", address);
+        person.put("incomes", incomes);
+        return person;
+    }
+}
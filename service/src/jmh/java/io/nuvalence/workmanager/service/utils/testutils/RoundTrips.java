@@ -0,0 +1,59 @@
+package io.nuvalence.workmanager.service.utils.testutils;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Simulated round trips to a remote database. Every round trip is counted and parks the calling
+ * thread for {@code roundTripMicros}, so the reported latency approximates what an operation costs
+ * against a real database, and the {@code roundTrips} counter of {@link Counter} reports how many
+ * round trips it took.
+ */
+@State(Scope.Thread)
+public class RoundTrips {
+    @Param({"0", "500"})
+    private long roundTripMicros;
+
+    private long count;
+
+    /**
+     * Counts a round trip and waits for it.
+     */
+    public void roundTrip() {
+        count++;
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    }
+
+    /**
+     * Runs an operation, adding it and the round trips it took to {@code counter}.
+     *
+     * @param counter per-iteration counters
+     * @param operation operation to run
+     * @param <T> operation result type
+     * @return operation result
+     */
+    public <T> T measure(final Counter counter, final Supplier<T> operation) {
+        final long before = count;
+        final T result = operation.get();
+        counter.operations++;
+        counter.roundTrips += count - before;
+        return result;
+    }
+
+    /**
+     * Per-iteration totals of operations and of the round trips they took; {@code roundTrips /
+     * operations} is the number of round trips per operation.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counter {
+        public long operations;
+        public long roundTrips;
+    }
+}
@@ -0,0 +1,415 @@
+package io.nuvalence.workmanager.service.audit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.nuvalence.logging.util.CorrelationIdContext;
+import io.nuvalence.workmanager.auditservice.client.ApiClient;
+import io.nuvalence.workmanager.auditservice.client.ApiException;
+import io.nuvalence.workmanager.service.domain.AuditEventOutboxEntry;
+import io.nuvalence.workmanager.service.repository.AuditEventOutboxRepository;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Delivers the audit events queued in the {@code audit_event_outbox} table to the audit service.
+ *
+ * <p>Each poll claims the oldest due entry of up to {@code batchSize} business objects and delivers
+ * it, followed by the entries queued behind it, strictly in the order they were written. When a
+ * delivery fails the entry is rescheduled with exponential backoff and the entries behind it wait,
+ * so events of one business object never reach the audit service out of order. Events are
+ * delivered at least once.</p>
+ *
+ * <p>No database transaction or connection is held while events are sent. A poll runs in three
+ * steps: a short transaction claims the due entries by pushing their next attempt past the end of
+ * the poll (a lease, which other nodes respect and which lapses if this node dies); the events are
+ * then sent, each request and the poll as a whole being bounded by a timeout; and a second short
+ * transaction removes the delivered entries and reschedules the failed ones.</p>
+ *
+ * <p>The audit service accepts one event per request, so rather than batching, the events of
+ * different business objects are sent concurrently over the shared HTTP/2 client of
+ * {@link AuditServiceApiClient}, while the events of any one business object are still sent one
+ * after another. Payloads are serialized once, when the event is queued.</p>
+ *
+ * <p>Outbox depth and lag are published as {@code audit.outbox.pending} and
+ * {@code audit.outbox.lag} gauges, read from the database when the metrics are collected rather
+ * than on every poll, alongside {@code audit.outbox.delivered} and {@code audit.outbox.failures}
+ * counters.</p>
+ */
+@Slf4j
+@Component
+public class AuditEventOutboxDispatcher implements MeterBinder {
+    private static final String EVENTS_PATH = "/api/v1/audit-events/";
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final AuditEventOutboxRepository repository;
+    private final AuditServiceApiClient apiClient;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final int concurrency;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration requestTimeout;
+    private final Duration dispatchTimeout;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * Constructs a new AuditEventOutboxDispatcher.
+     *
+     * @param repository            outbox repository
+     * @param apiClient             audit service client
+     * @param transactionOperations runs the claim and record steps in their own transactions
+     * @param batchSize             maximum number of business objects dispatched per poll, and of
+     *                              entries delivered per business object
+     * @param concurrency           maximum number of business objects whose events are in flight
+     *                              at the same time
+     * @param initialBackoffMillis  delay before the first retry of a failed delivery
+     * @param maxBackoffMillis      upper bound of the delay between retries
+     * @param requestTimeoutMillis  timeout of a single request, unless the client has a read
+     *                              timeout of its own
+     * @param dispatchTimeoutMillis time after which the requests of a poll still in flight are
+     *                              considered failed; claimed entries are leased for twice as long
+     */
+    public AuditEventOutboxDispatcher(
+            final AuditEventOutboxRepository repository,
+            final AuditServiceApiClient apiClient,
+            final TransactionOperations transactionOperations,
+            @Value("${auditService.outbox.batchSize:100}") final int batchSize,
+            @Value("${auditService.outbox.concurrency:16}") final int concurrency,
+            @Value("${auditService.outbox.initialBackoffMillis:1000}")
+                    final long initialBackoffMillis,
+            @Value("${auditService.outbox.maxBackoffMillis:300000}") final long maxBackoffMillis,
+            @Value("${auditService.outbox.requestTimeoutMillis:10000}")
+                    final long requestTimeoutMillis,
+            @Value("${auditService.outbox.dispatchTimeoutMillis:30000}")
+                    final long dispatchTimeoutMillis) {
+        this.repository = repository;
+        this.apiClient = apiClient;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.concurrency = Math.max(1, concurrency);
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.dispatchTimeout = Duration.ofMillis(dispatchTimeoutMillis);
+    }
+
+    /**
+     * Delivers the audit events that are due.
+     */
+    @Scheduled(fixedDelayString = "${auditService.outbox.pollIntervalMillis:1000}")
+    public void dispatch() {
+        final List<List<Delivery>> queues = transactionOperations.execute(status -> claim());
+        if (queues == null || queues.isEmpty()) {
+            return;
+        }
+
+        send(queues);
+
+        transactionOperations.executeWithoutResult(status -> record(queues));
+    }
+
+    /**
+     * Locks the due heads and leases them, along with the entries queued behind them, to this
+     * dispatcher. Other dispatchers skip the heads while they are locked, and once this transaction
+     * commits, until the lease runs out.
+     */
+    private List<List<Delivery>> claim() {
+        final OffsetDateTime now = OffsetDateTime.now();
+        final OffsetDateTime leasedUntil = now.plus(dispatchTimeout.multipliedBy(2));
+        final List<List<Delivery>> queues = new ArrayList<>();
+        for (AuditEventOutboxEntry head :
+                repository.lockDueHeads(now, PageRequest.of(0, batchSize))) {
+            queues.add(prepareDueQueue(head, now));
+            head.setNextAttemptTimestamp(leasedUntil);
+            repository.save(head);
+        }
+        return queues;
+    }
+
+    private void record(final List<List<Delivery>> queues) {
+        final OffsetDateTime now = OffsetDateTime.now();
+        final List<Long> deliveredIds = new ArrayList<>();
+        for (List<Delivery> queue : queues) {
+            final Delivery head = queue.get(0);
+            if (!head.sent) {
+                // never sent because the poll timed out, so the lease is released right away
+                head.entry.setNextAttemptTimestamp(now);
+                repository.save(head.entry);
+                continue;
+            }
+            for (Delivery delivery : queue) {
+                if (!delivery.sent) {
+                    break;
+                }
+                // requests still in flight past the dispatch timeout count as failed
+                delivery.outcome.completeExceptionally(
+                        new TimeoutException(
+                                "Not delivered within " + dispatchTimeout.toMillis() + " ms"));
+                final Exception error = delivery.getError();
+                if (error == null) {
+                    deliveredIds.add(delivery.entry.getId());
+                } else {
+                    reschedule(delivery.entry, now, error);
+                }
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            repository.deleteByIdIn(deliveredIds);
+            delivered.addAndGet(deliveredIds.size());
+        }
+    }
+
+    // the lease on the head keeps other dispatchers away from the entries behind it
+    private List<Delivery> prepareDueQueue(
+            final AuditEventOutboxEntry head, final OffsetDateTime now) {
+        final List<Delivery> queue = new ArrayList<>();
+        queue.add(new Delivery(head, buildRequest(head)));
+        for (AuditEventOutboxEntry entry :
+                repository.findByBusinessObjectTypeAndBusinessObjectIdAndIdGreaterThanOrderByIdAsc(
+                        head.getBusinessObjectType(),
+                        head.getBusinessObjectId(),
+                        head.getId(),
+                        PageRequest.of(0, batchSize))) {
+            if (entry.getNextAttemptTimestamp().isAfter(now)) {
+                break;
+            }
+            queue.add(new Delivery(entry, buildRequest(entry)));
+        }
+        return queue;
+    }
+
+    private HttpRequest buildRequest(final AuditEventOutboxEntry entry) {
+        final HttpRequest.Builder request =
+                HttpRequest.newBuilder()
+                        .uri(
+                                URI.create(
+                                        apiClient.getBaseUri()
+                                                + EVENTS_PATH
+                                                + ApiClient.urlEncode(entry.getBusinessObjectType())
+                                                + "/"
+                                                + entry.getBusinessObjectId()))
+                        .header("Content-Type", "application/json")
+                        .header("Accept", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(entry.getPayload()))
+                        .timeout(
+                                apiClient.getReadTimeout() != null
+                                        ? apiClient.getReadTimeout()
+                                        : requestTimeout);
+        if (apiClient.getRequestInterceptor() != null) {
+            // requests carry the correlation id of the request that produced the event
+            final String correlationId = CorrelationIdContext.getCorrelationId();
+            CorrelationIdContext.setCorrelationId(entry.getCorrelationId());
+            try {
+                apiClient.getRequestInterceptor().accept(request);
+            } finally {
+                CorrelationIdContext.setCorrelationId(correlationId);
+            }
+        }
+        return request.build();
+    }
+
+    /**
+     * Sends the queues over the shared client, up to {@code concurrency} of them at a time. Each
+     * queue is sent strictly in order and stops at its first failure, while requests of different
+     * business objects are multiplexed over the same connections. Returns after the dispatch
+     * timeout at the latest, without starting any further request.
+     */
+    private void send(final List<List<Delivery>> queues) {
+        final HttpClient httpClient = apiClient.getHttpClient();
+        final Queue<List<Delivery>> remaining = new ConcurrentLinkedQueue<>(queues);
+        final AtomicBoolean stopped = new AtomicBoolean();
+        try {
+            CompletableFuture.allOf(
+                            IntStream.range(0, Math.min(concurrency, queues.size()))
+                                    .mapToObj(lane -> drain(httpClient, remaining, stopped))
+                                    .toArray(CompletableFuture[]::new))
+                    .orTimeout(dispatchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            stopped.set(true);
+            log.warn(
+                    "Audit events not delivered within {} ms, in-flight deliveries will be"
+                            + " retried",
+                    dispatchTimeout.toMillis(),
+                    e.getCause());
+        }
+    }
+
+    private CompletableFuture<Void> drain(
+            final HttpClient httpClient,
+            final Queue<List<Delivery>> remaining,
+            final AtomicBoolean stopped) {
+        final List<Delivery> queue = stopped.get() ? null : remaining.poll();
+        if (queue == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return sendInOrder(httpClient, queue.iterator(), stopped)
+                .thenCompose(ignored -> drain(httpClient, remaining, stopped));
+    }
+
+    private CompletableFuture<Void> sendInOrder(
+            final HttpClient httpClient,
+            final Iterator<Delivery> deliveries,
+            final AtomicBoolean stopped) {
+        if (stopped.get() || !deliveries.hasNext()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final Delivery delivery = deliveries.next();
+        delivery.sent = true;
+        return httpClient
+                .sendAsync(delivery.request, HttpResponse.BodyHandlers.ofString())
+                .handle(delivery::complete)
+                .thenCompose(
+                        delivered ->
+                                Boolean.TRUE.equals(delivered)
+                                        ? sendInOrder(httpClient, deliveries, stopped)
+                                        : CompletableFuture.completedFuture(null));
+    }
+
+    private void reschedule(
+            final AuditEventOutboxEntry entry, final OffsetDateTime now, final Exception error) {
+        failures.incrementAndGet();
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setNextAttemptTimestamp(now.plus(getBackoff(entry.getAttempts())));
+        final String message = String.valueOf(error.getMessage());
+        entry.setLastError(
+                message.length() > MAX_ERROR_LENGTH
+                        ? message.substring(0, MAX_ERROR_LENGTH)
+                        : message);
+        repository.save(entry);
+
+        log.warn(
+                "Delivery of audit event {} for {} {} failed (attempt {}), retrying at {}",
+                entry.getId(),
+                entry.getBusinessObjectType(),
+                entry.getBusinessObjectId(),
+                entry.getAttempts(),
+                entry.getNextAttemptTimestamp(),
+                error);
+    }
+
+    private Duration getBackoff(final int attempts) {
+        final Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * An outbox entry together with its prepared request and, once sent, the outcome. The outcome
+     * is settled once: a response arriving after the poll gave up on the request is ignored.
+     */
+    private static final class Delivery {
+        private final AuditEventOutboxEntry entry;
+        private final HttpRequest request;
+        private final CompletableFuture<Void> outcome = new CompletableFuture<>();
+        private volatile boolean sent;
+
+        private Delivery(final AuditEventOutboxEntry entry, final HttpRequest request) {
+            this.entry = entry;
+            this.request = request;
+        }
+
+        private boolean complete(final HttpResponse<String> response, final Throwable failure) {
+            if (failure != null) {
+                final Throwable cause =
+                        failure instanceof CompletionException && failure.getCause() != null
+                                ? failure.getCause()
+                                : failure;
+                outcome.completeExceptionally(
+                        cause instanceof Exception ? cause : new ExecutionException(cause));
+            } else if (response.statusCode() / 100 != 2) {
+                outcome.completeExceptionally(
+                        new ApiException(
+                                response.statusCode(),
+                                "postEvent call failed with: " + response.statusCode(),
+                                response.headers(),
+                                response.body()));
+            } else {
+                outcome.complete(null);
+            }
+            return getError() == null;
+        }
+
+        private Exception getError() {
+            try {
+                outcome.getNow(null);
+                return null;
+            } catch (CompletionException e) {
+                return (Exception) e.getCause();
+            }
+        }
+    }
+
+    private double countPending() {
+        try {
+            return repository.count();
+        } catch (RuntimeException e) {
+            log.debug("Unable to count pending audit events", e);
+            return Double.NaN;
+        }
+    }
+
+    private double getLagSeconds() {
+        try {
+            return repository
+                    .findFirstByOrderByIdAsc()
+                    .map(
+                            oldest ->
+                                    Duration.between(
+                                                            oldest.getCreatedTimestamp(),
+                                                            OffsetDateTime.now())
+                                                    .toMillis()
+                                            / 1000.0)
+                    .orElse(0.0);
+        } catch (RuntimeException e) {
+            log.debug("Unable to read the oldest pending audit event", e);
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        Gauge.builder("audit.outbox.pending", this, AuditEventOutboxDispatcher::countPending)
+                .description("Audit events waiting to be delivered")
+                .register(registry);
+        Gauge.builder("audit.outbox.lag", this, AuditEventOutboxDispatcher::getLagSeconds)
+                .description("Age of the oldest audit event waiting to be delivered")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("audit.outbox.delivered", delivered, AtomicLong::get)
+                .description("Audit events delivered to the audit service")
+                .register(registry);
+        FunctionCounter.builder("audit.outbox.failures", failures, AtomicLong::get)
+                .description("Failed audit event deliveries")
+                .register(registry);
+    }
+}
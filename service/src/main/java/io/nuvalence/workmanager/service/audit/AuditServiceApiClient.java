@@ -6,13 +6,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 import jakarta.annotation.PostConstruct;
 
 /**
  * Provides authentication for audit service.
+ *
+ * <p>Unlike the generated client, which builds a new {@link HttpClient} for every API instance,
+ * this client hands out one shared HTTP/2 client, so all audit traffic reuses its connections.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -23,6 +28,8 @@ public class AuditServiceApiClient extends ApiClient {
     @Value("${auditService.baseUrl}")
     private String baseUrl;
 
+    private HttpClient httpClient;
+
     @PostConstruct
     public void init() {
         this.updateBaseUri(baseUrl);
@@ -37,4 +44,34 @@ public class AuditServiceApiClient extends ApiClient {
     public Consumer<HttpRequest.Builder> getRequestInterceptor() {
         return interceptorProvider.getRequestInterceptor(super.getRequestInterceptor());
     }
+
+    @Override
+    protected HttpClient.Builder createDefaultHttpClientBuilder() {
+        return super.createDefaultHttpClientBuilder().version(HttpClient.Version.HTTP_2);
+    }
+
+    /**
+     * Returns the client shared by every caller, built on first use.
+     *
+     * @return shared HTTP client
+     */
+    @Override
+    public synchronized HttpClient getHttpClient() {
+        if (httpClient == null) {
+            httpClient = super.getHttpClient();
+        }
+        return httpClient;
+    }
+
+    @Override
+    public synchronized ApiClient setHttpClientBuilder(final HttpClient.Builder builder) {
+        httpClient = null;
+        return super.setHttpClientBuilder(builder);
+    }
+
+    @Override
+    public synchronized ApiClient setConnectTimeout(final Duration connectTimeout) {
+        httpClient = null;
+        return super.setConnectTimeout(connectTimeout);
+    }
 }
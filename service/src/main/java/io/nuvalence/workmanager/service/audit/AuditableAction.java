@@ -7,6 +7,9 @@ import io.nuvalence.workmanager.service.utils.UserUtility;
 import lombok.NonNull;
 import lombok.ToString;
 import lombok.Value;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.OffsetDateTime;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -16,6 +19,9 @@ import java.util.List;
 /**
  * Action wrapper that handles updating last updated parameters and recording configured audit events.
  *
+ * <p>When built with {@link TransactionOperations}, the action and the recording of its audit events
+ * run in a single database transaction, so audit events are only queued for changes that commit.</p>
+ *
  * @param <S> Subject type of action
  */
 @Value
@@ -26,13 +32,17 @@ public final class AuditableAction<S extends UpdateTrackedEntity> {
 
     private final RequestContextTimestamp requestContextTimestamp;
 
+    private final TransactionOperations transactionOperations;
+
     AuditableAction(
             @NonNull AuditableActionFunction<S> action,
             List<AuditHandler<S>> auditHandlers,
-            RequestContextTimestamp requestContextTimestamp) {
+            RequestContextTimestamp requestContextTimestamp,
+            TransactionOperations transactionOperations) {
         this.action = action;
         this.auditHandlers = auditHandlers;
         this.requestContextTimestamp = requestContextTimestamp;
+        this.transactionOperations = transactionOperations;
     }
 
     /**
@@ -46,6 +56,25 @@ public final class AuditableAction<S extends UpdateTrackedEntity> {
         final String originatorId = SecurityContextUtility.getAuthenticatedUserId();
         final var updateTime = requestContextTimestamp.getCurrentTimestamp();
 
+        try {
+            return transactionOperations.execute(
+                    status -> {
+                        try {
+                            return executeAudited(subject, originatorId, updateTime);
+                        } catch (RuntimeException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new CheckedActionException(e);
+                        }
+                    });
+        } catch (CheckedActionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private S executeAudited(
+            final S subject, final String originatorId, final OffsetDateTime updateTime)
+            throws Exception {
         auditHandlers.forEach(handler -> handler.handlePreUpdateState(subject));
         final var result = action.execute(subject);
         result.setLastUpdatedTimestamp(updateTime);
@@ -56,6 +85,18 @@ public final class AuditableAction<S extends UpdateTrackedEntity> {
         return result;
     }
 
+    /**
+     * Carries a checked exception thrown by the action out of the transaction callback, rolling the
+     * transaction back on the way.
+     */
+    private static final class CheckedActionException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private CheckedActionException(final Exception cause) {
+            super(cause);
+        }
+    }
+
     /**
      * Returns a typed builder to create a new AuditableAction.
      *
@@ -78,6 +119,7 @@ public final class AuditableAction<S extends UpdateTrackedEntity> {
         private AuditableActionFunction<S> action;
         private ArrayList<AuditHandler<S>> auditHandlers;
         private RequestContextTimestamp requestContextTimestamp;
+        private TransactionOperations transactionOperations;
         private Class<S> type;
 
         AuditableActionBuilder(Class<S> type) {
@@ -142,6 +184,19 @@ public final class AuditableAction<S extends UpdateTrackedEntity> {
             return this;
         }
 
+        /**
+         * Transaction in which the action runs and its audit events are queued. Defaults to no
+         * transaction, leaving transaction management to the action itself.
+         *
+         * @param transactionOperations transaction operations, e.g. a TransactionTemplate
+         * @return this builder
+         */
+        public AuditableActionBuilder<S> transactionOperations(
+                TransactionOperations transactionOperations) {
+            this.transactionOperations = transactionOperations;
+            return this;
+        }
+
         /**
          * Builds a new AuditableAction based on builder inputs.
          *
@@ -151,7 +206,10 @@ public final class AuditableAction<S extends UpdateTrackedEntity> {
             return new AuditableAction<>(
                     action,
                     auditHandlers == null ? Collections.emptyList() : List.copyOf(auditHandlers),
-                    requestContextTimestamp);
+                    requestContextTimestamp,
+                    transactionOperations == null
+                            ? TransactionOperations.withoutTransaction()
+                            : transactionOperations);
         }
     }
 }
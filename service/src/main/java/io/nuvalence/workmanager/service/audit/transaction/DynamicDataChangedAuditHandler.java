@@ -10,7 +10,6 @@ import io.nuvalence.workmanager.service.mapper.EntityMapper;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.workmanager.service.service.TransactionAuditEventService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.beanutils.DynaProperty;
 
@@ -20,9 +19,11 @@ import java.util.UUID;
 
 /**
  * AuditHandler that records an audit event if the dynamic data of a Transaction has changed.
+ *
+ * <p>When the data is changed by a merge patch, only the attributes named by the patch are compared,
+ * so recording the event costs no more than applying the patch.</p>
  */
 @Slf4j
-@RequiredArgsConstructor
 public class DynamicDataChangedAuditHandler implements AuditHandler<Transaction> {
 
     private String transactionExternalId;
@@ -33,19 +34,54 @@ public class DynamicDataChangedAuditHandler implements AuditHandler<Transaction>
 
     private final TransactionAuditEventService transactionAuditEventService;
     private final EntityMapper mapper;
+    private final Map<String, Object> patch;
+
+    /**
+     * Creates a handler comparing all of the dynamic data.
+     *
+     * @param transactionAuditEventService service posting the audit event
+     * @param mapper mapper flattening the dynamic data
+     */
+    public DynamicDataChangedAuditHandler(
+            TransactionAuditEventService transactionAuditEventService, EntityMapper mapper) {
+        this(transactionAuditEventService, mapper, null);
+    }
+
+    /**
+     * Creates a handler comparing only the dynamic data named by a merge patch.
+     *
+     * @param transactionAuditEventService service posting the audit event
+     * @param mapper mapper flattening the dynamic data
+     * @param patch merge patch applied to the dynamic data, null to compare all of it
+     */
+    public DynamicDataChangedAuditHandler(
+            TransactionAuditEventService transactionAuditEventService,
+            EntityMapper mapper,
+            Map<String, Object> patch) {
+        this.transactionAuditEventService = transactionAuditEventService;
+        this.mapper = mapper;
+        this.patch = patch;
+    }
 
     @Override
     public void handlePreUpdateState(Transaction subject) {
         transactionId = subject.getId();
         transactionExternalId = subject.getExternalId();
-        before.putAll(mapper.flattenDynaDataMap(subject.getData()));
-        removeComputedFields("", subject.getData(), before);
+        flatten(subject.getData(), before);
     }
 
     @Override
     public void handlePostUpdateState(Transaction subject) {
-        after.putAll(mapper.flattenDynaDataMap(subject.getData()));
-        removeComputedFields("", subject.getData(), after);
+        flatten(subject.getData(), after);
+    }
+
+    private void flatten(DynamicEntity data, Map<String, String> flattenedMap) {
+        if (patch != null) {
+            flattenedMap.putAll(mapper.flattenDynaDataMap(data, patch));
+        } else {
+            flattenedMap.putAll(mapper.flattenDynaDataMap(data));
+            removeComputedFields("", data, flattenedMap);
+        }
     }
 
     @Override
@@ -0,0 +1,138 @@
+package io.nuvalence.workmanager.service.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.NonNull;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded, node-local read-through cache for a single {@link ConfigurationRegion}.
+ *
+ * <p>The whole cache is dropped whenever the region changes on any node, as reported by the
+ * {@link ConfigurationChangeBus}. Writers must call {@link #invalidate(Object)} within the
+ * transaction persisting their change.</p>
+ *
+ * <p>Values are copied on their way in and out of the cache, so callers never share (or mutate)
+ * the cached instance. A value loaded while the cache was being invalidated is returned to its
+ * caller but not cached, as it may predate the change that caused the invalidation. While the
+ * current transaction has an uncommitted change of the region, values are loaded without going
+ * through the cache at all.</p>
+ *
+ * @param <K> cache key type
+ * @param <V> cached value type
+ */
+public class ConfigurationCache<K, V> implements MeterBinder {
+    private static final long MAXIMUM_SIZE = 1000;
+
+    private final Cache<K, V> cache =
+            CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).recordStats().build();
+    private final ConfigurationChangeBus changeBus;
+    private final ConfigurationRegion region;
+    private final String name;
+    private final UnaryOperator<V> copier;
+    private long generation;
+
+    /**
+     * Constructs a new ConfigurationCache of immutable values and subscribes it to changes of the
+     * given region.
+     *
+     * @param changeBus configuration invalidation bus
+     * @param region    configuration region whose changes invalidate this cache
+     * @param name      name of the cache, used to tag its metrics
+     */
+    public ConfigurationCache(
+            final ConfigurationChangeBus changeBus,
+            final ConfigurationRegion region,
+            final String name) {
+        this(changeBus, region, name, UnaryOperator.identity());
+    }
+
+    /**
+     * Constructs a new ConfigurationCache and subscribes it to changes of the given region.
+     *
+     * @param changeBus configuration invalidation bus
+     * @param region    configuration region whose changes invalidate this cache
+     * @param name      name of the cache, used to tag its metrics
+     * @param copier    creates an independent deep copy of a value
+     */
+    public ConfigurationCache(
+            final ConfigurationChangeBus changeBus,
+            final ConfigurationRegion region,
+            final String name,
+            final UnaryOperator<V> copier) {
+        this.changeBus = changeBus;
+        this.region = region;
+        this.name = name;
+        this.copier = copier;
+        changeBus.subscribe(region, this::invalidateAll);
+    }
+
+    /**
+     * Returns the cached value for the given key, loading (and caching) it if absent.
+     *
+     * @param key    cache key
+     * @param loader fallback used to fetch the value on a cache miss
+     * @return the value, or empty if the loader could not find it
+     */
+    public Optional<V> get(final K key, final Supplier<Optional<V>> loader) {
+        if (key == null || changeBus.isChangePending(region)) {
+            return loader.get();
+        }
+
+        final V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(copier.apply(cached));
+        }
+
+        final long observedGeneration = currentGeneration();
+        final Optional<V> loaded = loader.get();
+        loaded.ifPresent(value -> putIfUnchanged(key, copier.apply(value), observedGeneration));
+        return loaded;
+    }
+
+    /**
+     * Drops the given key from the cache and publishes the change of this cache's region to all
+     * nodes.
+     *
+     * @param key key to drop (may be null)
+     */
+    public void invalidate(final K key) {
+        synchronized (this) {
+            generation++;
+            if (key != null) {
+                cache.invalidate(key);
+            }
+        }
+        changeBus.publish(region);
+    }
+
+    /**
+     * Drops every cached value.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, cache, name);
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void putIfUnchanged(
+            final K key, final V value, final long observedGeneration) {
+        if (generation == observedGeneration) {
+            cache.put(key, value);
+        }
+    }
+}
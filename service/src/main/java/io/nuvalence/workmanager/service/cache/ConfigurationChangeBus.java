@@ -0,0 +1,156 @@
+package io.nuvalence.workmanager.service.cache;
+
+import io.nuvalence.workmanager.service.domain.ConfigurationVersion;
+import io.nuvalence.workmanager.service.repository.ConfigurationVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Invalidation bus for node-local configuration caches.
+ *
+ * <p>Every change to a {@link ConfigurationRegion} bumps that region's row in the
+ * {@code configuration_version} table within the same database transaction as the change itself.
+ * Each node polls the (tiny) version table and notifies its local subscribers whenever a version
+ * differs from the last one it observed, so that all replicas drop stale entries shortly after an
+ * admin update commits, regardless of which replica served it.</p>
+ *
+ * <p>Until then, the changed regions are pending for the transaction that changed them, and caches
+ * neither serve nor store values of a pending region, since that transaction may read its own
+ * uncommitted change and then roll back.</p>
+ */
+@Slf4j
+@Component
+public class ConfigurationChangeBus {
+    private final ConfigurationVersionRepository repository;
+    private final Map<ConfigurationRegion, List<Runnable>> subscribers =
+            new EnumMap<>(ConfigurationRegion.class);
+    private final Map<String, Long> observedVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ConfigurationChangeBus.
+     *
+     * @param repository repository for configuration version stamps
+     */
+    public ConfigurationChangeBus(final ConfigurationVersionRepository repository) {
+        this.repository = repository;
+        for (ConfigurationRegion region : ConfigurationRegion.values()) {
+            subscribers.put(region, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * Registers a listener to be called whenever configuration in the given region changes, on this
+     * node or any other.
+     *
+     * @param region   configuration region to listen to
+     * @param listener callback that drops the cached entries of that region
+     */
+    public void subscribe(final ConfigurationRegion region, final Runnable listener) {
+        subscribers.get(region).add(listener);
+    }
+
+    /**
+     * Records a change to the given region. Must be called within the transaction that persists the
+     * change; local subscribers are notified once it commits and other nodes on their next poll.
+     *
+     * @param region configuration region that changed
+     */
+    @Transactional
+    public void publish(final ConfigurationRegion region) {
+        if (repository.incrementVersion(region.name(), OffsetDateTime.now()) == 0) {
+            repository.save(new ConfigurationVersion(region.name(), 1, OffsetDateTime.now()));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingRegions().add(region);
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            notifySubscribers(region);
+                        }
+                    });
+        } else {
+            notifySubscribers(region);
+        }
+    }
+
+    /**
+     * Whether the current transaction changed the given region and has not completed yet.
+     *
+     * @param region configuration region
+     * @return true if the change of the region is not committed yet
+     */
+    public boolean isChangePending(final ConfigurationRegion region) {
+        @SuppressWarnings("unchecked")
+        final Set<ConfigurationRegion> pending =
+                (Set<ConfigurationRegion>) TransactionSynchronizationManager.getResource(this);
+        return pending != null && pending.contains(region);
+    }
+
+    /**
+     * Compares the current version stamps with the last observed ones and notifies the subscribers
+     * of every region that changed since the previous poll.
+     */
+    @Scheduled(fixedDelayString = "${configurationCache.pollIntervalMillis:5000}")
+    public void poll() {
+        final Iterable<ConfigurationVersion> versions;
+        try {
+            versions = repository.findAll();
+        } catch (RuntimeException e) {
+            log.warn("Unable to poll configuration versions, caches may serve stale entries.", e);
+            return;
+        }
+
+        for (ConfigurationVersion version : versions) {
+            final Long previous = observedVersions.put(version.getRegion(), version.getVersion());
+            if (previous != null && previous == version.getVersion()) {
+                continue;
+            }
+
+            try {
+                notifySubscribers(ConfigurationRegion.valueOf(version.getRegion()));
+            } catch (IllegalArgumentException e) {
+                log.debug("Ignoring unknown configuration region {}", version.getRegion());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<ConfigurationRegion> pendingRegions() {
+        Set<ConfigurationRegion> pending =
+                (Set<ConfigurationRegion>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = EnumSet.noneOf(ConfigurationRegion.class);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(final int status) {
+                            TransactionSynchronizationManager.unbindResourceIfPossible(
+                                    ConfigurationChangeBus.this);
+                        }
+                    });
+        }
+        return pending;
+    }
+
+    private void notifySubscribers(final ConfigurationRegion region) {
+        log.debug("Invalidating node-local caches for configuration region {}", region);
+        subscribers.get(region).forEach(Runnable::run);
+    }
+}
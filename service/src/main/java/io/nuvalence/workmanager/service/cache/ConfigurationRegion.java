@@ -0,0 +1,11 @@
+package io.nuvalence.workmanager.service.cache;
+
+/**
+ * Families of configuration that are cached node-locally and invalidated as a whole whenever any
+ * of their members change.
+ */
+public enum ConfigurationRegion {
+    SCHEMA,
+    TRANSACTION_DEFINITION,
+    FORM_CONFIGURATION
+}
@@ -0,0 +1,86 @@
+package io.nuvalence.workmanager.service.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
+import io.nuvalence.workmanager.service.mapper.FormConfigurationMapper;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlan;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Bounded, node-local cache of the compiled validation plans of form configurations.
+ *
+ * <p>Plans are keyed by form configuration id and last-updated timestamp, so an updated form
+ * configuration is compiled again on first use and needs no invalidation; plans of superseded
+ * versions simply age out. Hit, miss and eviction statistics are published to the meter registry
+ * as {@code cache.*} metrics tagged with {@code cache=formValidationPlans}.</p>
+ */
+@Component
+public class FormValidationPlanCache implements MeterBinder {
+    private static final long MAXIMUM_SIZE = 500;
+
+    private final Cache<String, Map<String, FormioValidationPlan>> plans =
+            CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).recordStats().build();
+
+    /**
+     * Returns the validation plan of a step (top-level component) of a form configuration,
+     * compiling and caching the plans of all of the form's steps on first use.
+     *
+     * @param formConfiguration form configuration
+     * @param formStepKey       key of the step to validate
+     * @return the step's validation plan, or empty if the form has no such step
+     */
+    public Optional<FormioValidationPlan> getStepPlan(
+            @NonNull final FormConfiguration formConfiguration, final String formStepKey) {
+        if (formConfiguration.getId() == null) {
+            return Optional.ofNullable(compile(formConfiguration).get(formStepKey));
+        }
+
+        final String cacheKey =
+                formConfiguration.getId() + "@" + formConfiguration.getLastUpdatedTimestamp();
+        try {
+            return Optional.ofNullable(
+                    plans.get(cacheKey, () -> compile(formConfiguration)).get(formStepKey));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, plans, "formValidationPlans");
+    }
+
+    private static Map<String, FormioValidationPlan> compile(
+            final FormConfiguration formConfiguration) {
+        final NuvalenceFormioComponent formioComponent =
+                FormConfigurationMapper.INSTANCE.formConfigurationToFormIoValidationConfig(
+                        formConfiguration);
+
+        final Map<String, FormioValidationPlan> stepPlans = new HashMap<>();
+        if (formioComponent.getComponents() != null) {
+            for (NuvalenceFormioComponent step : formioComponent.getComponents()) {
+                if (step.getKey() != null) {
+                    stepPlans.putIfAbsent(step.getKey(), FormioValidationPlan.compile(step));
+                }
+            }
+        }
+
+        return Collections.unmodifiableMap(stepPlans);
+    }
+}
@@ -0,0 +1,184 @@
+package io.nuvalence.workmanager.service.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, node-local cache of parsed {@link Schema} instances, indexed by both id and key.
+ *
+ * <p>Schemas are populated lazily on first lookup and must be invalidated whenever the underlying
+ * row changes; invalidations are broadcast to the other nodes through the
+ * {@link ConfigurationChangeBus}. Hit, miss and eviction statistics are published to the meter registry as
+ * {@code cache.*} metrics tagged with {@code cache=schemasById} and {@code cache=schemasByKey}.
+ * A schema loaded while the cache was being invalidated is not cached, as it may predate the change
+ * that caused the invalidation. While the current transaction has an uncommitted schema change,
+ * schemas are loaded without going through the cache at all.</p>
+ */
+@Slf4j
+@Component
+public class SchemaCache implements MeterBinder {
+    private static final long MAXIMUM_SIZE = 1000;
+
+    private final Cache<UUID, Schema> schemasById =
+            CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).recordStats().build();
+    private final Cache<String, Schema> schemasByKey =
+            CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).recordStats().build();
+    private final ConfigurationChangeBus changeBus;
+    private long generation;
+
+    /**
+     * Constructs a new SchemaCache and subscribes it to schema changes made on any node.
+     *
+     * @param changeBus configuration invalidation bus
+     */
+    public SchemaCache(final ConfigurationChangeBus changeBus) {
+        this.changeBus = changeBus;
+        changeBus.subscribe(ConfigurationRegion.SCHEMA, this::invalidateAll);
+    }
+
+    /**
+     * Returns the cached schema with the given id, loading (and caching) it if absent.
+     *
+     * @param id     schema id
+     * @param loader fallback used to fetch the schema on a cache miss
+     * @return the schema, or empty if the loader could not find it
+     */
+    public Optional<Schema> getById(final UUID id, final Supplier<Optional<Schema>> loader) {
+        if (id == null || isChangePending()) {
+            return loader.get();
+        }
+
+        final Schema cached = schemasById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        final long observedGeneration = currentGeneration();
+        final Optional<Schema> loaded = loader.get();
+        loaded.ifPresent(schema -> putIfUnchanged(schema, observedGeneration));
+        return loaded;
+    }
+
+    /**
+     * Returns the cached schema with the given key, loading (and caching) it if absent.
+     *
+     * @param key    schema key
+     * @param loader fallback used to fetch the schema on a cache miss
+     * @return the schema, or empty if the loader could not find it
+     */
+    public Optional<Schema> getByKey(final String key, final Supplier<Optional<Schema>> loader) {
+        if (key == null || isChangePending()) {
+            return loader.get();
+        }
+
+        final Schema cached = schemasByKey.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        final long observedGeneration = currentGeneration();
+        final Optional<Schema> loaded = loader.get();
+        loaded.ifPresent(schema -> putIfUnchanged(schema, observedGeneration));
+        return loaded;
+    }
+
+    /**
+     * Adds a schema to the cache under both its id and its key. An already cached schema is only
+     * replaced if the new one is not older than it.
+     *
+     * @param schema schema to cache
+     */
+    public synchronized void put(@NonNull final Schema schema) {
+        if (schema.getId() != null) {
+            schemasById.asMap().merge(schema.getId(), schema, SchemaCache::newest);
+        }
+        if (schema.getKey() != null) {
+            schemasByKey.asMap().merge(schema.getKey(), schema, SchemaCache::newest);
+        }
+    }
+
+    /**
+     * Drops a schema from the cache and publishes the change to all nodes. If called within a
+     * transaction, every node drops its cached schemas once the transaction commits so that
+     * lookups racing with the write cannot re-populate the cache with the previous version.
+     *
+     * @param id  id of the schema to drop (may be null)
+     * @param key key of the schema to drop (may be null)
+     */
+    public void invalidate(final UUID id, final String key) {
+        synchronized (this) {
+            generation++;
+            evict(id, key);
+        }
+        changeBus.publish(ConfigurationRegion.SCHEMA);
+    }
+
+    /**
+     * Drops every cached schema.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        schemasById.invalidateAll();
+        schemasByKey.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, schemasById, "schemasById");
+        GuavaCacheMetrics.monitor(registry, schemasByKey, "schemasByKey");
+    }
+
+    private boolean isChangePending() {
+        return changeBus.isChangePending(ConfigurationRegion.SCHEMA);
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void putIfUnchanged(final Schema schema, final long observedGeneration) {
+        if (generation == observedGeneration) {
+            put(schema);
+        }
+    }
+
+    private void evict(final UUID id, final String key) {
+        log.debug("Invalidating cached schema. id: {}, key: {}", id, key);
+        if (id != null) {
+            final Schema removed = schemasById.asMap().remove(id);
+            if (removed != null && removed.getKey() != null) {
+                schemasByKey.invalidate(removed.getKey());
+            }
+        }
+        if (key != null) {
+            final Schema removed = schemasByKey.asMap().remove(key);
+            if (removed != null && removed.getId() != null) {
+                schemasById.invalidate(removed.getId());
+            }
+        }
+    }
+
+    private static Schema newest(final Schema current, final Schema candidate) {
+        final OffsetDateTime currentTimestamp = current.getLastUpdatedTimestamp();
+        final OffsetDateTime candidateTimestamp = candidate.getLastUpdatedTimestamp();
+        if (currentTimestamp == null
+                || candidateTimestamp == null
+                || !candidateTimestamp.isBefore(currentTimestamp)) {
+            return candidate;
+        }
+
+        return current;
+    }
+}
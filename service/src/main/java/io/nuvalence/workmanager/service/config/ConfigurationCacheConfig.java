@@ -0,0 +1,92 @@
+package io.nuvalence.workmanager.service.config;
+
+import io.nuvalence.workmanager.service.cache.ConfigurationCache;
+import io.nuvalence.workmanager.service.cache.ConfigurationChangeBus;
+import io.nuvalence.workmanager.service.cache.ConfigurationRegion;
+import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
+import io.nuvalence.workmanager.service.domain.transaction.FormConfigurationSelectionRule;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Node-local caches for configuration that is read on most requests but rarely written.
+ *
+ * <p>The cached values are JPA entities, which are mutable; each cache hands out deep copies so
+ * that no two threads ever share an instance.</p>
+ */
+@Configuration
+public class ConfigurationCacheConfig {
+
+    @Bean
+    public ConfigurationCache<UUID, TransactionDefinition> transactionDefinitionsById(
+            final ConfigurationChangeBus changeBus) {
+        return new ConfigurationCache<>(
+                changeBus,
+                ConfigurationRegion.TRANSACTION_DEFINITION,
+                "transactionDefinitionsById",
+                ConfigurationCacheConfig::copy);
+    }
+
+    @Bean
+    public ConfigurationCache<String, TransactionDefinition> transactionDefinitionsByKey(
+            final ConfigurationChangeBus changeBus) {
+        return new ConfigurationCache<>(
+                changeBus,
+                ConfigurationRegion.TRANSACTION_DEFINITION,
+                "transactionDefinitionsByKey",
+                ConfigurationCacheConfig::copy);
+    }
+
+    @Bean
+    public ConfigurationCache<String, FormConfiguration> formConfigurationsByKeys(
+            final ConfigurationChangeBus changeBus) {
+        return new ConfigurationCache<>(
+                changeBus,
+                ConfigurationRegion.FORM_CONFIGURATION,
+                "formConfigurationsByKeys",
+                ConfigurationCacheConfig::copy);
+    }
+
+    static TransactionDefinition copy(final TransactionDefinition transactionDefinition) {
+        final List<FormConfigurationSelectionRule> rules =
+                transactionDefinition.getFormConfigurationSelectionRules();
+        return transactionDefinition.toBuilder()
+                .formConfigurationSelectionRules(
+                        rules == null
+                                ? null
+                                : new ArrayList<>(
+                                        rules.stream()
+                                                .map(rule -> rule.toBuilder().build())
+                                                .toList()))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    static FormConfiguration copy(final FormConfiguration formConfiguration) {
+        return formConfiguration.toBuilder()
+                .configuration((Map<String, Object>) deepCopy(formConfiguration.getConfiguration()))
+                .build();
+    }
+
+    private static Object deepCopy(final Object value) {
+        if (value instanceof Map<?, ?> map) {
+            final Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, entry) -> copy.put(key, deepCopy(entry)));
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            final List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(entry -> copy.add(deepCopy(entry)));
+            return copy;
+        }
+
+        return value;
+    }
+}
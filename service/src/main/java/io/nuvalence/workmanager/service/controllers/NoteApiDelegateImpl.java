@@ -19,6 +19,7 @@ public class NoteApiDelegateImpl /*implements NoteApiDelegate*/ {
     private final PagingMetadataMapper pagingMetadataMapper;
     private final TransactionAuditEventService transactionAuditEventService;
     private final RequestContextTimestamp requestContextTimestamp;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public ResponseEntity<NoteModelResponse> getTransactionNote(UUID transactionId, UUID noteId) {
@@ -85,26 +86,30 @@ public class NoteApiDelegateImpl /*implements NoteApiDelegate*/ {
                                 }
                             });
         }
-        Note note =
-                noteService.createTransactionNote(
-                        id,
-                        noteMapper.noteModelRequestToNote(noteModelRequest),
-                        noteModelRequest.getType().getId());
-
-        NoteModelResponse noteResponse = noteMapper.noteToNoteModelResponse(note);
-
-        try {
-            noteService.postAuditEventForTransactionNote(id, note, AuditActivityType.NOTE_ADDED);
-        } catch (Exception e) {
-            String errorMessage =
-                    String.format(
-                            "An error has occurred when recording an audit event for note creation"
-                                    + " with id %s for transaction with id %s.",
-                            note.getId(), id);
-            log.error(errorMessage, e);
-        }
-
-        return ResponseEntity.ok(noteResponse);
+        final Note note =
+                transactionTemplate.execute(
+                        status -> {
+                            final Note createdNote =
+                                    noteService.createTransactionNote(
+                                            id,
+                                            noteMapper.noteModelRequestToNote(noteModelRequest),
+                                            noteModelRequest.getType().getId());
+                            try {
+                                noteService.postAuditEventForTransactionNote(
+                                        id, createdNote, AuditActivityType.NOTE_ADDED);
+                            } catch (ApiException e) {
+                                String errorMessage =
+                                        String.format(
+                                                "An error has occurred when recording an audit"
+                                                    + " event for note creation with id %s for"
+                                                    + " transaction with id %s.",
+                                                createdNote.getId(), id);
+                                log.error(errorMessage, e);
+                            }
+                            return createdNote;
+                        });
+
+        return ResponseEntity.ok(noteMapper.noteToNoteModelResponse(note));
     }
 
     @Override
@@ -128,6 +133,7 @@ public class NoteApiDelegateImpl /*implements NoteApiDelegate*/ {
                                     new TransactionNoteChangedAuditHandler(
                                             transactionAuditEventService))
                             .requestContextTimestamp(requestContextTimestamp)
+                            .transactionOperations(transactionTemplate)
                             .action(
                                     transactionNoteIn ->
                                             noteService.updateTransactionNote(
@@ -153,19 +159,23 @@ public class NoteApiDelegateImpl /*implements NoteApiDelegate*/ {
             throw new ForbiddenException();
         }
 
-        Note note = noteService.softDeleteTransactionNote(transactionId, noteId);
-
-        try {
-            noteService.postAuditEventForTransactionNote(
-                    transactionId, note, AuditActivityType.NOTE_DELETED);
-        } catch (Exception e) {
-            String errorMessage =
-                    String.format(
-                            "An error has occurred when recording an audit event for note deletion"
-                                    + " with id %s for transaction with id %s.",
-                            noteId, transactionId);
-            log.error(errorMessage, e);
-        }
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    final Note note =
+                            noteService.softDeleteTransactionNote(transactionId, noteId);
+                    try {
+                        noteService.postAuditEventForTransactionNote(
+                                transactionId, note, AuditActivityType.NOTE_DELETED);
+                    } catch (ApiException e) {
+                        String errorMessage =
+                                String.format(
+                                        "An error has occurred when recording an audit event for"
+                                                + " note deletion with id %s for transaction with"
+                                                + " id %s.",
+                                        noteId, transactionId);
+                        log.error(errorMessage, e);
+                    }
+                });
 
         return ResponseEntity.ok().build();
     }
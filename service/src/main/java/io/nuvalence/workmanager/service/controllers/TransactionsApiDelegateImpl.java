@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.auth.token.UserToken;
 import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.workmanager.auditservice.client.ApiException;
 import io.nuvalence.workmanager.service.audit.AuditableAction;
 import io.nuvalence.workmanager.service.audit.transaction.AssignedToChangedAuditHandler;
 import io.nuvalence.workmanager.service.audit.transaction.DynamicDataChangedAuditHandler;
@@ -17,6 +18,7 @@ import io.nuvalence.workmanager.service.domain.customerprovideddocument.Customer
 import io.nuvalence.workmanager.service.domain.customerprovideddocument.RejectionReason;
 import io.nuvalence.workmanager.service.domain.customerprovideddocument.RejectionReasonType;
 import io.nuvalence.workmanager.service.domain.customerprovideddocument.ReviewStatus;
+import io.nuvalence.workmanager.service.domain.dynamicschema.AttributeConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
@@ -28,6 +30,7 @@ import io.nuvalence.workmanager.service.domain.transaction.TransactionLink;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionLinkNotAllowedException;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionNote;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.domain.transaction.UserType;
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowTask;
 import io.nuvalence.workmanager.service.generated.controllers.MyTransactionsApiDelegate;
@@ -59,7 +62,9 @@ import io.nuvalence.workmanager.service.mapper.PagingMetadataMapper;
 import io.nuvalence.workmanager.service.mapper.TransactionLinkMapper;
 import io.nuvalence.workmanager.service.mapper.TransactionMapper;
 import io.nuvalence.workmanager.service.models.ByUserTransactionsFilters;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.models.TransactionNoteFilters;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
@@ -68,6 +73,7 @@ import io.nuvalence.workmanager.service.service.FormConfigurationService;
 import io.nuvalence.workmanager.service.service.NoteService;
 import io.nuvalence.workmanager.service.service.SchemaService;
 import io.nuvalence.workmanager.service.service.TransactionAuditEventService;
+import io.nuvalence.workmanager.service.service.TransactionDataFilterService;
 import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
 import io.nuvalence.workmanager.service.service.TransactionLinkService;
 import io.nuvalence.workmanager.service.service.TransactionService;
@@ -87,8 +93,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -118,6 +128,7 @@ public class TransactionsApiDelegateImpl
     public static final String TRANSACTION_LINK_CERBOS_ACTION = "transaction_link";
     private static final String AUTH_NOT_SET_ERR_MESSAGE =
             "Security context authentication not set.";
+    private static final String SUMMARY_VIEW = "summary";
     private final ExecutorService executorService =
             Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
 
@@ -127,6 +138,7 @@ public class TransactionsApiDelegateImpl
     private final DocumentManagementService documentManagementService;
     private final TransactionMapper mapper;
     private final TransactionDefinitionService transactionDefinitionService;
+    private final TransactionDataFilterService transactionDataFilterService;
     private final TransactionLinkService transactionLinkService;
     private final WorkflowTasksService workflowTasksService;
     private final EntityMapper entityMapper;
@@ -136,6 +148,7 @@ public class TransactionsApiDelegateImpl
     private final AuthorizationHandler authorizationHandler;
     private final TransactionAuditEventService transactionAuditEventService;
     private final RequestContextTimestamp requestContextTimestamp;
+    private final TransactionTemplate transactionTemplate;
     private final UserManagementService userManagementService;
     private final TransactionTaskService transactionTaskService;
     private final NoteService noteService;
@@ -190,7 +203,12 @@ public class TransactionsApiDelegateImpl
 
     @Override
     public ResponseEntity<PagedTransactionModel> getTransactionsForAuthenticatedUser(
-            String sortBy, String sortOrder, Integer pageNumber, Integer pageSize) {
+            String sortBy,
+            String sortOrder,
+            Integer pageNumber,
+            Integer pageSize,
+            String pageToken,
+            String view) {
 
         final String userId = SecurityContextUtility.getAuthenticatedUserId();
         TransactionFilters filters =
@@ -203,9 +221,39 @@ public class TransactionsApiDelegateImpl
                         .pageSize(pageSize)
                         .build();
 
+        if (SUMMARY_VIEW.equals(view)) {
+            if (pageToken != null) {
+                return ResponseEntity.ok(
+                        generatePagedTransactionModel(
+                                mapSummariesPage(
+                                        authFilterTransactionsPage(
+                                                transactionService.getFilteredTransactionSummaries(
+                                                        filters, pageToken),
+                                                TransactionSummary.class))));
+            }
+            return ResponseEntity.ok(
+                    generatePagedTransactionModel(
+                            mapSummariesPage(
+                                    authFilterTransactionsPage(
+                                            transactionService.getFilteredTransactionSummaries(
+                                                    filters),
+                                            TransactionSummary.class))));
+        }
+
+        if (pageToken != null) {
+            KeysetPage<Transaction> transactions =
+                    transactionService.getFilteredTransactions(filters, pageToken);
+            return ResponseEntity.ok(
+                    generatePagedTransactionModel(
+                            mapTransactionsPage(
+                                    authFilterTransactionsPage(transactions, Transaction.class))));
+        }
+
         Page<TransactionModel> transactions =
-                authFilterTransactionsPage(transactionService.getFilteredTransactions(filters))
-                        .map(mapper::transactionToTransactionModel);
+                mapTransactionsPage(
+                        authFilterTransactionsPage(
+                                transactionService.getFilteredTransactions(filters),
+                                Transaction.class));
 
         return ResponseEntity.ok(generatePagedTransactionModel(transactions));
     }
@@ -226,7 +274,9 @@ public class TransactionsApiDelegateImpl
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String pageToken,
+            String view) {
         if (!authorizationHandler.isAllowed("view", "transaction_view")) {
             throw new ForbiddenException();
         }
@@ -244,6 +294,12 @@ public class TransactionsApiDelegateImpl
                 transactionDefinitionService.createTransactionDefinitionKeysList(
                         transactionDefinitionKey, transactionDefinitionSetKey);
 
+        // data.<path> parameters are open ended, so they are not part of the generated signature
+        List<TransactionDataFilter> dataFilters =
+                transactionDataFilterService.parse(
+                        getRequest().map(NativeWebRequest::getParameterMap).orElse(Map.of()),
+                        transactionDefinitionKeysList);
+
         TransactionFilters filters =
                 SearchTransactionsFilters.builder()
                         .transactionDefinitionKeys(transactionDefinitionKeysList)
@@ -256,16 +312,37 @@ public class TransactionsApiDelegateImpl
                         .assignedTo(assignedTo)
                         .subjectUserId(subjectUserId)
                         .externalId(externalId)
+                        .dataFilters(dataFilters)
                         .sortBy(sortBy)
                         .sortOrder(sortOrder)
                         .pageNumber(pageNumber)
                         .pageSize(pageSize)
                         .build();
 
+        if (SUMMARY_VIEW.equals(view)) {
+            if (pageToken != null) {
+                return ResponseEntity.ok(
+                        generatePagedTransactionModel(
+                                mapSummariesPage(
+                                        transactionService.getFilteredTransactionSummaries(
+                                                filters, pageToken))));
+            }
+            return ResponseEntity.ok(
+                    generatePagedTransactionModel(
+                            mapSummariesPage(
+                                    transactionService.getFilteredTransactionSummaries(filters))));
+        }
+
+        if (pageToken != null) {
+            return ResponseEntity.ok(
+                    generatePagedTransactionModel(
+                            mapTransactionsPage(
+                                    transactionService.getFilteredTransactions(
+                                            filters, pageToken))));
+        }
+
         Page<TransactionModel> results =
-                transactionService
-                        .getFilteredTransactions(filters)
-                        .map(mapper::transactionToTransactionModel);
+                mapTransactionsPage(transactionService.getFilteredTransactions(filters));
 
         return ResponseEntity.ok(generatePagedTransactionModel(results));
     }
@@ -382,8 +459,6 @@ public class TransactionsApiDelegateImpl
             final Transaction transaction =
                     transactionService.createTransaction(definition, authorization);
 
-            postAuditEventForTransactionCreated(transaction);
-
             return ResponseEntity.ok(createTransactionModel(transaction));
 
         } catch (MissingSchemaException e) {
@@ -403,20 +478,6 @@ public class TransactionsApiDelegateImpl
         }
     }
 
-    private void postAuditEventForTransactionCreated(Transaction transaction) {
-        try {
-            transactionService.postAuditEventForTransactionCreated(transaction);
-
-        } catch (Exception e) {
-            String errorMessage =
-                    String.format(
-                            "An error has occurred when recording a creation audit event for a"
-                                    + " transaction with user id %s for transaction with id %s.",
-                            transaction.getCreatedBy(), transaction.getId());
-            log.error(errorMessage, e);
-        }
-    }
-
     @Override
     @SuppressWarnings("checkstyle:CyclomaticComplexity")
     public ResponseEntity<TransactionModel> updateTransaction(
@@ -476,6 +537,7 @@ public class TransactionsApiDelegateImpl
                                     new DynamicDataChangedAuditHandler(
                                             transactionAuditEventService, entityMapper))
                             .requestContextTimestamp(requestContextTimestamp)
+                            .transactionOperations(transactionTemplate)
                             .action(
                                     transactionIn -> {
                                         final Map<String, Object> mergedMap =
@@ -565,6 +627,108 @@ public class TransactionsApiDelegateImpl
         }
     }
 
+    @Override
+    public ResponseEntity<TransactionModel> patchTransactionData(
+            final UUID id,
+            final Map<String, Object> patch,
+            final String taskId,
+            final Boolean completeTask,
+            final String formStepKey) {
+        final Transaction existingTransaction =
+                transactionService
+                        .getTransactionById(id)
+                        .filter(
+                                transaction ->
+                                        authorizationHandler.isAllowedForInstance(
+                                                "update", transaction))
+                        .orElseThrow(() -> new NotFoundException("Transaction not found"));
+
+        if (!doesWorkflowPermitEdit(existingTransaction, taskId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            final Transaction transaction =
+                    AuditableAction.builder(Transaction.class)
+                            .auditHandler(
+                                    new DynamicDataChangedAuditHandler(
+                                            transactionAuditEventService, entityMapper, patch))
+                            .requestContextTimestamp(requestContextTimestamp)
+                            .transactionOperations(transactionTemplate)
+                            .action(
+                                    transactionIn -> {
+                                        final Transaction patched =
+                                                transactionService
+                                                        .getTransactionById(id)
+                                                        .orElseThrow(
+                                                                () ->
+                                                                        new MissingTransactionException(
+                                                                                id));
+                                        entityMapper.applyMergePatch(patched.getData(), patch);
+
+                                        transactionService.validateForm(
+                                                formStepKey,
+                                                patched.getTransactionDefinitionKey(),
+                                                patched,
+                                                taskId,
+                                                null);
+
+                                        final Map<String, List<AttributeConfiguration>>
+                                                attributeConfigurations =
+                                                        patched.getData()
+                                                                .getSchema()
+                                                                .getAttributeConfigurations();
+                                        return (Boolean.TRUE.equals(completeTask) && taskId != null)
+                                                ? transactionService
+                                                        .updateTransactionFromDataPatchAndCompleteTask(
+                                                                patched,
+                                                                patch,
+                                                                taskId,
+                                                                attributeConfigurations)
+                                                : transactionService.updateTransactionFromDataPatch(
+                                                        patched, patch, attributeConfigurations);
+                                    })
+                            .build()
+                            .execute(existingTransaction);
+
+            Callable<String> triggerProcessor =
+                    new TriggerDocumentProcessor(
+                            transaction.getId(),
+                            transactionService,
+                            schemaService,
+                            documentManagementService);
+            executorService.submit(triggerProcessor);
+
+            return ResponseEntity.ok(createTransactionModel(transaction));
+        } catch (MissingSchemaException e) {
+            log.error(
+                    String.format(
+                            "transaction [%s] contains an entity with missing schema(s).", id),
+                    e);
+            return ResponseEntity.status(424).build();
+        } catch (MissingTransactionException e) {
+            return ResponseEntity.notFound().build();
+        } catch (MissingTaskException e) {
+            log.error(
+                    String.format(
+                            "Unable to find task with key [%s] in transaction with ID %s",
+                            taskId, id),
+                    e);
+            return ResponseEntity.status(424).build();
+        } catch (JsonProcessingException e) {
+            log.error(
+                    String.format(
+                            "Unable to save data for task with key [%s] in transaction with ID %s",
+                            taskId, id),
+                    e);
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY.value()).build();
+        } catch (BusinessLogicException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UnexpectedException(e);
+        }
+    }
+
     @Override
     public ResponseEntity<TransactionLinkModel> linkTransactions(
             UUID id, UUID toId, TransactionLinkModificationRequest request) {
@@ -597,7 +761,10 @@ public class TransactionsApiDelegateImpl
 
     @Override
     public Optional<NativeWebRequest> getRequest() {
-        return TransactionsApiDelegate.super.getRequest();
+        return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+                .filter(ServletRequestAttributes.class::isInstance)
+                .map(ServletRequestAttributes.class::cast)
+                .map(attributes -> new ServletWebRequest(attributes.getRequest()));
     }
 
     @Override
@@ -756,26 +923,30 @@ public class TransactionsApiDelegateImpl
                                 }
                             });
         }
-        Note note =
-                noteService.createTransactionNote(
-                        id,
-                        noteMapper.noteModelRequestToNote(noteModelRequest),
-                        noteModelRequest.getType().getId());
-
-        NoteModelResponse noteResponse = noteMapper.noteToNoteModelResponse(note);
-
-        try {
-            noteService.postAuditEventForTransactionNote(id, note, AuditActivityType.NOTE_ADDED);
-        } catch (Exception e) {
-            String errorMessage =
-                    String.format(
-                            "An error has occurred when recording an audit event for note creation"
-                                    + " with id %s for transaction with id %s.",
-                            note.getId(), id);
-            log.error(errorMessage, e);
-        }
-
-        return ResponseEntity.ok(noteResponse);
+        final Note note =
+                transactionTemplate.execute(
+                        status -> {
+                            final Note createdNote =
+                                    noteService.createTransactionNote(
+                                            id,
+                                            noteMapper.noteModelRequestToNote(noteModelRequest),
+                                            noteModelRequest.getType().getId());
+                            try {
+                                noteService.postAuditEventForTransactionNote(
+                                        id, createdNote, AuditActivityType.NOTE_ADDED);
+                            } catch (ApiException e) {
+                                String errorMessage =
+                                        String.format(
+                                                "An error has occurred when recording an audit"
+                                                        + " event for note creation with id %s for"
+                                                        + " transaction with id %s.",
+                                                createdNote.getId(), id);
+                                log.error(errorMessage, e);
+                            }
+                            return createdNote;
+                        });
+
+        return ResponseEntity.ok(noteMapper.noteToNoteModelResponse(note));
     }
 
     @Override
@@ -799,6 +970,7 @@ public class TransactionsApiDelegateImpl
                                     new TransactionNoteChangedAuditHandler(
                                             transactionAuditEventService))
                             .requestContextTimestamp(requestContextTimestamp)
+                            .transactionOperations(transactionTemplate)
                             .action(
                                     transactionNoteIn ->
                                             noteService.updateTransactionNote(
@@ -824,19 +996,22 @@ public class TransactionsApiDelegateImpl
             throw new ForbiddenException();
         }
 
-        Note note = noteService.softDeleteTransactionNote(transactionId, noteId);
-
-        try {
-            noteService.postAuditEventForTransactionNote(
-                    transactionId, note, AuditActivityType.NOTE_DELETED);
-        } catch (Exception e) {
-            String errorMessage =
-                    String.format(
-                            "An error has occurred when recording an audit event for note deletion"
-                                    + " with id %s for transaction with id %s.",
-                            noteId, transactionId);
-            log.error(errorMessage, e);
-        }
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    final Note note = noteService.softDeleteTransactionNote(transactionId, noteId);
+                    try {
+                        noteService.postAuditEventForTransactionNote(
+                                transactionId, note, AuditActivityType.NOTE_DELETED);
+                    } catch (ApiException e) {
+                        String errorMessage =
+                                String.format(
+                                        "An error has occurred when recording an audit event for"
+                                                + " note deletion with id %s for transaction with"
+                                                + " id %s.",
+                                        noteId, transactionId);
+                        log.error(errorMessage, e);
+                    }
+                });
 
         return ResponseEntity.ok().build();
     }
@@ -899,6 +1074,30 @@ public class TransactionsApiDelegateImpl
         }
     }
 
+    private Page<TransactionModel> mapTransactionsPage(Page<Transaction> transactions) {
+        return new PageImpl<>(
+                mapper.transactionsToTransactionModels(transactions.getContent()),
+                transactions.getPageable(),
+                transactions.getTotalElements());
+    }
+
+    private KeysetPage<TransactionModel> mapTransactionsPage(KeysetPage<Transaction> transactions) {
+        return transactions.withContent(
+                mapper.transactionsToTransactionModels(transactions.getContent()));
+    }
+
+    private Page<TransactionModel> mapSummariesPage(Page<TransactionSummary> summaries) {
+        return summaries.map(mapper::transactionSummaryToTransactionModel);
+    }
+
+    private KeysetPage<TransactionModel> mapSummariesPage(
+            KeysetPage<TransactionSummary> summaries) {
+        return summaries.withContent(
+                summaries.getContent().stream()
+                        .map(mapper::transactionSummaryToTransactionModel)
+                        .collect(Collectors.toList()));
+    }
+
     private TransactionModel createTransactionModel(Transaction t) {
 
         if (t.getTransactionDefinition() == null) {
@@ -939,11 +1138,27 @@ public class TransactionsApiDelegateImpl
         return model;
     }
 
-    private Page<Transaction> authFilterTransactionsPage(Page<Transaction> transactions) {
+    private PagedTransactionModel generatePagedTransactionModel(
+            KeysetPage<TransactionModel> transactions) {
+        PagedTransactionModel model = new PagedTransactionModel();
+        model.items(transactions.getContent());
+        model.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(transactions));
+        return model;
+    }
+
+    private <T> KeysetPage<T> authFilterTransactionsPage(
+            KeysetPage<T> transactions, Class<T> type) {
+        return transactions.withContent(
+                transactions.getContent().stream()
+                        .filter(authorizationHandler.getAuthFilter("view", type))
+                        .collect(Collectors.toList()));
+    }
+
+    private <T> Page<T> authFilterTransactionsPage(Page<T> transactions, Class<T> type) {
 
-        List<Transaction> transactionList =
+        List<T> transactionList =
                 transactions.getContent().stream()
-                        .filter(authorizationHandler.getAuthFilter("view", Transaction.class))
+                        .filter(authorizationHandler.getAuthFilter("view", type))
                         .collect(Collectors.toList());
 
         return new PageImpl<>(transactionList, transactions.getPageable(), transactionList.size());
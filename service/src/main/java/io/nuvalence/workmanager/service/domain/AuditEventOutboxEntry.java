@@ -0,0 +1,60 @@
+package io.nuvalence.workmanager.service.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Audit event waiting to be delivered to the audit service. Entries are written in the same
+ * database transaction as the change they describe and removed once the audit service accepts them.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "audit_event_outbox")
+public class AuditEventOutboxEntry {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_object_type", length = 64, updatable = false, nullable = false)
+    private String businessObjectType;
+
+    @Column(name = "business_object_id", updatable = false, nullable = false)
+    private UUID businessObjectId;
+
+    @Column(name = "payload", updatable = false, nullable = false)
+    private String payload;
+
+    @Column(name = "correlation_id", length = 64, updatable = false)
+    private String correlationId;
+
+    @Column(name = "created_timestamp", updatable = false, nullable = false)
+    private OffsetDateTime createdTimestamp;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_timestamp", nullable = false)
+    private OffsetDateTime nextAttemptTimestamp;
+
+    @Column(name = "last_error", length = 1024)
+    private String lastError;
+}
@@ -0,0 +1,36 @@
+package io.nuvalence.workmanager.service.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Version stamp of a family of configuration (schemas, transaction definitions, etc.), bumped every
+ * time a member of the family changes so that node-local caches can detect stale entries.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "configuration_version")
+public class ConfigurationVersion {
+
+    @Id
+    @Column(name = "region", length = 64, updatable = false, nullable = false)
+    private String region;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "last_updated_timestamp", nullable = false)
+    private OffsetDateTime lastUpdatedTimestamp;
+}
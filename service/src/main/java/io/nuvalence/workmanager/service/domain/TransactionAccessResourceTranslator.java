@@ -3,6 +3,7 @@ package io.nuvalence.workmanager.service.domain;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.nuvalence.auth.access.cerbos.AccessResourceTranslator;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.mapper.TransactionMapper;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
@@ -38,6 +39,12 @@ public class TransactionAccessResourceTranslator
             return mapper.transactionToTransactionModel(transaction);
         }
 
+        if (resource instanceof TransactionSummary summary) {
+            return applicationContext
+                    .getBean(TransactionMapper.class)
+                    .transactionSummaryToTransactionModel(summary);
+        }
+
         return resource;
     }
 }
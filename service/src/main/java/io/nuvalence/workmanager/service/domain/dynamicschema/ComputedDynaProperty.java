@@ -2,6 +2,9 @@ package io.nuvalence.workmanager.service.domain.dynamicschema;
 
 import lombok.Getter;
 import org.apache.commons.beanutils.DynaProperty;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 /**
  * DynaProperty with an expression to compute the value.
@@ -9,10 +12,30 @@ import org.apache.commons.beanutils.DynaProperty;
 public class ComputedDynaProperty extends DynaProperty {
     private static final long serialVersionUID = 8941849384116171194L;
 
+    private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
     @Getter private final String expression;
 
+    private transient volatile Expression parsedExpression;
+
     public ComputedDynaProperty(String name, Class<?> type, String expression) {
         super(name, type);
         this.expression = expression;
     }
+
+    /**
+     * Returns the parsed expression, parsing it on first use. Parsed SpEL expressions are
+     * thread-safe, so a single instance serves every bean of the schema this property belongs to.
+     *
+     * @return parsed expression
+     */
+    public Expression getParsedExpression() {
+        Expression parsed = parsedExpression;
+        if (parsed == null) {
+            parsed = EXPRESSION_PARSER.parseExpression(expression);
+            parsedExpression = parsed;
+        }
+
+        return parsed;
+    }
 }
@@ -15,8 +15,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 /**
  * Utility to support conversion of data unmarshalled from JSON to their intended types defined by schema.
@@ -25,11 +25,29 @@ import java.util.regex.Pattern;
 @Slf4j
 public final class DataConversionSupport {
     private static final int MIN_STR_LEN = 1;
+    private static final int ISO_DATE_LENGTH = 10;
+    private static final int ISO_DATE_TIME_LENGTH = 19;
+    private static final int MAX_FRACTION_DIGITS = 9;
     private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> converters;
-    private static final Pattern ISO_DATE_PATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}$");
-    private static final Pattern ISO_DATE_TIME_PATTERN =
-            Pattern.compile(
-                    "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(?:\\.\\d{1,9})?(?:[+-]\\d{2}:\\d{2}|Z)?$");
+
+    /**
+     * Marks pairs of types with no converter, so they are not searched for again either.
+     */
+    private static final Function<Object, Object> NO_CONVERTER =
+            value -> {
+                throw new IllegalStateException("No converter");
+            };
+
+    /**
+     * Converters already found, by input type and then by requested type.
+     */
+    private static final ClassValue<Map<Class<?>, Function<Object, ?>>> resolvedConverters =
+            new ClassValue<>() {
+                @Override
+                protected Map<Class<?>, Function<Object, ?>> computeValue(final Class<?> from) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
 
     static {
         converters = new HashMap<>();
@@ -62,19 +80,56 @@ public final class DataConversionSupport {
             return null;
         }
 
-        final Class<?> inputType = value.getClass();
-        if (type.isAssignableFrom(inputType)) {
+        if (type.isInstance(value)) {
             return type.cast(value);
         }
 
-        return findConverter(inputType, type)
-                .orElseThrow(
-                        () ->
-                                new UnsupportedOperationException(
-                                        String.format(
-                                                "No converter found to convert %s to %s",
-                                                value.getClass().getName(), type.getName())))
-                .apply(inputType.cast(value));
+        final Function<Object, ?> converter = resolveConverter(value.getClass(), type);
+        if (converter == null) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "No converter found to convert %s to %s",
+                            value.getClass().getName(), type.getName()));
+        }
+
+        @SuppressWarnings("unchecked")
+        final T converted = (T) converter.apply(value);
+        return converted;
+    }
+
+    /**
+     * Finds the converter from one type to another, for callers converting many values of the same
+     * type.
+     *
+     * @param from input type
+     * @param to   requested type
+     * @param <T>  requested type
+     * @return converter to the requested type, null if no converter exists
+     */
+    public static <T> Function<Object, T> getConverter(final Class<?> from, final Class<T> to) {
+        if (to.isAssignableFrom(from)) {
+            return to::cast;
+        }
+
+        @SuppressWarnings("unchecked")
+        final Function<Object, T> converter = (Function<Object, T>) resolveConverter(from, to);
+        return converter;
+    }
+
+    private static Function<Object, ?> resolveConverter(final Class<?> from, final Class<?> to) {
+        final Map<Class<?>, Function<Object, ?>> convertersTo = resolvedConverters.get(from);
+        Function<Object, ?> converter = convertersTo.get(to);
+        if (converter == null) {
+            converter =
+                    convertersTo.computeIfAbsent(
+                            to,
+                            key ->
+                                    findConverter(from, key)
+                                            .<Function<Object, ?>>map(Function.identity())
+                                            .orElse(NO_CONVERTER));
+        }
+
+        return converter == NO_CONVERTER ? null : converter;
     }
 
     private static <T, R> void register(
@@ -82,7 +137,16 @@ public final class DataConversionSupport {
         converters.computeIfAbsent(from, key -> new HashMap<>()).put(to, converter);
     }
 
-    private static <T, R> Optional<Function<Object, R>> findConverter(
+    /**
+     * Searches the registered converters, without caching the result.
+     *
+     * @param from input type
+     * @param to   requested type
+     * @param <T>  input type
+     * @param <R>  requested type
+     * @return converter to the requested type, if one is registered
+     */
+    static <T, R> Optional<Function<Object, R>> findConverter(
             final Class<T> from, final Class<R> to) {
         for (Map.Entry<Class<?>, Map<Class<?>, Function<?, ?>>> inputType : converters.entrySet()) {
             if (inputType.getKey().isAssignableFrom(from)) {
@@ -106,11 +170,12 @@ public final class DataConversionSupport {
             return null;
         }
 
-        if (ISO_DATE_PATTERN.matcher(value).matches()) {
-            return LocalDate.parse(value, DateTimeFormatter.ISO_DATE);
+        if (value.length() == ISO_DATE_LENGTH && isIsoDate(value)) {
+            return LocalDate.of(
+                    readDigits(value, 0, 4), readDigits(value, 5, 2), readDigits(value, 8, 2));
         }
 
-        if (ISO_DATE_TIME_PATTERN.matcher(value).matches()) {
+        if (isIsoDateTime(value)) {
             return LocalDateTime.parse(value, DateTimeFormatter.ISO_DATE_TIME).toLocalDate();
         }
 
@@ -118,6 +183,82 @@ public final class DataConversionSupport {
         return null;
     }
 
+    /**
+     * Checks that a value starts with a date formatted as {@code yyyy-MM-dd}.
+     */
+    private static boolean isIsoDate(final String value) {
+        return areDigits(value, 0, 4)
+                && value.charAt(4) == '-'
+                && areDigits(value, 5, 2)
+                && value.charAt(7) == '-'
+                && areDigits(value, 8, 2);
+    }
+
+    /**
+     * Checks that a value is a date and time formatted as {@code yyyy-MM-ddTHH:mm:ss}, with optional
+     * fractional seconds and an optional {@code Z} or {@code +HH:mm} offset.
+     */
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static boolean isIsoDateTime(final String value) {
+        final int length = value.length();
+        if (length < ISO_DATE_TIME_LENGTH
+                || !isIsoDate(value)
+                || value.charAt(10) != 'T'
+                || !areDigits(value, 11, 2)
+                || value.charAt(13) != ':'
+                || !areDigits(value, 14, 2)
+                || value.charAt(16) != ':'
+                || !areDigits(value, 17, 2)) {
+            return false;
+        }
+
+        int index = ISO_DATE_TIME_LENGTH;
+        if (index < length && value.charAt(index) == '.') {
+            final int fractionStart = ++index;
+            while (index < length && isDigit(value.charAt(index))) {
+                index++;
+            }
+            final int fractionDigits = index - fractionStart;
+            if (fractionDigits < 1 || fractionDigits > MAX_FRACTION_DIGITS) {
+                return false;
+            }
+        }
+
+        if (index == length) {
+            return true;
+        }
+        final char offsetSign = value.charAt(index);
+        if (offsetSign == 'Z') {
+            return index + 1 == length;
+        }
+        return (offsetSign == '+' || offsetSign == '-')
+                && index + 6 == length
+                && areDigits(value, index + 1, 2)
+                && value.charAt(index + 3) == ':'
+                && areDigits(value, index + 4, 2);
+    }
+
+    private static boolean areDigits(final String value, final int start, final int count) {
+        for (int index = start; index < start + count; index++) {
+            if (!isDigit(value.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readDigits(final String value, final int start, final int count) {
+        int number = 0;
+        for (int index = start; index < start + count; index++) {
+            number = number * 10 + (value.charAt(index) - '0');
+        }
+        return number;
+    }
+
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+
     private static LocalTime convertStringToLocalTime(final String value) {
         if (value.length() < MIN_STR_LEN) {
             return null;
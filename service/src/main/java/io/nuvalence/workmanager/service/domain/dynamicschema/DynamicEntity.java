@@ -18,7 +18,6 @@ import org.hibernate.type.SqlTypes;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -40,10 +39,28 @@ public final class DynamicEntity implements DynaBean {
     @JdbcTypeCode(SqlTypes.VARCHAR)
     private Schema schema;
 
+    /**
+     * Attributes serialized as JSON, as loaded or last saved. Cleared when the attributes are
+     * modified, so hibernate sees the change and the attributes are serialized again before they
+     * are saved.
+     *
+     * <p>Kept as text rather than as a map, so the attributes are only held as objects once, by
+     * {@code attributes}. Hibernate does not copy strings for its snapshot of the loaded state, so
+     * the text costs no more than that snapshot already does.</p>
+     *
+     * <p>Stored as jsonb, which hibernate binds JSON values as on PostgreSQL, so containment
+     * queries can use the GIN index on the column.</p>
+     */
     @JdbcTypeCode(SqlTypes.JSON)
-    private Map<String, Object> data;
+    @Column(name = "data", columnDefinition = "jsonb")
+    private String data;
+
+    /**
+     * Attributes of this entity, null while they are only held as the loaded {@code data}.
+     */
+    @Transient @EqualsAndHashCode.Exclude private DynaBean attributes;
 
-    @Delegate @Transient @EqualsAndHashCode.Exclude private DynaBean attributes;
+    @Transient @EqualsAndHashCode.Exclude @ToString.Exclude private Runnable modificationListener;
 
     /**
      * Constructs new Entity with a given schema.
@@ -56,11 +73,16 @@ public final class DynamicEntity implements DynaBean {
         this.schema = schema;
         try {
             this.attributes = schema.newInstance();
-            for (DynaProperty property : schema.getDynaProperties()) {
-                if (List.class.isAssignableFrom(property.getType())) {
-                    attributes.set(property.getName(), new ArrayList<>());
+            if (attributes instanceof DynamicEntityDynaBean bean) {
+                bean.initializeLists();
+            } else {
+                for (DynaProperty property : schema.getDynaProperties()) {
+                    if (List.class.isAssignableFrom(property.getType())) {
+                        attributes.set(property.getName(), new ArrayList<>());
+                    }
                 }
             }
+            trackModifications();
         } catch (IllegalAccessException | InstantiationException e) {
             throw new UnexpectedException("Unable to instantiate new " + schema.getName(), e);
         }
@@ -78,7 +100,7 @@ public final class DynamicEntity implements DynaBean {
      */
     public <T> T getProperty(final String path, final Class<T> type) {
         try {
-            return type.cast(PropertyUtils.getProperty(attributes, path));
+            return type.cast(PropertyUtils.getProperty(getAttributes(), path));
         } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
             throw new IllegalArgumentException(
                     "Unable to access path: " + path + " as type " + type.getSimpleName(), e);
@@ -107,25 +129,79 @@ public final class DynamicEntity implements DynaBean {
     }
 
     /**
-     * JPA post load conversion of internal data.
+     * Attributes of this entity, converted from the loaded data the first time they are accessed.
+     *
+     * @return attributes of this entity
      *
      * @throws UnexpectedException if unable to instantiate new schema
      */
-    public void postLoad() {
-        final EntityMapper mapper = EntityMapper.getInstance();
-        try {
-            this.attributes = schema.newInstance();
-            mapper.applyMappedPropertiesToEntity(this, data);
-        } catch (IllegalAccessException | InstantiationException | MissingSchemaException e) {
-            throw new UnexpectedException("Unable to instantiate new " + schema.getName(), e);
+    @Delegate
+    private DynaBean getAttributes() {
+        if (attributes == null) {
+            final EntityMapper mapper = EntityMapper.getInstance();
+            try {
+                this.attributes = schema.newInstance();
+                if (data != null) {
+                    mapper.applyJsonToEntity(this, data);
+                }
+                trackModifications();
+            } catch (IllegalAccessException | InstantiationException | MissingSchemaException e) {
+                this.attributes = null;
+                throw new UnexpectedException("Unable to instantiate new " + schema.getName(), e);
+            }
         }
+        return attributes;
+    }
+
+    private void trackModifications() {
+        if (attributes instanceof DynamicEntityDynaBean bean) {
+            bean.setModificationListener(this::modified);
+        }
+    }
+
+    private void modified() {
+        data = null;
+        if (modificationListener != null) {
+            modificationListener.run();
+        }
+    }
+
+    /**
+     * Sets the callback notified whenever this entity is modified, used by the entity holding it.
+     *
+     * @param modificationListener callback to notify
+     */
+    void setModificationListener(final Runnable modificationListener) {
+        this.modificationListener = modificationListener;
+    }
+
+    /**
+     * Whether this entity was modified since it was loaded or last saved, that is, whether its
+     * data has to be serialized again when it is next saved.
+     *
+     * @return true if this entity is new or was modified since it was loaded or last saved
+     */
+    public boolean isModified() {
+        return data == null;
     }
 
     /**
-     * JPA pre persist/update conversion of internal data.
+     * JPA post load conversion of internal data. The attributes are only converted from the
+     * loaded data when they are first accessed.
+     */
+    public void postLoad() {
+        this.attributes = null;
+    }
+
+    /**
+     * JPA pre persist/update conversion of internal data. Data that was not modified since it was
+     * loaded or last saved is not serialized again.
      */
     public void preSave() {
+        if (data != null) {
+            return;
+        }
         final EntityMapper mapper = EntityMapper.getInstance();
-        data = mapper.convertAttributesToGenericMap(this);
+        data = mapper.convertAttributesToJson(this);
     }
 }
@@ -1,45 +1,94 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
-import org.apache.commons.beanutils.BasicDynaBean;
+import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.DynaClass;
+import org.apache.commons.beanutils.DynaProperty;
 import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.lang3.ClassUtils;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.io.Serializable;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * DynaBean that supports computed properties.
+ * DynaBean that supports computed properties and reports its modifications.
+ *
+ * <p>Values are kept in an array, at the slot their property has in the {@link Schema}, so beans
+ * share the lookup of property names instead of each holding a map of their own.</p>
+ *
+ * <p>Lists stored in the bean are copied and wrapped so that changes made through them are
+ * reported too, and modifications of the entities it holds, directly or in lists, are reported as
+ * modifications of this bean. Changes made to a list after it was stored, through the list that
+ * was passed in, do not reach the bean.</p>
  */
-public class DynamicEntityDynaBean extends BasicDynaBean {
+public class DynamicEntityDynaBean implements DynaBean, Serializable {
 
     public static final String COMPUTED_PROPERTIES_CANNOT_BE_MODIFIED =
             "Computed properties cannot be modified";
-    private static final long serialVersionUID = -8792549507122331685L;
+    private static final String COMPUTED_PROPERTIES_CANNOT_BE_INDEXED =
+            "Computed properties cannot be indexed";
+    private static final long serialVersionUID = 2457136044213693874L;
 
-    private final transient ExpressionParser expressionParser;
-    private final transient StandardEvaluationContext evaluationContext;
+    /**
+     * Evaluation context shared by every bean. The bean being read is passed to each evaluation as
+     * the root object, so the context itself holds no per-bean state and cannot be written to by
+     * expressions.
+     */
+    private static final EvaluationContext EVALUATION_CONTEXT = createEvaluationContext();
+
+    private final DynaClass dynaClass;
+    private final DynaProperty[] properties;
+    private final Object[] values;
+
+    private transient Runnable modificationListener;
 
     /**
      * Construct a new <code>DynaBean</code> associated with the specified
      * <code>DynaClass</code> instance.
      *
      * @param dynaClass The DynaClass we are associated with
-     * @throws UnexpectedException if the DynaBean cannot be created
      */
     public DynamicEntityDynaBean(DynaClass dynaClass) {
-        super(dynaClass);
-        expressionParser = new SpelExpressionParser();
-        evaluationContext = new StandardEvaluationContext();
-        evaluationContext.setRootObject(this);
+        this.dynaClass = dynaClass;
+        this.properties = dynaClass.getDynaProperties();
+        this.values = new Object[properties.length];
+    }
+
+    /**
+     * Sets the callback notified whenever this bean, or an entity or list it holds, is modified.
+     *
+     * @param modificationListener callback to notify, null to stop notifying
+     */
+    public void setModificationListener(Runnable modificationListener) {
+        this.modificationListener = modificationListener;
+    }
+
+    /**
+     * Makes every list attribute that holds no value hold an empty list. The lists are only created
+     * when they are first accessed.
+     */
+    public void initializeLists() {
+        for (int slot = 0; slot < properties.length; slot++) {
+            if (values[slot] == null && List.class.isAssignableFrom(properties[slot].getType())) {
+                values[slot] = Unset.LIST;
+            }
+        }
+    }
+
+    private static EvaluationContext createEvaluationContext() {
+        final StandardEvaluationContext evaluationContext = new ReadOnlyEvaluationContext();
         try {
             evaluationContext.registerFunction(
                     "concat",
@@ -101,42 +150,78 @@ public class DynamicEntityDynaBean extends BasicDynaBean {
                             "Computed Attribute is misconfigured. Access to static methods and"
                                     + " types disabled in SpEL evaluator.");
                 });
+        // resolve method resolvers eagerly so that concurrent evaluations never initialise them
+        evaluationContext.getMethodResolvers();
+        return evaluationContext;
+    }
+
+    @Override
+    public DynaClass getDynaClass() {
+        return dynaClass;
     }
 
     @Override
     public Object get(String name) {
-        if (isComputed(name)) {
-            return compute(name);
+        final int slot = slotOf(name);
+        final DynaProperty property = properties[slot];
+        if (property instanceof ComputedDynaProperty computed) {
+            return computed.getParsedExpression().getValue(EVALUATION_CONTEXT, this);
         }
 
-        return super.get(name);
+        final Object value = valueAt(slot);
+        if (value == null && property.getType().isPrimitive()) {
+            // the default value of the primitive type, as a basic bean would return
+            return Array.get(Array.newInstance(property.getType(), 1), 0);
+        }
+        return value;
     }
 
     @Override
     public Object get(String name, int index) {
-        if (isComputed(name)) {
-            throw new UnsupportedOperationException("Computed properties cannot be indexed");
+        final Object value = indexedValue(name, index);
+        if (value.getClass().isArray()) {
+            return Array.get(value, index);
         }
-
-        return super.get(name, index);
+        return ((List<?>) value).get(index);
     }
 
     @Override
     public Object get(String name, String key) {
-        if (isComputed(name)) {
-            throw new UnsupportedOperationException("Computed properties cannot be indexed");
-        }
+        return mappedValue(name, key).get(key);
+    }
 
-        return super.get(name, key);
+    @Override
+    public boolean contains(String name, String key) {
+        return mappedValue(name, key).containsKey(key);
     }
 
     @Override
     public void set(String name, Object value) {
-        if (isComputed(name)) {
+        final int slot = slotOf(name);
+        final DynaProperty property = properties[slot];
+        if (property instanceof ComputedDynaProperty) {
             throw new UnsupportedOperationException(COMPUTED_PROPERTIES_CANNOT_BE_MODIFIED);
         }
+        if (value == null) {
+            if (property.getType().isPrimitive()) {
+                throw new NullPointerException("Primitive value for '" + name + "'");
+            }
+        } else if (!isAssignable(property.getType(), value.getClass())) {
+            throw new ConversionException(
+                    "Cannot assign value of type '"
+                            + value.getClass().getName()
+                            + "' to property '"
+                            + name
+                            + "' of type '"
+                            + property.getType().getName()
+                            + "'");
+        }
 
-        super.set(name, value);
+        final Object previous = values[slot];
+        values[slot] = track(value);
+        if (!isUnchanged(previous, value)) {
+            modified();
+        }
     }
 
     @Override
@@ -145,7 +230,19 @@ public class DynamicEntityDynaBean extends BasicDynaBean {
             throw new UnsupportedOperationException(COMPUTED_PROPERTIES_CANNOT_BE_MODIFIED);
         }
 
-        super.set(name, index, value);
+        final Object indexed = indexedValue(name, index);
+        if (indexed.getClass().isArray()) {
+            Array.set(indexed, index, value);
+        } else {
+            try {
+                @SuppressWarnings("unchecked")
+                final List<Object> list = (List<Object>) indexed;
+                list.set(index, track(value));
+            } catch (ClassCastException e) {
+                throw new ConversionException(e.getMessage());
+            }
+        }
+        modified();
     }
 
     @Override
@@ -154,18 +251,197 @@ public class DynamicEntityDynaBean extends BasicDynaBean {
             throw new UnsupportedOperationException(COMPUTED_PROPERTIES_CANNOT_BE_MODIFIED);
         }
 
-        super.set(name, key, value);
+        mappedValue(name, key).put(key, track(value));
+        modified();
+    }
+
+    @Override
+    public void remove(String name, String key) {
+        mappedValue(name, key).remove(key);
+        modified();
+    }
+
+    private static boolean isAssignable(Class<?> type, Class<?> valueType) {
+        return type.isAssignableFrom(valueType)
+                || (type.isPrimitive() && ClassUtils.primitiveToWrapper(type) == valueType);
+    }
+
+    private int slotOf(String name) {
+        final int slot;
+        if (dynaClass instanceof Schema schema) {
+            slot = schema.getSlot(name);
+        } else if (dynaClass instanceof SchemaDynaClass schemaDynaClass) {
+            slot = schemaDynaClass.getSlot(name);
+        } else {
+            slot = findSlot(name);
+        }
+
+        if (slot < 0) {
+            throw new IllegalArgumentException("Invalid property name '" + name + "'");
+        }
+        return slot;
+    }
+
+    private int findSlot(String name) {
+        for (int slot = 0; slot < properties.length; slot++) {
+            if (properties[slot].getName().equals(name)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private Object valueAt(int slot) {
+        Object value = values[slot];
+        if (value == Unset.LIST) {
+            value = track(new ArrayList<>());
+            values[slot] = value;
+        }
+        return value;
+    }
+
+    private Object indexedValue(String name, int index) {
+        final int slot = slotOf(name);
+        if (properties[slot] instanceof ComputedDynaProperty) {
+            throw new UnsupportedOperationException(COMPUTED_PROPERTIES_CANNOT_BE_INDEXED);
+        }
+
+        final Object value = valueAt(slot);
+        if (value == null) {
+            throw new NullPointerException("No indexed value for '" + name + "[" + index + "]'");
+        }
+        if (!value.getClass().isArray() && !(value instanceof List)) {
+            throw new IllegalArgumentException(
+                    "Non-indexed property for '" + name + "[" + index + "]'");
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> mappedValue(String name, String key) {
+        final int slot = slotOf(name);
+        if (properties[slot] instanceof ComputedDynaProperty) {
+            throw new UnsupportedOperationException(COMPUTED_PROPERTIES_CANNOT_BE_INDEXED);
+        }
+
+        final Object value = valueAt(slot);
+        if (value == null) {
+            throw new NullPointerException("No mapped value for '" + name + "(" + key + ")'");
+        }
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException(
+                    "Non-mapped property for '" + name + "(" + key + ")'");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    private Object track(Object value) {
+        if (value instanceof DynamicEntity entity) {
+            entity.setModificationListener(this::modified);
+        } else if (value instanceof List<?> list
+                && !(list instanceof ModificationTrackingList<?> tracking
+                        && tracking.bean == this)) {
+            return new ModificationTrackingList<>(list, this);
+        }
+        return value;
+    }
+
+    private void modified() {
+        if (modificationListener != null) {
+            modificationListener.run();
+        }
+    }
+
+    private static boolean isUnchanged(Object previous, Object value) {
+        // entities and lists are compared by identity, as entities only compare their schema
+        if (value instanceof DynamicEntity || value instanceof List) {
+            return previous == value;
+        }
+        return Objects.equals(previous, value);
     }
 
     private boolean isComputed(String name) {
-        return getDynaProperty(name) instanceof ComputedDynaProperty;
+        return properties[slotOf(name)] instanceof ComputedDynaProperty;
+    }
+
+    /**
+     * Marks a list attribute holding an empty list that was not created yet.
+     */
+    private enum Unset {
+        LIST
     }
 
-    private Object compute(String name) {
-        ComputedDynaProperty property = (ComputedDynaProperty) getDynaProperty(name);
+    /**
+     * Copy of a list attribute that reports its modifications to the bean holding it.
+     *
+     * @param <E> element type
+     */
+    private static final class ModificationTrackingList<E> extends AbstractList<E>
+            implements Serializable {
+        private static final long serialVersionUID = 2916305483521306467L;
+
+        private final List<E> elements;
+        private final DynamicEntityDynaBean bean;
+
+        private ModificationTrackingList(List<?> elements, DynamicEntityDynaBean bean) {
+            this.elements = new ArrayList<>(elements.size());
+            this.bean = bean;
+            for (Object element : elements) {
+                this.elements.add(track(element));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private E track(Object element) {
+            return (E) bean.track(element);
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
 
-        return expressionParser
-                .parseExpression(property.getExpression())
-                .getValue(evaluationContext);
+        @Override
+        public E set(int index, E element) {
+            final E previous = elements.set(index, track(element));
+            bean.modified();
+            return previous;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            elements.add(index, track(element));
+            modCount++;
+            bean.modified();
+        }
+
+        @Override
+        public E remove(int index) {
+            final E removed = elements.remove(index);
+            modCount++;
+            bean.modified();
+            return removed;
+        }
+    }
+
+    /**
+     * Evaluation context that rejects variable assignment, so that it can be shared between beans
+     * and threads.
+     */
+    private static final class ReadOnlyEvaluationContext extends StandardEvaluationContext {
+        @Override
+        public void setVariable(String name, Object value) {
+            throw new UnsupportedOperationException("Computed properties cannot assign variables");
+        }
+
+        @Override
+        public void setVariables(Map<String, Object> variables) {
+            throw new UnsupportedOperationException("Computed properties cannot assign variables");
+        }
     }
 }
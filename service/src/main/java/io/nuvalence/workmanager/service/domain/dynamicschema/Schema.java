@@ -18,6 +18,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +44,12 @@ public final class Schema implements DynaClass {
     @Getter private final OffsetDateTime createdTimestamp;
     @Getter private final OffsetDateTime lastUpdatedTimestamp;
 
+    /**
+     * Values derived from this schema, such as conversion plans, kept for as long as the schema.
+     */
+    @ToString.Exclude
+    private final transient Map<Class<?>, Object> derivedValues = new ConcurrentHashMap<>();
+
     /**
      * Constructs new Schema.
      *
@@ -263,6 +271,29 @@ public final class Schema implements DynaClass {
         }
     }
 
+    /**
+     * Returns a value derived from this schema, computing it the first time it is requested. Schemas
+     * are immutable, so the value is kept for as long as the schema is.
+     *
+     * @param type type of the derived value, identifying it among the values derived from this schema
+     * @param factory computes the value from this schema
+     * @param <T> type of the derived value
+     * @return the derived value
+     */
+    public <T> T getDerivedValue(final Class<T> type, final Function<Schema, T> factory) {
+        return type.cast(derivedValues.computeIfAbsent(type, key -> factory.apply(this)));
+    }
+
+    /**
+     * Returns the slot of a property, its index in {@link #getDynaProperties()}.
+     *
+     * @param name property name
+     * @return slot of the property, -1 if this schema has no such property
+     */
+    public int getSlot(final String name) {
+        return ((SchemaDynaClass) dynaClass).getSlot(name);
+    }
+
     /**
      * Gets attribute configurations given the attribute and desired class to cast to.
      *
@@ -4,12 +4,24 @@ import org.apache.commons.beanutils.BasicDynaClass;
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.DynaProperty;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Dynaclass for dynamic entities.
+ *
+ * <p>Each property is given a slot, its position among the properties of the class, so that beans
+ * can keep their values in an array instead of a map of their own.</p>
  */
 public class SchemaDynaClass extends BasicDynaClass {
     private static final long serialVersionUID = -526257978592799516L;
 
+    /**
+     * Slot of each property. Assigned when the properties are set, which the superclass
+     * constructor already does, so this field must not have an initializer.
+     */
+    private Map<String, Integer> slots;
+
     public SchemaDynaClass() {
         super();
     }
@@ -26,4 +38,25 @@ public class SchemaDynaClass extends BasicDynaClass {
     public DynaBean newInstance() {
         return new DynamicEntityDynaBean(this);
     }
+
+    @Override
+    protected void setProperties(DynaProperty[] properties) {
+        super.setProperties(properties);
+        final Map<String, Integer> propertySlots = new HashMap<>(properties.length * 4 / 3 + 1);
+        for (int slot = 0; slot < properties.length; slot++) {
+            propertySlots.put(properties[slot].getName(), slot);
+        }
+        this.slots = propertySlots;
+    }
+
+    /**
+     * Returns the slot of a property, its index in {@link #getDynaProperties()}.
+     *
+     * @param name property name
+     * @return slot of the property, -1 if this class has no such property
+     */
+    public int getSlot(String name) {
+        final Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
 }
@@ -2,6 +2,7 @@ package io.nuvalence.workmanager.service.domain.dynamicschema;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.nuvalence.workmanager.service.service.SchemaService;
+import org.hibernate.annotations.Immutable;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -14,9 +15,13 @@ import jakarta.persistence.Converter;
 
 /**
  * Converter that handles referencing a schema by name in database.
+ *
+ * <p>Schemas are immutable, so hibernate compares them by reference rather than converting them
+ * again to snapshot and dirty check every entity that references one.</p>
  */
 @Service
 @Converter
+@Immutable
 public class SchemaReferenceAttributeConverter
         implements AttributeConverter<Schema, UUID>, ApplicationContextAware {
     private static ApplicationContext applicationContext;
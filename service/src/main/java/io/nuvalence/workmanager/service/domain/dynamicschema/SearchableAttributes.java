@@ -0,0 +1,158 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.beanutils.DynaProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Collects the values of the {@link SearchableConfiguration searchable} attributes of a dynamic
+ * entity and of the entities nested in it, by their dot separated paths. Attributes inside lists
+ * of entities share one path, with a value per element.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SearchableAttributes {
+
+    /**
+     * Collects the searchable values of an entity. Attributes that are neither searchable nor
+     * nested entities are not read, so computed attributes are only evaluated when searchable.
+     *
+     * @param entity entity to collect the values of
+     * @return values of each searchable path that has any, in schema order
+     */
+    public static Map<String, List<Object>> of(final DynamicEntity entity) {
+        final Map<String, List<Object>> values = new LinkedHashMap<>();
+        collect(entity, "", values);
+        return values;
+    }
+
+    /**
+     * Lists the searchable paths of a schema, that is the paths {@link #of(DynamicEntity)} can
+     * collect values at in entities of this schema.
+     *
+     * @param schema         schema to list the paths of
+     * @param relatedSchemas looks up the schemas of nested entities by key
+     * @return searchable paths, in schema order
+     */
+    public static Set<String> paths(
+            final Schema schema, final Function<String, Optional<Schema>> relatedSchemas) {
+        final Set<String> paths = new LinkedHashSet<>();
+        collectPaths(schema, "", relatedSchemas, new ArrayList<>(), paths);
+        return paths;
+    }
+
+    private static void collectPaths(
+            final Schema schema,
+            final String prefix,
+            final Function<String, Optional<Schema>> relatedSchemas,
+            final List<String> enclosingSchemaKeys,
+            final Set<String> paths) {
+        enclosingSchemaKeys.add(schema.getKey());
+        for (DynaProperty property : schema.getDynaProperties()) {
+            final String relatedSchemaKey = schema.getRelatedSchemas().get(property.getName());
+            if (relatedSchemaKey != null) {
+                // entities cannot nest themselves, but a broken schema should not loop forever
+                if (!enclosingSchemaKeys.contains(relatedSchemaKey)) {
+                    relatedSchemas
+                            .apply(relatedSchemaKey)
+                            .ifPresent(
+                                    relatedSchema ->
+                                            collectPaths(
+                                                    relatedSchema,
+                                                    prefix + property.getName() + ".",
+                                                    relatedSchemas,
+                                                    enclosingSchemaKeys,
+                                                    paths));
+                }
+            } else if (isSearchable(schema, property)) {
+                paths.add(prefix + property.getName());
+            }
+        }
+        enclosingSchemaKeys.remove(enclosingSchemaKeys.size() - 1);
+    }
+
+    private static boolean isSearchable(final Schema schema, final DynaProperty property) {
+        final Class<?> type =
+                List.class.isAssignableFrom(property.getType())
+                        ? property.getContentType()
+                        : property.getType();
+        return schema.getAttributeConfigurations() != null
+                && !schema.getAttributeConfigurations(
+                                property.getName(), SearchableConfiguration.class)
+                        .isEmpty()
+                && SearchableConfiguration.ValueType.of(type) != null;
+    }
+
+    private static void collect(
+            final DynamicEntity entity,
+            final String prefix,
+            final Map<String, List<Object>> values) {
+        final Schema schema = entity.getSchema();
+        for (Attribute attribute : schema.getDerivedValue(Plan.class, Plan::new).attributes) {
+            final String path = prefix + attribute.name;
+            final Object value = entity.get(attribute.name);
+            if (value instanceof List<?> list) {
+                for (Object element : list) {
+                    collectValue(element, path, attribute.searchable, values);
+                }
+            } else {
+                collectValue(value, path, attribute.searchable, values);
+            }
+        }
+    }
+
+    private static void collectValue(
+            final Object value,
+            final String path,
+            final boolean searchable,
+            final Map<String, List<Object>> values) {
+        if (value instanceof DynamicEntity nestedEntity) {
+            collect(nestedEntity, path + ".", values);
+        } else if (searchable
+                && value != null
+                && SearchableConfiguration.ValueType.of(value.getClass()) != null) {
+            values.computeIfAbsent(path, key -> new ArrayList<>()).add(value);
+        }
+    }
+
+    /**
+     * Attributes of a schema worth reading: the searchable ones and the nested entities.
+     */
+    private static final class Plan {
+        private final List<Attribute> attributes = new ArrayList<>();
+
+        private Plan(final Schema schema) {
+            for (DynaProperty property : schema.getDynaProperties()) {
+                final boolean nested =
+                        DynamicEntity.class.equals(property.getType())
+                                || DynamicEntity.class.equals(property.getContentType());
+                final boolean searchable =
+                        schema.getAttributeConfigurations() != null
+                                && !schema.getAttributeConfigurations(
+                                                property.getName(), SearchableConfiguration.class)
+                                        .isEmpty();
+                if (nested || searchable) {
+                    attributes.add(new Attribute(property.getName(), searchable));
+                }
+            }
+        }
+    }
+
+    private static final class Attribute {
+        private final String name;
+        private final boolean searchable;
+
+        private Attribute(final String name, final boolean searchable) {
+            this.name = name;
+            this.searchable = searchable;
+        }
+    }
+}
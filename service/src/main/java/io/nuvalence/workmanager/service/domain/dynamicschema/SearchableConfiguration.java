@@ -0,0 +1,49 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Opts an attribute in to transaction search. The values of searchable attributes are copied to
+ * the indexed {@code transaction_searchable_attribute} table whenever a transaction is saved, so
+ * transactions can be filtered on them.
+ */
+@Data
+public class SearchableConfiguration implements AttributeConfiguration {
+
+    @Override
+    public boolean canApplyTo(Class<?> type) {
+        return ValueType.of(type) != null;
+    }
+
+    /**
+     * How the values of a searchable attribute are stored and compared.
+     */
+    public enum ValueType {
+        /** Text, and booleans as "true" or "false", compared for equality or by prefix. */
+        STRING,
+        /** Numbers, compared for equality or by range. */
+        NUMBER,
+        /** Dates, compared for equality or by range. */
+        DATE;
+
+        /**
+         * Returns how values of an attribute type are searched.
+         *
+         * @param type attribute type, or content type of a list attribute
+         * @return value type, null if attributes of this type cannot be searched
+         */
+        public static ValueType of(final Class<?> type) {
+            if (String.class.equals(type) || Boolean.class.equals(type)) {
+                return STRING;
+            } else if (Integer.class.equals(type) || BigDecimal.class.equals(type)) {
+                return NUMBER;
+            } else if (LocalDate.class.equals(type)) {
+                return DATE;
+            }
+            return null;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
             name = "DocumentProcessor"),
     @JsonSubTypes.Type(
             value = DocumentClassifierConfigurationJson.class,
-            name = "DocumentClassifier")
+            name = "DocumentClassifier"),
+    @JsonSubTypes.Type(value = SearchableConfigurationJson.class, name = "Searchable")
 })
 public interface AttributeConfigurationJson {}
@@ -60,7 +60,7 @@ public class SchemaRow extends VersionedEntity implements UpdateTrackedEntity {
     private String description;
 
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "schema_json", nullable = false, columnDefinition = "json")
+    @Column(name = "schema_json", nullable = false, columnDefinition = "jsonb")
     private String schemaJson;
 
     @Cascade(CascadeType.SAVE_UPDATE)
@@ -0,0 +1,9 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema.jpa;
+
+import lombok.Data;
+
+/**
+ * Persistence model for SearchableConfiguration.
+ */
+@Data
+public class SearchableConfigurationJson implements AttributeConfigurationJson {}
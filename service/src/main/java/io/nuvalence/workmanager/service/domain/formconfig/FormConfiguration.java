@@ -62,7 +62,7 @@ public class FormConfiguration implements UpdateTrackedEntity {
     private String description;
 
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "form_config", nullable = false, columnDefinition = "json")
+    @Column(name = "form_config", nullable = false, columnDefinition = "jsonb")
     private Map<String, Object> configuration;
 
     @Column(name = "created_by", length = 36, updatable = false)
@@ -37,6 +37,6 @@ public class DashboardTabConfiguration {
     private String tabLabel;
 
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "tab_filter", columnDefinition = "json")
+    @Column(name = "tab_filter", columnDefinition = "jsonb")
     private Map<String, Object> filter;
 }
@@ -8,11 +8,13 @@ import io.nuvalence.workmanager.service.domain.customerprovideddocument.Customer
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntityContainer;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntityContainerEventListener;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -22,6 +24,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -41,6 +44,8 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 
 /**
  * Defines the structure and behavior of a transaction.
@@ -49,11 +54,14 @@ import jakarta.persistence.Table;
 @NoArgsConstructor
 @Entity
 @Table(name = "transaction")
+@DynamicUpdate
 @AccessResource(value = "transaction", translator = TransactionAccessResourceTranslator.class)
-@ToString(exclude = {"data"})
+@ToString(exclude = {"data", "countedAs", "pendingSearchableAttributes"})
 @EntityListeners({
+    TransactionSearchableAttributeEventListener.class,
     DynamicEntityContainerEventListener.class,
-    UpdateTrackedEntityEventListener.class
+    UpdateTrackedEntityEventListener.class,
+    TransactionCountEventListener.class
 })
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity {
@@ -135,6 +143,24 @@ public class Transaction implements DynamicEntityContainer, UpdateTrackedEntity
 
     @Setter @Embedded private DynamicEntity data;
 
+    // concurrent updates would otherwise both move the transaction out of the rollup row in
+    // countedAs, the one that commits second must fail instead
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // rollup row this transaction is counted in, as of the last load or flush
+    @Transient
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private TransactionCountKey countedAs;
+
+    // searchable attribute values of modified data, from just before it is flushed until just after
+    @Transient
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private Map<String, List<Object>> pendingSearchableAttributes;
+
     /**
      * Constructs a new instance of a Transaction.
      *
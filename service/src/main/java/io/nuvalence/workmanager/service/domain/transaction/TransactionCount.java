@@ -0,0 +1,28 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Number of transactions sharing one combination of definition key, status, priority and assignee.
+ * Maintained in the same database transaction as the transactions themselves, so dashboard counts
+ * are read from a handful of rows instead of aggregating the transaction table.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "transaction_counts")
+public class TransactionCount {
+
+    @EmbeddedId private TransactionCountKey id;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long count;
+}
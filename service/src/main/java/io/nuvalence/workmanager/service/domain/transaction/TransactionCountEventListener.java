@@ -0,0 +1,61 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import io.nuvalence.workmanager.service.service.TransactionCountRecorder;
+import io.nuvalence.workmanager.service.utils.SpringApplicationContext;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Keeps the {@code transaction_counts} rollup in step with the transactions written through JPA.
+ */
+public class TransactionCountEventListener {
+
+    /**
+     * Remembers which rollup row a loaded transaction is counted in.
+     *
+     * @param transaction loaded transaction
+     */
+    @PostLoad
+    public void transactionPostLoad(final Transaction transaction) {
+        transaction.setCountedAs(TransactionCountKey.of(transaction));
+    }
+
+    /**
+     * Counts a new transaction.
+     *
+     * @param transaction inserted transaction
+     */
+    @PostPersist
+    public void transactionPostPersist(final Transaction transaction) {
+        moveCount(transaction, TransactionCountKey.of(transaction));
+    }
+
+    /**
+     * Moves an updated transaction to the rollup row of its new status, priority or assignee.
+     *
+     * @param transaction updated transaction
+     */
+    @PostUpdate
+    public void transactionPostUpdate(final Transaction transaction) {
+        moveCount(transaction, TransactionCountKey.of(transaction));
+    }
+
+    /**
+     * Stops counting a deleted transaction.
+     *
+     * @param transaction deleted transaction
+     */
+    @PostRemove
+    public void transactionPostRemove(final Transaction transaction) {
+        moveCount(transaction, null);
+    }
+
+    private void moveCount(final Transaction transaction, final TransactionCountKey countAs) {
+        SpringApplicationContext.getBeanByClass(TransactionCountRecorder.class)
+                .move(transaction.getCountedAs(), countAs);
+        transaction.setCountedAs(countAs);
+    }
+}
@@ -0,0 +1,71 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * The dimensions transactions are counted by in the {@code transaction_counts} rollup. Missing
+ * priorities and assignees are stored as {@link #NO_PRIORITY} and {@link #UNASSIGNED}, so every
+ * combination has exactly one row.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class TransactionCountKey implements Serializable, Comparable<TransactionCountKey> {
+    public static final int NO_PRIORITY = 0;
+    public static final String UNASSIGNED = "";
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Comparator<TransactionCountKey> ORDER =
+            Comparator.comparing(TransactionCountKey::getTransactionDefinitionKey)
+                    .thenComparing(TransactionCountKey::getStatus)
+                    .thenComparingInt(TransactionCountKey::getPriority)
+                    .thenComparing(TransactionCountKey::getAssignedTo);
+
+    @Column(name = "transaction_definition_key", length = 255, nullable = false)
+    private String transactionDefinitionKey;
+
+    @Column(name = "status", length = 255, nullable = false)
+    private String status;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Column(name = "assigned_to", length = 64, nullable = false)
+    private String assignedTo;
+
+    /**
+     * Gets the rollup row the given transaction is counted in.
+     *
+     * @param transaction transaction to count
+     * @return rollup key
+     */
+    public static TransactionCountKey of(final Transaction transaction) {
+        return new TransactionCountKey(
+                transaction.getTransactionDefinitionKey(),
+                transaction.getStatus(),
+                transaction.getPriority() == null
+                        ? NO_PRIORITY
+                        : transaction.getPriority().getRank(),
+                transaction.getAssignedTo() == null ? UNASSIGNED : transaction.getAssignedTo());
+    }
+
+    @Override
+    public int compareTo(final TransactionCountKey other) {
+        return ORDER.compare(this, other);
+    }
+}
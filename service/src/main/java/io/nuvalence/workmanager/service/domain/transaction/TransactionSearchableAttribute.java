@@ -0,0 +1,83 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Value of an attribute a transaction's schema marks as {@link SearchableConfiguration searchable},
+ * copied out of the transaction data when the transaction is saved so searches can filter on it
+ * through an index. Each value is held in the column of its
+ * {@link SearchableConfiguration.ValueType value type}.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "transaction_searchable_attribute")
+public class TransactionSearchableAttribute {
+    /**
+     * Longest text kept, so values stay within the size a btree index entry allows. Longer text is
+     * truncated, and can still be found by prefix.
+     */
+    public static final int MAX_STRING_LENGTH = 255;
+
+    @EmbeddedId private TransactionSearchableAttributeKey id;
+
+    @Column(name = "string_value", length = MAX_STRING_LENGTH)
+    private String stringValue;
+
+    @Column(name = "number_value")
+    private BigDecimal numberValue;
+
+    @Column(name = "date_value")
+    private LocalDate dateValue;
+
+    /**
+     * Creates the row holding one value of a searchable attribute.
+     *
+     * @param transactionId transaction the value belongs to
+     * @param path          dot separated path of the attribute in the transaction data
+     * @param valueIndex    index of the value among the values of the same path
+     * @param value         attribute value, of a type searchable attributes can have
+     * @return row holding the value
+     * @throws IllegalArgumentException if values of this type cannot be searched
+     */
+    public static TransactionSearchableAttribute of(
+            final UUID transactionId, final String path, final int valueIndex, final Object value) {
+        final TransactionSearchableAttributeKey key =
+                new TransactionSearchableAttributeKey(transactionId, path, valueIndex);
+        final SearchableConfiguration.ValueType valueType =
+                SearchableConfiguration.ValueType.of(value.getClass());
+        if (valueType == null) {
+            throw new IllegalArgumentException(
+                    "Values of type " + value.getClass().getName() + " cannot be searched");
+        }
+
+        return switch (valueType) {
+            case STRING -> new TransactionSearchableAttribute(
+                    key, StringUtils.left(value.toString(), MAX_STRING_LENGTH), null, null);
+            case NUMBER -> new TransactionSearchableAttribute(
+                    key,
+                    null,
+                    value instanceof BigDecimal decimal
+                            ? decimal
+                            : BigDecimal.valueOf(((Number) value).longValue()),
+                    null);
+            case DATE -> new TransactionSearchableAttribute(key, null, null, (LocalDate) value);
+        };
+    }
+}
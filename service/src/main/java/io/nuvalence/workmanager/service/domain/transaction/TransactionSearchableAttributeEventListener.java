@@ -0,0 +1,49 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableAttributes;
+import io.nuvalence.workmanager.service.service.TransactionSearchableAttributeRecorder;
+import io.nuvalence.workmanager.service.utils.SpringApplicationContext;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Keeps the {@code transaction_searchable_attribute} rows of the transactions written through JPA
+ * in step with their data. Must run before the listener that serializes the data, which no longer
+ * tells whether it was modified once it has.
+ */
+public class TransactionSearchableAttributeEventListener {
+
+    /**
+     * Collects the searchable attribute values of a transaction whose data was modified.
+     *
+     * @param transaction transaction about to be inserted or updated
+     */
+    @PrePersist
+    @PreUpdate
+    public void transactionPreSave(final Transaction transaction) {
+        final DynamicEntity data = transaction.getData();
+        if (data != null && data.isModified()) {
+            transaction.setPendingSearchableAttributes(SearchableAttributes.of(data));
+        }
+    }
+
+    /**
+     * Records the searchable attribute values collected before the transaction was written.
+     *
+     * @param transaction inserted or updated transaction
+     */
+    @PostPersist
+    @PostUpdate
+    public void transactionPostSave(final Transaction transaction) {
+        if (transaction.getPendingSearchableAttributes() == null) {
+            return;
+        }
+        SpringApplicationContext.getBeanByClass(TransactionSearchableAttributeRecorder.class)
+                .replace(transaction.getId(), transaction.getPendingSearchableAttributes());
+        transaction.setPendingSearchableAttributes(null);
+    }
+}
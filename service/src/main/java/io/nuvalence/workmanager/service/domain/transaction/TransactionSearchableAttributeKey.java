@@ -0,0 +1,40 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Identifies one value of a searchable attribute of a transaction. Attributes inside lists have a
+ * value per element, told apart by their index.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class TransactionSearchableAttributeKey implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "transaction_id", length = 36, nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private UUID transactionId;
+
+    @Column(name = "path", length = 255, nullable = false)
+    private String path;
+
+    @Column(name = "value_index", nullable = false)
+    private int valueIndex;
+}
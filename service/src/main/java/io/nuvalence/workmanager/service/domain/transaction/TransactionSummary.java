@@ -0,0 +1,44 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import io.nuvalence.auth.access.AccessResource;
+import io.nuvalence.workmanager.service.domain.TransactionAccessResourceTranslator;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Columns of a transaction, as read by the list endpoints' summary view without hydrating its
+ * dynamic data or loading its documents.
+ *
+ * <p>Properties are named as in {@link Transaction}, so the summaries can be sorted and paged by
+ * the same columns.</p>
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+@AccessResource(value = "transaction", translator = TransactionAccessResourceTranslator.class)
+public class TransactionSummary {
+    private final UUID id;
+    private final UUID transactionDefinitionId;
+    private final String transactionDefinitionKey;
+    private final String transactionDefinitionName;
+    private final String externalId;
+    private final String processInstanceId;
+    private final String status;
+    private final String createdBy;
+    private final String lastUpdatedBy;
+    private final String subjectUserId;
+    private final TransactionPriority priority;
+    private final String district;
+    private final OffsetDateTime createdTimestamp;
+    private final OffsetDateTime lastUpdatedTimestamp;
+    private final OffsetDateTime submittedOn;
+    private final String assignedTo;
+}
@@ -3,12 +3,15 @@ package io.nuvalence.workmanager.service.mapper;
 import io.nuvalence.workmanager.service.domain.dynamicschema.AttributeConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DocumentClassifierConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DocumentProcessingConfiguration;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.AttributeConfigurationJson;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.DocumentClassifierConfigurationJson;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.DocumentProcessingConfigurationJson;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SearchableConfigurationJson;
 import io.nuvalence.workmanager.service.generated.models.AttributeConfigurationModel;
 import io.nuvalence.workmanager.service.generated.models.DocumentClassifierConfigurationModel;
 import io.nuvalence.workmanager.service.generated.models.DocumentProcessorConfigurationModel;
+import io.nuvalence.workmanager.service.generated.models.SearchableConfigurationModel;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
@@ -40,6 +43,8 @@ public interface AttributeConfigurationMapper {
             return toDomain((DocumentProcessingConfigurationJson) json);
         } else if (json instanceof DocumentClassifierConfigurationJson) {
             return toDomain((DocumentClassifierConfigurationJson) json);
+        } else if (json instanceof SearchableConfigurationJson) {
+            return new SearchableConfiguration();
         } else {
             return null;
         }
@@ -58,6 +63,8 @@ public interface AttributeConfigurationMapper {
             return toJson((DocumentProcessingConfiguration) attributeConfiguration);
         } else if (attributeConfiguration instanceof DocumentClassifierConfiguration) {
             return toJson((DocumentClassifierConfiguration) attributeConfiguration);
+        } else if (attributeConfiguration instanceof SearchableConfiguration) {
+            return new SearchableConfigurationJson();
         } else {
             return null;
         }
@@ -76,6 +83,8 @@ public interface AttributeConfigurationMapper {
             return toModel((DocumentProcessingConfiguration) attributeConfiguration);
         } else if (attributeConfiguration instanceof DocumentClassifierConfiguration) {
             return toModel((DocumentClassifierConfiguration) attributeConfiguration);
+        } else if (attributeConfiguration instanceof SearchableConfiguration) {
+            return new SearchableConfigurationModel();
         } else {
             return null;
         }
@@ -94,6 +103,8 @@ public interface AttributeConfigurationMapper {
             return toDomain((DocumentProcessorConfigurationModel) model);
         } else if (model instanceof DocumentClassifierConfigurationModel) {
             return toDomain((DocumentClassifierConfigurationModel) model);
+        } else if (model instanceof SearchableConfigurationModel) {
+            return new SearchableConfiguration();
         } else {
             return null;
         }
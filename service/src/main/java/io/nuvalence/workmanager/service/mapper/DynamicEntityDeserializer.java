@@ -0,0 +1,57 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+
+import java.io.IOException;
+
+/**
+ * Reads a {@link DynamicEntity} from a JSON object, converting each attribute to the type its
+ * schema defines as it is read, without building a generic map first.
+ *
+ * <p>JSON objects do not name their schema: it is taken from the entity being updated when reading
+ * for update, and otherwise from the {@link #SCHEMA_ATTRIBUTE} attribute of the reader.</p>
+ */
+public class DynamicEntityDeserializer extends StdDeserializer<DynamicEntity> {
+    /**
+     * Reader attribute holding the {@link Schema} of the entities to read.
+     */
+    public static final String SCHEMA_ATTRIBUTE = "dynamicEntitySchema";
+
+    private static final long serialVersionUID = -3969337441322617021L;
+
+    public DynamicEntityDeserializer() {
+        super(DynamicEntity.class);
+    }
+
+    @Override
+    public DynamicEntity deserialize(final JsonParser parser, final DeserializationContext context)
+            throws IOException {
+        if (!(context.getAttribute(SCHEMA_ATTRIBUTE) instanceof Schema schema)) {
+            return context.reportInputMismatch(
+                    this,
+                    "Reading a DynamicEntity requires its schema, as the %s attribute",
+                    SCHEMA_ATTRIBUTE);
+        }
+
+        return deserialize(parser, context, new DynamicEntity(schema));
+    }
+
+    @Override
+    public DynamicEntity deserialize(
+            final JsonParser parser,
+            final DeserializationContext context,
+            final DynamicEntity entity)
+            throws IOException {
+        try {
+            EntityMapper.getInstance().applyJsonToEntity(entity, parser);
+        } catch (MissingSchemaException e) {
+            throw JsonMappingException.from(parser, e.getMessage(), e);
+        }
+        return entity;
+    }
+}
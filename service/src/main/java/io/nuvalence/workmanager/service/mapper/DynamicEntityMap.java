@@ -0,0 +1,64 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only map of the attributes of a dynamic entity, for API models holding attributes as maps.
+ *
+ * <p>Jackson writes the entity itself, with {@link DynamicEntitySerializer}. The generic map of
+ * its attributes is only built if the map is read some other way.</p>
+ */
+@JsonSerialize(using = DynamicEntityMap.Serializer.class)
+public final class DynamicEntityMap extends AbstractMap<String, Object> {
+    @Getter private final DynamicEntity entity;
+    private final EntityMapper entityMapper;
+    private Map<String, Object> attributes;
+
+    DynamicEntityMap(final DynamicEntity entity, final EntityMapper entityMapper) {
+        this.entity = entity;
+        this.entityMapper = entityMapper;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (attributes == null) {
+            attributes =
+                    Collections.unmodifiableMap(entityMapper.convertAttributesToGenericMap(entity));
+        }
+        return attributes.entrySet();
+    }
+
+    /**
+     * Writes the attributes of the entity, whether or not the object mapper in use registered
+     * {@link DynamicEntityModule}.
+     */
+    public static final class Serializer extends StdSerializer<DynamicEntityMap> {
+        private static final long serialVersionUID = 4100369009212574226L;
+        private static final DynamicEntitySerializer ENTITY_SERIALIZER =
+                new DynamicEntitySerializer();
+
+        public Serializer() {
+            super(DynamicEntityMap.class);
+        }
+
+        @Override
+        public void serialize(
+                final DynamicEntityMap map,
+                final JsonGenerator generator,
+                final SerializerProvider provider)
+                throws IOException {
+            ENTITY_SERIALIZER.serialize(map.getEntity(), generator, provider);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+
+/**
+ * Jackson module writing and reading {@link DynamicEntity} attributes as JSON objects, driven by
+ * the entities' schemas.
+ */
+public class DynamicEntityModule extends SimpleModule {
+    private static final long serialVersionUID = -1526096316218318946L;
+
+    /**
+     * Constructs the module.
+     */
+    public DynamicEntityModule() {
+        super(DynamicEntityModule.class.getSimpleName());
+        addSerializer(DynamicEntity.class, new DynamicEntitySerializer());
+        addDeserializer(DynamicEntity.class, new DynamicEntityDeserializer());
+    }
+}
@@ -0,0 +1,62 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import org.apache.commons.beanutils.DynaProperty;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a {@link DynamicEntity} as a JSON object, attribute by attribute in the order its schema
+ * defines them, without copying its attributes to a generic map first.
+ *
+ * <p>Attributes without a value are left out, and values other than entities and lists are written
+ * by the serializers of the object mapper in use.</p>
+ */
+public class DynamicEntitySerializer extends StdSerializer<DynamicEntity> {
+    private static final long serialVersionUID = 6262331581496430113L;
+
+    public DynamicEntitySerializer() {
+        super(DynamicEntity.class);
+    }
+
+    @Override
+    public void serialize(
+            final DynamicEntity entity,
+            final JsonGenerator generator,
+            final SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(entity);
+        for (DynaProperty property : entity.getSchema().getDynaProperties()) {
+            final Object value = entity.get(property.getName());
+            if (value != null) {
+                generator.writeFieldName(property.getName());
+                writeValue(value, generator, provider);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeValue(
+            final Object value, final JsonGenerator generator, final SerializerProvider provider)
+            throws IOException {
+        if (value instanceof DynamicEntity entity) {
+            serialize(entity, generator, provider);
+        } else if (value instanceof List<?> list) {
+            generator.writeStartArray(list, list.size());
+            for (Object element : list) {
+                if (element == null) {
+                    generator.writeNull();
+                } else {
+                    writeValue(element, generator, provider);
+                }
+            }
+            generator.writeEndArray();
+        } else {
+            provider.defaultSerializeValue(value, generator);
+        }
+    }
+}
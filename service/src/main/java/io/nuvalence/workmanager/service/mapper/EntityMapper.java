@@ -1,16 +1,22 @@
 package io.nuvalence.workmanager.service.mapper;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
+import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.domain.dynamicschema.ComputedDynaProperty;
-import io.nuvalence.workmanager.service.domain.dynamicschema.DataConversionSupport;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
 import io.nuvalence.workmanager.service.generated.models.EntityModel;
+import io.nuvalence.workmanager.service.mapper.SchemaConversionPlan.Kind;
+import io.nuvalence.workmanager.service.mapper.SchemaConversionPlan.PropertyPlan;
 import io.nuvalence.workmanager.service.service.SchemaService;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,8 +32,9 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +58,12 @@ import java.util.stream.Collectors;
 @Component
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ClassDataAbstractionCoupling"})
 public abstract class EntityMapper implements ApplicationContextAware {
+    /**
+     * Object mapper for persisted attributes, configured as the one hibernate uses for JSON columns.
+     */
+    private static final ObjectMapper PERSISTENCE_OBJECT_MAPPER =
+            JacksonJsonFormatMapperCustom.createObjectMapper();
+
     private static ApplicationContext applicationContext;
     private final Set<String> attributesToMesh = Set.of("documentList"); // O(1) contains call
     @Autowired @Setter private ObjectMapper objectMapper;
@@ -80,7 +93,7 @@ public abstract class EntityMapper implements ApplicationContextAware {
     public EntityModel entityToEntityModel(final DynamicEntity entity) {
         return new EntityModel()
                 .schema(entity.getSchema().getName())
-                .data(convertAttributesToGenericMap(entity));
+                .data(convertAttributesToSerializableMap(entity));
     }
 
     /**
@@ -122,6 +135,76 @@ public abstract class EntityMapper implements ApplicationContextAware {
         return attributes;
     }
 
+    /**
+     * Serializes the attributes of an entity to JSON, as they are persisted.
+     *
+     * @param entity Entity to serialize
+     * @return attributes of the entity as JSON
+     * @throws UnexpectedException if the attributes cannot be serialized
+     */
+    public String convertAttributesToJson(final DynamicEntity entity) {
+        try {
+            return PERSISTENCE_OBJECT_MAPPER.writeValueAsString(entity);
+        } catch (JsonProcessingException e) {
+            throw new UnexpectedException(
+                    "Unable to serialize " + entity.getSchema().getName() + " attributes", e);
+        }
+    }
+
+    /**
+     * Produces a read-only map of the attributes of an entity, for API models. JSON serialization
+     * writes the entity itself, so the generic map is only built if the map is read otherwise.
+     *
+     * @param entity Entity whose attributes to map
+     * @return A read-only map of the attributes of the entity
+     */
+    public Map<String, Object> convertAttributesToSerializableMap(final DynamicEntity entity) {
+        return new DynamicEntityMap(entity, this);
+    }
+
+    /**
+     * Applies attributes persisted as JSON to an entity.
+     *
+     * @param entity Entity to update
+     * @param json Attributes of the entity as JSON
+     * @throws MissingSchemaException If the data references a schema that does not exist in the system.
+     * @throws UnexpectedException if the JSON cannot be parsed
+     */
+    public void applyJsonToEntity(final DynamicEntity entity, final String json)
+            throws MissingSchemaException {
+        try (JsonParser parser = PERSISTENCE_OBJECT_MAPPER.createParser(json)) {
+            parser.nextToken();
+            applyJsonToEntity(entity, parser);
+        } catch (IOException e) {
+            throw new UnexpectedException(
+                    "Unable to parse " + entity.getSchema().getName() + " attributes", e);
+        }
+    }
+
+    /**
+     * Applies the JSON object the parser is positioned on to an entity, converting attributes to
+     * their types as they are read, without building a generic map first. The parser is left on
+     * the end of the object.
+     *
+     * @param entity Entity to update
+     * @param parser Parser positioned on the start of a JSON object, or on a null
+     * @throws MissingSchemaException If the data references a schema that does not exist in the system.
+     * @throws IOException If the JSON cannot be read, or is not an object.
+     * @throws BusinessLogicException If the data is not convertible to the entity's schema.
+     */
+    public void applyJsonToEntity(final DynamicEntity entity, final JsonParser parser)
+            throws IOException, MissingSchemaException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(
+                    parser, "Attributes of " + entity.getSchema().getName() + " must be an object");
+        }
+
+        readAttributes(entity, getConversionPlan(entity.getSchema()), parser);
+    }
+
     /**
      * Applies data to an entity.
      *
@@ -132,59 +215,194 @@ public abstract class EntityMapper implements ApplicationContextAware {
     public void applyMappedPropertiesToEntity(
             final DynamicEntity entity, final Map<String, Object> data)
             throws MissingSchemaException {
-        final Schema schema = entity.getSchema();
+        final SchemaConversionPlan plan = getConversionPlan(entity.getSchema());
 
         for (Map.Entry<String, Object> entry : data.entrySet()) {
-            applyProperty(entity, schema, entry);
+            applyProperty(entity, plan, entry.getKey(), entry.getValue());
         }
     }
 
-    private void applyProperty(DynamicEntity entity, Schema schema, Map.Entry<String, Object> entry)
+    /**
+     * Applies a JSON merge patch (RFC 7386) to an entity, converting only the attributes it names.
+     *
+     * <p>Nested objects are patched in place, any other value replaces the attribute, and null
+     * removes it. Attributes the patch does not name are neither read nor converted.</p>
+     *
+     * @param entity Entity to update
+     * @param patch Merge patch to apply to the entity
+     * @throws MissingSchemaException If the patch creates an entity whose schema does not exist.
+     * @throws BusinessLogicException If the patch names an attribute missing from the schema, or
+     *     a value that is not convertible to its attribute's type.
+     */
+    public void applyMergePatch(final DynamicEntity entity, final Map<String, Object> patch)
             throws MissingSchemaException {
-        String key = entry.getKey();
-        Object value = entry.getValue();
-        DynaProperty dynaProperty = getDynaProperty(schema, key);
+        final SchemaConversionPlan plan = getConversionPlan(entity.getSchema());
 
-        if (dynaProperty instanceof ComputedDynaProperty) {
-            return;
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            final String key = entry.getKey();
+            final PropertyPlan property = getPropertyPlan(plan, key);
+
+            if (property.getKind() == Kind.COMPUTED) {
+                continue;
+            }
+
+            if (entry.getValue() == null) {
+                entity.set(key, null);
+            } else if (property.getKind() == Kind.ENTITY && entry.getValue() instanceof Map) {
+                DynamicEntity nestedEntity = (DynamicEntity) entity.get(key);
+                if (nestedEntity == null) {
+                    nestedEntity = new DynamicEntity(getNestedPlan(property).getSchema());
+                    entity.set(key, nestedEntity);
+                }
+                applyMergePatch(nestedEntity, (Map<String, Object>) entry.getValue());
+            } else {
+                applyProperty(entity, plan, key, entry.getValue());
+            }
         }
+    }
 
-        Class<?> type = dynaProperty.getType();
+    private SchemaConversionPlan getConversionPlan(final Schema schema) {
+        return schema.getDerivedValue(SchemaConversionPlan.class, SchemaConversionPlan::new);
+    }
 
-        if (DynamicEntity.class.isAssignableFrom(type)) {
-            applyDynamicEntityProperty(entity, schema, key, value);
-        } else if (List.class.isAssignableFrom(type)) {
-            applyListProperty(entity, schema, key, value);
-        } else {
-            applySingleValueProperty(entity, schema, key, value, type);
+    private SchemaConversionPlan getNestedPlan(final PropertyPlan property)
+            throws MissingSchemaException {
+        SchemaConversionPlan nestedPlan = property.getNestedPlan();
+        if (nestedPlan == null) {
+            final String schemaKey = property.getRelatedSchemaKey();
+            nestedPlan =
+                    getConversionPlan(
+                            schemaService
+                                    .getSchemaByKey(schemaKey)
+                                    .orElseThrow(() -> new MissingSchemaException(schemaKey)));
+            property.setNestedPlan(nestedPlan);
         }
+        return nestedPlan;
     }
 
-    private DynaProperty getDynaProperty(Schema schema, String key) {
-        DynaProperty dynaProperty = schema.getDynaProperty(key);
-        if (dynaProperty == null) {
+    private PropertyPlan getPropertyPlan(SchemaConversionPlan plan, String key) {
+        PropertyPlan property = plan.getProperty(key);
+        if (property == null) {
             throw new BusinessLogicException(String.format("Key not found in schema: '%s'.", key));
         }
-        return dynaProperty;
+        return property;
+    }
+
+    private void applyProperty(
+            DynamicEntity entity, SchemaConversionPlan plan, String key, Object value)
+            throws MissingSchemaException {
+        PropertyPlan property = getPropertyPlan(plan, key);
+
+        switch (property.getKind()) {
+            case COMPUTED -> {
+                // computed from the other attributes, never set
+            }
+            case ENTITY -> applyDynamicEntityProperty(entity, property, value);
+            case LIST -> applyListProperty(entity, plan, property, value);
+            default -> applySingleValueProperty(entity, property, value);
+        }
+    }
+
+    private void readAttributes(
+            final DynamicEntity entity, final SchemaConversionPlan plan, final JsonParser parser)
+            throws IOException, MissingSchemaException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String key = parser.currentName();
+            final PropertyPlan property = getPropertyPlan(plan, key);
+            final JsonToken token = parser.nextToken();
+
+            if (property.getKind() == Kind.COMPUTED) {
+                parser.skipChildren();
+            } else if (property.getKind() == Kind.ENTITY && token == JsonToken.START_OBJECT) {
+                entity.set(key, readEntity(getNestedPlan(property), parser));
+            } else if (property.getKind() == Kind.LIST
+                    && property.isEntityValued()
+                    && token == JsonToken.START_ARRAY
+                    && !attributesToMesh.contains(key)) {
+                entity.set(key, readEntityList(property, parser));
+            } else {
+                applyProperty(entity, plan, key, readValue(parser));
+            }
+        }
+    }
+
+    private DynamicEntity readEntity(final SchemaConversionPlan plan, final JsonParser parser)
+            throws IOException, MissingSchemaException {
+        final DynamicEntity entity = new DynamicEntity(plan.getSchema());
+        readAttributes(entity, plan, parser);
+        return entity;
+    }
+
+    private List<Object> readEntityList(final PropertyPlan property, final JsonParser parser)
+            throws IOException, MissingSchemaException {
+        final List<Object> list = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NULL) {
+                list.add(null);
+            } else if (token == JsonToken.START_OBJECT) {
+                list.add(readEntity(getNestedPlan(property), parser));
+            } else {
+                throw new BusinessLogicException(
+                        String.format(
+                                "Invalid type for key: '%s'. It should be a list of composite"
+                                        + " objects.",
+                                property.getName()));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Reads the value the parser is positioned on as the generic object a map would hold.
+     */
+    private Object readValue(final JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> PERSISTENCE_OBJECT_MAPPER.readValue(parser, Object.class);
+        };
     }
 
     private void applyDynamicEntityProperty(
-            DynamicEntity entity, Schema schema, String key, Object value)
+            DynamicEntity entity, PropertyPlan property, Object value)
             throws MissingSchemaException {
-        if (!(Map.class.isAssignableFrom(value.getClass()))) {
+        String key = property.getName();
+        if (value == null) {
+            entity.set(key, null);
+            return;
+        }
+        if (!(value instanceof Map)) {
             throw new BusinessLogicException(
                     String.format(
                             "Invalid type for key: '%s'. It should be a composite object.", key));
         }
 
-        Object dynamicEntity = convertSingleValueToEntity(schema, DynamicEntity.class, key, value);
-        applyMappedPropertiesToEntity((DynamicEntity) dynamicEntity, (Map<String, Object>) value);
-        entity.set(key, dynamicEntity);
+        entity.set(key, convertMapToEntity(getNestedPlan(property), (Map<String, Object>) value));
     }
 
-    private void applyListProperty(DynamicEntity entity, Schema schema, String key, Object value)
+    private DynamicEntity convertMapToEntity(SchemaConversionPlan plan, Map<String, Object> map)
             throws MissingSchemaException {
-        if (!List.class.isAssignableFrom(value.getClass())) {
+        DynamicEntity entity = new DynamicEntity(plan.getSchema());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            applyProperty(entity, plan, entry.getKey(), entry.getValue());
+        }
+        return entity;
+    }
+
+    private void applyListProperty(
+            DynamicEntity entity, SchemaConversionPlan plan, PropertyPlan property, Object value)
+            throws MissingSchemaException {
+        String key = property.getName();
+        if (value == null) {
+            entity.set(key, new ArrayList<>());
+            return;
+        }
+        if (!(value instanceof List)) {
             throw new BusinessLogicException(
                     String.format("Invalid type for key: '%s'. It should be a List.", key));
         }
@@ -193,28 +411,31 @@ public abstract class EntityMapper implements ApplicationContextAware {
         if (attributesToMesh.contains(key)) {
             list =
                     entityListMapMesh(
-                            (List<Object>) entity.get(key), schema, key, (List<Object>) value);
+                            (List<Object>) entity.get(key), property, (List<Object>) value);
         } else {
-            list = convertListValueToEntity(schema, key, (List<Object>) value);
+            list = convertListValueToEntity(property, (List<Object>) value);
         }
 
         entity.set(key, list);
     }
 
     private void applySingleValueProperty(
-            DynamicEntity entity, Schema schema, String key, Object value, Class<?> type)
-            throws MissingSchemaException {
-        if (!type.isAssignableFrom(value.getClass())) {
-            try {
-                value = DataConversionSupport.convert(value, type);
-                if (value == null) {
-                    handleConversionError(value, type, key);
-                }
-            } catch (Exception e) {
-                handleConversionError(value, type, key);
-            }
+            DynamicEntity entity, PropertyPlan property, Object value) {
+        if (value == null) {
+            entity.set(property.getName(), null);
+            return;
+        }
+
+        Object converted;
+        try {
+            converted = property.convert(value);
+        } catch (Exception e) {
+            converted = null;
+        }
+        if (converted == null) {
+            handleConversionError(value, property.getValueType(), property.getName());
         }
-        entity.set(key, convertSingleValueToEntity(schema, type, key, value));
+        entity.set(property.getName(), converted);
     }
 
     private void handleConversionError(Object element, Class<?> dynaPropertyType, String key) {
@@ -260,46 +481,31 @@ public abstract class EntityMapper implements ApplicationContextAware {
         return object;
     }
 
-    private Object convertSingleValueToEntity(
-            final Schema schema, final Class<?> type, final String key, final Object value)
-            throws MissingSchemaException {
-        if (DynamicEntity.class.isAssignableFrom(type)) {
-            @SuppressWarnings("unchecked")
-            final EntityModel subModel =
-                    new EntityModel()
-                            .schema(schema.getRelatedSchemas().get(key))
-                            .data((Map<String, Object>) value);
-            return entityModelToEntity(subModel);
-        }
-
-        return DataConversionSupport.convert(value, type);
-    }
+    private List<Object> convertListValueToEntity(
+            final PropertyPlan property, final List<Object> list) throws MissingSchemaException {
 
-    private List<?> convertListValueToEntity(
-            final Schema schema, final String key, final List<Object> list)
-            throws MissingSchemaException {
-
-        final List<Object> result = new LinkedList<>();
+        final List<Object> result = new ArrayList<>(list.size());
         for (Object value : list) {
-            result.add(
-                    convertSingleValueToEntity(
-                            schema, schema.getDynaProperty(key).getContentType(), key, value));
+            if (property.isEntityValued() && value != null) {
+                result.add(
+                        convertMapToEntity(getNestedPlan(property), (Map<String, Object>) value));
+            } else {
+                result.add(property.convert(value));
+            }
         }
 
         return result;
     }
 
-    private List<?> entityListMapMesh(
+    private List<Object> entityListMapMesh(
             final List<Object> persistedList,
-            final Schema schema,
-            final String attributeName,
+            final PropertyPlan property,
             final List<Object> inputList)
             throws MissingSchemaException {
 
         // Document specific logic
-        if (schema.getDynaProperty(attributeName).getContentType().equals(Document.class)
-                && (!inputList.isEmpty())) {
-            final List<Object> result = new LinkedList<>();
+        if (Document.class.equals(property.getValueType()) && (!inputList.isEmpty())) {
+            final List<Object> result = new ArrayList<>(inputList.size());
 
             // generate a map of persisted documents with an id key to compare ids, access old
             // value.
@@ -312,35 +518,17 @@ public abstract class EntityMapper implements ApplicationContextAware {
 
             // loop input objects, this will ignore removed documents and remove them.
             for (Object rawDoc : inputList) {
-                Document doc =
-                        (Document)
-                                DataConversionSupport.convert(
-                                        rawDoc,
-                                        schema.getDynaProperty(attributeName).getContentType());
+                Document doc = (Document) property.convert(rawDoc);
                 // run mesh on already existing documents
-                if (documentMap.containsKey(doc.getDocumentId())) {
-                    if (isAuthorizedForDocuments()) {
-                        result.add(
-                                convertSingleValueToEntity(
-                                        schema,
-                                        schema.getDynaProperty(attributeName).getContentType(),
-                                        attributeName,
-                                        rawDoc));
-                    } else {
-                        result.add(documentMap.get(doc.getDocumentId()));
-                    }
+                if (documentMap.containsKey(doc.getDocumentId()) && !isAuthorizedForDocuments()) {
+                    result.add(documentMap.get(doc.getDocumentId()));
                 } else {
-                    result.add(
-                            convertSingleValueToEntity(
-                                    schema,
-                                    schema.getDynaProperty(attributeName).getContentType(),
-                                    attributeName,
-                                    rawDoc));
+                    result.add(doc);
                 }
             }
             return result;
         }
-        return convertListValueToEntity(schema, attributeName, inputList);
+        return convertListValueToEntity(property, inputList);
     }
 
     // This currently works for every user
@@ -376,6 +564,50 @@ public abstract class EntityMapper implements ApplicationContextAware {
         return flattenedMap;
     }
 
+    /**
+     * Flattens only the attributes of an entity that a merge patch names, down to the values the
+     * patch replaces. Computed attributes are left out.
+     *
+     * @param entity DynamicEntity data to be flattened
+     * @param patch merge patch naming the attributes to flatten
+     * @return flattened String map
+     */
+    public Map<String, String> flattenDynaDataMap(DynamicEntity entity, Map<String, Object> patch) {
+        Map<String, String> flattenedMap = new HashMap<>();
+        flattenPatchedMap("", entity, patch, flattenedMap);
+        return flattenedMap;
+    }
+
+    private void flattenPatchedMap(
+            String prefix,
+            DynamicEntity entity,
+            Map<String, Object> patch,
+            Map<String, String> flattenedMap) {
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            String key = entry.getKey();
+            DynaProperty dynaProperty = entity.getSchema().getDynaProperty(key);
+            if (dynaProperty == null || dynaProperty instanceof ComputedDynaProperty) {
+                continue;
+            }
+
+            Object value = entity.get(key);
+            if (value instanceof DynamicEntity && entry.getValue() instanceof Map) {
+                String nestedPrefix = prefix.isEmpty() ? key : prefix + "." + key;
+                flattenPatchedMap(
+                        nestedPrefix,
+                        (DynamicEntity) value,
+                        (Map<String, Object>) entry.getValue(),
+                        flattenedMap);
+            } else if (value instanceof DynamicEntity) {
+                handleDynamicEntity(prefix, key, (DynamicEntity) value, flattenedMap);
+            } else if (value instanceof List) {
+                handleList(prefix, key, (List<Object>) value, flattenedMap);
+            } else if (value != null) {
+                handleSimpleValue(prefix, key, value, flattenedMap);
+            }
+        }
+    }
+
     private void flattenMap(String prefix, DynamicEntity entity, Map<String, String> flattenedMap) {
         for (DynaProperty dynaProperty : entity.getSchema().getDynaProperties()) {
             String key = dynaProperty.getName();
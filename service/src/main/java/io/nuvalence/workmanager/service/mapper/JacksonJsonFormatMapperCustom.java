@@ -19,10 +19,16 @@ public class JacksonJsonFormatMapperCustom implements FormatMapper {
         delegate = new JacksonJsonFormatMapper(objectMapper);
     }
 
-    private static ObjectMapper createObjectMapper() {
+    /**
+     * Creates an object mapper configured as the one this format mapper uses.
+     *
+     * @return new object mapper
+     */
+    static ObjectMapper createObjectMapper() {
         ObjectMapper objectMapper =
                 new ObjectMapper()
                         .registerModule(new JavaTimeModule())
+                        .registerModule(new DynamicEntityModule())
                         .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
         return objectMapper;
     }
@@ -1,6 +1,7 @@
 package io.nuvalence.workmanager.service.mapper;
 
 import io.nuvalence.workmanager.service.generated.models.PagingMetadata;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -56,6 +57,28 @@ public class PagingMetadataMapper {
                 .nextPage(nextPage);
     }
 
+    /**
+     * Converts a keyset page to api paging metadata, which carries no page number or total count.
+     * @param page keyset page
+     * @param <T> page item type
+     * @return paging metadata
+     */
+    public <T> PagingMetadata toPagingMetadata(KeysetPage<T> page) {
+        var nextPage =
+                page.hasNext()
+                        ? currentRequestUri()
+                                .replaceQueryParam("pageNumber")
+                                .replaceQueryParam("pageToken", page.getNextPageToken())
+                                .build()
+                                .toUri()
+                                .toString()
+                        : null;
+        return new PagingMetadata()
+                .pageSize(page.getSize())
+                .nextPage(nextPage)
+                .nextPageToken(page.getNextPageToken());
+    }
+
     /**
      * Builds the next page uri.
      *
@@ -64,18 +87,7 @@ public class PagingMetadataMapper {
      */
     private URI buildNextPageUri(Pageable nextPage) {
         if (nextPage.isPaged()) {
-            var request = requestSupplier.get();
-
-            var queryParams =
-                    request.getParameterMap().entrySet().stream()
-                            .collect(
-                                    Collectors.toMap(
-                                            Map.Entry::getKey, e -> Arrays.asList(e.getValue())));
-
-            return UriComponentsBuilder.fromUriString(request.getRequestURI())
-                    .host(request.getServerName())
-                    .scheme(request.getScheme())
-                    .queryParams(new MultiValueMapAdapter<>(queryParams))
+            return currentRequestUri()
                     .replaceQueryParam("pageNumber", nextPage.getPageNumber())
                     .build()
                     .toUri();
@@ -83,4 +95,19 @@ public class PagingMetadataMapper {
             return null;
         }
     }
+
+    private UriComponentsBuilder currentRequestUri() {
+        var request = requestSupplier.get();
+
+        var queryParams =
+                request.getParameterMap().entrySet().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        Map.Entry::getKey, e -> Arrays.asList(e.getValue())));
+
+        return UriComponentsBuilder.fromUriString(request.getRequestURI())
+                .host(request.getServerName())
+                .scheme(request.getScheme())
+                .queryParams(new MultiValueMapAdapter<>(queryParams));
+    }
 }
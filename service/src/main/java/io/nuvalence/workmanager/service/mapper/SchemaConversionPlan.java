@@ -0,0 +1,164 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.ComputedDynaProperty;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DataConversionSupport;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.commons.beanutils.DynaProperty;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * How {@link EntityMapper} converts generic maps to entities of one schema, worked out once per
+ * schema instead of once per converted value.
+ *
+ * <p>Attributes are looked up in a single table, whether they hold entities, lists or single values
+ * is decided ahead of time, and the plans of nested entity schemas are resolved the first time they
+ * are needed and kept from then on.</p>
+ */
+@Getter
+final class SchemaConversionPlan {
+    private final Schema schema;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, PropertyPlan> properties;
+
+    /**
+     * Works out the plan of a schema.
+     *
+     * @param schema schema to plan conversions for
+     */
+    SchemaConversionPlan(final Schema schema) {
+        this.schema = schema;
+
+        final DynaProperty[] dynaProperties = schema.getDynaProperties();
+        this.properties = new HashMap<>(dynaProperties.length * 4 / 3 + 1);
+        for (DynaProperty dynaProperty : dynaProperties) {
+            properties.put(
+                    dynaProperty.getName(),
+                    new PropertyPlan(
+                            dynaProperty,
+                            schema.getRelatedSchemas() == null
+                                    ? null
+                                    : schema.getRelatedSchemas().get(dynaProperty.getName())));
+        }
+    }
+
+    /**
+     * Returns the plan of an attribute.
+     *
+     * @param name attribute name
+     * @return plan of the attribute, null if the schema has no such attribute
+     */
+    PropertyPlan getProperty(final String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * What an attribute holds, deciding how values are applied to it.
+     */
+    enum Kind {
+        COMPUTED,
+        ENTITY,
+        LIST,
+        VALUE
+    }
+
+    /**
+     * How values of one attribute are converted.
+     */
+    @Getter
+    static final class PropertyPlan {
+        private final String name;
+        private final Kind kind;
+
+        /**
+         * Type single values are converted to: the attribute type, or the type of list elements.
+         */
+        private final Class<?> valueType;
+
+        /**
+         * Whether the attribute holds entities, either directly or as list elements.
+         */
+        private final boolean entityValued;
+
+        private final String relatedSchemaKey;
+
+        @Setter private volatile SchemaConversionPlan nestedPlan;
+
+        @Getter(AccessLevel.NONE)
+        private volatile Conversion lastConversion;
+
+        private PropertyPlan(final DynaProperty dynaProperty, final String relatedSchemaKey) {
+            this.name = dynaProperty.getName();
+            this.relatedSchemaKey = relatedSchemaKey;
+
+            final Class<?> type = dynaProperty.getType();
+            if (dynaProperty instanceof ComputedDynaProperty) {
+                this.kind = Kind.COMPUTED;
+                this.valueType = type;
+            } else if (DynamicEntity.class.isAssignableFrom(type)) {
+                this.kind = Kind.ENTITY;
+                this.valueType = type;
+            } else if (List.class.isAssignableFrom(type)) {
+                this.kind = Kind.LIST;
+                this.valueType = dynaProperty.getContentType();
+            } else {
+                this.kind = Kind.VALUE;
+                this.valueType = type;
+            }
+            this.entityValued =
+                    valueType != null && DynamicEntity.class.isAssignableFrom(valueType);
+        }
+
+        /**
+         * Converts a single value to the value type of this attribute. Values of the type that was
+         * converted last reuse its converter instead of searching for one again.
+         *
+         * @param value value to convert
+         * @return converted value
+         * @throws UnsupportedOperationException if no converter exists for the value
+         */
+        Object convert(final Object value) {
+            if (value == null || valueType == null) {
+                return value;
+            }
+
+            Conversion conversion = lastConversion;
+            if (conversion == null || conversion.from != value.getClass()) {
+                conversion =
+                        new Conversion(
+                                value.getClass(),
+                                DataConversionSupport.getConverter(value.getClass(), valueType));
+                lastConversion = conversion;
+            }
+
+            if (conversion.converter == null) {
+                throw new UnsupportedOperationException(
+                        String.format(
+                                "No converter found to convert %s to %s",
+                                value.getClass().getName(), valueType.getName()));
+            }
+            return conversion.converter.apply(value);
+        }
+    }
+
+    /**
+     * Converter found for values of one type.
+     */
+    private static final class Conversion {
+        private final Class<?> from;
+        private final Function<Object, ?> converter;
+
+        private Conversion(final Class<?> from, final Function<Object, ?> converter) {
+            this.from = from;
+            this.converter = converter;
+        }
+    }
+}
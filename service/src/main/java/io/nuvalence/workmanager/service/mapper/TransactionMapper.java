@@ -1,6 +1,8 @@
 package io.nuvalence.workmanager.service.mapper;
 
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowAction;
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowTask;
 import io.nuvalence.workmanager.service.generated.models.TransactionModel;
@@ -8,12 +10,16 @@ import io.nuvalence.workmanager.service.generated.models.WorkflowActionModel;
 import io.nuvalence.workmanager.service.generated.models.WorkflowTaskModel;
 import io.nuvalence.workmanager.service.service.TransactionTaskService;
 import lombok.Setter;
+import org.mapstruct.InheritConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,7 +38,9 @@ public abstract class TransactionMapper {
 
     @Mapping(
             target = "data",
-            expression = "java(entityMapper.convertAttributesToGenericMap(transaction.getData()))")
+            expression =
+                    "java(entityMapper.convertAttributesToSerializableMap("
+                            + "transaction.getData()))")
     @Mapping(target = "activeTasks", expression = "java(populateActiveTasks(transaction))")
     @Mapping(
             target = "customerProvidedDocuments",
@@ -48,6 +56,57 @@ public abstract class TransactionMapper {
             expression = "java(transactionTaskService.hasReachedEndEvent(transaction))")
     public abstract TransactionModel transactionToTransactionModel(Transaction transaction);
 
+    @InheritConfiguration(name = "transactionToTransactionModel")
+    @Mapping(target = "activeTasks", ignore = true)
+    @Mapping(target = "isComplete", ignore = true)
+    abstract TransactionModel transactionToTransactionModelWithoutWorkflowState(
+            Transaction transaction);
+
+    /**
+     * Maps a transaction summary. Data is left empty, and the documents and workflow state a summary
+     * does not load are left out.
+     *
+     * @param summary transaction summary
+     * @return mapped transaction
+     */
+    @Mapping(target = "data", ignore = true)
+    @Mapping(target = "activeTasks", ignore = true)
+    @Mapping(target = "customerProvidedDocuments", ignore = true)
+    @Mapping(target = "isComplete", ignore = true)
+    public abstract TransactionModel transactionSummaryToTransactionModel(
+            TransactionSummary summary);
+
+    /**
+     * Maps a page of transactions, resolving the active tasks and completion state of all of their
+     * workflows with one query each instead of several queries per transaction.
+     *
+     * @param transactions transactions to map
+     * @return mapped transactions, in the same order
+     */
+    public List<TransactionModel> transactionsToTransactionModels(
+            final List<Transaction> transactions) {
+        final Map<String, List<WorkflowTask>> activeTasks =
+                transactionTaskService.getActiveTasksForCurrentUserByProcessInstanceId(
+                        transactions);
+        final Set<String> endedProcessInstanceIds =
+                transactionTaskService.getProcessInstanceIdsThatReachedEndEvent(transactions);
+
+        final List<TransactionModel> models = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            final TransactionModel model =
+                    transactionToTransactionModelWithoutWorkflowState(transaction);
+            model.setActiveTasks(
+                    activeTasks.getOrDefault(transaction.getProcessInstanceId(), List.of()).stream()
+                            .map(this::mapWorkflowTaskToWorkflowTaskModel)
+                            .collect(Collectors.toList()));
+            model.setIsComplete(
+                    endedProcessInstanceIds.contains(transaction.getProcessInstanceId()));
+            models.add(model);
+        }
+
+        return models;
+    }
+
     String mapTransactionPriority(Transaction transaction) {
         if (Objects.isNull(transaction.getPriority())) {
             return null;
@@ -55,6 +114,10 @@ public abstract class TransactionMapper {
         return transaction.getPriority().getValue();
     }
 
+    String mapTransactionPriority(TransactionPriority priority) {
+        return priority == null ? null : priority.getValue();
+    }
+
     List<WorkflowTaskModel> populateActiveTasks(Transaction transaction) {
         return transactionTaskService.getActiveTasksForCurrentUser(transaction).stream()
                 .map(this::mapWorkflowTaskToWorkflowTaskModel)
@@ -24,18 +24,22 @@ abstract class BaseFilters {
      * @return Pagination object
      */
     public PageRequest getPageRequest() {
-        Sort sort;
+        return PageRequest.of(pageNumber, pageSize, getSort());
+    }
 
+    /**
+     * Generates the sort requested by these filters.
+     * @return Sort object
+     */
+    public Sort getSort() {
         if (sortBy.equals("type")) {
             sortBy = "type.name";
         }
 
         if (sortOrder.equalsIgnoreCase("desc")) {
-            sort = Sort.by(Sort.Direction.DESC, sortBy);
+            return Sort.by(Sort.Direction.DESC, sortBy);
         } else {
-            sort = Sort.by(Sort.Direction.ASC, sortBy);
+            return Sort.by(Sort.Direction.ASC, sortBy);
         }
-
-        return PageRequest.of(pageNumber, pageSize, sort);
     }
 }
@@ -0,0 +1,46 @@
+package io.nuvalence.workmanager.service.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page read by seeking past the previous one, without a total count.
+ *
+ * @param <T> page item type
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private final List<T> content;
+    private final int size;
+    private final String nextPageToken;
+
+    /**
+     * Creates a page with the same size and continuation token holding the given items.
+     *
+     * @param content items of the new page
+     * @param <U>     item type of the new page
+     * @return new page
+     */
+    public <U> KeysetPage<U> withContent(final List<U> content) {
+        return new KeysetPage<>(content, size, nextPageToken);
+    }
+
+    /**
+     * Converts the items of this page, keeping its size and continuation token.
+     *
+     * @param converter item converter
+     * @param <U>       item type of the new page
+     * @return converted page
+     */
+    public <U> KeysetPage<U> map(final Function<? super T, ? extends U> converter) {
+        return withContent(content.stream().<U>map(converter).toList());
+    }
+
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+}
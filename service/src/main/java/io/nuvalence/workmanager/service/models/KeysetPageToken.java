@@ -0,0 +1,131 @@
+package io.nuvalence.workmanager.service.models;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Sort;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page, handed to clients as an opaque continuation token.
+ *
+ * <p>The position is the (sort column, id) pair of that row, together with the sort it was
+ * produced under, so a token can only continue the listing it came from.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPageToken {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Object lastValue;
+    private final UUID lastId;
+
+    /**
+     * Encodes this position as a URL safe token.
+     *
+     * @return continuation token
+     */
+    public String encode() {
+        final ObjectNode node = MAPPER.createObjectNode();
+        node.put("sortBy", sortBy);
+        node.put("direction", direction.name());
+        // enums by constant name, since their JSON form is not always unambiguous to read back
+        node.set(
+                "lastValue",
+                MAPPER.valueToTree(
+                        lastValue instanceof Enum<?> constant ? constant.name() : lastValue));
+        node.put("lastId", lastId.toString());
+        try {
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsBytes(node));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode page token", e);
+        }
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}, checking that it continues the given sort.
+     *
+     * @param token      continuation token
+     * @param entityType type of the listed entities, used to restore the sort column value
+     * @param order      sort of the current request
+     * @return decoded position
+     * @throws ProvidedDataException if the token is malformed or belongs to a different sort
+     */
+    public static KeysetPageToken decode(
+            final String token, final Class<?> entityType, final Sort.Order order) {
+        try {
+            final JsonNode node = MAPPER.readTree(Base64.getUrlDecoder().decode(token));
+            final String sortBy = node.path("sortBy").asText();
+            final Sort.Direction direction =
+                    Sort.Direction.fromString(node.path("direction").asText());
+            if (!sortBy.equals(order.getProperty()) || direction != order.getDirection()) {
+                throw new ProvidedDataException(
+                        "pageToken was issued for a different sortBy or sortOrder");
+            }
+
+            final PropertyDescriptor property = BeanUtils.getPropertyDescriptor(entityType, sortBy);
+            if (property == null) {
+                throw new ProvidedDataException("pageToken refers to an unknown sort column");
+            }
+            final JsonNode lastValue = node.path("lastValue");
+            return new KeysetPageToken(
+                    sortBy,
+                    direction,
+                    readValue(lastValue, property.getPropertyType()),
+                    UUID.fromString(node.path("lastId").asText()));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new ProvidedDataException("Invalid pageToken");
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readValue(final JsonNode value, final Class<?> type)
+            throws JsonProcessingException {
+        if (value.isNull() || value.isMissingNode()) {
+            return null;
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value.asText());
+        }
+        return MAPPER.treeToValue(value, type);
+    }
+
+    /**
+     * Describes the row of {@code entity} in terms of the given sort.
+     *
+     * @param entity row to describe
+     * @param id     id of the row
+     * @param order  sort the row was listed under
+     * @return position of the row
+     */
+    public static KeysetPageToken of(final Object entity, final UUID id, final Sort.Order order) {
+        final PropertyDescriptor property =
+                BeanUtils.getPropertyDescriptor(entity.getClass(), order.getProperty());
+        if (property == null) {
+            throw new ProvidedDataException("Unknown sort column: " + order.getProperty());
+        }
+        try {
+            return new KeysetPageToken(
+                    order.getProperty(),
+                    order.getDirection(),
+                    property.getReadMethod().invoke(entity),
+                    id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to read " + order.getProperty(), e);
+        }
+    }
+}
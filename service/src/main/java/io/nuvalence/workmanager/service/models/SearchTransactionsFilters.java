@@ -3,6 +3,8 @@ package io.nuvalence.workmanager.service.models;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSearchableAttribute;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSearchableAttributeKey;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,9 +17,13 @@ import java.util.List;
 import java.util.Locale;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
 /**
  * The filters to filter the transactions by.
@@ -40,6 +46,7 @@ public class SearchTransactionsFilters extends TransactionFilters {
      * @param subjectUserId             The subjectUserId to filter transactions by
      * @param externalId                The externalId to filter transactions by
      * @param createdBy                 The createdBy user id to filter transactions by
+     * @param dataFilters               The filters on searchable attributes of the transaction data
      * @param sortBy                    The column to filter transactions by
      * @param sortOrder                 The order to filter transactions by
      * @param pageNumber                The number of the pages to get transactions
@@ -58,6 +65,7 @@ public class SearchTransactionsFilters extends TransactionFilters {
             String subjectUserId,
             String externalId,
             String createdBy,
+            List<TransactionDataFilter> dataFilters,
             String sortBy,
             String sortOrder,
             Integer pageNumber,
@@ -74,6 +82,7 @@ public class SearchTransactionsFilters extends TransactionFilters {
         this.setSubjectUserId(subjectUserId);
         this.setExternalId(externalId);
         this.setCreatedBy(createdBy);
+        this.setDataFilters(dataFilters);
     }
 
     @Override
@@ -110,10 +119,62 @@ public class SearchTransactionsFilters extends TransactionFilters {
             addEqualIgnoreCasePredicate(
                     predicates, criteriaBuilder, root.get("externalId"), getExternalId());
 
+            if (getDataFilters() != null) {
+                for (TransactionDataFilter dataFilter : getDataFilters()) {
+                    predicates.add(
+                            getDataFilterPredicate(root, query, criteriaBuilder, dataFilter));
+                }
+            }
+
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
 
+    private Predicate getDataFilterPredicate(
+            Root<Transaction> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder criteriaBuilder,
+            TransactionDataFilter dataFilter) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<TransactionSearchableAttribute> attribute =
+                subquery.from(TransactionSearchableAttribute.class);
+        Path<TransactionSearchableAttributeKey> id = attribute.get("id");
+        subquery.select(criteriaBuilder.literal(1))
+                .where(
+                        criteriaBuilder.equal(id.get("transactionId"), root.get("id")),
+                        criteriaBuilder.equal(id.get("path"), dataFilter.getPath()),
+                        getDataValuePredicate(attribute, criteriaBuilder, dataFilter));
+        return criteriaBuilder.exists(subquery);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Comparable<? super T>> Predicate getDataValuePredicate(
+            Root<TransactionSearchableAttribute> attribute,
+            CriteriaBuilder criteriaBuilder,
+            TransactionDataFilter dataFilter) {
+        Expression<T> value =
+                attribute.get(
+                        switch (dataFilter.getValueType()) {
+                            case STRING -> "stringValue";
+                            case NUMBER -> "numberValue";
+                            case DATE -> "dateValue";
+                        });
+        T filterValue = (T) dataFilter.getValue();
+        return switch (dataFilter.getOperator()) {
+            case EQUAL -> criteriaBuilder.equal(value, filterValue);
+            case PREFIX -> criteriaBuilder.like(
+                    (Expression<String>) value,
+                    escapeLikePattern((String) filterValue) + "%",
+                    '\\');
+            case GREATER_OR_EQUAL -> criteriaBuilder.greaterThanOrEqualTo(value, filterValue);
+            case LESS_OR_EQUAL -> criteriaBuilder.lessThanOrEqualTo(value, filterValue);
+        };
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private void addEqualPredicate(
             List<Predicate> predicates,
             CriteriaBuilder criteriaBuilder,
@@ -0,0 +1,36 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Filter on the value of a searchable attribute of the transaction data. An attribute held in a
+ * list matches when any of its values does.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TransactionDataFilter {
+    private final String path;
+    private final SearchableConfiguration.ValueType valueType;
+    private final Operator operator;
+
+    /**
+     * Value to compare with, a string, a big decimal or a local date depending on the value type.
+     */
+    private final Object value;
+
+    /**
+     * How attribute values are compared with the filter value.
+     */
+    public enum Operator {
+        EQUAL,
+        PREFIX,
+        GREATER_OR_EQUAL,
+        LESS_OR_EQUAL
+    }
+}
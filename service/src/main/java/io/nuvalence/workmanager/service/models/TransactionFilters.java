@@ -4,6 +4,7 @@ import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.OffsetDateTime;
@@ -26,6 +27,7 @@ public abstract class TransactionFilters extends BaseFilters {
     private String subjectUserId;
     private String externalId;
     private String createdBy;
+    private List<TransactionDataFilter> dataFilters;
 
     protected TransactionFilters(
             String sortBy, String sortOrder, Integer pageNumber, Integer pageSize) {
@@ -33,4 +35,21 @@ public abstract class TransactionFilters extends BaseFilters {
     }
 
     public abstract Specification<Transaction> getTransactionSpecifications();
+
+    /**
+     * Whether these filters only constrain the definition key, status, priority and assignee, the
+     * dimensions of the {@code transaction_counts} rollup, so matching transactions can be counted
+     * without querying the transaction table.
+     *
+     * @return true if the rollup can answer counts for these filters
+     */
+    public boolean isCountableFromRollup() {
+        return StringUtils.isBlank(category)
+                && startDate == null
+                && endDate == null
+                && subjectUserId == null
+                && StringUtils.isBlank(externalId)
+                && createdBy == null
+                && (dataFilters == null || dataFilters.isEmpty());
+    }
 }
@@ -0,0 +1,54 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.AuditEventOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository for audit events waiting to be delivered.
+ */
+public interface AuditEventOutboxRepository extends CrudRepository<AuditEventOutboxEntry, Long> {
+
+    /**
+     * Locks the oldest entry of each business object, provided it is due for delivery. Entries
+     * already locked by another dispatcher are skipped, and since later entries of a business
+     * object are never returned while an earlier one exists, a business object is only ever
+     * dispatched by one node at a time.
+     *
+     * @param now      current time
+     * @param pageable maximum number of entries to lock
+     * @return locked entries, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query(
+            "SELECT e FROM AuditEventOutboxEntry e WHERE e.nextAttemptTimestamp <= :now"
+                    + " AND NOT EXISTS (SELECT p.id FROM AuditEventOutboxEntry p"
+                    + " WHERE p.businessObjectType = e.businessObjectType"
+                    + " AND p.businessObjectId = e.businessObjectId AND p.id < e.id)"
+                    + " ORDER BY e.id")
+    List<AuditEventOutboxEntry> lockDueHeads(@Param("now") OffsetDateTime now, Pageable pageable);
+
+    List<AuditEventOutboxEntry>
+            findByBusinessObjectTypeAndBusinessObjectIdAndIdGreaterThanOrderByIdAsc(
+                    String businessObjectType, UUID businessObjectId, Long id, Pageable pageable);
+
+    Optional<AuditEventOutboxEntry> findFirstByOrderByIdAsc();
+
+    @Modifying
+    @Query("DELETE FROM AuditEventOutboxEntry e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
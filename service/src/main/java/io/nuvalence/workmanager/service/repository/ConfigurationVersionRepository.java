@@ -0,0 +1,23 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.ConfigurationVersion;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Repository for configuration version stamps.
+ */
+public interface ConfigurationVersionRepository
+        extends CrudRepository<ConfigurationVersion, String> {
+
+    @Modifying
+    @Query(
+            "UPDATE ConfigurationVersion cv SET cv.version = cv.version + 1,"
+                    + " cv.lastUpdatedTimestamp = :timestamp WHERE cv.region = :region")
+    int incrementVersion(
+            @Param("region") String region, @Param("timestamp") OffsetDateTime timestamp);
+}
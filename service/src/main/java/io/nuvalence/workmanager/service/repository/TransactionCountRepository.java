@@ -0,0 +1,12 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCount;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCountKey;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Repository for the {@code transaction_counts} rollup.
+ */
+public interface TransactionCountRepository
+        extends CrudRepository<TransactionCount, TransactionCountKey>,
+                TransactionCountRepositoryCustom {}
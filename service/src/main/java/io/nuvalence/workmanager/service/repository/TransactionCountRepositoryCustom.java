@@ -0,0 +1,45 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCountKey;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+
+import java.util.Map;
+
+/**
+ * Maintains and reads the {@code transaction_counts} rollup. Reads take the definition key,
+ * status, priority and assignee filters of {@link TransactionFilters}, with the same semantics the
+ * transaction search gives them, and ignore every other filter.
+ */
+public interface TransactionCountRepositoryCustom {
+
+    /**
+     * Adds to the number of transactions counted under the given key, creating its row if needed.
+     *
+     * @param key   rollup row
+     * @param delta number of transactions to add, negative to subtract
+     */
+    void addToCount(TransactionCountKey key, long delta);
+
+    /**
+     * Recomputes every rollup row from the transaction table, correcting any drift, e.g. from
+     * transactions written by instances that did not maintain the rollup. Concurrent changes to
+     * the rollup wait until the calling database transaction completes.
+     */
+    void reconcileCounts();
+
+    /**
+     * Counts the transactions matching each of several filters, in a single statement.
+     *
+     * @param filters filters to apply, by the label to report their count under
+     * @return number of transactions matching each filter, by label
+     */
+    Map<String, Long> countEach(Map<String, ? extends TransactionFilters> filters);
+
+    /**
+     * Counts the matching transactions by status.
+     *
+     * @param filters filters to apply
+     * @return number of matching transactions of each status that has any
+     */
+    Map<String, Long> countByStatus(TransactionFilters filters);
+}
@@ -0,0 +1,211 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCount;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCountKey;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Houses concrete transaction count repository method implementations.
+ */
+@Repository
+public class TransactionCountRepositoryImpl implements TransactionCountRepositoryCustom {
+    private static final String UPSERT_POSTGRES =
+            "INSERT INTO transaction_counts"
+                    + " (transaction_definition_key, status, priority, assigned_to,"
+                    + " transaction_count)"
+                    + " VALUES (:key, :status, :priority, :assignedTo, :delta)"
+                    + " ON CONFLICT (transaction_definition_key, status, priority, assigned_to)"
+                    + " DO UPDATE SET transaction_count ="
+                    + " transaction_counts.transaction_count + EXCLUDED.transaction_count";
+
+    private static final String UPSERT_STANDARD =
+            "MERGE INTO transaction_counts c"
+                    + " USING (SELECT CAST(:key AS VARCHAR(255)) AS k,"
+                    + " CAST(:status AS VARCHAR(255)) AS s, CAST(:priority AS INTEGER) AS p,"
+                    + " CAST(:assignedTo AS VARCHAR(64)) AS a, CAST(:delta AS BIGINT) AS d) n"
+                    + " ON c.transaction_definition_key = n.k AND c.status = n.s"
+                    + " AND c.priority = n.p AND c.assigned_to = n.a"
+                    + " WHEN MATCHED THEN UPDATE SET transaction_count = c.transaction_count + n.d"
+                    + " WHEN NOT MATCHED THEN INSERT"
+                    + " (transaction_definition_key, status, priority, assigned_to,"
+                    + " transaction_count)"
+                    + " VALUES (n.k, n.s, n.p, n.a, n.d)";
+
+    // blocks the upserts of committing transactions, but not readers
+    private static final String LOCK_POSTGRES =
+            "LOCK TABLE transaction_counts IN SHARE ROW EXCLUSIVE MODE";
+
+    private static final String RESET = "UPDATE transaction_counts SET transaction_count = 0";
+
+    private static final String ACTUAL_COUNTS =
+            "SELECT transaction_definition_key AS k, status AS s, COALESCE(priority, 0) AS p,"
+                    + " COALESCE(assigned_to, '') AS a, COUNT(*) AS d"
+                    + " FROM transaction"
+                    + " GROUP BY transaction_definition_key, status, COALESCE(priority, 0),"
+                    + " COALESCE(assigned_to, '')";
+
+    private static final String RECONCILE_POSTGRES =
+            "INSERT INTO transaction_counts"
+                    + " (transaction_definition_key, status, priority, assigned_to,"
+                    + " transaction_count)"
+                    + " SELECT k, s, p, a, d FROM ("
+                    + ACTUAL_COUNTS
+                    + ") n"
+                    + " ON CONFLICT (transaction_definition_key, status, priority, assigned_to)"
+                    + " DO UPDATE SET transaction_count = EXCLUDED.transaction_count";
+
+    private static final String RECONCILE_STANDARD =
+            "MERGE INTO transaction_counts c"
+                    + " USING ("
+                    + ACTUAL_COUNTS
+                    + ") n"
+                    + " ON c.transaction_definition_key = n.k AND c.status = n.s"
+                    + " AND c.priority = n.p AND c.assigned_to = n.a"
+                    + " WHEN MATCHED THEN UPDATE SET transaction_count = n.d"
+                    + " WHEN NOT MATCHED THEN INSERT"
+                    + " (transaction_definition_key, status, priority, assigned_to,"
+                    + " transaction_count)"
+                    + " VALUES (n.k, n.s, n.p, n.a, n.d)";
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Override
+    public void addToCount(final TransactionCountKey key, final long delta) {
+        // ON CONFLICT is the only upsert that is safe against concurrent inserts of the same row
+        entityManager
+                .createNativeQuery(isPostgres() ? UPSERT_POSTGRES : UPSERT_STANDARD)
+                .setParameter("key", key.getTransactionDefinitionKey())
+                .setParameter("status", key.getStatus())
+                .setParameter("priority", key.getPriority())
+                .setParameter("assignedTo", key.getAssignedTo())
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+
+    @Override
+    public void reconcileCounts() {
+        final boolean postgres = isPostgres();
+        if (postgres) {
+            // transactions that already wrote their changes to the rollup are waited for, the
+            // ones that have not yet are only counted once this transaction commits
+            entityManager.createNativeQuery(LOCK_POSTGRES).executeUpdate();
+        }
+        entityManager.createNativeQuery(RESET).executeUpdate();
+        entityManager
+                .createNativeQuery(postgres ? RECONCILE_POSTGRES : RECONCILE_STANDARD)
+                .executeUpdate();
+    }
+
+    @Override
+    public Map<String, Long> countEach(final Map<String, ? extends TransactionFilters> filters) {
+        Map<String, Long> counts = new HashMap<>();
+        if (filters.isEmpty()) {
+            return counts;
+        }
+
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TransactionCount> root = query.from(TransactionCount.class);
+        Path<TransactionCountKey> id = root.get("id");
+        Path<Long> count = root.get("count");
+
+        // one SUM(...) FILTER (WHERE ...) per label, emulated with CASE where FILTER is missing
+        List<String> labels = new ArrayList<>(filters.keySet());
+        query.multiselect(
+                labels.stream()
+                        .<Selection<?>>map(
+                                label ->
+                                        cb.sum(
+                                                count,
+                                                cb.and(getPredicates(id, filters.get(label)))))
+                        .toList());
+
+        Tuple tuple = entityManager.createQuery(query).getSingleResult();
+        for (int i = 0; i < labels.size(); i++) {
+            Number labelCount = (Number) tuple.get(i);
+            counts.put(labels.get(i), labelCount == null ? 0L : labelCount.longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> countByStatus(final TransactionFilters filters) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TransactionCount> root = query.from(TransactionCount.class);
+        Path<TransactionCountKey> id = root.get("id");
+
+        Expression<Long> count = cb.sumAsLong(root.get("count"));
+        query.multiselect(id.get("status"), count);
+        query.where(getPredicates(id, filters));
+        query.groupBy(id.get("status"));
+        // rows are kept at zero once their last transaction moves away
+        query.having(cb.gt(count, 0L));
+
+        Map<String, Long> counts = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            counts.put(tuple.get(0, String.class), tuple.get(1, Long.class));
+        }
+        return counts;
+    }
+
+    private Predicate[] getPredicates(
+            final Path<TransactionCountKey> id, final TransactionFilters filters) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filters.getTransactionDefinitionKeys() != null) {
+            predicates.add(
+                    id.get("transactionDefinitionKey").in(filters.getTransactionDefinitionKeys()));
+        }
+        if (isNotEmpty(filters.getStatus())) {
+            predicates.add(id.get("status").in(filters.getStatus()));
+        }
+        if (isNotEmpty(filters.getPriority())) {
+            predicates.add(
+                    id.get("priority")
+                            .in(
+                                    filters.getPriority().stream()
+                                            .map(TransactionPriority::getRank)
+                                            .toList()));
+        }
+        if (isNotEmpty(filters.getAssignedTo())) {
+            predicates.add(id.get("assignedTo").in(filters.getAssignedTo()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private boolean isPostgres() {
+        return entityManager
+                        .getEntityManagerFactory()
+                        .unwrap(SessionFactoryImplementor.class)
+                        .getJdbcServices()
+                        .getDialect()
+                instanceof PostgreSQLDialect;
+    }
+
+    private static boolean isNotEmpty(final Collection<?> values) {
+        return values != null && !values.isEmpty();
+    }
+}
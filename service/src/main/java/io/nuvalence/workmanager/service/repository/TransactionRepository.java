@@ -1,7 +1,9 @@
 package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +12,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository for Transactions.
  */
@@ -34,6 +38,14 @@ public interface TransactionRepository
     @Query("SELECT t FROM Transaction t WHERE t.assignedTo = :userId")
     List<Transaction> searchByTransactionByAssignee(@Param("userId") String userId);
 
+    // locked so that transactions saved meanwhile index their own data after this batch
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query(
+            "SELECT t FROM Transaction t WHERE t.transactionDefinitionKey = :key AND t.id > :after"
+                    + " ORDER BY t.id")
+    List<Transaction> findForSearchableAttributeIndexing(
+            @Param("key") String key, @Param("after") UUID after, Pageable pageable);
+
     @Query(value = "SELECT nextval('transaction_sequence')", nativeQuery = true)
     Long getNextTransactionSequenceValue();
 }
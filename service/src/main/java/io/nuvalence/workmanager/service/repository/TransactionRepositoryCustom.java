@@ -1,12 +1,15 @@
 package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.models.KeysetPageToken;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 /**
  * To be used for implementing transaction-specific repository methods.
@@ -15,9 +18,47 @@ public interface TransactionRepositoryCustom {
     List<TransactionCountByStatusModel> getTransactionCountsByStatus(
             Specification<Transaction> transactionSpecification);
 
-    Map<String, Long> getTransactionCountsByStatusSimplified(
-            Set<String> statuses, List<String> transactionDefinitionKeys);
+    /**
+     * Lists the transactions matching the specification that sort after the given position, without
+     * counting or skipping rows. Ties on the sort column are broken by id and null values sort
+     * last in ascending order.
+     *
+     * @param specification filter
+     * @param order         single column sort
+     * @param after         position of the last row of the previous page, null for the first page
+     * @param limit         maximum number of rows to return
+     * @return matching transactions in sort order
+     */
+    List<Transaction> findAllByKeyset(
+            Specification<Transaction> specification,
+            Sort.Order order,
+            KeysetPageToken after,
+            int limit);
 
-    Map<String, Long> getTransactionCountsByPrioritySimplified(
-            Set<String> priorities, List<String> transactionDefinitionKeys);
+    /**
+     * Lists a page of the summaries of the transactions matching the specification, without
+     * loading their data, documents or definitions.
+     *
+     * @param specification filter
+     * @param pageable      page and sort
+     * @return page of matching transaction summaries
+     */
+    Page<TransactionSummary> findAllSummaries(
+            Specification<Transaction> specification, Pageable pageable);
+
+    /**
+     * Lists the summaries of the transactions matching the specification that sort after the given
+     * position, as {@link #findAllByKeyset} does for whole transactions.
+     *
+     * @param specification filter
+     * @param order         single column sort
+     * @param after         position of the last row of the previous page, null for the first page
+     * @param limit         maximum number of rows to return
+     * @return matching transaction summaries in sort order
+     */
+    List<TransactionSummary> findAllSummariesByKeyset(
+            Specification<Transaction> specification,
+            Sort.Order order,
+            KeysetPageToken after,
+            int limit);
 }
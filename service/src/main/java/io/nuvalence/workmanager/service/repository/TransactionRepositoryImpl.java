@@ -1,25 +1,39 @@
 package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
-import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.models.KeysetPageToken;
 import io.nuvalence.workmanager.service.models.TransactionStatusCount;
+import org.hibernate.query.criteria.JpaOrder;
+import org.hibernate.query.sqm.NullPrecedence;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 /**
  * Houses concrete Transaction repository method implementations.
@@ -55,66 +69,161 @@ public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
     }
 
     @Override
-    public Map<String, Long> getTransactionCountsByStatusSimplified(
-            Set<String> statuses, List<String> transactionDefinitionKeys) {
-        Map<String, Long> resultMap = new HashMap<>();
-        for (String status : statuses) {
-            resultMap.put(status, 0L);
-        }
+    public List<Transaction> findAllByKeyset(
+            Specification<Transaction> specification,
+            Sort.Order order,
+            KeysetPageToken after,
+            int limit) {
+        CriteriaQuery<Transaction> query =
+                entityManager.getCriteriaBuilder().createQuery(Transaction.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        applyKeyset(query, root, specification, order, after);
+        return entityManager.createQuery(query.select(root)).setMaxResults(limit).getResultList();
+    }
 
+    @Override
+    public Page<TransactionSummary> findAllSummaries(
+            Specification<Transaction> specification, Pageable pageable) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        CriteriaQuery<TransactionSummary> query = cb.createQuery(TransactionSummary.class);
         Root<Transaction> root = query.from(Transaction.class);
-
-        Predicate statusCondition = root.get("status").in(statuses);
-        Predicate transactionKeyCondition =
-                root.get("transactionDefinitionKey").in(transactionDefinitionKeys);
-
-        query.multiselect(root.get("status"), cb.count(root));
-        query.where(cb.and(statusCondition, transactionKeyCondition));
-        query.groupBy(root.get("status"));
-
-        List<Tuple> results = entityManager.createQuery(query).getResultList();
-        for (Tuple tuple : results) {
-            String status = tuple.get(0, String.class);
-            Long count = tuple.get(1, Long.class);
-            resultMap.put(status, count);
+        query.where(specification.toPredicate(root, query, cb));
+        query.select(selectSummary(cb, root));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<TransactionSummary> summaries = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            summaries.setFirstResult((int) pageable.getOffset());
+            summaries.setMaxResults(pageable.getPageSize());
         }
 
-        return resultMap;
+        return PageableExecutionUtils.getPage(
+                summaries.getResultList(), pageable, () -> countTransactions(specification));
     }
 
     @Override
-    public Map<String, Long> getTransactionCountsByPrioritySimplified(
-            Set<String> priorities, List<String> transactionDefinitionKeys) {
-        Set<TransactionPriority> enumPriorities =
-                priorities.stream()
-                        .map(TransactionPriority::fromStringValue)
-                        .collect(Collectors.toSet());
-
-        Map<String, Long> resultMap = new HashMap<>();
-        for (TransactionPriority priority : enumPriorities) {
-            resultMap.put(priority.toString(), 0L);
-        }
+    public List<TransactionSummary> findAllSummariesByKeyset(
+            Specification<Transaction> specification,
+            Sort.Order order,
+            KeysetPageToken after,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionSummary> query = cb.createQuery(TransactionSummary.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        applyKeyset(query, root, specification, order, after);
+        query.select(selectSummary(cb, root));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static Selection<TransactionSummary> selectSummary(
+            CriteriaBuilder cb, Root<Transaction> root) {
+        // the name comes with the same row instead of loading the definition; the join of a
+        // category filter is reused, as a second join keeps the database from using its indexes
+        Join<?, ?> definition =
+                root.getJoins().stream()
+                        .filter(
+                                join ->
+                                        "transactionDefinition"
+                                                .equals(join.getAttribute().getName()))
+                        .findFirst()
+                        .orElseGet(() -> root.join("transactionDefinition", JoinType.LEFT));
+        return cb.construct(
+                TransactionSummary.class,
+                root.get("id"),
+                root.get("transactionDefinitionId"),
+                root.get("transactionDefinitionKey"),
+                definition.get("name"),
+                root.get("externalId"),
+                root.get("processInstanceId"),
+                root.get("status"),
+                root.get("createdBy"),
+                root.get("lastUpdatedBy"),
+                root.get("subjectUserId"),
+                root.get("priority"),
+                root.get("district"),
+                root.get("createdTimestamp"),
+                root.get("lastUpdatedTimestamp"),
+                root.get("submittedOn"),
+                root.get("assignedTo"));
+    }
 
+    private long countTransactions(Specification<Transaction> specification) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
         Root<Transaction> root = query.from(Transaction.class);
+        query.select(cb.count(root));
+        query.where(specification.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void applyKeyset(
+            CriteriaQuery<?> query,
+            Root<Transaction> root,
+            Specification<Transaction> specification,
+            Sort.Order order,
+            KeysetPageToken after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Path<Comparable<Object>> sortColumn = root.get(order.getProperty());
+        Path<UUID> id = root.get("id");
+        boolean ascending = order.isAscending();
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = specification.toPredicate(root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (after != null) {
+            predicates.add(
+                    seekPredicate(
+                            cb,
+                            sortColumn,
+                            id,
+                            isNullable(root, order.getProperty()),
+                            ascending,
+                            after));
+        }
 
-        query.multiselect(root.get("priority"), cb.count(root));
-        Predicate priorityCondition = root.get("priority").in(enumPriorities);
-        Predicate transactionKeyCondition =
-                root.get("transactionDefinitionKey").in(transactionDefinitionKeys);
-        query.where(cb.and(priorityCondition, transactionKeyCondition));
-        query.groupBy(root.get("priority"));
-
-        List<Tuple> results = entityManager.createQuery(query).getResultList();
-        for (Tuple tuple : results) {
-            TransactionPriority priority = tuple.get(0, TransactionPriority.class);
-            Long count = tuple.get(1, Long.class);
-            resultMap.put(priority.toString(), count);
+        // nulls are the largest values, as in postgres, so the seek predicate stays index friendly
+        JpaOrder sortOrder = (JpaOrder) (ascending ? cb.asc(sortColumn) : cb.desc(sortColumn));
+        List<Order> orders = new ArrayList<>();
+        orders.add(
+                sortOrder.nullPrecedence(ascending ? NullPrecedence.LAST : NullPrecedence.FIRST));
+        if (!"id".equals(order.getProperty())) {
+            orders.add(ascending ? cb.asc(id) : cb.desc(id));
         }
 
-        return resultMap;
+        query.where(predicates.toArray(new Predicate[0])).orderBy(orders);
+    }
+
+    private static Predicate seekPredicate(
+            CriteriaBuilder cb,
+            Expression<Comparable<Object>> sortColumn,
+            Expression<UUID> id,
+            boolean nullable,
+            boolean ascending,
+            KeysetPageToken after) {
+        @SuppressWarnings("unchecked")
+        Comparable<Object> lastValue = (Comparable<Object>) after.getLastValue();
+        UUID lastId = after.getLastId();
+        Predicate idAfter = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+
+        if (lastValue == null) {
+            // within the null block only the id orders rows; descending pages continue past it
+            Predicate remainingNulls = cb.and(cb.isNull(sortColumn), idAfter);
+            return ascending ? remainingNulls : cb.or(remainingNulls, cb.isNotNull(sortColumn));
+        }
+
+        Predicate valueAfter =
+                ascending
+                        ? cb.greaterThan(sortColumn, lastValue)
+                        : cb.lessThan(sortColumn, lastValue);
+        Predicate seek = cb.or(valueAfter, cb.and(cb.equal(sortColumn, lastValue), idAfter));
+        return nullable && ascending ? cb.or(seek, cb.isNull(sortColumn)) : seek;
+    }
+
+    private static boolean isNullable(Root<Transaction> root, String property) {
+        return !(root.getModel().getAttribute(property)
+                        instanceof SingularAttribute<?, ?> attribute)
+                || attribute.isOptional();
     }
 }
@@ -0,0 +1,12 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSearchableAttribute;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSearchableAttributeKey;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Repository for the searchable attribute values of transactions.
+ */
+public interface TransactionSearchableAttributeRepository
+        extends CrudRepository<TransactionSearchableAttribute, TransactionSearchableAttributeKey>,
+                TransactionSearchableAttributeRepositoryCustom {}
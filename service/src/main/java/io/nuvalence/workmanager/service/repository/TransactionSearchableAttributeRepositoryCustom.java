@@ -0,0 +1,73 @@
+package io.nuvalence.workmanager.service.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Maintains the {@code transaction_searchable_attribute} rows of transactions, and the
+ * {@code transaction_searchable_path} rows telling which of their paths can be filtered on.
+ */
+public interface TransactionSearchableAttributeRepositoryCustom {
+
+    /**
+     * Replaces all the searchable attribute values of a transaction.
+     *
+     * @param transactionId ID of the transaction
+     * @param values        values of each searchable path, empty to remove them all
+     */
+    void replaceAttributes(UUID transactionId, Map<String, List<Object>> values);
+
+    /**
+     * Returns the searchable paths recorded for a transaction definition.
+     *
+     * @param transactionDefinitionKey key of the transaction definition
+     * @return whether each recorded path is indexed in all the transactions of the definition
+     */
+    Map<String, Boolean> findSearchablePaths(String transactionDefinitionKey);
+
+    /**
+     * Returns the paths of a transaction definition that are indexed in all its transactions.
+     *
+     * @param transactionDefinitionKey key of the transaction definition
+     * @return indexed paths
+     */
+    Set<String> findIndexedPaths(String transactionDefinitionKey);
+
+    /**
+     * Records searchable paths of a transaction definition as not indexed yet.
+     *
+     * @param transactionDefinitionKey key of the transaction definition
+     * @param paths                    paths to record
+     */
+    void addSearchablePaths(String transactionDefinitionKey, Collection<String> paths);
+
+    /**
+     * Records searchable paths of a transaction definition as indexed, unless they were removed
+     * since they were added.
+     *
+     * @param transactionDefinitionKey key of the transaction definition
+     * @param paths                    paths indexed in all the transactions of the definition
+     */
+    void markSearchablePathsIndexed(String transactionDefinitionKey, Collection<String> paths);
+
+    /**
+     * Removes paths that are no longer searchable from a transaction definition, along with their
+     * values in its transactions.
+     *
+     * @param transactionDefinitionKey key of the transaction definition
+     * @param paths                    paths to remove
+     */
+    void removeSearchablePaths(String transactionDefinitionKey, Collection<String> paths);
+
+    /**
+     * Removes the searchable paths ending in one of the given attributes from the transaction
+     * definitions using one of the given schemas, so they are indexed again.
+     *
+     * @param schemaKeys keys of the schemas the attributes may be nested in
+     * @param attributes names of the attributes
+     */
+    void invalidateSearchablePaths(Collection<String> schemaKeys, Collection<String> attributes);
+}
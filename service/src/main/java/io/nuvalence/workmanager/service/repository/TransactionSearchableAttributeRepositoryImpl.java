@@ -0,0 +1,210 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSearchableAttribute;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Houses concrete transaction searchable attribute repository method implementations.
+ */
+@Repository
+public class TransactionSearchableAttributeRepositoryImpl
+        implements TransactionSearchableAttributeRepositoryCustom {
+    private static final String DELETE =
+            "DELETE FROM transaction_searchable_attribute WHERE transaction_id = :transactionId";
+
+    private static final String INSERT =
+            "INSERT INTO transaction_searchable_attribute"
+                    + " (transaction_id, path, value_index, string_value, number_value,"
+                    + " date_value)"
+                    + " VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_PATHS =
+            "SELECT path, indexed FROM transaction_searchable_path"
+                    + " WHERE transaction_definition_key = :transactionDefinitionKey";
+
+    private static final String SELECT_INDEXED_PATHS = SELECT_PATHS + " AND indexed = TRUE";
+
+    private static final String DELETE_PATHS =
+            "DELETE FROM transaction_searchable_path"
+                    + " WHERE transaction_definition_key = :transactionDefinitionKey";
+
+    private static final String INSERT_PATH =
+            "INSERT INTO transaction_searchable_path (transaction_definition_key, path, indexed)"
+                    + " VALUES (:transactionDefinitionKey, :path, FALSE)";
+
+    private static final String MARK_PATHS_INDEXED =
+            "UPDATE transaction_searchable_path SET indexed = TRUE"
+                    + " WHERE transaction_definition_key = :transactionDefinitionKey"
+                    + " AND path IN (:paths)";
+
+    private static final String DELETE_PATH_VALUES =
+            "DELETE FROM transaction_searchable_attribute WHERE path IN (:paths)"
+                    + " AND transaction_id IN (SELECT id FROM transaction"
+                    + " WHERE transaction_definition_key = :transactionDefinitionKey)";
+
+    // a path ends in an attribute when it is the attribute itself or when it is nested in an
+    // entity; like wildcards in attribute names only make more paths match
+    private static final String DELETE_SCHEMA_PATHS =
+            "DELETE FROM transaction_searchable_path WHERE transaction_definition_key IN"
+                    + " (SELECT transaction_definition_key FROM transaction_definition"
+                    + " WHERE schema_key IN (:schemaKeys))"
+                    + " AND (path = :attribute OR path LIKE :nestedAttribute)";
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Override
+    public void replaceAttributes(
+            final UUID transactionId, final Map<String, List<Object>> values) {
+        entityManager
+                .createNativeQuery(DELETE)
+                .setParameter("transactionId", transactionId.toString())
+                .executeUpdate();
+        if (values.isEmpty()) {
+            return;
+        }
+
+        // a transaction can have many values, so they are sent in a single batch
+        entityManager
+                .unwrap(Session.class)
+                .doWork(
+                        connection -> {
+                            try (PreparedStatement statement =
+                                    connection.prepareStatement(INSERT)) {
+                                for (Map.Entry<String, List<Object>> entry : values.entrySet()) {
+                                    final List<Object> pathValues = entry.getValue();
+                                    for (int index = 0; index < pathValues.size(); index++) {
+                                        addRow(
+                                                statement,
+                                                TransactionSearchableAttribute.of(
+                                                        transactionId,
+                                                        entry.getKey(),
+                                                        index,
+                                                        pathValues.get(index)));
+                                    }
+                                }
+                                statement.executeBatch();
+                            }
+                        });
+    }
+
+    @Override
+    public Map<String, Boolean> findSearchablePaths(final String transactionDefinitionKey) {
+        final Map<String, Boolean> paths = new LinkedHashMap<>();
+        for (Object row :
+                entityManager
+                        .createNativeQuery(SELECT_PATHS)
+                        .setParameter("transactionDefinitionKey", transactionDefinitionKey)
+                        .getResultList()) {
+            final Object[] columns = (Object[]) row;
+            paths.put((String) columns[0], (Boolean) columns[1]);
+        }
+        return paths;
+    }
+
+    @Override
+    public Set<String> findIndexedPaths(final String transactionDefinitionKey) {
+        final Set<String> paths = new HashSet<>();
+        for (Object row :
+                entityManager
+                        .createNativeQuery(SELECT_INDEXED_PATHS)
+                        .setParameter("transactionDefinitionKey", transactionDefinitionKey)
+                        .getResultList()) {
+            paths.add((String) ((Object[]) row)[0]);
+        }
+        return paths;
+    }
+
+    @Override
+    public void addSearchablePaths(
+            final String transactionDefinitionKey, final Collection<String> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        entityManager
+                .createNativeQuery(DELETE_PATHS + " AND path IN (:paths)")
+                .setParameter("transactionDefinitionKey", transactionDefinitionKey)
+                .setParameter("paths", paths)
+                .executeUpdate();
+        for (String path : paths) {
+            entityManager
+                    .createNativeQuery(INSERT_PATH)
+                    .setParameter("transactionDefinitionKey", transactionDefinitionKey)
+                    .setParameter("path", path)
+                    .executeUpdate();
+        }
+    }
+
+    @Override
+    public void markSearchablePathsIndexed(
+            final String transactionDefinitionKey, final Collection<String> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        entityManager
+                .createNativeQuery(MARK_PATHS_INDEXED)
+                .setParameter("transactionDefinitionKey", transactionDefinitionKey)
+                .setParameter("paths", paths)
+                .executeUpdate();
+    }
+
+    @Override
+    public void removeSearchablePaths(
+            final String transactionDefinitionKey, final Collection<String> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        entityManager
+                .createNativeQuery(DELETE_PATHS + " AND path IN (:paths)")
+                .setParameter("transactionDefinitionKey", transactionDefinitionKey)
+                .setParameter("paths", paths)
+                .executeUpdate();
+        entityManager
+                .createNativeQuery(DELETE_PATH_VALUES)
+                .setParameter("transactionDefinitionKey", transactionDefinitionKey)
+                .setParameter("paths", paths)
+                .executeUpdate();
+    }
+
+    @Override
+    public void invalidateSearchablePaths(
+            final Collection<String> schemaKeys, final Collection<String> attributes) {
+        if (schemaKeys.isEmpty()) {
+            return;
+        }
+        for (String attribute : attributes) {
+            entityManager
+                    .createNativeQuery(DELETE_SCHEMA_PATHS)
+                    .setParameter("schemaKeys", schemaKeys)
+                    .setParameter("attribute", attribute)
+                    .setParameter("nestedAttribute", "%." + attribute)
+                    .executeUpdate();
+        }
+    }
+
+    private static void addRow(
+            final PreparedStatement statement, final TransactionSearchableAttribute row)
+            throws SQLException {
+        statement.setString(1, row.getId().getTransactionId().toString());
+        statement.setString(2, row.getId().getPath());
+        statement.setInt(3, row.getId().getValueIndex());
+        statement.setString(4, row.getStringValue());
+        statement.setBigDecimal(5, row.getNumberValue());
+        statement.setDate(6, row.getDateValue() == null ? null : Date.valueOf(row.getDateValue()));
+        statement.addBatch();
+    }
+}
@@ -7,16 +7,15 @@ import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.repository.DashboardConfigurationRepository;
-import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import io.nuvalence.workmanager.service.repository.TransactionCountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import jakarta.ws.rs.NotFoundException;
 
@@ -35,7 +34,7 @@ public class DashboardConfigurationService {
 
     private final DashboardConfigurationRepository dashboardConfigurationRepository;
     private final TransactionDefinitionSetOrderService transactionDefinitionSetOrderService;
-    private final TransactionRepository transactionRepository;
+    private final TransactionCountRepository transactionCountRepository;
     private final TransactionDefinitionService transactionDefinitionService;
 
     /**
@@ -68,7 +67,7 @@ public class DashboardConfigurationService {
     }
 
     /**
-     * Counts the number of transactions for each tab in a dashboard.
+     * Counts the number of transactions for each tab in a dashboard, with a single query.
      * @param transactionSetKey transaction set key.
      * @return map of tab label to count.
      */
@@ -78,174 +77,73 @@ public class DashboardConfigurationService {
                         .findByTransactionDefinitionSetKey(transactionSetKey)
                         .orElseThrow(() -> new NotFoundException("Dashboard not found"));
 
-        Set<String> statusToCount = new HashSet<>();
-        Set<String> prioritiesToCount = new HashSet<>();
-
-        Map<String, Long> countResults = new HashMap<>();
-
         List<String> transactionDefinitionKeys =
                 transactionDefinitionService.createTransactionDefinitionKeysList(
                         null, transactionSetKey);
 
-        dashboardConfiguration.getTabs().stream()
-                .forEach(
-                        tab ->
-                                processDashboardTab(
-                                        tab,
-                                        statusToCount,
-                                        prioritiesToCount,
-                                        countResults,
-                                        transactionDefinitionKeys));
-
-        Map<String, Long> statusCounts =
-                transactionRepository.getTransactionCountsByStatusSimplified(
-                        statusToCount, transactionDefinitionKeys);
-        Map<String, Long> priorityCounts =
-                transactionRepository.getTransactionCountsByPrioritySimplified(
-                        prioritiesToCount, transactionDefinitionKeys);
-
-        integrateUnifiedCountsToFinalCountResults(
-                dashboardConfiguration, countResults, statusCounts, priorityCounts);
-
-        return countResults;
-    }
-
-    private void processDashboardTab(
-            DashboardTabConfiguration dashboardTab,
-            Set<String> statusToCount,
-            Set<String> prioritiesToCount,
-            Map<String, Long> countResults,
-            List<String> transactionDefinitionKeys) {
-        if (dashboardTab.getFilter().size() == SINGLE_FILTER_SIZE) {
-            String firstKey =
-                    dashboardTab.getFilter().keySet().stream()
-                            .findFirst()
-                            .orElseThrow(() -> new BusinessLogicException("Invalid filter keys"));
-            if (firstKey.equals(STATUS)) {
-                Object status = dashboardTab.getFilter().get(firstKey);
-                addObjectsToCount(statusToCount, status);
-            } else if (firstKey.equals(PRIORITY)) {
-                Object priorities = dashboardTab.getFilter().get(firstKey);
-                addObjectsToCount(prioritiesToCount, priorities);
-            } else if (firstKey.equals(ASSIGNED_TO_ME)) {
-                TransactionFilters filters =
-                        SearchTransactionsFilters.builder()
-                                .transactionDefinitionKeys(transactionDefinitionKeys)
-                                .assignedToMe((Boolean) dashboardTab.getFilter().get(firstKey))
-                                .build();
-
-                countResults.put(
-                        dashboardTab.getTabLabel(),
-                        transactionRepository.count(filters.getTransactionSpecifications()));
+        Map<String, Long> countResults = new HashMap<>();
+        Map<String, TransactionFilters> tabFilters = new LinkedHashMap<>();
+        for (DashboardTabConfiguration dashboardTab : dashboardConfiguration.getTabs()) {
+            if (dashboardTab.getFilter().isEmpty() || hasOnlyEmptyValues(dashboardTab)) {
+                countResults.put(dashboardTab.getTabLabel(), 0L);
+            } else {
+                TransactionFilters filters = getTabFilters(dashboardTab, transactionDefinitionKeys);
+                if (filters != null) {
+                    tabFilters.put(dashboardTab.getTabLabel(), filters);
+                }
             }
-        } else {
-            handleComplexFilters(countResults, dashboardTab, transactionDefinitionKeys);
         }
+
+        countResults.putAll(transactionCountRepository.countEach(tabFilters));
+        return countResults;
     }
 
-    private void integrateUnifiedCountsToFinalCountResults(
-            DashboardConfiguration dashboardConfiguration,
-            Map<String, Long> countResults,
-            Map<String, Long> statusCounts,
-            Map<String, Long> priorityCounts) {
-        dashboardConfiguration.getTabs().stream()
-                .forEach(
-                        dashboardTab -> {
-                            if (dashboardTab.getFilter().size() == SINGLE_FILTER_SIZE) {
-                                String firstKey =
-                                        dashboardTab.getFilter().keySet().stream()
-                                                .findFirst()
-                                                .get();
-                                if (firstKey.equals(STATUS)) {
-                                    List<String> values =
-                                            getValuesFromFilter(dashboardTab, firstKey);
-                                    Long count = getCountForAGivenTab(statusCounts, values);
-                                    countResults.put(dashboardTab.getTabLabel(), count);
-                                } else if (firstKey.equals(PRIORITY)) {
-                                    List<String> values =
-                                            getValuesFromFilter(dashboardTab, firstKey);
-                                    Long count = getCountForAGivenTab(priorityCounts, values);
-                                    countResults.put(dashboardTab.getTabLabel(), count);
-                                }
-                            }
-                        });
+    // a tab filtering on nothing but an empty list of statuses or priorities matches nothing
+    private boolean hasOnlyEmptyValues(DashboardTabConfiguration dashboardTab) {
+        Map<String, Object> filter = dashboardTab.getFilter();
+        return filter.size() == SINGLE_FILTER_SIZE
+                && (filter.containsKey(STATUS) || filter.containsKey(PRIORITY))
+                && filter.values().iterator().next() instanceof List<?> values
+                && values.isEmpty();
     }
 
-    private void handleComplexFilters(
-            Map<String, Long> countResults,
-            DashboardTabConfiguration dashboardTab,
-            List<String> transactionDefinitionKeys) {
-        if (dashboardTab.getFilter().isEmpty()) {
-            countResults.put(dashboardTab.getTabLabel(), 0L);
-            return;
+    private TransactionFilters getTabFilters(
+            DashboardTabConfiguration dashboardTab, List<String> transactionDefinitionKeys) {
+        Map<String, Object> filter = dashboardTab.getFilter();
+        if (filter.size() == SINGLE_FILTER_SIZE
+                && !filter.containsKey(STATUS)
+                && !filter.containsKey(PRIORITY)
+                && !filter.containsKey(ASSIGNED_TO_ME)) {
+            return null;
         }
 
+        List<String> status = getValuesFromFilter(dashboardTab, STATUS);
         List<String> priorityStrings = getValuesFromFilter(dashboardTab, PRIORITY);
-
         List<TransactionPriority> priorities = null;
         if (priorityStrings != null) {
             priorities =
                     priorityStrings.stream().map(TransactionPriority::fromStringValue).toList();
         }
 
-        List<String> status = getValuesFromFilter(dashboardTab, STATUS);
-
-        Boolean assignedToMe = (Boolean) dashboardTab.getFilter().get(ASSIGNED_TO_ME);
-
-        TransactionFilters filters =
-                SearchTransactionsFilters.builder()
-                        .transactionDefinitionKeys(transactionDefinitionKeys)
-                        .priority(priorities)
-                        .status(status)
-                        .assignedToMe(assignedToMe)
-                        .build();
-
-        countResults.put(
-                dashboardTab.getTabLabel(),
-                transactionRepository.count(filters.getTransactionSpecifications()));
-    }
-
-    private void addObjectsToCount(Set<String> toCount, Object values) {
-        try {
-            if (values instanceof List) {
-                List<String> valueStrings = (List<String>) values;
-                toCount.addAll(valueStrings);
-
-            } else {
-                toCount.add(values.toString());
-            }
-        } catch (Exception e) {
-            throw new BusinessLogicException("Invalid filter value");
-        }
-    }
-
-    private List<String> getValuesFromFilter(
-            DashboardTabConfiguration dashboardTab, String firstKey) {
-        List<String> values = new ArrayList<>();
-        if (dashboardTab.getFilter().get(firstKey) instanceof List) {
-            values = (List<String>) dashboardTab.getFilter().get(firstKey);
-        } else {
-            values.add(dashboardTab.getFilter().get(firstKey).toString());
-        }
-        return values;
+        return SearchTransactionsFilters.builder()
+                .transactionDefinitionKeys(transactionDefinitionKeys)
+                .priority(priorities)
+                .status(status)
+                .assignedToMe((Boolean) filter.get(ASSIGNED_TO_ME))
+                .build();
     }
 
-    private Long getCountForAGivenTab(Map<String, Long> counts, List<String> values) {
-        Long count = 0L;
-        if (values == null || values.isEmpty()) {
-            return count;
+    private List<String> getValuesFromFilter(DashboardTabConfiguration dashboardTab, String key) {
+        if (!dashboardTab.getFilter().containsKey(key)) {
+            return null;
         }
-
-        if (values.size() == SINGLE_FILTER_SIZE) {
-            return counts.get(values.get(0));
+        Object value = dashboardTab.getFilter().get(key);
+        if (value == null) {
+            throw new BusinessLogicException("Invalid filter value");
         }
-
-        for (String value : values) {
-            if (counts.containsKey(value)) {
-                count += counts.get(value);
-            }
+        if (value instanceof List) {
+            return (List<String>) value;
         }
-
-        return count;
+        return List.of(value.toString());
     }
 }
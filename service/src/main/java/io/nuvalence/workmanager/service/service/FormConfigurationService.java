@@ -1,6 +1,7 @@
 package io.nuvalence.workmanager.service.service;
 
 import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.service.cache.ConfigurationCache;
 import io.nuvalence.workmanager.service.config.exceptions.NuvalenceFormioValidationException;
 import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExItem;
 import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExMessage;
@@ -45,9 +46,11 @@ public class FormConfigurationService {
     private final TransactionDefinitionService transactionDefinitionService;
     private final TransactionTaskService transactionTaskService;
     private final SchemaService schemaService;
+    private final ConfigurationCache<String, FormConfiguration> formConfigurationsByKeys;
 
     /**
-     * Returns a form configuration given its key as well as the key for its parent Transaction Definition.
+     * Returns a form configuration given its key as well as the key for its parent Transaction Definition,
+     * serving it from the node-local cache when possible.
      *
      * @param transactionDefinitionKey Parent Transaction Definition key
      * @param formConfigurationKey Form Configuration Key
@@ -57,8 +60,13 @@ public class FormConfigurationService {
             final String transactionDefinitionKey, final String formConfigurationKey) {
         // For now we only expect 1 record per given key pair. When we
         // implement config versioning, we will need to address this logic.
-        return repository.searchByKeys(transactionDefinitionKey, formConfigurationKey).stream()
-                .findFirst();
+        return formConfigurationsByKeys.get(
+                cacheKey(transactionDefinitionKey, formConfigurationKey),
+                () ->
+                        repository
+                                .searchByKeys(transactionDefinitionKey, formConfigurationKey)
+                                .stream()
+                                .findFirst());
     }
 
     /**
@@ -118,9 +126,22 @@ public class FormConfigurationService {
 
         validateFormConfiguration(formConfiguration);
 
+        formConfigurationsByKeys.invalidate(
+                cacheKey(
+                        formConfiguration.getTransactionDefinitionKey(),
+                        formConfiguration.getKey()));
         return repository.save(formConfiguration);
     }
 
+    private static String cacheKey(
+            final String transactionDefinitionKey, final String formConfigurationKey) {
+        if (transactionDefinitionKey == null || formConfigurationKey == null) {
+            return null;
+        }
+
+        return transactionDefinitionKey + "/" + formConfigurationKey;
+    }
+
     private void validateFormConfiguration(FormConfiguration formConfiguration) {
         if (formConfiguration.getConfiguration().isEmpty()) {
             return;
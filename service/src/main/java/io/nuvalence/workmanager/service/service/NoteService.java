@@ -1,7 +1,6 @@
 package io.nuvalence.workmanager.service.service;
 
 import io.nuvalence.workmanager.auditservice.client.ApiException;
-import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventId;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.domain.Note;
 import io.nuvalence.workmanager.service.domain.NoteType;
@@ -159,10 +158,9 @@ public class NoteService {
      * @param transactionId transaction identifier.
      * @param note related note.
      * @param activityType type of activity.
-     * @return id of posted audit event.
-     * @throws ApiException result from request to audit service.
+     * @throws ApiException if the event cannot be queued for the audit service.
      */
-    public AuditEventId postAuditEventForTransactionNote(
+    public void postAuditEventForTransactionNote(
             UUID transactionId, Note note, @NotNull AuditActivityType activityType)
             throws ApiException {
 
@@ -172,7 +170,7 @@ public class NoteService {
 
         final String summary = "Transaction " + activityType.getValue().replace("_", " ") + ".";
 
-        return transactionAuditEventService.postActivityAuditEvent(
+        transactionAuditEventService.postActivityAuditEvent(
                 note.getCreatedBy(),
                 note.getCreatedBy(),
                 summary,
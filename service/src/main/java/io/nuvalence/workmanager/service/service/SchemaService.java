@@ -1,17 +1,21 @@
 package io.nuvalence.workmanager.service.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.nuvalence.workmanager.service.cache.SchemaCache;
 import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.domain.VersionedEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.AttributeConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DocumentProcessingConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration.ValueType;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
 import io.nuvalence.workmanager.service.mapper.DynamicSchemaMapper;
 import io.nuvalence.workmanager.service.mapper.InvalidRegexPatternException;
 import io.nuvalence.workmanager.service.models.SchemaFilters;
 import io.nuvalence.workmanager.service.repository.SchemaRepository;
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.beanutils.DynaProperty;
@@ -44,50 +48,42 @@ public class SchemaService {
             "Unable to parse schema JSON stored in database.";
     private final SchemaRepository schemaRepository;
     private final DynamicSchemaMapper mapper;
+    private final SchemaCache schemaCache;
+    private final TransactionSearchableAttributeRepository searchableAttributeRepository;
 
     /**
-     * Fetches a schema from the database by key.
+     * Fetches a schema by key, serving it from the schema cache when possible.
      *
      * @param key Schema key to fetch
      * @return Schema object
      */
     public Optional<Schema> getSchemaByKey(final String key) {
-        return schemaRepository
-                .findByKey(key)
-                .map(
-                        row -> {
-                            try {
-                                return mapper.schemaRowToSchema(row);
-                            } catch (JsonProcessingException e) {
-                                throw new UnexpectedException(
-                                        UNABLE_TO_PARSE_SCHEMA_JSON_STORED_IN_DATABASE, e);
-                            }
-                        });
+        return schemaCache.getByKey(
+                key, () -> schemaRepository.findByKey(key).map(this::schemaRowToSchema));
     }
 
     /**
-     * Fetches a schema from the database by id (primary key).
+     * Fetches a schema by id (primary key), serving it from the schema cache when possible.
      *
      * @param id Schema id to fetch
      * @return Schema object
      */
     public Optional<Schema> getSchemaById(final UUID id) {
-        return schemaRepository
-                .findById(id)
-                .map(
-                        row -> {
-                            try {
-                                return mapper.schemaRowToSchema(row);
-                            } catch (JsonProcessingException e) {
-                                throw new UnexpectedException(
-                                        UNABLE_TO_PARSE_SCHEMA_JSON_STORED_IN_DATABASE, e);
-                            }
-                        });
+        return schemaCache.getById(
+                id, () -> schemaRepository.findById(id).map(this::schemaRowToSchema));
+    }
+
+    private Schema schemaRowToSchema(final SchemaRow row) {
+        try {
+            return mapper.schemaRowToSchema(row);
+        } catch (JsonProcessingException e) {
+            throw new UnexpectedException(UNABLE_TO_PARSE_SCHEMA_JSON_STORED_IN_DATABASE, e);
+        }
     }
 
     /**
      * Returns a Page of Schemas based on the filters passed in.
-     * 
+     *
      * @param filters Filters to apply to the query
      * @return Page of Schemas
      */
@@ -136,6 +132,8 @@ public class SchemaService {
                                     validateSchemaChildren(schema, children, schemaParents, value));
             schemaRow.setChildren(children);
 
+            invalidateSearchablePaths(schema, schemaParents);
+            schemaCache.invalidate(schema.getId(), schema.getKey());
             return mapper.schemaRowToSchema(schemaRepository.save(schemaRow));
         } catch (InvalidRegexPatternException e) {
             log.error(e.getMessage(), e);
@@ -145,6 +143,57 @@ public class SchemaService {
         }
     }
 
+    private void invalidateSearchablePaths(final Schema schema, final List<Schema> schemaParents) {
+        final Map<String, ValueType> searchableAttributes = getSearchableAttributes(schema);
+        final Map<String, ValueType> previousSearchableAttributes =
+                schemaRepository
+                        .findByKey(schema.getKey())
+                        .map(this::schemaRowToSchema)
+                        .map(SchemaService::getSearchableAttributes)
+                        .orElse(Map.of());
+
+        final Set<String> changedAttributes = new HashSet<>();
+        for (String attribute : searchableAttributes.keySet()) {
+            if (searchableAttributes.get(attribute)
+                    != previousSearchableAttributes.get(attribute)) {
+                changedAttributes.add(attribute);
+            }
+        }
+        for (String attribute : previousSearchableAttributes.keySet()) {
+            if (!searchableAttributes.containsKey(attribute)) {
+                changedAttributes.add(attribute);
+            }
+        }
+        if (changedAttributes.isEmpty()) {
+            return;
+        }
+
+        final Set<String> schemaKeys = new HashSet<>();
+        schemaKeys.add(schema.getKey());
+        schemaParents.forEach(parent -> schemaKeys.add(parent.getKey()));
+        searchableAttributeRepository.invalidateSearchablePaths(schemaKeys, changedAttributes);
+    }
+
+    private static Map<String, ValueType> getSearchableAttributes(final Schema schema) {
+        final Map<String, ValueType> attributes = new HashMap<>();
+        if (schema.getAttributeConfigurations() == null) {
+            return attributes;
+        }
+        for (DynaProperty property : schema.getDynaProperties()) {
+            if (!schema.getAttributeConfigurations(
+                            property.getName(), SearchableConfiguration.class)
+                    .isEmpty()) {
+                attributes.put(
+                        property.getName(),
+                        ValueType.of(
+                                List.class.isAssignableFrom(property.getType())
+                                        ? property.getContentType()
+                                        : property.getType()));
+            }
+        }
+        return attributes;
+    }
+
     private void validateSchemaChildren(
             Schema schema, Set<SchemaRow> children, List<Schema> schemaParents, String key) {
         if (key.equals(schema.getKey())) {
@@ -255,6 +304,7 @@ public class SchemaService {
      * @throws JsonProcessingException if the schema cannot be converted to JSON.
      */
     public void deleteSchema(Schema schema) throws JsonProcessingException {
+        schemaCache.invalidate(schema.getId(), schema.getKey());
         schemaRepository.delete(mapper.schemaToSchemaRow(schema));
     }
 
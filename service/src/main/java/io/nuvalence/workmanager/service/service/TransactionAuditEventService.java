@@ -1,47 +1,43 @@
 package io.nuvalence.workmanager.service.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.logging.util.CorrelationIdContext;
 import io.nuvalence.workmanager.auditservice.client.ApiException;
-import io.nuvalence.workmanager.auditservice.client.generated.api.AuditEventsApi;
 import io.nuvalence.workmanager.auditservice.client.generated.models.ActivityEventData;
-import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventId;
 import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventRequest;
 import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventRequestEventData;
 import io.nuvalence.workmanager.auditservice.client.generated.models.RequestContext;
 import io.nuvalence.workmanager.auditservice.client.generated.models.StateChangeEventData;
-import io.nuvalence.workmanager.service.audit.AuditServiceApiClient;
 import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.domain.AuditEventOutboxEntry;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.models.auditevents.AuditEventBusinessObject;
+import io.nuvalence.workmanager.service.repository.AuditEventOutboxRepository;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * Service for managing transaction audit events.
+ *
+ * <p>Events are not sent to the audit service directly. They are queued in the audit event outbox,
+ * within the caller's database transaction when there is one, and delivered in the background by
+ * the {@link io.nuvalence.workmanager.service.audit.AuditEventOutboxDispatcher}.</p>
  */
 @Service
 @RequiredArgsConstructor
 public class TransactionAuditEventService {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
 
-    private final AuditServiceApiClient auditServiceTokenApiClient;
+    private final AuditEventOutboxRepository auditEventOutboxRepository;
 
     private final RequestContextTimestamp requestContextTimestamp;
 
-    /**
-     * Create an api client to send requests to Audit Service.
-     *
-     * @param apiClient The token authenticated client.
-     * @return The api client.
-     */
-    protected AuditEventsApi createAuditEventsApi(AuditServiceApiClient apiClient) {
-        return new AuditEventsApi(apiClient);
-    }
-
     /**
      * Post state change events to audit service.
      *
@@ -53,10 +49,9 @@ public class TransactionAuditEventService {
      * @param oldState state of the business object previous to event.
      * @param newState state of the business object after the event.
      * @param activityType type of event action.
-     * @return Result audit event id.
-     * @throws ApiException for possible errors reaching audit service.
+     * @throws ApiException if the event cannot be queued for the audit service.
      */
-    public AuditEventId postStateChangeEvent(
+    public void postStateChangeEvent(
             String originatorId,
             String userId,
             String summary,
@@ -69,7 +64,7 @@ public class TransactionAuditEventService {
 
         StateChangeEventData stateChangeEventData =
                 createStateChangeEventData(oldState, newState, activityType, null);
-        return postAuditEvent(
+        postAuditEvent(
                 stateChangeEventData,
                 originatorId,
                 userId,
@@ -90,11 +85,10 @@ public class TransactionAuditEventService {
      * @param newStateMap map state of the business object after the event.
      * @param data data of the event in json form.
      * @param activityType type of event action.
-     * @return Result audit event id.
-     * @throws ApiException for possible errors reaching audit service.
+     * @throws ApiException if the event cannot be queued for the audit service.
      * @throws JsonProcessingException for possible errors converting Map states to String
      */
-    public AuditEventId postStateChangeEvent(
+    public void postStateChangeEvent(
             String originatorId,
             String userId,
             String summary,
@@ -106,12 +100,12 @@ public class TransactionAuditEventService {
             String activityType)
             throws ApiException, JsonProcessingException {
 
-        String oldState = SpringConfig.getMapper().writeValueAsString(oldStateMap);
-        String newState = SpringConfig.getMapper().writeValueAsString(newStateMap);
+        String oldState = MAPPER.writeValueAsString(oldStateMap);
+        String newState = MAPPER.writeValueAsString(newStateMap);
 
         StateChangeEventData stateChangeEventData =
                 createStateChangeEventData(oldState, newState, activityType, data);
-        return postAuditEvent(
+        postAuditEvent(
                 stateChangeEventData,
                 originatorId,
                 userId,
@@ -130,10 +124,9 @@ public class TransactionAuditEventService {
      * @param businessObjectType type of the business object involved in event.
      * @param jsonData data of the event in json form .
      * @param activityType type of activity that occurred.
-     * @return Result audit event id.
-     * @throws ApiException for possible errors reaching audit service.
+     * @throws ApiException if the event cannot be queued for the audit service.
      */
-    public AuditEventId postActivityAuditEvent(
+    public void postActivityAuditEvent(
             String originatorId,
             String userId,
             String summary,
@@ -145,7 +138,7 @@ public class TransactionAuditEventService {
 
         ActivityEventData auditEventRequestEventData =
                 createActivityEventData(jsonData, activityType);
-        return postAuditEvent(
+        postAuditEvent(
                 auditEventRequestEventData,
                 originatorId,
                 userId,
@@ -155,7 +148,7 @@ public class TransactionAuditEventService {
     }
 
     /**
-     * Post state change events to audit service.
+     * Queues an audit event for delivery to the audit service.
      *
      * @param data object containing specifics of the audit evet.
      * @param originatorId id of the originator of the event.
@@ -163,10 +156,9 @@ public class TransactionAuditEventService {
      * @param summary brief description of the event.
      * @param businessObjectId id of the business object involved in event.
      * @param businessObjectType type of the business object involved in event.
-     * @return Result audit event id.
-     * @throws ApiException for possible errors reaching audit service.
+     * @throws ApiException if the event request cannot be serialized.
      */
-    private AuditEventId postAuditEvent(
+    private void postAuditEvent(
             Object data,
             String originatorId,
             String userId,
@@ -187,10 +179,23 @@ public class TransactionAuditEventService {
         auditEventRequest.setEventData(eventData);
         auditEventRequest.setRequestContext(requestContext);
 
-        AuditEventsApi auditEventsApi = createAuditEventsApi(auditServiceTokenApiClient);
+        final String payload;
+        try {
+            payload = MAPPER.writeValueAsString(auditEventRequest);
+        } catch (JsonProcessingException e) {
+            throw new ApiException("Unable to serialize audit event", e, 0, null);
+        }
 
-        return auditEventsApi.postEvent(
-                businessObjectType.getValue(), businessObjectId, auditEventRequest);
+        final OffsetDateTime now = OffsetDateTime.now();
+        auditEventOutboxRepository.save(
+                AuditEventOutboxEntry.builder()
+                        .businessObjectType(businessObjectType.getValue())
+                        .businessObjectId(businessObjectId)
+                        .payload(payload)
+                        .correlationId(CorrelationIdContext.getCorrelationId())
+                        .createdTimestamp(now)
+                        .nextAttemptTimestamp(now)
+                        .build());
     }
 
     private StateChangeEventData createStateChangeEventData(
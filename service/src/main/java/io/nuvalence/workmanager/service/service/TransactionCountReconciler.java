@@ -0,0 +1,34 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.repository.TransactionCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Periodically recomputes the {@code transaction_counts} rollup from the transaction table.
+ *
+ * <p>The rollup is kept exact by {@link TransactionCountRecorder}, but transactions written by
+ * instances that do not maintain it, such as the previous version during a rolling deploy, or by
+ * hand leave it off until it is reconciled. Reconciling is safe to run at any time and on several
+ * instances at once; set {@code transactionCounts.reconcileCron} to {@code -} to disable it.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionCountReconciler {
+    private final TransactionCountRepository repository;
+
+    /**
+     * Recomputes every rollup row.
+     */
+    @Scheduled(cron = "${transactionCounts.reconcileCron:0 30 2 * * *}")
+    @Transactional
+    public void reconcile() {
+        log.info("Reconciling transaction counts");
+        repository.reconcileCounts();
+    }
+}
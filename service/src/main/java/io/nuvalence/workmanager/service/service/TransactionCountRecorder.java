@@ -0,0 +1,108 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCountKey;
+import io.nuvalence.workmanager.service.repository.TransactionCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TransactionRequiredException;
+
+/**
+ * Collects the changes a database transaction makes to the {@code transaction_counts} rollup and
+ * writes them just before it commits.
+ *
+ * <p>Rollup rows are shared by every transaction with the same definition, status, priority and
+ * assignee, so they are only locked for the duration of the commit rather than for the whole unit
+ * of work. Changes to the same row are netted first, and rows are always written in key order so
+ * concurrent commits cannot deadlock on them.</p>
+ *
+ * <p>The writes are registered with the hibernate session rather than as a spring transaction
+ * synchronization, because most entity changes are only flushed, and so only reported here, by
+ * the commit itself, after spring has already run its before commit callbacks.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionCountRecorder {
+    private final TransactionCountRepository repository;
+
+    private final Map<SharedSessionContractImplementor, PendingCounts> pendingCounts =
+            new ConcurrentHashMap<>();
+
+    @PersistenceContext private EntityManager entityManager;
+
+    /**
+     * Records that a transaction moved from one rollup row to another.
+     *
+     * @param from row the transaction was counted in, null if it was not counted yet
+     * @param to   row the transaction is now counted in, null if it no longer exists
+     * @throws TransactionRequiredException if no database transaction is in progress
+     */
+    public void move(final TransactionCountKey from, final TransactionCountKey to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+
+        final SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        if (!session.isTransactionInProgress()) {
+            // the rollup must commit or roll back together with the transaction row it counts
+            throw new TransactionRequiredException(
+                    "Transaction counts can only be changed within a database transaction");
+        }
+
+        final PendingCounts pending =
+                pendingCounts.computeIfAbsent(session, key -> startCounting(session));
+        if (from != null) {
+            pending.add(from, -1);
+        }
+        if (to != null) {
+            pending.add(to, 1);
+        }
+    }
+
+    private PendingCounts startCounting(final SessionImplementor session) {
+        final PendingCounts pending = new PendingCounts();
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) pending);
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) pending);
+        return pending;
+    }
+
+    /**
+     * Rollup changes of one database transaction that have not been written yet.
+     */
+    private final class PendingCounts
+            implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+        private final Map<TransactionCountKey, Long> deltas = new TreeMap<>();
+
+        private void add(final TransactionCountKey key, final long delta) {
+            deltas.merge(key, delta, Long::sum);
+        }
+
+        @Override
+        public void doBeforeTransactionCompletion(final SessionImplementor session) {
+            deltas.forEach(
+                    (key, delta) -> {
+                        if (delta != 0) {
+                            repository.addToCount(key, delta);
+                        }
+                    });
+            deltas.clear();
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(
+                final boolean success, final SharedSessionContractImplementor session) {
+            pendingCounts.remove(session);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DataConversionSupport;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration.ValueType;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSearchableAttribute;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter.Operator;
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.beanutils.DynaProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the {@code data.<path>} query parameters of the transaction search into filters on the
+ * searchable attributes of the transaction data.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionDataFilterService {
+    private static final String PARAMETER_PREFIX = "data.";
+
+    private final TransactionDefinitionService transactionDefinitionService;
+    private final SchemaService schemaService;
+    private final TransactionSearchableAttributeRepository searchableAttributeRepository;
+
+    /**
+     * Parses the data filters among the query parameters of a transaction search. A parameter
+     * named {@code data.<path>} matches transactions with a value equal to its own at that path of
+     * their data, and a {@code [prefix]}, {@code [gte]} or {@code [lte]} suffix matches values
+     * starting with it, not less than or not greater than it instead.
+     *
+     * @param parameters                query parameters of the search
+     * @param transactionDefinitionKeys keys of the definitions the search is restricted to, in
+     *                                  whose schemas every filtered attribute must be searchable
+     * @return data filters, empty if there are none
+     * @throws ProvidedDataException if a filter is not on a searchable attribute that is indexed
+     *                               or its value cannot be compared with that attribute
+     */
+    public List<TransactionDataFilter> parse(
+            final Map<String, String[]> parameters, final List<String> transactionDefinitionKeys) {
+        final List<TransactionDataFilter> filters = new ArrayList<>();
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            if (!parameter.getKey().startsWith(PARAMETER_PREFIX)) {
+                continue;
+            }
+
+            if (transactionDefinitionKeys == null) {
+                throw new ProvidedDataException(
+                        "Filtering on transaction data requires a transaction definition key or"
+                                + " transaction definition set key");
+            }
+            if (transactionDefinitionKeys.isEmpty()) {
+                // the search cannot match any transaction, whatever their data
+                return filters;
+            }
+
+            final String name = parameter.getKey().substring(PARAMETER_PREFIX.length());
+            final Operator operator = getOperator(name);
+            final String path =
+                    operator == Operator.EQUAL ? name : name.substring(0, name.lastIndexOf('['));
+            final ValueType valueType = getValueType(path, transactionDefinitionKeys);
+            for (String value : parameter.getValue()) {
+                filters.add(
+                        new TransactionDataFilter(
+                                path,
+                                valueType,
+                                operator,
+                                convertValue(path, valueType, operator, value)));
+            }
+        }
+        return filters;
+    }
+
+    private static Operator getOperator(final String name) {
+        if (name.endsWith("[prefix]")) {
+            return Operator.PREFIX;
+        } else if (name.endsWith("[gte]")) {
+            return Operator.GREATER_OR_EQUAL;
+        } else if (name.endsWith("[lte]")) {
+            return Operator.LESS_OR_EQUAL;
+        }
+        return Operator.EQUAL;
+    }
+
+    private ValueType getValueType(
+            final String path, final List<String> transactionDefinitionKeys) {
+        ValueType valueType = null;
+        for (String transactionDefinitionKey : transactionDefinitionKeys) {
+            final TransactionDefinition transactionDefinition =
+                    transactionDefinitionService
+                            .getTransactionDefinitionByKey(transactionDefinitionKey)
+                            .orElseThrow(
+                                    () ->
+                                            new ProvidedDataException(
+                                                    "Transaction definition not found: "
+                                                            + transactionDefinitionKey));
+            final ValueType definitionValueType =
+                    getValueType(path, getSchema(transactionDefinition.getSchemaKey()));
+            // existing transactions have no values for the path until they are all indexed
+            if (!searchableAttributeRepository
+                    .findIndexedPaths(transactionDefinitionKey)
+                    .contains(path)) {
+                throw new ProvidedDataException("Attribute is not indexed yet: " + path);
+            }
+            if (valueType != null && valueType != definitionValueType) {
+                throw new ProvidedDataException(
+                        "Attribute has different types across transaction definitions: " + path);
+            }
+            valueType = definitionValueType;
+        }
+        return valueType;
+    }
+
+    private ValueType getValueType(final String path, final Schema transactionSchema) {
+        final String[] attributes = path.split("\\.", -1);
+        Schema schema = transactionSchema;
+        for (int index = 0; index < attributes.length - 1; index++) {
+            final String relatedSchemaKey = schema.getRelatedSchemas().get(attributes[index]);
+            if (relatedSchemaKey == null) {
+                throw new ProvidedDataException("Attribute is not searchable: " + path);
+            }
+            schema = getSchema(relatedSchemaKey);
+        }
+
+        final String attribute = attributes[attributes.length - 1];
+        final DynaProperty property = schema.getDynaProperty(attribute);
+        if (property == null
+                || schema.getAttributeConfigurations(attribute, SearchableConfiguration.class)
+                        .isEmpty()) {
+            throw new ProvidedDataException("Attribute is not searchable: " + path);
+        }
+
+        final ValueType valueType =
+                ValueType.of(
+                        List.class.isAssignableFrom(property.getType())
+                                ? property.getContentType()
+                                : property.getType());
+        if (valueType == null) {
+            throw new ProvidedDataException("Attribute is not searchable: " + path);
+        }
+        return valueType;
+    }
+
+    private Schema getSchema(final String schemaKey) {
+        return schemaService
+                .getSchemaByKey(schemaKey)
+                .orElseThrow(() -> new ProvidedDataException("Schema not found: " + schemaKey));
+    }
+
+    private static Object convertValue(
+            final String path,
+            final ValueType valueType,
+            final Operator operator,
+            final String value) {
+        if (operator == Operator.PREFIX && valueType != ValueType.STRING) {
+            throw new ProvidedDataException(
+                    "Only text attributes can be filtered by prefix: " + path);
+        }
+        if ((operator == Operator.GREATER_OR_EQUAL || operator == Operator.LESS_OR_EQUAL)
+                && valueType == ValueType.STRING) {
+            throw new ProvidedDataException("Text attributes cannot be filtered by range: " + path);
+        }
+
+        if (valueType == ValueType.STRING) {
+            // longer values are truncated when stored, so they could never be equal to this one
+            if (value.length() > TransactionSearchableAttribute.MAX_STRING_LENGTH) {
+                throw new ProvidedDataException("Filter value is too long for attribute: " + path);
+            }
+            return value;
+        }
+
+        Object converted;
+        try {
+            converted =
+                    valueType == ValueType.NUMBER
+                            ? DataConversionSupport.convert(value, BigDecimal.class)
+                            : DataConversionSupport.convert(value, LocalDate.class);
+        } catch (RuntimeException e) {
+            converted = null;
+        }
+        // the converters return null for some values they cannot read
+        if (converted == null) {
+            throw new ProvidedDataException(
+                    String.format("Invalid value for attribute %s: '%s'", path, value));
+        }
+        return converted;
+    }
+}
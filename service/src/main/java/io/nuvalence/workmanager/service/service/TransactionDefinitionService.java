@@ -1,5 +1,6 @@
 package io.nuvalence.workmanager.service.service;
 
+import io.nuvalence.workmanager.service.cache.ConfigurationCache;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.config.exceptions.UnexpectedException;
 import io.nuvalence.workmanager.service.domain.VersionedEntity;
@@ -36,19 +37,23 @@ public class TransactionDefinitionService {
     private final TransactionDefinitionRepository repository;
     private final TransactionDefinitionSetService transactionDefinitionSetService;
     private final SchemaService schemaService;
+    private final ConfigurationCache<UUID, TransactionDefinition> transactionDefinitionsById;
+    private final ConfigurationCache<String, TransactionDefinition> transactionDefinitionsByKey;
 
     /**
-     * Fetches a transaction definition from the database by id (primary key).
+     * Fetches a transaction definition by id (primary key), serving it from the node-local cache
+     * when possible.
      *
      * @param id transaction definition id to fetch
      * @return transaction definition object
      */
     public Optional<TransactionDefinition> getTransactionDefinitionById(final UUID id) {
-        return repository.findById(id);
+        return transactionDefinitionsById.get(id, () -> repository.findById(id));
     }
 
     /**
-     * Fetches the latest version of a transaction definition from the database by key.
+     * Fetches the latest version of a transaction definition by key, serving it from the
+     * node-local cache when possible.
      *
      * @param key transaction definition key to fetch
      * @return transaction definition object
@@ -56,7 +61,8 @@ public class TransactionDefinitionService {
     public Optional<TransactionDefinition> getTransactionDefinitionByKey(final String key) {
         // TODO When we implement versioned transaction configuration, this will need to select for
         // the newest version
-        return repository.searchByKey(key).stream().findFirst();
+        return transactionDefinitionsByKey.get(
+                key, () -> repository.searchByKey(key).stream().findFirst());
     }
 
     /**
@@ -123,6 +129,8 @@ public class TransactionDefinitionService {
             throw new UnexpectedException(e.getMessage(), e);
         }
 
+        transactionDefinitionsById.invalidate(transactionDefinition.getId());
+        transactionDefinitionsByKey.invalidate(transactionDefinition.getKey());
         return repository.save(transactionDefinition);
     }
 
@@ -0,0 +1,161 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableAttributes;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.repository.TransactionDefinitionRepository;
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Indexes the searchable attributes of existing transactions, which are otherwise only indexed
+ * when their data is saved.
+ *
+ * <p>Each run compares the searchable paths of every transaction definition with the paths
+ * recorded in {@code transaction_searchable_path}. Paths that are not indexed yet, because they
+ * were made Searchable or because they predate the index, are recorded as pending and the
+ * transactions of the definition are indexed again in batches, after which the paths are
+ * recorded as indexed and can be filtered on. Paths that are no longer searchable are removed
+ * along with their values.</p>
+ *
+ * <p>Changing the Searchable configuration of an attribute removes its paths, see
+ * {@link SchemaService#saveSchema}, so a change made while the transactions were being indexed
+ * keeps them from being recorded as indexed and they are indexed again on the next run. Runs on
+ * several instances at once only repeat each other's work.</p>
+ */
+@Slf4j
+@Component
+public class TransactionSearchableAttributeIndexer {
+    private final TransactionDefinitionRepository transactionDefinitionRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionSearchableAttributeRepository repository;
+    private final SchemaService schemaService;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+
+    /**
+     * Constructs a new TransactionSearchableAttributeIndexer.
+     *
+     * @param transactionDefinitionRepository transaction definition repository
+     * @param transactionRepository           transaction repository
+     * @param repository                      searchable attribute repository
+     * @param schemaService                   schema service
+     * @param transactionOperations           runs each batch in its own transaction
+     * @param batchSize                       number of transactions indexed per batch
+     */
+    public TransactionSearchableAttributeIndexer(
+            final TransactionDefinitionRepository transactionDefinitionRepository,
+            final TransactionRepository transactionRepository,
+            final TransactionSearchableAttributeRepository repository,
+            final SchemaService schemaService,
+            final TransactionOperations transactionOperations,
+            @Value("${transactionSearch.indexBatchSize:500}") final int batchSize) {
+        this.transactionDefinitionRepository = transactionDefinitionRepository;
+        this.transactionRepository = transactionRepository;
+        this.repository = repository;
+        this.schemaService = schemaService;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Indexes the searchable paths of every transaction definition that are not indexed yet.
+     */
+    @Scheduled(
+            initialDelayString = "${transactionSearch.indexIntervalMillis:60000}",
+            fixedDelayString = "${transactionSearch.indexIntervalMillis:60000}")
+    public void index() {
+        final Set<String> transactionDefinitionKeys = new HashSet<>();
+        for (TransactionDefinition transactionDefinition :
+                transactionDefinitionRepository.getAllDefinitions()) {
+            if (!transactionDefinitionKeys.add(transactionDefinition.getKey())) {
+                continue;
+            }
+            try {
+                index(transactionDefinition);
+            } catch (RuntimeException e) {
+                log.error(
+                        String.format(
+                                "Unable to index searchable attributes of transaction definition"
+                                        + " [%s]",
+                                transactionDefinition.getKey()),
+                        e);
+            }
+        }
+    }
+
+    private void index(final TransactionDefinition transactionDefinition) {
+        final String key = transactionDefinition.getKey();
+        final Set<String> paths =
+                schemaService
+                        .getSchemaByKey(transactionDefinition.getSchemaKey())
+                        .map(
+                                schema ->
+                                        SearchableAttributes.paths(
+                                                schema, schemaService::getSchemaByKey))
+                        .orElse(Set.of());
+        final Map<String, Boolean> recordedPaths = repository.findSearchablePaths(key);
+
+        final Set<String> missingPaths = new HashSet<>(paths);
+        recordedPaths.forEach(
+                (path, indexed) -> {
+                    if (indexed) {
+                        missingPaths.remove(path);
+                    }
+                });
+        final Set<String> removedPaths = new HashSet<>(recordedPaths.keySet());
+        removedPaths.removeAll(paths);
+        if (missingPaths.isEmpty() && removedPaths.isEmpty()) {
+            return;
+        }
+
+        transactionOperations.executeWithoutResult(
+                status -> {
+                    repository.removeSearchablePaths(key, removedPaths);
+                    repository.addSearchablePaths(key, missingPaths);
+                });
+        if (missingPaths.isEmpty()) {
+            return;
+        }
+
+        log.info(
+                "Indexing searchable attributes {} of transaction definition [{}]",
+                missingPaths,
+                key);
+        UUID after = new UUID(0, 0);
+        while (after != null) {
+            final UUID batchStart = after;
+            after = transactionOperations.execute(status -> indexBatch(key, batchStart));
+        }
+        transactionOperations.executeWithoutResult(
+                status -> repository.markSearchablePathsIndexed(key, missingPaths));
+    }
+
+    private UUID indexBatch(final String transactionDefinitionKey, final UUID after) {
+        final List<Transaction> transactions =
+                transactionRepository.findForSearchableAttributeIndexing(
+                        transactionDefinitionKey, after, PageRequest.of(0, batchSize));
+        for (Transaction transaction : transactions) {
+            repository.replaceAttributes(
+                    transaction.getId(),
+                    transaction.getData() == null
+                            ? Map.of()
+                            : SearchableAttributes.of(transaction.getData()));
+        }
+        return transactions.size() < batchSize
+                ? null
+                : transactions.get(transactions.size() - 1).getId();
+    }
+}
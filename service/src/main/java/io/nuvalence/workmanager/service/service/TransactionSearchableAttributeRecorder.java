@@ -0,0 +1,86 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TransactionRequiredException;
+
+/**
+ * Collects the searchable attribute values of the transactions a database transaction writes and
+ * replaces their {@code transaction_searchable_attribute} rows just before it commits.
+ *
+ * <p>A transaction flushed several times in one unit of work only has its rows replaced once, with
+ * the values it was last flushed with. The writes are registered with the hibernate session for
+ * the same reason as in {@link TransactionCountRecorder}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionSearchableAttributeRecorder {
+    private final TransactionSearchableAttributeRepository repository;
+
+    private final Map<SharedSessionContractImplementor, PendingAttributes> pendingAttributes =
+            new ConcurrentHashMap<>();
+
+    @PersistenceContext private EntityManager entityManager;
+
+    /**
+     * Records the searchable attribute values a transaction was written with.
+     *
+     * @param transactionId ID of the written transaction
+     * @param values        values of each searchable path, replacing all the previous ones
+     * @throws TransactionRequiredException if no database transaction is in progress
+     */
+    public void replace(final UUID transactionId, final Map<String, List<Object>> values) {
+        final SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        if (!session.isTransactionInProgress()) {
+            // the values must commit or roll back together with the data they were taken from
+            throw new TransactionRequiredException(
+                    "Searchable attributes can only be changed within a database transaction");
+        }
+
+        pendingAttributes
+                .computeIfAbsent(session, key -> startRecording(session))
+                .values
+                .put(transactionId, values);
+    }
+
+    private PendingAttributes startRecording(final SessionImplementor session) {
+        final PendingAttributes pending = new PendingAttributes();
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) pending);
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) pending);
+        return pending;
+    }
+
+    /**
+     * Searchable attribute values of one database transaction that have not been written yet.
+     */
+    private final class PendingAttributes
+            implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+        private final Map<UUID, Map<String, List<Object>>> values = new LinkedHashMap<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(final SessionImplementor session) {
+            values.forEach(repository::replaceAttributes);
+            values.clear();
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(
+                final boolean success, final SharedSessionContractImplementor session) {
+            pendingAttributes.remove(session);
+        }
+    }
+}
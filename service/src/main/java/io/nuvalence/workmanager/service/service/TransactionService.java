@@ -4,7 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.nuvalence.auth.token.UserToken;
 import io.nuvalence.auth.util.SecurityContextUtility;
 import io.nuvalence.workmanager.auditservice.client.ApiException;
-import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventId;
+import io.nuvalence.workmanager.service.cache.FormValidationPlanCache;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.config.exceptions.NuvalenceFormioValidationException;
 import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
@@ -18,14 +18,15 @@ import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
 import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
-import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTransactionException;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
-import io.nuvalence.workmanager.service.mapper.FormConfigurationMapper;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.models.KeysetPage;
+import io.nuvalence.workmanager.service.models.KeysetPageToken;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
@@ -33,15 +34,19 @@ import io.nuvalence.workmanager.service.models.auditevents.AuditEventBusinessObj
 import io.nuvalence.workmanager.service.models.auditevents.DocumentStatusChangedAuditEventDto;
 import io.nuvalence.workmanager.service.models.auditevents.TransactionCreatedAuditEventDto;
 import io.nuvalence.workmanager.service.repository.CustomerProvidedDocumentRepository;
+import io.nuvalence.workmanager.service.repository.TransactionCountRepository;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
 import io.nuvalence.workmanager.service.utils.auth.CurrentUserUtility;
-import io.nuvalence.workmanager.service.utils.formconfig.formio.NuvalenceFormioValidator;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlan;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.beanutils.DynaProperty;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -54,6 +59,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.transaction.Transactional;
@@ -73,6 +79,7 @@ import jakarta.ws.rs.NotFoundException;
 })
 public class TransactionService {
     private final TransactionRepository repository;
+    private final TransactionCountRepository transactionCountRepository;
 
     private final CustomerProvidedDocumentRepository customerProvidedDocumentRepository;
 
@@ -85,6 +92,7 @@ public class TransactionService {
     private final SchemaService schemaService;
     private final RequestContextTimestamp requestContextTimestamp;
     private final FormConfigurationService formConfigurationService;
+    private final FormValidationPlanCache formValidationPlanCache;
 
     /**
      * Create a new transaction for a given transaction definition.
@@ -99,7 +107,8 @@ public class TransactionService {
     }
 
     /**
-     * Create a new transaction for a given transaction definition.
+     * Create a new transaction for a given transaction definition. The creation audit event is
+     * queued in the same database transaction as the new transaction.
      *
      * @param definition Type of transaction to create
      * @param jwt        JSON Web Token from HTTP request
@@ -111,6 +120,18 @@ public class TransactionService {
 
         Transaction savedTransaction = repository.save(factory.createTransaction(definition));
         startTask(savedTransaction, definition.getProcessDefinitionKey());
+
+        try {
+            postAuditEventForTransactionCreated(savedTransaction);
+        } catch (ApiException e) {
+            log.error(
+                    String.format(
+                            "An error has occurred when recording a creation audit event for a"
+                                    + " transaction with user id %s for transaction with id %s.",
+                            savedTransaction.getCreatedBy(), savedTransaction.getId()),
+                    e);
+        }
+
         return savedTransaction;
     }
 
@@ -189,6 +210,82 @@ public class TransactionService {
         return updateTransaction(transaction);
     }
 
+    /**
+     * Saves a transaction whose data has been changed in place by a merge patch. The documents of
+     * the transaction are only reconciled with its data when the patch may have changed them.
+     *
+     * @param transaction Transaction with the patch applied to its data
+     * @param patch Merge patch applied to the data
+     * @param attributeConfigurations Map of attribute configurations
+     * @return Updated version of transaction
+     */
+    public Transaction updateTransactionFromDataPatch(
+            final Transaction transaction,
+            final Map<String, Object> patch,
+            Map<String, List<AttributeConfiguration>> attributeConfigurations) {
+        if (patchMayChangeDocuments(transaction.getData(), patch)) {
+            updateDocuments(transaction, transaction, attributeConfigurations);
+        }
+
+        return updateTransaction(transaction);
+    }
+
+    /**
+     * Saves a transaction whose data has been changed in place by a merge patch and completes the
+     * given task.
+     *
+     * @param transaction Transaction with the patch applied to its data
+     * @param patch Merge patch applied to the data
+     * @param taskId ID of task to complete
+     * @param attributeConfigurations Map of attribute configurations
+     * @return Updated version of transaction
+     * @throws MissingTaskException If the process instance for this transaction does not have a task matching taskId
+     * @throws JsonProcessingException If the data could not be serialized to JSON
+     */
+    public Transaction updateTransactionFromDataPatchAndCompleteTask(
+            final Transaction transaction,
+            final Map<String, Object> patch,
+            final String taskId,
+            Map<String, List<AttributeConfiguration>> attributeConfigurations)
+            throws MissingTaskException, JsonProcessingException {
+        final Transaction updated =
+                updateTransactionFromDataPatch(transaction, patch, attributeConfigurations);
+        completeTask(updated, taskId, null);
+
+        return updateTransaction(updated);
+    }
+
+    private boolean patchMayChangeDocuments(
+            final DynamicEntity entity, final Map<String, Object> patch) {
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            final DynaProperty dynaProperty = entity.getSchema().getDynaProperty(entry.getKey());
+            if (dynaProperty == null) {
+                continue;
+            }
+
+            final Class<?> type =
+                    dynaProperty.getContentType() != null
+                            ? dynaProperty.getContentType()
+                            : dynaProperty.getType();
+            if (Document.class.equals(type)) {
+                return true;
+            }
+            if (DynamicEntity.class.isAssignableFrom(type)) {
+                // an entity patched in place only changes what the nested patch names, anything
+                // else may have replaced or removed documents held by the entity
+                final Object value = entity.get(entry.getKey());
+                if (!(value instanceof DynamicEntity nestedEntity
+                                && entry.getValue() instanceof Map)
+                        || patchMayChangeDocuments(
+                                nestedEntity, (Map<String, Object>) entry.getValue())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
     private Map<UUID, String> getAllDocumentsMap(Transaction transaction) {
         Map<UUID, String> mapUuidPath = new HashMap<>();
         DynamicEntity baseDynamicEntity = transaction.getData();
@@ -402,15 +499,108 @@ public class TransactionService {
      * @param filters What to filter/sort the transactions by
      * @return List of transactions
      */
-    @SuppressWarnings("checkstyle:CyclomaticComplexity")
     public Page<Transaction> getFilteredTransactions(final TransactionFilters filters) {
+        includeInternalStatuses(filters);
+
+        return repository.findAll(filters.getTransactionSpecifications(), filters.getPageRequest());
+    }
+
+    /**
+     * Gets a page of filtered transactions by seeking past the previous page, instead of counting
+     * the matches and skipping the rows of earlier pages.
+     *
+     * @param filters   What to filter/sort the transactions by, the page number is ignored
+     * @param pageToken continuation token of the previous page, blank for the first page
+     * @return page of transactions with the token of the next page
+     * @throws ProvidedDataException if the token is invalid or the sort column is not supported
+     */
+    public KeysetPage<Transaction> getFilteredTransactions(
+            final TransactionFilters filters, final String pageToken) {
+        return getKeysetPage(filters, pageToken, repository::findAllByKeyset, Transaction::getId);
+    }
+
+    /**
+     * Gets a list of the summaries of filtered transactions, which are read without their data and
+     * documents.
+     *
+     * @param filters What to filter/sort the transactions by
+     * @return List of transaction summaries
+     */
+    public Page<TransactionSummary> getFilteredTransactionSummaries(
+            final TransactionFilters filters) {
+        includeInternalStatuses(filters);
+
+        return repository.findAllSummaries(
+                filters.getTransactionSpecifications(), filters.getPageRequest());
+    }
+
+    /**
+     * Gets a page of the summaries of filtered transactions by seeking past the previous page.
+     *
+     * @param filters   What to filter/sort the transactions by, the page number is ignored
+     * @param pageToken continuation token of the previous page, blank for the first page
+     * @return page of transaction summaries with the token of the next page
+     * @throws ProvidedDataException if the token is invalid or the sort column is not supported
+     */
+    public KeysetPage<TransactionSummary> getFilteredTransactionSummaries(
+            final TransactionFilters filters, final String pageToken) {
+        return getKeysetPage(
+                filters,
+                pageToken,
+                repository::findAllSummariesByKeyset,
+                TransactionSummary::getId);
+    }
+
+    private <T> KeysetPage<T> getKeysetPage(
+            final TransactionFilters filters,
+            final String pageToken,
+            final KeysetQuery<T> query,
+            final Function<T, UUID> getId) {
+        final Sort.Order order = filters.getSort().iterator().next();
+        if (BeanUtils.getPropertyDescriptor(Transaction.class, order.getProperty()) == null) {
+            throw new ProvidedDataException(
+                    "Paging by pageToken is not supported when sorting by " + order.getProperty());
+        }
+        final KeysetPageToken after =
+                StringUtils.isBlank(pageToken)
+                        ? null
+                        : KeysetPageToken.decode(pageToken, Transaction.class, order);
+
+        includeInternalStatuses(filters);
+
+        final int pageSize = filters.getPageSize();
+        final List<T> results =
+                query.find(filters.getTransactionSpecifications(), order, after, pageSize + 1);
+        if (results.size() <= pageSize) {
+            return new KeysetPage<>(results, pageSize, null);
+        }
+
+        final T last = results.get(pageSize - 1);
+        return new KeysetPage<>(
+                results.subList(0, pageSize),
+                pageSize,
+                KeysetPageToken.of(last, getId.apply(last), order).encode());
+    }
+
+    private void includeInternalStatuses(final TransactionFilters filters) {
         Map<String, List<String>> statusMap =
                 workflowTasksService.getStatusMap(
                         filters.getCategory(), filters.getTransactionDefinitionKeys());
-
         filters.setStatus(addInternalStatusesToPublicStatusList(filters.getStatus(), statusMap));
+    }
 
-        return repository.findAll(filters.getTransactionSpecifications(), filters.getPageRequest());
+    /**
+     * Reads the rows of one keyset page.
+     *
+     * @param <T> type of the listed rows
+     */
+    @FunctionalInterface
+    private interface KeysetQuery<T> {
+        List<T> find(
+                Specification<Transaction> specification,
+                Sort.Order order,
+                KeysetPageToken after,
+                int limit);
     }
 
     /**
@@ -436,7 +626,16 @@ public class TransactionService {
                         filters.getStatus(), publicToInternalStatusMap));
 
         List<TransactionCountByStatusModel> transactionCounters =
-                repository.getTransactionCountsByStatus(filters.getTransactionSpecifications());
+                filters.isCountableFromRollup()
+                        ? transactionCountRepository.countByStatus(filters).entrySet().stream()
+                                .map(
+                                        statusCount ->
+                                                new TransactionCountByStatusModel()
+                                                        .status(statusCount.getKey())
+                                                        .count(statusCount.getValue().intValue()))
+                                .collect(Collectors.toList())
+                        : repository.getTransactionCountsByStatus(
+                                filters.getTransactionSpecifications());
 
         // replace the internal status by the public status
         transactionCounters.forEach(
@@ -773,18 +972,16 @@ public class TransactionService {
      * Posts an audit event for transaction being created.
      *
      * @param transaction transaction information.
-     * @return id of posted audit event.
-     * @throws ApiException result from request to audit service.
+     * @throws ApiException if the event cannot be queued for the audit service.
      */
-    public AuditEventId postAuditEventForTransactionCreated(Transaction transaction)
-            throws ApiException {
+    public void postAuditEventForTransactionCreated(Transaction transaction) throws ApiException {
 
         TransactionCreatedAuditEventDto transactionInfo =
                 new TransactionCreatedAuditEventDto(transaction.getCreatedBy());
 
         final String summary = "Transaction Created.";
 
-        return transactionAuditEventService.postActivityAuditEvent(
+        transactionAuditEventService.postActivityAuditEvent(
                 transaction.getCreatedBy(),
                 transaction.getCreatedBy(),
                 summary,
@@ -801,10 +998,9 @@ public class TransactionService {
      * @param documentFieldPath path of the document field in the schema
      * @param auditActivityType attribute that classifies the event
      * @param summary summary of what happened in the event
-     * @return id of posted audit event.
-     * @throws ApiException result from request to audit service.
+     * @throws ApiException if the event cannot be queued for the audit service.
      */
-    public AuditEventId postAuditEventForDocumentStatusChanged(
+    public void postAuditEventForDocumentStatusChanged(
             CustomerProvidedDocument document,
             String documentFieldPath,
             AuditActivityType auditActivityType,
@@ -828,7 +1024,7 @@ public class TransactionService {
                         documentFieldPath,
                         rejectionReasons);
 
-        return transactionAuditEventService.postActivityAuditEvent(
+        transactionAuditEventService.postActivityAuditEvent(
                 document.getCreatedBy(),
                 document.getCreatedBy(),
                 summary,
@@ -898,21 +1094,13 @@ public class TransactionService {
                         transactionDefinitionKey, formKey);
 
         if (formConfigurationOptional.isPresent()) {
-            FormConfiguration formConfiguration = formConfigurationOptional.get();
-
-            NuvalenceFormioComponent formioComponent =
-                    FormConfigurationMapper.INSTANCE.formConfigurationToFormIoValidationConfig(
-                            formConfiguration);
-
-            Optional<NuvalenceFormioComponent> componentOptional =
-                    formioComponent.getComponents().stream()
-                            .filter(component -> component.getKey().equals(formStepKey))
-                            .findFirst();
+            Optional<FormioValidationPlan> stepPlan =
+                    formValidationPlanCache.getStepPlan(
+                            formConfigurationOptional.get(), formStepKey);
 
-            if (componentOptional.isPresent()) {
+            if (stepPlan.isPresent()) {
                 List<NuvalenceFormioValidationExItem> formioValidationErrors = new ArrayList<>();
-                NuvalenceFormioValidator.validateComponent(
-                        componentOptional.get(), transaction.getData(), formioValidationErrors);
+                stepPlan.get().validate(transaction.getData(), formioValidationErrors);
                 if (!formioValidationErrors.isEmpty()) {
                     NuvalenceFormioValidationExMessage formioValidationExMessage =
                             NuvalenceFormioValidationExMessage.builder()
@@ -9,6 +9,7 @@ import io.nuvalence.workmanager.service.utils.camunda.CamundaWorkflowInspector;
 import io.nuvalence.workmanager.service.utils.camunda.CamundaWorkflowInspectorCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.camunda.bpm.engine.HistoryService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.TaskService;
@@ -16,9 +17,14 @@ import org.camunda.bpm.engine.history.HistoricProcessInstance;
 import org.camunda.bpm.engine.task.Task;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -94,6 +100,49 @@ public class TransactionTaskService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Lists currently active tasks on a batch of transactions, using a single task query for all of
+     * them.
+     *
+     * @param transactions Transactions to find active tasks for
+     * @return map of process instance ID to the active tasks the current user may act on; process
+     *     instances without such tasks are absent from the map
+     */
+    public Map<String, List<WorkflowTask>> getActiveTasksForCurrentUserByProcessInstanceId(
+            final Collection<Transaction> transactions) {
+        final Map<String, Transaction> transactionsByProcessInstanceId =
+                indexByProcessInstanceId(transactions);
+        if (transactionsByProcessInstanceId.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final List<Task> tasks =
+                processEngine
+                        .getTaskService()
+                        .createTaskQuery()
+                        .processInstanceIdIn(
+                                transactionsByProcessInstanceId.keySet().toArray(new String[0]))
+                        .active()
+                        .list();
+
+        final Map<String, List<WorkflowTask>> activeTasks = new HashMap<>();
+        for (Task task : tasks) {
+            final Transaction transaction =
+                    transactionsByProcessInstanceId.get(task.getProcessInstanceId());
+            final CamundaWorkflowInspector workflowInspector =
+                    camundaWorkflowInspectorCache.getByProcessDefinitionId(
+                            task.getProcessDefinitionId());
+            if (workflowInspector.isCurrentUserAllowed(
+                    task.getTaskDefinitionKey(), authorizationHandler, transaction)) {
+                activeTasks
+                        .computeIfAbsent(task.getProcessInstanceId(), k -> new ArrayList<>())
+                        .add(workflowInspector.getWorkflowTask(task.getTaskDefinitionKey()));
+            }
+        }
+
+        return activeTasks;
+    }
+
     /**
      * Start a Camunda process.
      *
@@ -128,4 +177,42 @@ public class TransactionTaskService {
 
         return hasEnded;
     }
+
+    /**
+     * Determines which of the workflows associated with a batch of transactions have reached an end
+     * event, using a single history query for all of them.
+     *
+     * @param transactions Transactions associated with the workflows
+     * @return IDs of the process instances that have ended
+     */
+    public Set<String> getProcessInstanceIdsThatReachedEndEvent(
+            final Collection<Transaction> transactions) {
+        final Set<String> processInstanceIds = indexByProcessInstanceId(transactions).keySet();
+        if (processInstanceIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return processEngine
+                .getHistoryService()
+                .createHistoricProcessInstanceQuery()
+                .processInstanceIds(processInstanceIds)
+                .finished()
+                .list()
+                .stream()
+                .map(HistoricProcessInstance::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<String, Transaction> indexByProcessInstanceId(
+            final Collection<Transaction> transactions) {
+        final Map<String, Transaction> transactionsByProcessInstanceId = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            if (StringUtils.isNotBlank(transaction.getProcessInstanceId())) {
+                transactionsByProcessInstanceId.put(
+                        transaction.getProcessInstanceId(), transaction);
+            }
+        }
+
+        return transactionsByProcessInstanceId;
+    }
 }
@@ -1,24 +1,22 @@
 package io.nuvalence.workmanager.service.service;
 
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.utils.camunda.WorkflowStatusIndex;
+import io.nuvalence.workmanager.service.utils.camunda.WorkflowStatusIndexCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.repository.ProcessDefinitionQuery;
-import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.bpmn.instance.UserTask;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -42,6 +40,7 @@ import jakarta.ws.rs.NotFoundException;
 public class WorkflowTasksService {
     private final ProcessEngine processEngine;
     private final TransactionDefinitionService transactionDefinitionService;
+    private final WorkflowStatusIndexCache workflowStatusIndexCache;
 
     /**
      * Gets all statuses from workflow process definitions.
@@ -68,22 +67,7 @@ public class WorkflowTasksService {
         // use Set remove duplicates, i.e. maybe 2 statuses map to 1 public status
         LinkedHashSet<String> distinctStatuses = new LinkedHashSet<>();
         for (ProcessDefinition definition : processDefinitions) {
-            try {
-                BpmnModelInstance modelInstance =
-                        Bpmn.readModelFromStream(new FileInputStream(definition.getResourceName()));
-                Collection<CamundaProperty> properties =
-                        modelInstance.getModelElementsByType(CamundaProperty.class);
-                for (CamundaProperty property : properties) {
-                    if (property.getAttributeValue("name").equals(statusType.propertyName)) {
-                        distinctStatuses.add(property.getCamundaValue());
-                    }
-                }
-            } catch (FileNotFoundException e) {
-                log.warn(
-                        "error parsing bpmn file {} for workflow statuses",
-                        definition.getResourceName(),
-                        e);
-            }
+            distinctStatuses.addAll(getStatusIndex(definition).getStatuses(statusType));
         }
         return new ArrayList<>(distinctStatuses);
     }
@@ -101,52 +85,36 @@ public class WorkflowTasksService {
         Map<String, List<String>> statusMap = new HashMap<>();
 
         for (ProcessDefinition definition : processDefinitions) {
-            processDefinitionAndAddStatus(definition, statusMap);
+            getStatusIndex(definition)
+                    .getPublicToInternalStatuses()
+                    .forEach(
+                            (publicStatus, internalStatuses) ->
+                                    statusMap
+                                            .computeIfAbsent(publicStatus, k -> new ArrayList<>())
+                                            .addAll(internalStatuses));
         }
 
         return statusMap;
     }
 
-    private void processDefinitionAndAddStatus(
-            ProcessDefinition definition, Map<String, List<String>> statusMap) {
-        try {
-            BpmnModelInstance modelInstance =
-                    Bpmn.readModelFromStream(new FileInputStream(definition.getResourceName()));
-            Collection<CamundaProperty> properties =
-                    modelInstance.getModelElementsByType(CamundaProperty.class);
+    private WorkflowStatusIndex getStatusIndex(ProcessDefinition definition) {
+        return workflowStatusIndexCache.getByProcessDefinitionId(
+                definition.getId(), () -> loadStatusIndex(definition));
+    }
 
-            for (CamundaProperty property : properties) {
-                processCamundaProperty(property, statusMap);
-            }
-        } catch (FileNotFoundException e) {
+    private Optional<WorkflowStatusIndex> loadStatusIndex(ProcessDefinition definition) {
+        try {
+            return Optional.ofNullable(
+                            processEngine
+                                    .getRepositoryService()
+                                    .getBpmnModelInstance(definition.getId()))
+                    .map(WorkflowStatusIndex::fromModel);
+        } catch (ProcessEngineException e) {
             log.warn(
                     "error parsing bpmn file {} for workflow statuses",
                     definition.getResourceName(),
                     e);
-        }
-    }
-
-    private void processCamundaProperty(
-            CamundaProperty property, Map<String, List<String>> statusMap) {
-        if (property.getAttributeValue("name").equals(StatusType.PUBLIC.propertyName)) {
-            String publicStatus = property.getCamundaValue();
-
-            Optional<CamundaProperty> internalStatusProperty =
-                    property
-                            .getParentElement()
-                            .getChildElementsByType(CamundaProperty.class)
-                            .stream()
-                            .filter(
-                                    p ->
-                                            p.getAttributeValue("name")
-                                                    .equals(StatusType.INTERNAL.propertyName))
-                            .findFirst();
-
-            if (internalStatusProperty.isPresent()) {
-                statusMap
-                        .computeIfAbsent(publicStatus, k -> new ArrayList<>())
-                        .add(internalStatusProperty.get().getCamundaValue());
-            }
+            return Optional.empty();
         }
     }
 
@@ -0,0 +1,153 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import io.nuvalence.workmanager.service.service.WorkflowTasksService.StatusType;
+import lombok.Getter;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperties;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the public and internal statuses declared (as Camunda extension properties)
+ * by a deployed process definition.
+ */
+@Getter
+public final class WorkflowStatusIndex {
+    public static final WorkflowStatusIndex EMPTY = new Builder().build();
+
+    private static final String CAMUNDA_NAMESPACE = "http://camunda.org/schema/1.0/bpmn";
+
+    private final List<String> publicStatuses;
+    private final List<String> internalStatuses;
+    private final Map<String, List<String>> publicToInternalStatuses;
+    private final Map<String, List<String>> internalToPublicStatuses;
+
+    private WorkflowStatusIndex(final Builder builder) {
+        this.publicStatuses = Collections.unmodifiableList(new ArrayList<>(builder.publicStatuses));
+        this.internalStatuses =
+                Collections.unmodifiableList(new ArrayList<>(builder.internalStatuses));
+        this.publicToInternalStatuses = immutableCopy(builder.publicToInternalStatuses);
+        this.internalToPublicStatuses = immutableCopy(builder.internalToPublicStatuses);
+    }
+
+    /**
+     * Returns the distinct statuses of the given type, in declaration order.
+     *
+     * @param statusType public or internal
+     * @return list of statuses
+     */
+    public List<String> getStatuses(final StatusType statusType) {
+        return statusType == StatusType.INTERNAL ? internalStatuses : publicStatuses;
+    }
+
+    /**
+     * Builds the index of a BPMN model.
+     *
+     * @param modelInstance BPMN model of the process definition
+     * @return status index
+     */
+    public static WorkflowStatusIndex fromModel(final BpmnModelInstance modelInstance) {
+        final Builder builder = new Builder();
+        for (CamundaProperties properties :
+                modelInstance.getModelElementsByType(CamundaProperties.class)) {
+            final List<String> names = new ArrayList<>();
+            final List<String> values = new ArrayList<>();
+            for (CamundaProperty property : properties.getCamundaProperties()) {
+                names.add(property.getAttributeValue("name"));
+                values.add(property.getCamundaValue());
+            }
+            builder.addPropertyGroup(names, values);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Builds the index of a BPMN document as handed to Camunda parse listeners, so that deployments
+     * can be indexed without parsing the document a second time.
+     *
+     * @param rootElement root element of the BPMN document
+     * @return status index
+     */
+    public static WorkflowStatusIndex fromElement(final Element rootElement) {
+        final Builder builder = new Builder();
+        addElementPropertyGroups(rootElement, builder);
+        return builder.build();
+    }
+
+    private static void addElementPropertyGroups(final Element element, final Builder builder) {
+        if (isCamundaElement(element, "properties")) {
+            final List<String> names = new ArrayList<>();
+            final List<String> values = new ArrayList<>();
+            for (Element property : element.elements()) {
+                if (isCamundaElement(property, "property")) {
+                    names.add(property.attribute("name"));
+                    values.add(property.attribute("value"));
+                }
+            }
+            builder.addPropertyGroup(names, values);
+            return;
+        }
+
+        for (Element child : element.elements()) {
+            addElementPropertyGroups(child, builder);
+        }
+    }
+
+    private static boolean isCamundaElement(final Element element, final String localName) {
+        final String tagName = element.getTagName();
+        return CAMUNDA_NAMESPACE.equals(element.getUri())
+                && (localName.equals(tagName) || tagName.endsWith(":" + localName));
+    }
+
+    private static Map<String, List<String>> immutableCopy(final Map<String, List<String>> map) {
+        final Map<String, List<String>> copy = new LinkedHashMap<>();
+        map.forEach((key, values) -> copy.put(key, Collections.unmodifiableList(values)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static final class Builder {
+        private final Set<String> publicStatuses = new LinkedHashSet<>();
+        private final Set<String> internalStatuses = new LinkedHashSet<>();
+        private final Map<String, List<String>> publicToInternalStatuses = new LinkedHashMap<>();
+        private final Map<String, List<String>> internalToPublicStatuses = new LinkedHashMap<>();
+
+        /**
+         * Indexes the properties of a single camunda:properties element. A public status maps to
+         * the first internal status declared alongside it.
+         */
+        private void addPropertyGroup(final List<String> names, final List<String> values) {
+            final int internalIndex = names.indexOf(StatusType.INTERNAL.propertyName);
+            for (int i = 0; i < names.size(); i++) {
+                final String name = names.get(i);
+                if (StatusType.INTERNAL.propertyName.equals(name)) {
+                    internalStatuses.add(values.get(i));
+                } else if (StatusType.PUBLIC.propertyName.equals(name)) {
+                    final String publicStatus = values.get(i);
+                    publicStatuses.add(publicStatus);
+                    if (internalIndex >= 0) {
+                        final String internalStatus = values.get(internalIndex);
+                        publicToInternalStatuses
+                                .computeIfAbsent(publicStatus, k -> new ArrayList<>())
+                                .add(internalStatus);
+                        internalToPublicStatuses
+                                .computeIfAbsent(internalStatus, k -> new ArrayList<>())
+                                .add(publicStatus);
+                    }
+                }
+            }
+        }
+
+        private WorkflowStatusIndex build() {
+            return new WorkflowStatusIndex(this);
+        }
+    }
+}
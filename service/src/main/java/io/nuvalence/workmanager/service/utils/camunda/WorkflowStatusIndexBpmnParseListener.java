@@ -0,0 +1,42 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import lombok.RequiredArgsConstructor;
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+
+import java.util.List;
+
+/**
+ * BpmnParseListener that indexes the workflow statuses of every process definition as it is
+ * deployed (or loaded into the deployment cache of this node).
+ */
+@RequiredArgsConstructor
+public class WorkflowStatusIndexBpmnParseListener extends AbstractBpmnParseListener
+        implements BpmnParseListener {
+    private final WorkflowStatusIndexCache cache;
+
+    @Override
+    public void parseRootElement(
+            Element rootElement, List<ProcessDefinitionEntity> processDefinitions) {
+        final WorkflowStatusIndex index = WorkflowStatusIndex.fromElement(rootElement);
+
+        // IDs of new process definitions are only assigned once parsing is complete
+        final CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            processDefinitions.forEach(definition -> cache.put(definition.getId(), index));
+            return;
+        }
+        commandContext
+                .getTransactionContext()
+                .addTransactionListener(
+                        TransactionState.COMMITTED,
+                        context ->
+                                processDefinitions.forEach(
+                                        definition -> cache.put(definition.getId(), index)));
+    }
+}
@@ -0,0 +1,57 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Cache to store the status index of each deployed process definition. Process definition IDs are
+ * immutable (every redeployment yields a new ID), so entries never need to be invalidated.
+ */
+@Component
+@Slf4j
+public class WorkflowStatusIndexCache {
+    private final Cache<String, WorkflowStatusIndex> cache =
+            CacheBuilder.newBuilder().maximumSize(1000).build();
+
+    /**
+     * Get the status index for the process definition, loading (and caching) it if absent.
+     *
+     * @param processDefinitionId ID of process definition
+     * @param loader fallback used to build the index on a cache miss; empty results are not cached
+     * @return status index
+     */
+    public WorkflowStatusIndex getByProcessDefinitionId(
+            String processDefinitionId, Supplier<Optional<WorkflowStatusIndex>> loader) {
+        if (processDefinitionId == null) {
+            return loader.get().orElse(WorkflowStatusIndex.EMPTY);
+        }
+
+        final WorkflowStatusIndex cached = cache.getIfPresent(processDefinitionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        log.debug(
+                "Loading workflow status index for process definition ID: {}", processDefinitionId);
+        final Optional<WorkflowStatusIndex> loaded = loader.get();
+        loaded.ifPresent(index -> cache.put(processDefinitionId, index));
+        return loaded.orElse(WorkflowStatusIndex.EMPTY);
+    }
+
+    /**
+     * Stores the status index of a freshly deployed process definition.
+     *
+     * @param processDefinitionId ID of process definition
+     * @param index status index
+     */
+    public void put(String processDefinitionId, WorkflowStatusIndex index) {
+        if (processDefinitionId != null) {
+            cache.put(processDefinitionId, index);
+        }
+    }
+}
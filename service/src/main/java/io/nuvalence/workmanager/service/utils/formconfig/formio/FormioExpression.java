@@ -0,0 +1,557 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.NonNull;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled form of the JavaScript expressions used by form configurations to hide or require
+ * components, e.g. {@code !model.isMailingAddressNeeded} or
+ * {@code model.employmentStatus == 'employed' && model.employer?.name}.
+ *
+ * <p>Supports the subset of JavaScript that these expressions use: property access on
+ * {@code model} (with optional chaining, bracket notation and {@code length}), string, number,
+ * boolean, {@code null} and {@code undefined} literals, the {@code !} and unary {@code -}
+ * operators, loose and strict (in)equality, relational comparisons, {@code &&}, {@code ||} and
+ * parentheses. Operators follow JavaScript semantics. Anything else is rejected when the
+ * expression is compiled.
+ *
+ * <p>A property that is absent from the data evaluates to {@code undefined}, which is kept distinct
+ * from a property explicitly set to {@code null}: e.g. {@code model.missing < 5} is false while
+ * {@code model.nothing < 5} is true, and {@code model.nothing === undefined} is false.
+ *
+ * <p>Compiled expressions are immutable and thread-safe, and are cached by source so that every
+ * expression is only parsed once.
+ */
+public final class FormioExpression {
+    private static final String MODEL = "model";
+
+    // JavaScript StringNumericLiteral, without the Infinity and non-decimal forms handled apart
+    private static final Pattern DECIMAL_LITERAL =
+            Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+    private static final Pattern NON_DECIMAL_LITERAL =
+            Pattern.compile("0([xX][0-9a-fA-F]+|[oO][0-7]+|[bB][01]+)");
+
+    /**
+     * JavaScript {@code undefined}, the value of properties absent from the data. Java
+     * {@code null} stands for JavaScript {@code null}.
+     */
+    private static final Object UNDEFINED =
+            new Object() {
+                @Override
+                public String toString() {
+                    return "undefined";
+                }
+            };
+
+    private static final LoadingCache<String, FormioExpression> CACHE =
+            CacheBuilder.newBuilder()
+                    .maximumSize(2000)
+                    .build(
+                            new CacheLoader<>() {
+                                @Override
+                                public @NonNull FormioExpression load(@NonNull String source)
+                                        throws FormioExpressionException {
+                                    return new FormioExpression(source, new Parser(source).parse());
+                                }
+                            });
+
+    private final String source;
+    private final Node root;
+
+    private FormioExpression(final String source, final Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * Returns the compiled form of an expression, compiling it on first use.
+     *
+     * @param source expression source
+     * @return compiled expression
+     * @throws FormioExpressionException if the expression is not part of the supported subset
+     */
+    public static FormioExpression compile(final String source) throws FormioExpressionException {
+        try {
+            return CACHE.get(source);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof FormioExpressionException cause) {
+                throw cause;
+            }
+            throw new FormioExpressionException("Unable to compile expression: " + source, e);
+        }
+    }
+
+    /**
+     * Evaluates the expression against the form data.
+     *
+     * @param model form data, bound to {@code model}
+     * @return true if the expression result is truthy
+     * @throws FormioExpressionException if the expression cannot be evaluated against the data,
+     *     e.g. when reading a property of a missing object without optional chaining
+     */
+    public boolean test(final Map<String, Object> model) throws FormioExpressionException {
+        return isTruthy(root.evaluate(model));
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * Node of the compiled expression tree.
+     */
+    @FunctionalInterface
+    private interface Node {
+        Object evaluate(Map<String, Object> model) throws FormioExpressionException;
+    }
+
+    /**
+     * Recursive descent parser producing the expression tree.
+     */
+    private static final class Parser {
+        private final String source;
+        private int position;
+
+        private Parser(final String source) {
+            this.source = source;
+        }
+
+        private Node parse() throws FormioExpressionException {
+            final Node node = parseOr();
+            skipWhitespace();
+            if (position < source.length()) {
+                throw error("Unexpected input");
+            }
+            return node;
+        }
+
+        private Node parseOr() throws FormioExpressionException {
+            Node node = parseAnd();
+            while (consume("||")) {
+                final Node left = node;
+                final Node right = parseAnd();
+                node =
+                        model -> {
+                            final Object value = left.evaluate(model);
+                            return isTruthy(value) ? value : right.evaluate(model);
+                        };
+            }
+            return node;
+        }
+
+        private Node parseAnd() throws FormioExpressionException {
+            Node node = parseEquality();
+            while (consume("&&")) {
+                final Node left = node;
+                final Node right = parseEquality();
+                node =
+                        model -> {
+                            final Object value = left.evaluate(model);
+                            return isTruthy(value) ? right.evaluate(model) : value;
+                        };
+            }
+            return node;
+        }
+
+        private Node parseEquality() throws FormioExpressionException {
+            Node node = parseRelational();
+            while (true) {
+                final Node left = node;
+                if (consume("===")) {
+                    final Node right = parseRelational();
+                    node = model -> strictEquals(left.evaluate(model), right.evaluate(model));
+                } else if (consume("!==")) {
+                    final Node right = parseRelational();
+                    node = model -> !strictEquals(left.evaluate(model), right.evaluate(model));
+                } else if (consume("==")) {
+                    final Node right = parseRelational();
+                    node = model -> looseEquals(left.evaluate(model), right.evaluate(model));
+                } else if (consume("!=")) {
+                    final Node right = parseRelational();
+                    node = model -> !looseEquals(left.evaluate(model), right.evaluate(model));
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseRelational() throws FormioExpressionException {
+            Node node = parseUnary();
+            while (true) {
+                final Node left = node;
+                if (consume("<=")) {
+                    final Node right = parseUnary();
+                    node = model -> compare(left.evaluate(model), right.evaluate(model), "<=");
+                } else if (consume(">=")) {
+                    final Node right = parseUnary();
+                    node = model -> compare(left.evaluate(model), right.evaluate(model), ">=");
+                } else if (consume("<")) {
+                    final Node right = parseUnary();
+                    node = model -> compare(left.evaluate(model), right.evaluate(model), "<");
+                } else if (consume(">")) {
+                    final Node right = parseUnary();
+                    node = model -> compare(left.evaluate(model), right.evaluate(model), ">");
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseUnary() throws FormioExpressionException {
+            if (consume("!")) {
+                final Node operand = parseUnary();
+                return model -> !isTruthy(operand.evaluate(model));
+            }
+            if (consume("-")) {
+                final Node operand = parseUnary();
+                return model -> -toNumber(operand.evaluate(model));
+            }
+            return parsePrimary();
+        }
+
+        private Node parsePrimary() throws FormioExpressionException {
+            skipWhitespace();
+            if (position >= source.length()) {
+                throw error("Unexpected end of expression");
+            }
+
+            final char current = source.charAt(position);
+            if (consume("(")) {
+                final Node node = parseOr();
+                expect(")");
+                return node;
+            }
+            if (current == '\'' || current == '"') {
+                final String value = parseString();
+                return model -> value;
+            }
+            if (Character.isDigit(current) || current == '.') {
+                final Double value = parseNumber();
+                return model -> value;
+            }
+            if (Character.isJavaIdentifierStart(current)) {
+                return parseIdentifier();
+            }
+            throw error("Unexpected character '" + current + "'");
+        }
+
+        private Node parseIdentifier() throws FormioExpressionException {
+            final String identifier = parseName();
+            switch (identifier) {
+                case "true":
+                    return model -> Boolean.TRUE;
+                case "false":
+                    return model -> Boolean.FALSE;
+                case "null":
+                    return model -> null;
+                case "undefined":
+                    return model -> UNDEFINED;
+                case MODEL:
+                    return parseMemberAccess(model -> model);
+                default:
+                    throw error("Unknown identifier '" + identifier + "'");
+            }
+        }
+
+        private Node parseMemberAccess(final Node target) throws FormioExpressionException {
+            Node node = target;
+            while (true) {
+                final Node object = node;
+                if (consume("?.")) {
+                    final String name = parseName();
+                    node = model -> readMember(object.evaluate(model), name, true);
+                } else if (consume("[")) {
+                    final Node key = parseOr();
+                    expect("]");
+                    node =
+                            model ->
+                                    readMember(
+                                            object.evaluate(model),
+                                            toPropertyKey(key.evaluate(model)),
+                                            false);
+                } else if (peekMemberDot()) {
+                    position++;
+                    final String name = parseName();
+                    node = model -> readMember(object.evaluate(model), name, false);
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private boolean peekMemberDot() {
+            skipWhitespace();
+            return position < source.length()
+                    && source.charAt(position) == '.'
+                    && (position + 1 >= source.length()
+                            || !Character.isDigit(source.charAt(position + 1)));
+        }
+
+        private String parseName() throws FormioExpressionException {
+            skipWhitespace();
+            final int start = position;
+            if (position < source.length()
+                    && Character.isJavaIdentifierStart(source.charAt(position))) {
+                position++;
+                while (position < source.length()
+                        && Character.isJavaIdentifierPart(source.charAt(position))) {
+                    position++;
+                }
+            }
+            if (start == position) {
+                throw error("Expected a property name");
+            }
+            return source.substring(start, position);
+        }
+
+        private String parseString() throws FormioExpressionException {
+            final char quote = source.charAt(position++);
+            final StringBuilder value = new StringBuilder();
+            while (position < source.length()) {
+                final char current = source.charAt(position++);
+                if (current == quote) {
+                    return value.toString();
+                }
+                if (current == '\\' && position < source.length()) {
+                    value.append(source.charAt(position++));
+                } else {
+                    value.append(current);
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private Double parseNumber() throws FormioExpressionException {
+            final int start = position;
+            while (position < source.length()
+                    && (Character.isDigit(source.charAt(position))
+                            || source.charAt(position) == '.')) {
+                position++;
+            }
+            try {
+                return Double.valueOf(source.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number");
+            }
+        }
+
+        private boolean consume(final String token) {
+            skipWhitespace();
+            if (source.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final String token) throws FormioExpressionException {
+            if (!consume(token)) {
+                throw error("Expected '" + token + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private FormioExpressionException error(final String message) {
+            return new FormioExpressionException(
+                    String.format(
+                            "%s at position %d of expression: %s", message, position, source));
+        }
+    }
+
+    private static Object readMember(final Object target, final String name, final boolean optional)
+            throws FormioExpressionException {
+        if (target == null || target == UNDEFINED) {
+            if (optional) {
+                return UNDEFINED;
+            }
+            throw new FormioExpressionException(
+                    "Cannot read property '" + name + "' of a missing value");
+        }
+
+        if (target instanceof Map<?, ?> map) {
+            return map.containsKey(name) ? map.get(name) : UNDEFINED;
+        }
+        if ("length".equals(name)) {
+            if (target instanceof CharSequence string) {
+                return (double) string.length();
+            }
+            if (target instanceof Collection<?> collection) {
+                return (double) collection.size();
+            }
+        }
+        if (target instanceof List<?> list) {
+            try {
+                final int index = Integer.parseInt(name);
+                return index >= 0 && index < list.size() ? list.get(index) : UNDEFINED;
+            } catch (NumberFormatException e) {
+                return UNDEFINED;
+            }
+        }
+        return UNDEFINED;
+    }
+
+    private static String toPropertyKey(final Object key) {
+        if (key instanceof Double number && number == Math.rint(number)) {
+            return String.valueOf(number.longValue());
+        }
+        return String.valueOf(key);
+    }
+
+    private static boolean isTruthy(final Object value) {
+        if (value == null || value == UNDEFINED) {
+            return false;
+        }
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        if (value instanceof Number number) {
+            final double doubleValue = number.doubleValue();
+            return doubleValue != 0 && !Double.isNaN(doubleValue);
+        }
+        if (value instanceof CharSequence string) {
+            return string.length() > 0;
+        }
+        return true;
+    }
+
+    private static boolean isPrimitive(final Object value) {
+        return value instanceof Number || value instanceof CharSequence || value instanceof Boolean;
+    }
+
+    private static boolean isNullish(final Object value) {
+        return value == null || value == UNDEFINED;
+    }
+
+    private static boolean strictEquals(final Object left, final Object right) {
+        if (isNullish(left) || isNullish(right)) {
+            return left == right;
+        }
+        if (left instanceof Number && right instanceof Number) {
+            return toNumber(left) == toNumber(right);
+        }
+        if (left instanceof CharSequence && right instanceof CharSequence) {
+            return left.toString().equals(right.toString());
+        }
+        if (left instanceof Boolean && right instanceof Boolean) {
+            return left.equals(right);
+        }
+        return left == right;
+    }
+
+    private static boolean looseEquals(final Object left, final Object right) {
+        if (isNullish(left) || isNullish(right)) {
+            return isNullish(left) && isNullish(right);
+        }
+        if (isPrimitive(left) && isPrimitive(right)) {
+            if (left instanceof CharSequence && right instanceof CharSequence) {
+                return left.toString().equals(right.toString());
+            }
+            return toNumber(left) == toNumber(right);
+        }
+        if (isPrimitive(left) || isPrimitive(right)) {
+            final Object primitive = isPrimitive(left) ? left : right;
+            final Object object = isPrimitive(left) ? right : left;
+            return looseEquals(primitive, toPrimitive(object));
+        }
+        return left == right;
+    }
+
+    private static boolean compare(final Object left, final Object right, final String operator) {
+        final int comparison;
+        if (left instanceof CharSequence && right instanceof CharSequence) {
+            comparison = left.toString().compareTo(right.toString());
+        } else {
+            final double leftNumber = toNumber(left);
+            final double rightNumber = toNumber(right);
+            if (Double.isNaN(leftNumber) || Double.isNaN(rightNumber)) {
+                return false;
+            }
+            comparison = Double.compare(leftNumber, rightNumber);
+        }
+
+        return switch (operator) {
+            case "<" -> comparison < 0;
+            case "<=" -> comparison <= 0;
+            case ">" -> comparison > 0;
+            default -> comparison >= 0;
+        };
+    }
+
+    private static Object toPrimitive(final Object value) {
+        if (value instanceof Collection<?> collection) {
+            final List<String> elements = new ArrayList<>();
+            for (Object element : collection) {
+                elements.add(isNullish(element) ? "" : String.valueOf(toPrimitive(element)));
+            }
+            return String.join(",", elements);
+        }
+        return isPrimitive(value) ? value : String.valueOf(value);
+    }
+
+    private static double toNumber(final Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value == UNDEFINED) {
+            return Double.NaN;
+        }
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? 1 : 0;
+        }
+        return parseNumericString(Objects.toString(toPrimitive(value)).strip());
+    }
+
+    /**
+     * Converts a string to a number the way JavaScript does, which is stricter than
+     * {@link Double#parseDouble(String)}: e.g. {@code "1d"}, {@code "1f"} or {@code "NaN"} are
+     * not numbers.
+     */
+    private static double parseNumericString(final String string) {
+        if (string.isEmpty()) {
+            return 0;
+        }
+        if (DECIMAL_LITERAL.matcher(string).matches()) {
+            return Double.parseDouble(string);
+        }
+        switch (string) {
+            case "Infinity":
+            case "+Infinity":
+                return Double.POSITIVE_INFINITY;
+            case "-Infinity":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                break;
+        }
+        if (NON_DECIMAL_LITERAL.matcher(string).matches()) {
+            final int radix =
+                    switch (Character.toLowerCase(string.charAt(1))) {
+                        case 'x' -> 16;
+                        case 'o' -> 8;
+                        default -> 2;
+                    };
+            return new BigInteger(string.substring(2), radix).doubleValue();
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,16 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+/**
+ * Failure to compile or evaluate a form configuration expression.
+ */
+public class FormioExpressionException extends Exception {
+    private static final long serialVersionUID = -3127712893425367150L;
+
+    public FormioExpressionException(final String message) {
+        super(message);
+    }
+
+    public FormioExpressionException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,518 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import com.google.common.base.Suppliers;
+import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExItem;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponentOption;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponentProperties;
+import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.DynaProperty;
+import org.apache.commons.validator.GenericValidator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable, precompiled validation rules for a Form.io component tree.
+ *
+ * <p>The tree is flattened into a list of rules, one per keyed component in depth-first order,
+ * with field paths split, patterns compiled, select options collected into sets, relative dates
+ * parsed and expressions compiled up front. Validating data is then a single loop over the rules.
+ * Expressions that hide or require components are recorded in a per-validation overlay rather than
+ * written back to the plan or to the source components, so a plan can be cached and shared between
+ * requests and threads.
+ *
+ * <p>A malformed rule (pattern, relative date or expression) does not prevent the rest of the form
+ * from compiling: it is reported as a validation error of its own component whenever that rule
+ * applies.
+ */
+@Slf4j
+public final class FormioValidationPlan {
+    private final List<ComponentRule> rules;
+
+    private FormioValidationPlan(final List<ComponentRule> rules) {
+        this.rules = Collections.unmodifiableList(rules);
+    }
+
+    /**
+     * Compiles the validation plan of a component and its subcomponents.
+     *
+     * @param component Form configuration converted to the Nuvalence altered version of the Form.io specification
+     * @return validation plan
+     */
+    public static FormioValidationPlan compile(final NuvalenceFormioComponent component) {
+        final List<ComponentRule> rules = new ArrayList<>();
+        addRules(component, rules);
+        return new FormioValidationPlan(rules);
+    }
+
+    private static void addRules(
+            final NuvalenceFormioComponent component, final List<ComponentRule> rules) {
+        final int index = rules.size();
+        if (component.getKey() != null) {
+            rules.add(null);
+        }
+
+        if (component.getComponents() != null) {
+            for (NuvalenceFormioComponent subComponent : component.getComponents()) {
+                addRules(subComponent, rules);
+            }
+        }
+
+        if (component.getKey() != null) {
+            rules.set(index, new ComponentRule(component, rules.size() - index - 1));
+        }
+    }
+
+    /**
+     * Validates data against the plan.
+     *
+     * @param dynaEntity Data submitted when requesting a transaction update
+     * @param formioValidationErrors list to add the validation errors found to
+     */
+    public void validate(
+            final DynamicEntity dynaEntity,
+            final List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+        // expressions are evaluated against a generic map of the data, built at most once
+        final Supplier<Map<String, Object>> data =
+                Suppliers.memoize(
+                        () -> EntityMapper.getInstance().convertAttributesToGenericMap(dynaEntity));
+        final ValidationOverlay overlay = new ValidationOverlay(rules.size());
+
+        for (int i = 0; i < rules.size(); i++) {
+            final ComponentRule rule = rules.get(i);
+            final Field field = rule.resolveField(dynaEntity);
+
+            for (ExpressionRule expression : rule.expressions) {
+                if (!expression.test(data, rule, formioValidationErrors)) {
+                    continue;
+                }
+                if (expression.hide) {
+                    overlay.hide(i, rule.descendantCount);
+                } else {
+                    overlay.require(i);
+                }
+            }
+
+            if (rule.hasProps) {
+                rule.validateProps(
+                        field,
+                        overlay.isRequired(i, rule.required),
+                        overlay.isCleared(i),
+                        formioValidationErrors);
+            }
+
+            if (rule.email && field.isNotNull() && field.type.equals(String.class)) {
+                if (!GenericValidator.isEmail((String) field.value)) {
+                    rule.addValidationError("email", formioValidationErrors);
+                }
+            }
+        }
+    }
+
+    /**
+     * Overrides applied by hide and require expressions during a single validation, indexed like
+     * the plan's rules. The rules themselves are never modified, which is what allows a plan to be
+     * validated concurrently.
+     */
+    private static final class ValidationOverlay {
+        private final boolean[] cleared;
+        private final Boolean[] required;
+
+        private ValidationOverlay(final int size) {
+            this.cleared = new boolean[size];
+            this.required = new Boolean[size];
+        }
+
+        /**
+         * Hiding a component lifts the constraints of the component and of everything nested in it.
+         */
+        private void hide(final int index, final int descendantCount) {
+            for (int i = index; i <= index + descendantCount; i++) {
+                cleared[i] = true;
+                required[i] = Boolean.FALSE;
+            }
+        }
+
+        private void require(final int index) {
+            required[index] = Boolean.TRUE;
+        }
+
+        private boolean isRequired(final int index, final boolean defaultRequired) {
+            return required[index] != null ? required[index] : defaultRequired;
+        }
+
+        private boolean isCleared(final int index) {
+            return cleared[index];
+        }
+    }
+
+    /**
+     * Value and declared type of a field, or an absent field.
+     */
+    private static final class Field {
+        private static final Field ABSENT = new Field(null, null);
+
+        private final Object value;
+        private final Class<?> type;
+
+        private Field(final Object value, final Class<?> type) {
+            this.value = value;
+            this.type = type;
+        }
+
+        private boolean isNotNull() {
+            return value != null && type != null;
+        }
+
+        private boolean isPresent() {
+            if (!isNotNull()) {
+                return false;
+            }
+            return !type.equals(String.class) || !((String) value).isBlank();
+        }
+
+        private BigDecimal getNumericValue() {
+            if (type.equals(Integer.class)) {
+                return new BigDecimal((Integer) value);
+            } else if (type.equals(BigDecimal.class)) {
+                return (BigDecimal) value;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Hide or require expression of a component.
+     */
+    private static final class ExpressionRule {
+        private final boolean hide;
+        private final FormioExpression expression;
+        private final FormioExpressionException compileError;
+
+        private ExpressionRule(final boolean hide, final String source) {
+            this.hide = hide;
+            FormioExpression compiled = null;
+            FormioExpressionException error = null;
+            try {
+                compiled = FormioExpression.compile(source);
+            } catch (FormioExpressionException e) {
+                error = e;
+            }
+            this.expression = compiled;
+            this.compileError = error;
+        }
+
+        private boolean test(
+                final Supplier<Map<String, Object>> data,
+                final ComponentRule rule,
+                final List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+            try {
+                if (compileError != null) {
+                    throw compileError;
+                }
+                return expression.test(data.get());
+            } catch (FormioExpressionException e) {
+                log.debug("form expression error", e);
+                rule.addValidationError("expression", formioValidationErrors);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Relative date limit, e.g. {@code -2-week}.
+     */
+    private static final class RelativeDate {
+        private static final List<String> UNITS = List.of("day", "week", "month", "year");
+
+        private final int amount;
+        private final String unit;
+
+        private RelativeDate(final int amount, final String unit) {
+            this.amount = amount;
+            this.unit = unit;
+        }
+
+        /**
+         * Parses a relative date limit.
+         *
+         * @return the limit, or null if it is malformed
+         */
+        private static RelativeDate parse(final String componentKey, final String relativeDate) {
+            try {
+                final String[] parts = relativeDate.replaceFirst("^-", "").split("-");
+                final int amount =
+                        Integer.parseInt((relativeDate.startsWith("-") ? "-" : "") + parts[0]);
+                if (parts.length == 2 && UNITS.contains(parts[1])) {
+                    return new RelativeDate(amount, parts[1]);
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            log.warn("Invalid relative date {} in form component {}", relativeDate, componentKey);
+            return null;
+        }
+
+        private LocalDate fromToday() {
+            final LocalDate today = LocalDate.now();
+            return switch (unit) {
+                case "day" -> today.plusDays(amount);
+                case "week" -> today.plusWeeks(amount);
+                case "month" -> today.plusMonths(amount);
+                default -> today.plusYears(amount);
+            };
+        }
+    }
+
+    /**
+     * Validation rules of a single keyed component.
+     */
+    private static final class ComponentRule {
+        private final String key;
+        private final String[] path;
+        private final int descendantCount;
+        private final List<ExpressionRule> expressions;
+        private final boolean hasProps;
+        private final boolean required;
+        private final BigDecimal max;
+        private final BigDecimal min;
+        private final Integer maxLength;
+        private final Integer minLength;
+        private final String pattern;
+        private final Pattern compiledPattern;
+        private final LocalDate maxDate;
+        private final String relativeMaxDateSource;
+        private final RelativeDate relativeMaxDate;
+        private final String relativeMinDateSource;
+        private final RelativeDate relativeMinDate;
+        private final Set<String> selectOptions;
+        private final String formErrorLabel;
+        private final boolean email;
+
+        private ComponentRule(final NuvalenceFormioComponent component, final int descendantCount) {
+            this.key = component.getKey();
+            this.path = key.split("\\.");
+            this.descendantCount = descendantCount;
+            this.expressions = compileExpressions(component.getExpressions());
+            this.email =
+                    component.getValidators() != null
+                            && component.getValidators().getValidation() != null
+                            && component.getValidators().getValidation().contains("email");
+
+            final NuvalenceFormioComponentProperties props = component.getProps();
+            this.hasProps = props != null;
+            this.required = hasProps && props.isRequired();
+            this.max = hasProps ? props.getMax() : null;
+            this.min = hasProps ? props.getMin() : null;
+            this.maxLength = hasProps ? props.getMaxLength() : null;
+            this.minLength = hasProps ? props.getMinLength() : null;
+            this.pattern = hasProps ? props.getPattern() : null;
+            this.compiledPattern = compilePattern(key, pattern);
+            this.maxDate = hasProps ? props.getMaxDate() : null;
+            this.relativeMaxDateSource = hasProps ? props.getRelativeMaxDate() : null;
+            this.relativeMaxDate =
+                    relativeMaxDateSource != null
+                            ? RelativeDate.parse(key, relativeMaxDateSource)
+                            : null;
+            this.relativeMinDateSource = hasProps ? props.getRelativeMinDate() : null;
+            this.relativeMinDate =
+                    relativeMinDateSource != null
+                            ? RelativeDate.parse(key, relativeMinDateSource)
+                            : null;
+            this.selectOptions = compileSelectOptions(hasProps ? props.getSelectOptions() : null);
+            this.formErrorLabel =
+                    hasProps
+                                    && props.getFormErrorLabel() != null
+                                    && !props.getFormErrorLabel().isBlank()
+                            ? props.getFormErrorLabel()
+                            : null;
+        }
+
+        private static List<ExpressionRule> compileExpressions(
+                final Map<String, String> expressions) {
+            if (expressions == null) {
+                return List.of();
+            }
+
+            final List<ExpressionRule> rules = new ArrayList<>();
+            for (Map.Entry<String, String> expression : expressions.entrySet()) {
+                final String expressionKey = expression.getKey();
+                if (expressionKey.equals("hide") || expressionKey.equals("props.hidden")) {
+                    rules.add(new ExpressionRule(true, expression.getValue()));
+                }
+                if (expressionKey.equals("require") || expressionKey.equals("props.required")) {
+                    rules.add(new ExpressionRule(false, expression.getValue()));
+                }
+            }
+            return Collections.unmodifiableList(rules);
+        }
+
+        /**
+         * Compiles the pattern of a component.
+         *
+         * @return the compiled pattern, or null if there is none or it is malformed, in which case
+         *     any value fails the pattern check
+         */
+        private static Pattern compilePattern(final String componentKey, final String pattern) {
+            if (pattern == null || pattern.isEmpty()) {
+                return null;
+            }
+
+            try {
+                return Pattern.compile(pattern);
+            } catch (PatternSyntaxException e) {
+                log.warn("Invalid pattern in form component {}: {}", componentKey, e.getMessage());
+                return null;
+            }
+        }
+
+        private static Set<String> compileSelectOptions(
+                final List<NuvalenceFormioComponentOption> options) {
+            if (options == null) {
+                return null;
+            }
+
+            final Set<String> keys = new HashSet<>();
+            for (NuvalenceFormioComponentOption option : options) {
+                keys.add(option.getKey());
+            }
+            return Collections.unmodifiableSet(keys);
+        }
+
+        private Field resolveField(final DynaBean dynaBean) {
+            DynaBean current = dynaBean;
+            try {
+                for (int i = 0; i < path.length - 1; i++) {
+                    final DynaProperty property = current.getDynaClass().getDynaProperty(path[i]);
+                    final Object value = current.get(property.getName());
+                    if (!(value instanceof DynaBean)) {
+                        return Field.ABSENT;
+                    }
+                    current = (DynaBean) value;
+                }
+
+                final String name = path[path.length - 1];
+                final DynaProperty property = current.getDynaClass().getDynaProperty(name);
+                return new Field(current.get(name), property.getType());
+            } catch (IllegalArgumentException e) {
+                log.warn("Field {} not property in the schema", key);
+                return Field.ABSENT;
+            }
+        }
+
+        private void validateProps(
+                final Field field,
+                final boolean isRequired,
+                final boolean isCleared,
+                final List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+            if (isRequired && !field.isPresent()) {
+                addValidationError("required", formioValidationErrors);
+            }
+
+            if (!field.isNotNull()) {
+                return;
+            }
+
+            if (!isCleared) {
+                validateNumericRange(field, formioValidationErrors);
+            }
+            validateDates(field, formioValidationErrors);
+            if (!isCleared && field.type.equals(String.class)) {
+                validateString((String) field.value, formioValidationErrors);
+            }
+            if (selectOptions != null
+                    && field.type.equals(String.class)
+                    && !selectOptions.contains(field.value)) {
+                addValidationError("selectOptions", formioValidationErrors);
+            }
+        }
+
+        private void validateNumericRange(
+                final Field field,
+                final List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+            if (max == null && min == null) {
+                return;
+            }
+
+            final BigDecimal value = field.getNumericValue();
+            if (value == null) {
+                return;
+            }
+            if (max != null && value.compareTo(max) > 0) {
+                addValidationError("max", formioValidationErrors);
+            }
+            if (min != null && value.compareTo(min) < 0) {
+                addValidationError("min", formioValidationErrors);
+            }
+        }
+
+        private void validateDates(
+                final Field field,
+                final List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+            // a malformed relative date fails its own check rather than the whole form
+            if (relativeMaxDateSource != null
+                    && (relativeMaxDate == null
+                            || ((LocalDate) field.value).isAfter(relativeMaxDate.fromToday()))) {
+                addValidationError("relativeMaxDate", formioValidationErrors);
+            }
+            if (relativeMinDateSource != null
+                    && (relativeMinDate == null
+                            || ((LocalDate) field.value).isBefore(relativeMinDate.fromToday()))) {
+                addValidationError("relativeMinDate", formioValidationErrors);
+            }
+            if (maxDate != null) {
+                final LocalDate value = (LocalDate) field.value;
+                if (value.isAfter(maxDate)) {
+                    addValidationError("maxDate", formioValidationErrors);
+                }
+                // minDate has always been checked against props.maxDate
+                if (value.isBefore(maxDate)) {
+                    addValidationError("minDate", formioValidationErrors);
+                }
+            }
+        }
+
+        private void validateString(
+                final String value,
+                final List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+            if (maxLength != null && value.length() > maxLength) {
+                addValidationError("maxLength", formioValidationErrors);
+            }
+            if (minLength != null && value.length() < minLength) {
+                addValidationError("minLength", formioValidationErrors);
+            }
+            if (pattern != null
+                    && (compiledPattern == null || !compiledPattern.matcher(value).matches())) {
+                addValidationError("pattern", formioValidationErrors);
+            }
+        }
+
+        private void addValidationError(
+                final String errorName,
+                final List<NuvalenceFormioValidationExItem> formioValidationErrors) {
+            final NuvalenceFormioValidationExItem errorItem =
+                    NuvalenceFormioValidationExItem.builder()
+                            .controlName(key)
+                            .errorName(errorName)
+                            .build();
+            if (formErrorLabel != null) {
+                errorItem.setErrorMessage(formErrorLabel);
+            }
+
+            formioValidationErrors.add(errorItem);
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package io.nuvalence.workmanager.service.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nuvalence.logging.util.CorrelationIdContext;
+import io.nuvalence.workmanager.service.domain.AuditEventOutboxEntry;
+import io.nuvalence.workmanager.service.repository.AuditEventOutboxRepository;
+import io.nuvalence.workmanager.service.utils.api.ApiClientCommonInterceptorProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+class AuditEventOutboxDispatcherTest {
+    private static final String TRANSACTION = "transaction";
+    private static final UUID FIRST_ID = UUID.randomUUID();
+    private static final UUID SECOND_ID = UUID.randomUUID();
+
+    // local stand-in for the audit service, answering with the status codes queued for an event
+    // (201 once none are left)
+    private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, Queue<Integer>> responseCodes = new ConcurrentHashMap<>();
+    private HttpServer auditService;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private long responseDelayMillis;
+
+    // tracks whether the dispatcher is inside a database transaction, and whether any request
+    // reached the audit service while it was
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+    private final AtomicBoolean requestedInTransaction = new AtomicBoolean();
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final TransactionOperations transactionOperations =
+            new TransactionOperations() {
+                @Override
+                public <T> T execute(final TransactionCallback<T> action) {
+                    transactions.incrementAndGet();
+                    inTransaction.set(true);
+                    try {
+                        return action.doInTransaction(new SimpleTransactionStatus());
+                    } finally {
+                        inTransaction.set(false);
+                    }
+                }
+            };
+
+    // lease observed by the audit service stub on the head entry being delivered
+    private final List<Boolean> headLeasedDuringDelivery =
+            Collections.synchronizedList(new ArrayList<>());
+
+    // in-memory stand-in for the audit_event_outbox table
+    private final Map<Long, AuditEventOutboxEntry> outbox = new TreeMap<>();
+    private long nextId = 1;
+
+    private AuditServiceApiClient apiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        auditService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        auditService.createContext(
+                "/as/api/v1/audit-events/",
+                exchange -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    if (inTransaction.get()) {
+                        requestedInTransaction.set(true);
+                    }
+                    recordHeadLease();
+                    final String trace = exchange.getRequestHeaders().getFirst("X-Trace");
+                    try (InputStream body = exchange.getRequestBody()) {
+                        received.add(
+                                exchange.getRequestURI().getPath().replace("/as", "")
+                                        + " "
+                                        + trace
+                                        + " "
+                                        + new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                    }
+                    sleep(responseDelayMillis);
+                    inFlight.decrementAndGet();
+                    final Integer code =
+                            responseCodes.getOrDefault(trace, new ConcurrentLinkedQueue<>()).poll();
+                    final byte[] response =
+                            ("{\"eventId\":\"" + UUID.randomUUID() + "\"}")
+                                    .getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(code == null ? 201 : code, response.length);
+                    exchange.getResponseBody().write(response);
+                    exchange.close();
+                });
+        auditService.setExecutor(Executors.newCachedThreadPool());
+        auditService.start();
+
+        final ApiClientCommonInterceptorProvider interceptorProvider =
+                mock(ApiClientCommonInterceptorProvider.class);
+        final Consumer<HttpRequest.Builder> interceptor =
+                builder -> builder.header("X-Trace", CorrelationIdContext.getCorrelationId());
+        when(interceptorProvider.getRequestInterceptor(any())).thenReturn(interceptor);
+        apiClient = new AuditServiceApiClient(interceptorProvider);
+        apiClient.updateBaseUri("http://localhost:" + auditService.getAddress().getPort() + "/as");
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditService.stop(0);
+        ((ExecutorService) auditService.getExecutor()).shutdownNow();
+    }
+
+    @Test
+    void deliversQueuedEventsInOrderAndRemovesThem() {
+        enqueue(FIRST_ID, "a1");
+        enqueue(SECOND_ID, "b1");
+        enqueue(FIRST_ID, "a2");
+        enqueue(FIRST_ID, "a3");
+
+        dispatcher(0).dispatch();
+
+        assertEquals(
+                List.of(
+                        path(FIRST_ID) + " trace-a1 {\"event\":\"a1\"}",
+                        path(FIRST_ID) + " trace-a2 {\"event\":\"a2\"}",
+                        path(FIRST_ID) + " trace-a3 {\"event\":\"a3\"}"),
+                receivedFor(FIRST_ID));
+        assertEquals(
+                List.of(path(SECOND_ID) + " trace-b1 {\"event\":\"b1\"}"), receivedFor(SECOND_ID));
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void sendsEventsOfDifferentObjectsConcurrentlyAndOfOneObjectInOrder() {
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        for (int event = 0; event < 3; event++) {
+            for (UUID id : ids) {
+                enqueue(id, "e" + event);
+            }
+        }
+        responseDelayMillis = 50;
+
+        dispatcher(0).dispatch();
+
+        for (UUID id : ids) {
+            assertEquals(List.of("e0", "e1", "e2"), events(receivedFor(id)));
+        }
+        assertTrue(outbox.isEmpty());
+        assertTrue(maxInFlight.get() > 1);
+        assertTrue(maxInFlight.get() <= 4);
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithBackoffAndHoldsBackLaterEventsOfTheSameObject() {
+        enqueue(FIRST_ID, "a1");
+        enqueue(FIRST_ID, "a2");
+        enqueue(SECOND_ID, "b1");
+        respondTo("a1", 503);
+
+        final AuditEventOutboxDispatcher dispatcher = dispatcher(60_000);
+        final OffsetDateTime before = OffsetDateTime.now();
+        dispatcher.dispatch();
+
+        assertEquals(List.of("a1"), events(receivedFor(FIRST_ID)));
+        assertEquals(List.of("b1"), events(receivedFor(SECOND_ID)));
+        assertEquals(List.of("a1", "a2"), queuedEvents());
+        final AuditEventOutboxEntry failed = outbox.values().iterator().next();
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getLastError().contains("503"));
+        assertTrue(failed.getNextAttemptTimestamp().isAfter(before.plusSeconds(59)));
+
+        // still backing off
+        dispatcher.dispatch();
+        assertEquals(List.of("a1"), events(receivedFor(FIRST_ID)));
+
+        failed.setNextAttemptTimestamp(OffsetDateTime.now());
+        dispatcher.dispatch();
+        assertEquals(List.of("a1", "a1", "a2"), events(receivedFor(FIRST_ID)));
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToTheMaximum() {
+        enqueue(FIRST_ID, "a1");
+        final AuditEventOutboxEntry entry = outbox.values().iterator().next();
+        final AuditEventOutboxDispatcher dispatcher =
+                new AuditEventOutboxDispatcher(
+                        repository(),
+                        apiClient,
+                        transactionOperations,
+                        10,
+                        4,
+                        1_000,
+                        5_000,
+                        10_000,
+                        30_000);
+
+        final List<Long> delays = new ArrayList<>();
+        for (int attempt = 0; attempt < 5; attempt++) {
+            respondTo("a1", 500);
+            entry.setNextAttemptTimestamp(OffsetDateTime.now());
+            final OffsetDateTime before = OffsetDateTime.now();
+            dispatcher.dispatch();
+            delays.add(
+                    (entry.getNextAttemptTimestamp().toInstant().toEpochMilli()
+                                    - before.toInstant().toEpochMilli()
+                                    + 500)
+                            / 1_000);
+        }
+
+        assertEquals(List.of(1L, 2L, 4L, 5L, 5L), delays);
+    }
+
+    @Test
+    void publishesOutboxMetrics() {
+        enqueue(FIRST_ID, "a1");
+        enqueue(SECOND_ID, "b1");
+        outbox.values().forEach(e -> e.setCreatedTimestamp(OffsetDateTime.now().minusMinutes(1)));
+        respondTo("a1", 500);
+
+        final AuditEventOutboxDispatcher dispatcher = dispatcher(60_000);
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher.bindTo(registry);
+        dispatcher.dispatch();
+
+        assertEquals(1.0, registry.get("audit.outbox.pending").gauge().value());
+        assertTrue(registry.get("audit.outbox.lag").gauge().value() >= 60.0);
+        assertEquals(1.0, registry.get("audit.outbox.delivered").functionCounter().count());
+        assertEquals(1.0, registry.get("audit.outbox.failures").functionCounter().count());
+    }
+
+    @Test
+    void sendsEventsOutsideOfTheClaimAndRecordTransactions() {
+        enqueue(FIRST_ID, "a1");
+        enqueue(SECOND_ID, "b1");
+        responseDelayMillis = 50;
+
+        dispatcher(0).dispatch();
+
+        assertEquals(2, received.size());
+        assertFalse(requestedInTransaction.get());
+        assertEquals(2, transactions.get());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void claimedEntriesAreLeasedWhileTheirEventsAreSent() {
+        enqueue(FIRST_ID, "a1");
+        enqueue(FIRST_ID, "a2");
+
+        dispatcher(0).dispatch();
+
+        assertEquals(List.of(true, true), headLeasedDuringDelivery);
+    }
+
+    @Test
+    void requestsAreBoundedByTheRequestTimeoutWhenTheClientHasNone() {
+        enqueue(FIRST_ID, "a1");
+        enqueue(FIRST_ID, "a2");
+        responseDelayMillis = 2_000;
+
+        final long start = System.nanoTime();
+        dispatcher(60_000, 200, 30_000).dispatch();
+
+        assertTrue(System.nanoTime() - start < 1_500_000_000L);
+        assertEquals(List.of("a1"), events(receivedFor(FIRST_ID)));
+        final AuditEventOutboxEntry failed = outbox.values().iterator().next();
+        assertEquals(List.of("a1", "a2"), queuedEvents());
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getNextAttemptTimestamp().isAfter(OffsetDateTime.now().plusSeconds(50)));
+    }
+
+    @Test
+    void dispatchGivesUpOnRequestsStillInFlightAfterTheDispatchTimeout() {
+        enqueue(FIRST_ID, "a1");
+        enqueue(SECOND_ID, "b1");
+        responseDelayMillis = 2_000;
+
+        final long start = System.nanoTime();
+        // one lane, so b1 is never sent
+        new AuditEventOutboxDispatcher(
+                        repository(),
+                        apiClient,
+                        transactionOperations,
+                        10,
+                        1,
+                        60_000,
+                        300_000,
+                        30_000,
+                        200)
+                .dispatch();
+
+        assertTrue(System.nanoTime() - start < 1_500_000_000L);
+        assertEquals(List.of("a1", "b1"), queuedEvents());
+        final List<AuditEventOutboxEntry> entries = new ArrayList<>(outbox.values());
+        assertEquals(1, entries.get(0).getAttempts());
+        assertTrue(entries.get(0).getLastError().contains("200 ms"));
+        assertTrue(
+                entries.get(0)
+                        .getNextAttemptTimestamp()
+                        .isAfter(OffsetDateTime.now().plusSeconds(50)));
+        // the unsent entry is released without counting as an attempt
+        assertEquals(0, entries.get(1).getAttempts());
+        assertFalse(entries.get(1).getNextAttemptTimestamp().isAfter(OffsetDateTime.now()));
+    }
+
+    private void recordHeadLease() {
+        synchronized (outbox) {
+            if (!outbox.isEmpty()) {
+                headLeasedDuringDelivery.add(
+                        outbox.values()
+                                .iterator()
+                                .next()
+                                .getNextAttemptTimestamp()
+                                .isAfter(OffsetDateTime.now()));
+            }
+        }
+    }
+
+    private void respondTo(final String event, final int statusCode) {
+        responseCodes
+                .computeIfAbsent("trace-" + event, trace -> new ConcurrentLinkedQueue<>())
+                .add(statusCode);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AuditEventOutboxDispatcher dispatcher(final long initialBackoffMillis) {
+        return dispatcher(initialBackoffMillis, 10_000, 30_000);
+    }
+
+    private AuditEventOutboxDispatcher dispatcher(
+            final long initialBackoffMillis,
+            final long requestTimeoutMillis,
+            final long dispatchTimeoutMillis) {
+        return new AuditEventOutboxDispatcher(
+                repository(),
+                apiClient,
+                transactionOperations,
+                10,
+                4,
+                initialBackoffMillis,
+                300_000,
+                requestTimeoutMillis,
+                dispatchTimeoutMillis);
+    }
+
+    private void enqueue(final UUID businessObjectId, final String event) {
+        final OffsetDateTime now = OffsetDateTime.now();
+        final AuditEventOutboxEntry entry =
+                AuditEventOutboxEntry.builder()
+                        .id(nextId++)
+                        .businessObjectType(TRANSACTION)
+                        .businessObjectId(businessObjectId)
+                        .payload("{\"event\":\"" + event + "\"}")
+                        .correlationId("trace-" + event)
+                        .createdTimestamp(now)
+                        .nextAttemptTimestamp(now)
+                        .build();
+        outbox.put(entry.getId(), entry);
+    }
+
+    private List<String> receivedFor(final UUID businessObjectId) {
+        return received.stream()
+                .filter(request -> request.startsWith(path(businessObjectId)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> events(final List<String> requests) {
+        return requests.stream()
+                .map(request -> request.replaceAll(".*\"event\":\"(\\w+)\".*", "$1"))
+                .collect(Collectors.toList());
+    }
+
+    private List<String> queuedEvents() {
+        return events(
+                outbox.values().stream()
+                        .map(AuditEventOutboxEntry::getPayload)
+                        .collect(Collectors.toList()));
+    }
+
+    private static String path(final UUID businessObjectId) {
+        return "/api/v1/audit-events/" + TRANSACTION + "/" + businessObjectId;
+    }
+
+    private AuditEventOutboxRepository repository() {
+        final AuditEventOutboxRepository repository = mock(AuditEventOutboxRepository.class);
+        when(repository.lockDueHeads(any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            final OffsetDateTime now = invocation.getArgument(0);
+                            final Pageable pageable = invocation.getArgument(1);
+                            final List<AuditEventOutboxEntry> heads = new ArrayList<>();
+                            final List<UUID> seen = new ArrayList<>();
+                            for (AuditEventOutboxEntry entry : outbox.values()) {
+                                if (seen.contains(entry.getBusinessObjectId())) {
+                                    continue;
+                                }
+                                seen.add(entry.getBusinessObjectId());
+                                if (!entry.getNextAttemptTimestamp().isAfter(now)
+                                        && heads.size() < pageable.getPageSize()) {
+                                    heads.add(entry);
+                                }
+                            }
+                            return heads;
+                        });
+        when(repository.findByBusinessObjectTypeAndBusinessObjectIdAndIdGreaterThanOrderByIdAsc(
+                        anyString(), any(), anyLong(), any()))
+                .thenAnswer(
+                        invocation ->
+                                queuedBehind(
+                                        invocation.getArgument(0),
+                                        invocation.getArgument(1),
+                                        invocation.getArgument(2)));
+        when(repository.deleteByIdIn(any()))
+                .thenAnswer(
+                        invocation -> {
+                            synchronized (outbox) {
+                                final List<Long> ids = invocation.getArgument(0);
+                                ids.forEach(outbox::remove);
+                                return ids.size();
+                            }
+                        });
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.count()).thenAnswer(invocation -> (long) outbox.size());
+        when(repository.findFirstByOrderByIdAsc())
+                .thenAnswer(invocation -> outbox.values().stream().findFirst());
+        return repository;
+    }
+
+    private List<AuditEventOutboxEntry> queuedBehind(
+            final String businessObjectType, final UUID businessObjectId, final Long id) {
+        return outbox.values().stream()
+                .filter(entry -> entry.getBusinessObjectType().equals(businessObjectType))
+                .filter(entry -> entry.getBusinessObjectId().equals(businessObjectId))
+                .filter(entry -> entry.getId() > id)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,8 @@
 package io.nuvalence.workmanager.service.audit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -8,6 +10,8 @@ import static org.mockito.Mockito.when;
 import io.nuvalence.workmanager.service.utils.api.ApiClientCommonInterceptorProvider;
 import org.junit.jupiter.api.Test;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 class AuditServiceApiClientTest {
@@ -25,4 +29,21 @@ class AuditServiceApiClientTest {
 
         assertEquals(wantedInterceptor, requestInterceptor);
     }
+
+    @Test
+    void httpClientIsSharedUntilItsConfigurationChanges() {
+        AuditServiceApiClient apiClient =
+                new AuditServiceApiClient(mock(ApiClientCommonInterceptorProvider.class));
+
+        HttpClient httpClient = apiClient.getHttpClient();
+
+        assertSame(httpClient, apiClient.getHttpClient());
+        assertEquals(HttpClient.Version.HTTP_2, httpClient.version());
+
+        apiClient.setConnectTimeout(Duration.ofSeconds(5));
+
+        assertNotSame(httpClient, apiClient.getHttpClient());
+        assertEquals(
+                Duration.ofSeconds(5), apiClient.getHttpClient().connectTimeout().orElseThrow());
+    }
 }
@@ -0,0 +1,84 @@
+package io.nuvalence.workmanager.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConfigurationCacheTest {
+    private ConfigurationChangeBus changeBus;
+
+    @BeforeEach
+    void setUp() {
+        changeBus = mock(ConfigurationChangeBus.class);
+    }
+
+    @Test
+    void loadedValueIsCached() {
+        final ConfigurationCache<String, String> cache =
+                new ConfigurationCache<>(changeBus, ConfigurationRegion.SCHEMA, "test");
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", () -> Optional.of("v" + loads.incrementAndGet()));
+
+        assertEquals(
+                Optional.of("v1"),
+                cache.get("key", () -> Optional.of("v" + loads.incrementAndGet())));
+    }
+
+    @Test
+    void valueLoadedWhileTheCacheIsInvalidatedIsNotCached() {
+        final ConfigurationCache<String, String> cache =
+                new ConfigurationCache<>(changeBus, ConfigurationRegion.SCHEMA, "test");
+
+        final Optional<String> stale =
+                cache.get(
+                        "key",
+                        () -> {
+                            // a concurrent writer commits after the stale row was read
+                            cache.invalidate("key");
+                            return Optional.of("stale");
+                        });
+
+        assertEquals(Optional.of("stale"), stale);
+        assertEquals(Optional.of("fresh"), cache.get("key", () -> Optional.of("fresh")));
+    }
+
+    @Test
+    void cacheIsBypassedWhileAChangeOfItsRegionIsPending() {
+        final ConfigurationCache<String, String> cache =
+                new ConfigurationCache<>(changeBus, ConfigurationRegion.SCHEMA, "test");
+        cache.get("key", () -> Optional.of("committed"));
+        when(changeBus.isChangePending(ConfigurationRegion.SCHEMA)).thenReturn(true);
+
+        assertEquals(
+                Optional.of("uncommitted"), cache.get("key", () -> Optional.of("uncommitted")));
+
+        when(changeBus.isChangePending(ConfigurationRegion.SCHEMA)).thenReturn(false);
+        assertEquals(Optional.of("committed"), cache.get("key", Optional::empty));
+    }
+
+    @Test
+    void callersNeverShareTheCachedInstance() {
+        final ConfigurationCache<String, List<String>> cache =
+                new ConfigurationCache<>(
+                        changeBus, ConfigurationRegion.SCHEMA, "test", ArrayList::new);
+        final List<String> loaded = new ArrayList<>(List.of("a"));
+
+        cache.get("key", () -> Optional.of(loaded)).orElseThrow().add("loaded");
+        final List<String> first = cache.get("key", Optional::empty).orElseThrow();
+        first.add("first");
+        final List<String> second = cache.get("key", Optional::empty).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(List.of("a"), second);
+    }
+}
@@ -0,0 +1,306 @@
+package io.nuvalence.workmanager.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.workmanager.service.OpenApiGeneratorApplication;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.repository.ConfigurationVersionRepository;
+import io.nuvalence.workmanager.service.repository.SchemaRepository;
+import io.nuvalence.workmanager.service.repository.TransactionDefinitionRepository;
+import io.nuvalence.workmanager.service.service.SchemaService;
+import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
+import io.nuvalence.workmanager.service.utils.SpringApplicationContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs two application contexts (nodes) against the same database and checks that configuration
+ * changes committed on one node invalidate the caches of the other.
+ */
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=" + ConfigurationChangeBusTest.H2_URL,
+            "spring.datasource.driver-class-name=",
+            "spring.liquibase.url=" + ConfigurationChangeBusTest.H2_URL,
+            "spring.liquibase.driver-class-name=",
+            "spring.jpa.database-platform=",
+            "configurationCache.pollIntervalMillis=" + ConfigurationChangeBusTest.POLL_INTERVAL
+        })
+@ActiveProfiles("test")
+class ConfigurationChangeBusTest {
+    static final String H2_URL =
+            "jdbc:h2:mem:configurationchanges;DB_CLOSE_DELAY=-1;INIT=CREATE TYPE IF NOT EXISTS"
+                    + " \"JSONB\" AS text";
+
+    // polls are triggered by the tests so that they control when each node observes a change
+    static final long POLL_INTERVAL = 3_600_000;
+
+    private static ConfigurationTestNode nodeB;
+
+    @Autowired private ApplicationContext nodeAContext;
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    private ConfigurationTestNode nodeA;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new ConfigurationTestNode(nodeAContext);
+        if (nodeB == null) {
+            try {
+                nodeB = new ConfigurationTestNode(startNode("nodeB"));
+            } finally {
+                // the static context accessor must keep pointing at the context shared with
+                // other tests
+                new SpringApplicationContext().setApplicationContext(nodeAContext);
+            }
+        }
+        nodeA.bus.poll();
+        nodeB.bus.poll();
+    }
+
+    @AfterAll
+    static void stopNodeB() {
+        if (nodeB != null) {
+            ((ConfigurableApplicationContext) nodeB.context).close();
+            nodeB = null;
+        }
+    }
+
+    @Test
+    void changeCommittedOnOneNodeInvalidatesCacheOnTheOtherNodeOnNextPoll() {
+        final String key = "cacheTest" + UUID.randomUUID().toString().replace("-", "");
+        final UUID id =
+                nodeA.inTransaction(
+                        () -> {
+                            nodeA.schemas.save(schema(key));
+                            return nodeA.definitions.save(definition(key)).getId();
+                        });
+
+        assertEquals("Original", nodeB.definitionName(key));
+
+        nodeA.inTransaction(
+                () -> {
+                    final TransactionDefinition definition =
+                            nodeA.definitions.findById(id).orElseThrow();
+                    definition.setName("Renamed");
+                    return nodeA.service.saveTransactionDefinition(definition);
+                });
+
+        assertEquals("Renamed", nodeA.definitionName(key));
+        assertEquals("Original", nodeB.definitionName(key));
+
+        nodeB.bus.poll();
+
+        assertEquals("Renamed", nodeB.definitionName(key));
+    }
+
+    @Test
+    void publishNotifiesLocalSubscribersOnlyOnceTheTransactionCommits() {
+        final AtomicInteger invalidations = new AtomicInteger();
+        nodeA.bus.subscribe(ConfigurationRegion.SCHEMA, invalidations::incrementAndGet);
+
+        nodeA.inTransaction(
+                () -> {
+                    nodeA.bus.publish(ConfigurationRegion.SCHEMA);
+                    assertEquals(0, invalidations.get());
+                    return null;
+                });
+
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    void rolledBackChangeIsNeitherNotifiedNorObservedByOtherNodes() {
+        final AtomicInteger localInvalidations = new AtomicInteger();
+        final AtomicInteger remoteInvalidations = new AtomicInteger();
+        nodeA.bus.subscribe(ConfigurationRegion.SCHEMA, localInvalidations::incrementAndGet);
+        nodeB.bus.subscribe(ConfigurationRegion.SCHEMA, remoteInvalidations::incrementAndGet);
+
+        nodeA.transactions.executeWithoutResult(
+                status -> {
+                    nodeA.bus.publish(ConfigurationRegion.SCHEMA);
+                    status.setRollbackOnly();
+                });
+        nodeB.bus.poll();
+
+        assertEquals(0, localInvalidations.get());
+        assertEquals(0, remoteInvalidations.get());
+    }
+
+    @Test
+    void definitionReadByAWriterThatRollsBackIsNotCached() {
+        final String key = "cacheTest" + UUID.randomUUID().toString().replace("-", "");
+        final UUID id =
+                nodeA.inTransaction(
+                        () -> {
+                            nodeA.schemas.save(schema(key));
+                            return nodeA.definitions.save(definition(key)).getId();
+                        });
+        assertEquals("Original", nodeA.definitionName(key));
+
+        nodeA.transactions.executeWithoutResult(
+                status -> {
+                    final TransactionDefinition definition =
+                            nodeA.definitions.findById(id).orElseThrow();
+                    definition.setName("Renamed");
+                    nodeA.service.saveTransactionDefinition(definition);
+                    assertEquals("Renamed", nodeA.definitionName(key));
+                    status.setRollbackOnly();
+                });
+
+        assertEquals("Original", nodeA.definitionName(key));
+    }
+
+    @Test
+    void schemaReadByAWriterThatRollsBackIsNotCached() {
+        final String key = "cacheTest" + UUID.randomUUID().toString().replace("-", "");
+        final SchemaRow saved = nodeA.inTransaction(() -> nodeA.schemas.save(schema(key)));
+        assertEquals(key, nodeA.schemaName(key));
+
+        nodeA.transactions.executeWithoutResult(
+                status -> {
+                    final SchemaRow row = nodeA.schemas.findById(saved.getId()).orElseThrow();
+                    nodeA.schemaCache.invalidate(row.getId(), row.getKey());
+                    row.setSchemaJson(schemaJson(key, "Renamed"));
+                    nodeA.schemas.save(row);
+                    assertEquals("Renamed", nodeA.schemaName(key));
+                    status.setRollbackOnly();
+                });
+
+        assertEquals(key, nodeA.schemaName(key));
+    }
+
+    @Test
+    void pollOnlyNotifiesSubscribersOfChangedRegions() {
+        final AtomicInteger schemaInvalidations = new AtomicInteger();
+        final AtomicInteger formInvalidations = new AtomicInteger();
+        nodeB.bus.subscribe(ConfigurationRegion.SCHEMA, schemaInvalidations::incrementAndGet);
+        nodeB.bus.subscribe(
+                ConfigurationRegion.FORM_CONFIGURATION, formInvalidations::incrementAndGet);
+
+        nodeA.inTransaction(
+                () -> {
+                    nodeA.bus.publish(ConfigurationRegion.FORM_CONFIGURATION);
+                    return null;
+                });
+        nodeB.bus.poll();
+        nodeB.bus.poll();
+
+        assertEquals(0, schemaInvalidations.get());
+        assertEquals(1, formInvalidations.get());
+    }
+
+    @Test
+    void pollFailuresAreSwallowed() {
+        final ConfigurationVersionRepository failing = mock(ConfigurationVersionRepository.class);
+        when(failing.findAll()).thenThrow(new IllegalStateException("db down"));
+
+        new ConfigurationChangeBus(failing).poll();
+    }
+
+    private static ConfigurableApplicationContext startNode(final String name) {
+        // passed as arguments, as default properties would not override the test profile
+        return new SpringApplicationBuilder(OpenApiGeneratorApplication.class)
+                .profiles("test")
+                .initializers(
+                        context ->
+                                context.getBeanFactory()
+                                        .registerSingleton(
+                                                "authorizationHandler",
+                                                mock(AuthorizationHandler.class)))
+                .run(
+                        "--spring.datasource.url=" + H2_URL,
+                        "--spring.datasource.driver-class-name=",
+                        "--spring.liquibase.url=" + H2_URL,
+                        "--spring.liquibase.driver-class-name=",
+                        "--spring.jpa.database-platform=",
+                        "--configurationCache.pollIntervalMillis=" + POLL_INTERVAL,
+                        "--server.port=0",
+                        "--camunda.bpm.process-engine-name=" + name,
+                        "--camunda.bpm.job-execution.enabled=false");
+    }
+
+    private static TransactionDefinition definition(final String key) {
+        return TransactionDefinition.builder()
+                .key(key)
+                .name("Original")
+                .processDefinitionKey("process")
+                .schemaKey(key)
+                .defaultStatus("Draft")
+                .defaultFormConfigurationKey("form")
+                .createdBy("test")
+                .lastUpdatedBy("test")
+                .createdTimestamp(OffsetDateTime.now())
+                .lastUpdatedTimestamp(OffsetDateTime.now())
+                .build();
+    }
+
+    private static SchemaRow schema(final String key) {
+        return SchemaRow.builder()
+                .key(key)
+                .name(key)
+                .schemaJson(schemaJson(key, key))
+                .createdBy("test")
+                .lastUpdatedBy("test")
+                .createdTimestamp(OffsetDateTime.now())
+                .lastUpdatedTimestamp(OffsetDateTime.now())
+                .build();
+    }
+
+    private static String schemaJson(final String key, final String name) {
+        return "{\"key\": \"" + key + "\", \"name\": \"" + name + "\", \"attributes\": []}";
+    }
+
+    private static final class ConfigurationTestNode {
+        private final ApplicationContext context;
+        private final ConfigurationChangeBus bus;
+        private final SchemaRepository schemas;
+        private final TransactionDefinitionRepository definitions;
+        private final TransactionDefinitionService service;
+        private final SchemaService schemaService;
+        private final SchemaCache schemaCache;
+        private final TransactionTemplate transactions;
+
+        ConfigurationTestNode(final ApplicationContext context) {
+            this.context = context;
+            this.bus = context.getBean(ConfigurationChangeBus.class);
+            this.schemas = context.getBean(SchemaRepository.class);
+            this.definitions = context.getBean(TransactionDefinitionRepository.class);
+            this.service = context.getBean(TransactionDefinitionService.class);
+            this.schemaService = context.getBean(SchemaService.class);
+            this.schemaCache = context.getBean(SchemaCache.class);
+            this.transactions = context.getBean(TransactionTemplate.class);
+        }
+
+        <T> T inTransaction(final Supplier<T> work) {
+            return transactions.execute(status -> work.get());
+        }
+
+        String definitionName(final String key) {
+            return service.getTransactionDefinitionByKey(key).orElseThrow().getName();
+        }
+
+        String schemaName(final String key) {
+            return schemaService.getSchemaByKey(key).orElseThrow().getName();
+        }
+    }
+}
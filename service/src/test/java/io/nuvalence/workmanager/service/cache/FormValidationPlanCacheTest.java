@@ -0,0 +1,70 @@
+package io.nuvalence.workmanager.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
+import io.nuvalence.workmanager.service.utils.formconfig.formio.FormioValidationPlan;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+class FormValidationPlanCacheTest {
+    private final FormValidationPlanCache cache = new FormValidationPlanCache();
+
+    @Test
+    void compiledPlanIsReusedForSameFormVersion() {
+        final FormConfiguration formConfiguration = formConfiguration(OffsetDateTime.now());
+        final FormConfiguration sameVersion = formConfiguration.toBuilder().build();
+
+        final FormioValidationPlan plan =
+                cache.getStepPlan(formConfiguration, "step").orElseThrow();
+
+        assertSame(plan, cache.getStepPlan(sameVersion, "step").orElseThrow());
+    }
+
+    @Test
+    void updatedFormIsCompiledAgain() {
+        final OffsetDateTime lastUpdated = OffsetDateTime.now();
+        final FormConfiguration formConfiguration = formConfiguration(lastUpdated);
+        final FormConfiguration updated =
+                formConfiguration.toBuilder()
+                        .lastUpdatedTimestamp(lastUpdated.plusSeconds(1))
+                        .build();
+
+        assertNotSame(
+                cache.getStepPlan(formConfiguration, "step").orElseThrow(),
+                cache.getStepPlan(updated, "step").orElseThrow());
+    }
+
+    @Test
+    void unknownStepHasNoPlan() {
+        assertTrue(cache.getStepPlan(formConfiguration(OffsetDateTime.now()), "missing").isEmpty());
+    }
+
+    private static FormConfiguration formConfiguration(final OffsetDateTime lastUpdated) {
+        return FormConfiguration.builder()
+                .id(UUID.randomUUID())
+                .key("form")
+                .lastUpdatedTimestamp(lastUpdated)
+                .configuration(
+                        Map.of(
+                                "components",
+                                List.of(
+                                        Map.of(
+                                                "key",
+                                                "step",
+                                                "components",
+                                                List.of(
+                                                        Map.of(
+                                                                "key",
+                                                                "name",
+                                                                "props",
+                                                                Map.of("required", true)))))))
+                .build();
+    }
+}
@@ -23,6 +23,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.auditservice.client.ApiException;
 import io.nuvalence.workmanager.service.domain.Note;
 import io.nuvalence.workmanager.service.domain.NoteType;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionNote;
@@ -256,7 +257,7 @@ class NoteApiDelegateImplTest {
 
         when(noteService.createTransactionNote(eq(id), any(), eq(noteTypeId))).thenReturn(note);
 
-        doThrow(new RuntimeException("Test Exception"))
+        doThrow(new ApiException("Test Exception"))
                 .when(noteService)
                 .postAuditEventForTransactionNote(any(), any(), any());
 
@@ -453,7 +454,7 @@ class NoteApiDelegateImplTest {
         when(authorizationHandler.isAllowed("delete", TransactionNote.class)).thenReturn(true);
         when(noteService.softDeleteTransactionNote(transactionId, noteId))
                 .thenReturn(mock(TransactionNote.class));
-        doThrow(new RuntimeException("Simulated audit event error"))
+        doThrow(new ApiException("Simulated audit event error"))
                 .when(noteService)
                 .postAuditEventForTransactionNote(
                         eq(transactionId), any(Note.class), eq(AuditActivityType.NOTE_DELETED));
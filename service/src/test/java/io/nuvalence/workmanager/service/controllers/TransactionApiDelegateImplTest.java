@@ -4,10 +4,13 @@ import static io.nuvalence.workmanager.service.utils.testutils.TransactionUtils.
 import static io.nuvalence.workmanager.service.utils.testutils.TransactionUtils.createCustomerProvidedDocumentModel;
 import static io.nuvalence.workmanager.service.utils.testutils.TransactionUtils.createCustomerProvidedDocumentModelRequest;
 import static io.nuvalence.workmanager.service.utils.testutils.TransactionUtils.getCommonTransactionBuilder;
+import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.comparesEqualTo;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -19,6 +22,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -44,6 +48,8 @@ import io.nuvalence.workmanager.service.domain.customerprovideddocument.ReviewSt
 import io.nuvalence.workmanager.service.domain.dynamicschema.DocumentProcessingConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration.ValueType;
 import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
 import io.nuvalence.workmanager.service.domain.formconfig.FormConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
@@ -54,6 +60,7 @@ import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition
 import io.nuvalence.workmanager.service.domain.transaction.TransactionLink;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionLinkNotAllowedException;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowTask;
 import io.nuvalence.workmanager.service.generated.models.CustomerProvidedDocumentModelRequest;
 import io.nuvalence.workmanager.service.generated.models.CustomerProvidedDocumentModelResponse;
@@ -65,8 +72,12 @@ import io.nuvalence.workmanager.service.generated.models.TransactionLinkModifica
 import io.nuvalence.workmanager.service.generated.models.TransactionUpdateRequest;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.mapper.OffsetDateTimeMapper;
+import io.nuvalence.workmanager.service.models.KeysetPage;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter.Operator;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
 import io.nuvalence.workmanager.service.service.FormConfigurationService;
 import io.nuvalence.workmanager.service.service.SchemaService;
 import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
@@ -92,7 +103,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -117,6 +127,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
@@ -169,6 +180,7 @@ class TransactionApiDelegateImplTest {
     private final JsonFileLoader jsonLoader = new JsonFileLoader();
 
     @MockBean private WorkflowTasksService workflowTasksService;
+    @MockBean private TransactionSearchableAttributeRepository searchableAttributeRepository;
 
     @Autowired private TransactionsApiDelegateImpl transactionsApiDelegateImpl;
 
@@ -511,6 +523,131 @@ class TransactionApiDelegateImplTest {
                                                 && argument.getPageSize().equals(50)));
     }
 
+    @Test
+    void getTransactionsByPageToken() throws Exception {
+        final Transaction userTransaction1 = getCommonTransactionBuilder().build();
+        mockPrivateTransactionDefinition(userTransaction1);
+
+        Mockito.when(transactionService.getFilteredTransactions(any(), eq("")))
+                .thenReturn(new KeysetPage<>(List.of(userTransaction1), 50, "next-token"));
+
+        mockMvc.perform(get("/api/v1/transactions?sortOrder=DESC&pageNumber=3&pageToken="))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.pagingMetadata.pageSize", comparesEqualTo(50)))
+                .andExpect(jsonPath("$.pagingMetadata.nextPageToken").value("next-token"))
+                .andExpect(
+                        jsonPath(
+                                "$.pagingMetadata.nextPage",
+                                allOf(
+                                        containsString("pageToken=next-token"),
+                                        not(containsString("pageNumber")))))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").doesNotExist());
+
+        Mockito.verify(transactionService, Mockito.never()).getFilteredTransactions(any());
+    }
+
+    @Test
+    void getTransactionsSummaryView() throws Exception {
+        final TransactionSummary summary = createTransactionSummary();
+        Mockito.when(transactionService.getFilteredTransactionSummaries(any()))
+                .thenReturn(new PageImpl<>(List.of(summary)));
+
+        mockMvc.perform(get("/api/v1/transactions?view=summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(summary.getId().toString()))
+                .andExpect(jsonPath("$.items[0].status").value("Draft"))
+                .andExpect(jsonPath("$.items[0].priority").value("MEDIUM"))
+                .andExpect(jsonPath("$.items[0].transactionDefinitionName").value("Name"))
+                .andExpect(jsonPath("$.items[0].data").isEmpty())
+                .andExpect(jsonPath("$.items[0].activeTasks").doesNotExist())
+                .andExpect(jsonPath("$.pagingMetadata.totalCount", comparesEqualTo(1)));
+
+        Mockito.verify(transactionService, Mockito.never()).getFilteredTransactions(any());
+    }
+
+    @Test
+    void getTransactionsSummaryViewByPageToken() throws Exception {
+        Mockito.when(transactionService.getFilteredTransactionSummaries(any(), eq("")))
+                .thenReturn(
+                        new KeysetPage<>(List.of(createTransactionSummary()), 50, "next-token"));
+
+        mockMvc.perform(get("/api/v1/transactions?view=summary&pageToken="))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.pagingMetadata.nextPageToken").value("next-token"))
+                .andExpect(
+                        jsonPath(
+                                "$.pagingMetadata.nextPage",
+                                allOf(
+                                        containsString("view=summary"),
+                                        containsString("pageToken=next-token"))));
+
+        Mockito.verify(transactionService, Mockito.never()).getFilteredTransactions(any(), any());
+    }
+
+    @Test
+    void getTransactionsInvalidView() throws Exception {
+        mockMvc.perform(get("/api/v1/transactions?view=compact"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTransactionsByData() throws Exception {
+        final Schema schema =
+                Schema.builder()
+                        .key("ApplicationSchema")
+                        .name("ApplicationSchema")
+                        .property("lastName", String.class)
+                        .attributeConfiguration("lastName", new SearchableConfiguration())
+                        .build();
+        Mockito.when(transactionDefinitionService.createTransactionDefinitionKeysList("app", null))
+                .thenReturn(List.of("app"));
+        Mockito.when(transactionDefinitionService.getTransactionDefinitionByKey("app"))
+                .thenReturn(
+                        Optional.of(
+                                TransactionDefinition.builder()
+                                        .key("app")
+                                        .schemaKey(schema.getKey())
+                                        .build()));
+        Mockito.when(schemaService.getSchemaByKey(schema.getKey())).thenReturn(Optional.of(schema));
+        Mockito.when(searchableAttributeRepository.findIndexedPaths("app"))
+                .thenReturn(Set.of("lastName"));
+        Mockito.when(transactionService.getFilteredTransactions(any()))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        mockMvc.perform(
+                        get("/api/v1/transactions")
+                                .param("transactionDefinitionKey", "app")
+                                .param("data.lastName[prefix]", "Smi"))
+                .andExpect(status().isOk());
+
+        Mockito.verify(transactionService)
+                .getFilteredTransactions(
+                        argThat(
+                                argument ->
+                                        argument.getDataFilters()
+                                                .equals(
+                                                        List.of(
+                                                                new TransactionDataFilter(
+                                                                        "lastName",
+                                                                        ValueType.STRING,
+                                                                        Operator.PREFIX,
+                                                                        "Smi")))));
+    }
+
+    @Test
+    void getTransactionsByDataWithoutDefinition() throws Exception {
+        Mockito.when(transactionDefinitionService.createTransactionDefinitionKeysList(null, null))
+                .thenReturn(null);
+
+        mockMvc.perform(get("/api/v1/transactions").param("data.lastName", "Smith"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(transactionService, Mockito.never()).getFilteredTransactions(any());
+    }
+
     @Test
     void getTransactionsNotFound() throws Exception {
         // Arrange
@@ -883,6 +1020,22 @@ class TransactionApiDelegateImplTest {
                 .andExpect(jsonPath("$.pagingMetadata.totalCount", comparesEqualTo(2)));
     }
 
+    @Test
+    void getTransactionSummariesByUser() throws Exception {
+        final TransactionSummary visible = createTransactionSummary();
+        final TransactionSummary hidden = createTransactionSummary();
+        Mockito.when(authorizationHandler.getAuthFilter("view", TransactionSummary.class))
+                .thenReturn(summary -> summary.equals(visible));
+        Mockito.when(transactionService.getFilteredTransactionSummaries(any()))
+                .thenReturn(new PageImpl<>(List.of(visible, hidden)));
+
+        mockMvc.perform(get("/api/v1/my-transactions?view=summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(visible.getId().toString()))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount", comparesEqualTo(1)));
+    }
+
     @Test
     void postTransaction() throws Exception {
         Optional<User> testUser = createUser();
@@ -1106,6 +1259,208 @@ class TransactionApiDelegateImplTest {
                 .andExpect(jsonPath("$.data.foo").value("bar"));
     }
 
+    @Test
+    void patchTransactionData() throws Exception {
+        final Transaction transaction =
+                Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .transactionDefinitionId(UUID.randomUUID())
+                        .transactionDefinitionKey("Dummy user test")
+                        .processInstanceId("Dummy user test")
+                        .status("incomplete")
+                        .priority(TransactionPriority.MEDIUM)
+                        .createdTimestamp(OffsetDateTime.now())
+                        .lastUpdatedTimestamp(OffsetDateTime.now())
+                        .data(
+                                new DynamicEntity(
+                                        Schema.builder()
+                                                .property("foo", String.class)
+                                                .property("bar", String.class)
+                                                .build()))
+                        .build();
+        mockPrivateTransactionDefinition(transaction);
+        transaction.getData().set("foo", "foo");
+        transaction.getData().set("bar", "bar");
+
+        when(transactionService.getTransactionById(transaction.getId()))
+                .thenReturn(Optional.of(transaction));
+        when(transactionService.updateTransactionFromDataPatch(
+                        eq(transaction), eq(Map.of("foo", "changed")), any(Map.class)))
+                .thenReturn(transaction);
+        when(transactionTaskService.getActiveTasksForCurrentUser(any()))
+                .thenReturn(List.of(WorkflowTask.builder().key("task").build()));
+
+        mockMvc.perform(
+                        patch("/api/v1/transactions/" + transaction.getId())
+                                .content("{\"foo\": \"changed\"}")
+                                .contentType("application/merge-patch+json")
+                                .param("taskId", "task"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.foo").value("changed"))
+                .andExpect(jsonPath("$.data.bar").value("bar"));
+    }
+
+    @Test
+    void patchTransactionDataInvalidValue() throws Exception {
+        final Transaction transaction =
+                Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .data(
+                                new DynamicEntity(
+                                        Schema.builder().property("count", Integer.class).build()))
+                        .build();
+
+        when(transactionService.getTransactionById(transaction.getId()))
+                .thenReturn(Optional.of(transaction));
+        when(transactionTaskService.getActiveTasksForCurrentUser(any()))
+                .thenReturn(List.of(WorkflowTask.builder().key("task").build()));
+
+        mockMvc.perform(
+                        patch("/api/v1/transactions/" + transaction.getId())
+                                .content("{\"count\": \"many\"}")
+                                .contentType("application/merge-patch+json"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(transactionService, Mockito.never())
+                .updateTransactionFromDataPatch(any(), any(), any());
+    }
+
+    @Test
+    void patchTransactionDataWithoutActiveTask() throws Exception {
+        final Transaction transaction = Transaction.builder().id(UUID.randomUUID()).build();
+        when(transactionService.getTransactionById(transaction.getId()))
+                .thenReturn(Optional.of(transaction));
+        when(transactionTaskService.getActiveTasksForCurrentUser(any()))
+                .thenReturn(Collections.emptyList());
+
+        mockMvc.perform(
+                        patch("/api/v1/transactions/" + transaction.getId())
+                                .content("{\"foo\": \"changed\"}")
+                                .contentType("application/merge-patch+json"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void patchTransactionData404() throws Exception {
+        final UUID transactionId = UUID.randomUUID();
+        when(transactionService.getTransactionById(transactionId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(
+                        patch("/api/v1/transactions/" + transactionId)
+                                .content("{\"foo\": \"changed\"}")
+                                .contentType("application/merge-patch+json"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void patchTransactionDataFailingFormValidation() throws Exception {
+        final Transaction transaction = patchableTransaction();
+        final NuvalenceFormioValidationExMessage formioValidationExMessage =
+                NuvalenceFormioValidationExMessage.builder()
+                        .formioValidationErrors(
+                                List.of(
+                                        NuvalenceFormioValidationExItem.builder()
+                                                .errorName("errorMessage")
+                                                .build()))
+                        .build();
+        doThrow(new NuvalenceFormioValidationException(formioValidationExMessage))
+                .when(transactionService)
+                .validateForm(
+                        eq("foo"),
+                        eq(transaction.getTransactionDefinitionKey()),
+                        eq(transaction),
+                        eq("task"),
+                        any());
+
+        mockMvc.perform(
+                        patch("/api/v1/transactions/" + transaction.getId())
+                                .content("{\"foo\": \"invalid\"}")
+                                .contentType("application/merge-patch+json")
+                                .param("taskId", "task")
+                                .param("formStepKey", "foo"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.formioValidationErrors.length()").value(1))
+                .andExpect(jsonPath("$.formioValidationErrors[0].errorName").value("errorMessage"));
+
+        Mockito.verify(transactionService, Mockito.never())
+                .updateTransactionFromDataPatch(any(), any(), any());
+    }
+
+    @Test
+    void patchTransactionDataAndCompleteTask() throws Exception {
+        final Transaction transaction = patchableTransaction();
+        when(transactionService.updateTransactionFromDataPatchAndCompleteTask(
+                        eq(transaction), eq(Map.of("foo", "changed")), eq("task"), any(Map.class)))
+                .thenReturn(transaction);
+
+        mockMvc.perform(
+                        patch("/api/v1/transactions/" + transaction.getId())
+                                .content("{\"foo\": \"changed\"}")
+                                .contentType("application/merge-patch+json")
+                                .param("taskId", "task")
+                                .param("completeTask", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.foo").value("changed"));
+
+        Mockito.verify(transactionService, Mockito.never())
+                .updateTransactionFromDataPatch(any(), any(), any());
+    }
+
+    @Test
+    void patchTransactionDataMissingTask() throws Exception {
+        final Transaction transaction = patchableTransaction();
+        when(transactionService.updateTransactionFromDataPatchAndCompleteTask(
+                        any(), any(), any(), any()))
+                .thenThrow(MissingTaskException.class);
+
+        mockMvc.perform(
+                        patch("/api/v1/transactions/" + transaction.getId())
+                                .content("{\"foo\": \"changed\"}")
+                                .contentType("application/merge-patch+json")
+                                .param("taskId", "task")
+                                .param("completeTask", "true"))
+                .andExpect(status().isFailedDependency());
+    }
+
+    @Test
+    void patchTransactionDataDeletedWhileUpdating() throws Exception {
+        final Transaction transaction = patchableTransaction();
+        when(transactionService.getTransactionById(transaction.getId()))
+                .thenReturn(Optional.of(transaction), Optional.empty());
+
+        mockMvc.perform(
+                        patch("/api/v1/transactions/" + transaction.getId())
+                                .content("{\"foo\": \"changed\"}")
+                                .contentType("application/merge-patch+json")
+                                .param("taskId", "task"))
+                .andExpect(status().isNotFound());
+    }
+
+    private Transaction patchableTransaction() {
+        final Transaction transaction =
+                Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .transactionDefinitionId(UUID.randomUUID())
+                        .transactionDefinitionKey("Dummy user test")
+                        .processInstanceId("Dummy user test")
+                        .status("incomplete")
+                        .priority(TransactionPriority.MEDIUM)
+                        .createdTimestamp(OffsetDateTime.now())
+                        .lastUpdatedTimestamp(OffsetDateTime.now())
+                        .data(
+                                new DynamicEntity(
+                                        Schema.builder().property("foo", String.class).build()))
+                        .build();
+        mockPrivateTransactionDefinition(transaction);
+
+        when(transactionService.getTransactionById(transaction.getId()))
+                .thenReturn(Optional.of(transaction));
+        when(transactionTaskService.getActiveTasksForCurrentUser(any()))
+                .thenReturn(List.of(WorkflowTask.builder().key("task").build()));
+
+        return transaction;
+    }
+
     @Test
     void testHttpClientErrorExceptionHandling() throws Exception {
 
@@ -2349,8 +2704,23 @@ class TransactionApiDelegateImplTest {
                 transaction, "transactionDefinition", new TransactionDefinition());
     }
 
+    private TransactionSummary createTransactionSummary() {
+        return TransactionSummary.builder()
+                .id(UUID.randomUUID())
+                .transactionDefinitionId(UUID.randomUUID())
+                .transactionDefinitionKey("key")
+                .transactionDefinitionName("Name")
+                .processInstanceId("processInstanceId")
+                .status("Draft")
+                .priority(TransactionPriority.MEDIUM)
+                .createdBy("EXT000123")
+                .createdTimestamp(OffsetDateTime.now())
+                .lastUpdatedTimestamp(OffsetDateTime.now())
+                .build();
+    }
+
     @Test
-    void postTransactionExceptionPath(CapturedOutput output) throws Exception {
+    void postTransactionLeavesTheCreationAuditEventToTheServiceTransaction() throws Exception {
         Optional<User> testUser = createUser();
 
         // Arrange
@@ -2383,10 +2753,6 @@ class TransactionApiDelegateImplTest {
                 new TransactionCreationRequest().transactionDefinitionKey("key");
         final String postBody = new ObjectMapper().writeValueAsString(request);
 
-        doThrow(new RuntimeException("Test Exception"))
-                .when(transactionService)
-                .postAuditEventForTransactionCreated(any());
-
         // Act and Assert
         mockMvc.perform(
                         post("/api/v1/transactions")
@@ -2396,14 +2762,8 @@ class TransactionApiDelegateImplTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(transaction.getId().toString()));
 
-        assertTrue(
-                output.getOut()
-                        .contains(
-                                "An error has occurred when recording a creation audit event for a"
-                                        + " transaction with user id "
-                                        + transaction.getCreatedBy()
-                                        + " for transaction with id "
-                                        + transaction.getId()));
+        Mockito.verify(transactionService, Mockito.never())
+                .postAuditEventForTransactionCreated(any());
     }
 
     @Test
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.generated.models.TransactionModel;
 import io.nuvalence.workmanager.service.mapper.TransactionMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +44,22 @@ class TransactionAccessResourceTranslatorTest {
         verify(mapper, times(1)).transactionToTransactionModel(transaction);
     }
 
+    @Test
+    void testTranslate_withTransactionSummary_shouldReturnTranslatedObject() {
+        // Arrange
+        TransactionSummary summary = TransactionSummary.builder().build();
+        TransactionModel expectedModel = new TransactionModel();
+        when(applicationContext.getBean(TransactionMapper.class)).thenReturn(mapper);
+        when(mapper.transactionSummaryToTransactionModel(summary)).thenReturn(expectedModel);
+
+        // Act
+        Object result = translator.translate(summary);
+
+        // Assert
+        assertEquals(expectedModel, result);
+        verify(mapper, times(1)).transactionSummaryToTransactionModel(summary);
+    }
+
     @Test
     void testTranslate_withNonTransaction_shouldReturnOriginalObject() {
         // Arrange
@@ -13,6 +13,7 @@ import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 
 import java.math.BigDecimal;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.HashMap;
@@ -136,6 +137,60 @@ class DataConversionSupportTest {
                 () -> DataConversionSupport.convert("", DataConversionSupportTest.class));
     }
 
+    @Test
+    void throwsUnsupportedOperationExceptionIfNoConverterFoundOnRepeatedLookups() {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> DataConversionSupport.convert(5L, LocalDate.class));
+        }
+        assertNull(DataConversionSupport.getConverter(Long.class, LocalDate.class));
+    }
+
+    @Test
+    void getConverterReturnsRegisteredConverter() {
+        assertEquals(
+                new BigDecimal("7"),
+                DataConversionSupport.getConverter(Integer.class, BigDecimal.class).apply(7));
+        assertEquals(
+                "value",
+                DataConversionSupport.getConverter(String.class, Object.class).apply("value"));
+    }
+
+    @Test
+    void convertStringToLocalDate_when_isodatetimeWithNanoseconds() {
+        assertEquals(
+                LocalDate.of(2023, 5, 2),
+                DataConversionSupport.convert(
+                        "2023-05-02T06:00:00.123456789-05:00", LocalDate.class));
+    }
+
+    @Test
+    void convertStringToLocalDate_whenDateDoesNotExist() {
+        assertThrows(
+                DateTimeException.class,
+                () -> DataConversionSupport.convert("2023-02-30", LocalDate.class));
+    }
+
+    @Test
+    void convertStringToLocalDate_whenFormatIsNotIso(CapturedOutput output) {
+        for (String value :
+                new String[] {
+                    "2023-5-02",
+                    "2023-05-02 ",
+                    "2023/05/02",
+                    "2023-05-02T06:00",
+                    "2023-05-02T06:00:00.",
+                    "2023-05-02T06:00:00.1234567890",
+                    "2023-05-02T06:00:00+0200",
+                    "2023-05-02T06:00:00Z+02:00",
+                    "12023-05-02"
+                }) {
+            assertNull(DataConversionSupport.convert(value, LocalDate.class), value);
+            assertTrue(output.getOut().contains("Could not convert value \"" + value + "\""));
+        }
+    }
+
     @Test
     void convertWithNullValue() {
         assertNull(DataConversionSupport.convert(null, Document.class));
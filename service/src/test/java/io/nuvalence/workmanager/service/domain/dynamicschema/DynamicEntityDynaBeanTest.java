@@ -1,10 +1,19 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.apache.commons.beanutils.BasicDynaClass;
+import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.beanutils.DynaProperty;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 class DynamicEntityDynaBeanTest {
     @Test
     void computedAttributeCanAccessAttributesOfDynaClass() {
@@ -48,4 +57,152 @@ class DynamicEntityDynaBeanTest {
                     dynaBean.get("computed");
                 });
     }
+
+    @Test
+    void computedAttributeExpressionIsParsedOncePerSchema() {
+        var dynaClass =
+                Schema.builder()
+                        .property("name", String.class)
+                        .computedProperty("computed", String.class, "name")
+                        .build();
+        var first = new DynamicEntityDynaBean(dynaClass);
+        first.set("name", "first");
+        var second = new DynamicEntityDynaBean(dynaClass);
+        second.set("name", "second");
+
+        assertEquals("first", first.get("computed"));
+        assertEquals("second", second.get("computed"));
+        var property = (ComputedDynaProperty) dynaClass.getDynaProperty("computed");
+        assertSame(property.getParsedExpression(), property.getParsedExpression());
+    }
+
+    @Test
+    void computedAttributeCannotAssignVariables() {
+        var dynaClass =
+                Schema.builder()
+                        .property("name", String.class)
+                        .computedProperty("computed", String.class, "#leaked = name")
+                        .build();
+        var dynaBean = new DynamicEntityDynaBean(dynaClass);
+        dynaBean.set("name", "test");
+
+        assertThrows(UnsupportedOperationException.class, () -> dynaBean.get("computed"));
+    }
+
+    @Test
+    void reportsModificationsOfItsAttributes() {
+        var dynaClass =
+                Schema.builder()
+                        .property("name", String.class)
+                        .property("tags", List.class, String.class)
+                        .build();
+        var dynaBean = new DynamicEntityDynaBean(dynaClass);
+        var modifications = new AtomicInteger();
+        dynaBean.set("tags", new ArrayList<>(List.of("first")));
+        dynaBean.setModificationListener(modifications::incrementAndGet);
+
+        dynaBean.set("name", "test");
+        dynaBean.set("name", "test");
+        assertEquals(1, modifications.get());
+
+        @SuppressWarnings("unchecked")
+        var tags = (List<String>) dynaBean.get("tags");
+        tags.add("second");
+        tags.remove("first");
+        assertEquals(3, modifications.get());
+        assertEquals(List.of("second"), dynaBean.get("tags"));
+    }
+
+    @Test
+    void reportsModificationsOfNestedLists() {
+        var dynaClass = Schema.builder().property("rows", List.class, List.class).build();
+        var dynaBean = new DynamicEntityDynaBean(dynaClass);
+        var row = new ArrayList<>(List.of("first"));
+        dynaBean.set("rows", new ArrayList<>(List.of(row)));
+        var modifications = new AtomicInteger();
+        dynaBean.setModificationListener(modifications::incrementAndGet);
+
+        @SuppressWarnings("unchecked")
+        var rows = (List<List<String>>) dynaBean.get("rows");
+        rows.get(0).add("second");
+        row.add("not stored");
+
+        assertEquals(1, modifications.get());
+        assertEquals(List.of(List.of("first", "second")), dynaBean.get("rows"));
+    }
+
+    @Test
+    void reportsModificationsOfEntitiesItHolds() {
+        var childClass = Schema.builder().property("name", String.class).build();
+        var parentClass =
+                Schema.builder()
+                        .property("child", childClass)
+                        .property("children", List.class, childClass)
+                        .build();
+        var dynaBean = new DynamicEntityDynaBean(parentClass);
+        var child = new DynamicEntity(childClass);
+        var listedChild = new DynamicEntity(childClass);
+        dynaBean.set("child", child);
+        dynaBean.set("children", new ArrayList<>(List.of(listedChild)));
+        var modifications = new AtomicInteger();
+        dynaBean.setModificationListener(modifications::incrementAndGet);
+
+        child.set("name", "child");
+        listedChild.set("name", "listed child");
+
+        assertEquals(2, modifications.get());
+    }
+
+    @Test
+    void createsInitializedListsWhenFirstAccessed() {
+        var dynaClass =
+                Schema.builder()
+                        .property("name", String.class)
+                        .property("tags", List.class, String.class)
+                        .build();
+        var dynaBean = new DynamicEntityDynaBean(dynaClass);
+        dynaBean.initializeLists();
+        var modifications = new AtomicInteger();
+        dynaBean.setModificationListener(modifications::incrementAndGet);
+
+        @SuppressWarnings("unchecked")
+        var tags = (List<String>) dynaBean.get("tags");
+        assertEquals(List.of(), tags);
+        assertSame(tags, dynaBean.get("tags"));
+        assertNull(dynaBean.get("name"));
+        assertEquals(0, modifications.get());
+
+        tags.add("first");
+        assertEquals(1, modifications.get());
+        assertEquals("first", dynaBean.get("tags", 0));
+    }
+
+    @Test
+    void rejectsUnknownPropertiesAndValuesOfAnotherType() {
+        var dynaClass = Schema.builder().property("count", Integer.class).build();
+        var dynaBean = new DynamicEntityDynaBean(dynaClass);
+
+        assertThrows(IllegalArgumentException.class, () -> dynaBean.get("missing"));
+        assertThrows(IllegalArgumentException.class, () -> dynaBean.set("missing", 1));
+        assertThrows(ConversionException.class, () -> dynaBean.set("count", "one"));
+        assertThrows(NullPointerException.class, () -> dynaBean.get("count", 0));
+    }
+
+    @Test
+    void keepsValuesOfDynaClassesWithoutSlots() {
+        var dynaClass =
+                new BasicDynaClass(
+                        "plain",
+                        null,
+                        new DynaProperty[] {
+                            new DynaProperty("first", String.class),
+                            new DynaProperty("second", String.class)
+                        });
+        var dynaBean = new DynamicEntityDynaBean(dynaClass);
+        dynaBean.set("second", "value");
+
+        assertNull(dynaBean.get("first"));
+        assertEquals("value", dynaBean.get("second"));
+        assertSame(dynaClass, dynaBean.getDynaClass());
+    }
 }
@@ -1,10 +1,21 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.service.SchemaService;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.apache.commons.beanutils.BasicDynaBean;
@@ -17,8 +28,12 @@ import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 import org.mockito.Mock;
 import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 class DynamicEntityTest {
 
@@ -180,4 +195,174 @@ class DynamicEntityTest {
                 },
                 "UnsupportedOperationException was expected");
     }
+
+    @Test
+    void loadedDataIsOnlyConvertedWhenFirstAccessed() {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        mapper.setApplicationContext(context);
+        when(context.getBean(EntityMapper.class)).thenReturn(mapper);
+        final DynamicEntity loaded = load(Map.of("firstName", "Thomas", "lastName", "Anderson"));
+
+        loaded.postLoad();
+        verifyNoInteractions(context);
+
+        assertEquals("Thomas Anderson", loaded.getProperty("name", String.class));
+        assertEquals("Anderson", loaded.get("lastName"));
+        verify(context).getBean(EntityMapper.class);
+    }
+
+    @Test
+    void preSaveKeepsLoadedDataThatWasNeverAccessed() {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        mapper.setApplicationContext(context);
+        final DynamicEntity loaded = load(Map.of("firstName", "Thomas"));
+        final Object data = ReflectionTestUtils.getField(loaded, "data");
+
+        loaded.postLoad();
+        loaded.preSave();
+
+        assertSame(data, ReflectionTestUtils.getField(loaded, "data"));
+        verifyNoInteractions(context);
+    }
+
+    @Test
+    void preSaveConvertsLoadedDataOnceAccessed() {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        mapper.setApplicationContext(context);
+        when(context.getBean(EntityMapper.class)).thenReturn(mapper);
+        final DynamicEntity loaded = load(Map.of("firstName", "Thomas"));
+
+        loaded.postLoad();
+        loaded.set("lastName", "Anderson");
+        loaded.preSave();
+
+        final Map<String, Object> data = savedData(loaded);
+        assertEquals("Thomas", data.get("firstName"));
+        assertEquals("Anderson", data.get("lastName"));
+    }
+
+    @Test
+    void preSaveKeepsLoadedDataThatWasOnlyRead() {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        mapper.setApplicationContext(context);
+        when(context.getBean(EntityMapper.class)).thenReturn(mapper);
+        final DynamicEntity loaded = load(Map.of("firstName", "Thomas"));
+        final Object data = ReflectionTestUtils.getField(loaded, "data");
+
+        loaded.postLoad();
+        assertEquals("Thomas", loaded.get("firstName"));
+        loaded.set("firstName", "Thomas");
+        loaded.preSave();
+
+        assertSame(data, ReflectionTestUtils.getField(loaded, "data"));
+        verify(context).getBean(EntityMapper.class);
+    }
+
+    @Test
+    void preSaveConvertsLoadedDataWhenNestedEntityIsModified() {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        mapper.setApplicationContext(context);
+        when(context.getBean(EntityMapper.class)).thenReturn(mapper);
+        final DynamicEntity loaded =
+                load(Map.of("emails", List.of(Map.of("type", "work", "email", "old@example.com"))));
+        final SchemaService schemaService = mock(SchemaService.class);
+        when(schemaService.getSchemaByKey("EmailAddress"))
+                .thenReturn(Optional.of(emailAddressSchema));
+        mapper.setSchemaService(schemaService);
+
+        loaded.postLoad();
+        loaded.getProperty("emails[0]", DynamicEntity.class).set("email", "new@example.com");
+        loaded.preSave();
+
+        assertEquals(
+                List.of(Map.of("type", "work", "email", "new@example.com")),
+                savedData(loaded).get("emails"));
+    }
+
+    @Test
+    void preSaveConvertsListsChangedAfterTheyWereSet() {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        mapper.setApplicationContext(context);
+        when(context.getBean(EntityMapper.class)).thenReturn(mapper);
+        final SchemaService schemaService = mock(SchemaService.class);
+        when(schemaService.getSchemaByKey("EmailAddress"))
+                .thenReturn(Optional.of(emailAddressSchema));
+        mapper.setSchemaService(schemaService);
+        final DynamicEntity loaded = load(Map.of("firstName", "Thomas"));
+        final DynamicEntity work = new DynamicEntity(emailAddressSchema);
+        work.set("type", "work");
+        final DynamicEntity home = new DynamicEntity(emailAddressSchema);
+        home.set("type", "home");
+        final List<Object> emails = new ArrayList<>(List.of(work));
+
+        loaded.postLoad();
+        loaded.set("emails", emails);
+        loaded.preSave();
+        emails.add(home);
+        loaded.preSave();
+
+        assertEquals(List.of(work), loaded.get("emails"));
+        assertEquals(List.of(Map.of("type", "work")), savedData(loaded).get("emails"));
+
+        loaded.add("emails", home);
+        loaded.preSave();
+
+        assertEquals(
+                List.of(Map.of("type", "work"), Map.of("type", "home")),
+                savedData(loaded).get("emails"));
+    }
+
+    @Test
+    void loadedDataIsModifiedOnlyUntilSavedOnceChanged() {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        mapper.setApplicationContext(context);
+        when(context.getBean(EntityMapper.class)).thenReturn(mapper);
+        final DynamicEntity loaded = load(Map.of("firstName", "Thomas"));
+
+        loaded.postLoad();
+        assertEquals("Thomas", loaded.get("firstName"));
+        assertFalse(loaded.isModified());
+
+        loaded.set("lastName", "Anderson");
+        assertTrue(loaded.isModified());
+
+        loaded.preSave();
+        assertFalse(loaded.isModified());
+    }
+
+    @Test
+    void loadedDataWithoutAttributesHydratesAnEmptyEntity() {
+        final ApplicationContext context = mock(ApplicationContext.class);
+        mapper.setApplicationContext(context);
+        when(context.getBean(EntityMapper.class)).thenReturn(mapper);
+        final DynamicEntity loaded = new DynamicEntity();
+        ReflectionTestUtils.setField(loaded, "schema", contactSchema);
+
+        loaded.postLoad();
+
+        assertNull(loaded.get("firstName"));
+    }
+
+    private DynamicEntity load(final Map<String, Object> data) {
+        final DynamicEntity loaded = new DynamicEntity();
+        ReflectionTestUtils.setField(loaded, "schema", contactSchema);
+        try {
+            ReflectionTestUtils.setField(
+                    loaded, "data", new ObjectMapper().writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return loaded;
+    }
+
+    private static Map<String, Object> savedData(final DynamicEntity entity) {
+        try {
+            return new ObjectMapper()
+                    .readValue(
+                            (String) ReflectionTestUtils.getField(entity, "data"),
+                            new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class SearchableAttributesTest {
+    private Schema personSchema;
+    private Schema addressSchema;
+
+    @BeforeEach
+    void setup() {
+        addressSchema =
+                Schema.builder()
+                        .name("Address")
+                        .property("line1", String.class)
+                        .property("city", String.class)
+                        .attributeConfiguration("city", new SearchableConfiguration())
+                        .build();
+        personSchema =
+                Schema.builder()
+                        .name("Person")
+                        .property("firstName", String.class)
+                        .property("lastName", String.class)
+                        .property("dateOfBirth", LocalDate.class)
+                        .property("income", BigDecimal.class)
+                        .property("isStudent", Boolean.class)
+                        .property("aliases", List.class, String.class)
+                        .property("address", addressSchema)
+                        .property("previousAddresses", List.class, addressSchema)
+                        .attributeConfiguration("lastName", new SearchableConfiguration())
+                        .attributeConfiguration("dateOfBirth", new SearchableConfiguration())
+                        .attributeConfiguration("income", new SearchableConfiguration())
+                        .attributeConfiguration("isStudent", new SearchableConfiguration())
+                        .attributeConfiguration("aliases", new SearchableConfiguration())
+                        .build();
+    }
+
+    @Test
+    void collectsSearchableValuesByPath() {
+        final DynamicEntity person = new DynamicEntity(personSchema);
+        person.set("firstName", "Thomas");
+        person.set("lastName", "Anderson");
+        person.set("dateOfBirth", LocalDate.of(1971, 9, 13));
+        person.set("income", new BigDecimal("1250.50"));
+        person.set("isStudent", false);
+        person.set("aliases", new ArrayList<>(List.of("Neo", "The One")));
+        person.set("address", address("1 Main Street", "Capital City"));
+        person.add("previousAddresses", address("2 Side Street", "Springfield"));
+        person.add("previousAddresses", address("3 Back Street", "Shelbyville"));
+
+        assertEquals(
+                Map.of(
+                        "lastName", List.of("Anderson"),
+                        "dateOfBirth", List.of(LocalDate.of(1971, 9, 13)),
+                        "income", List.of(new BigDecimal("1250.50")),
+                        "isStudent", List.of(false),
+                        "aliases", List.of("Neo", "The One"),
+                        "address.city", List.of("Capital City"),
+                        "previousAddresses.city", List.of("Springfield", "Shelbyville")),
+                SearchableAttributes.of(person));
+    }
+
+    @Test
+    void skipsMissingValues() {
+        final DynamicEntity person = new DynamicEntity(personSchema);
+        person.set("firstName", "Thomas");
+        person.set("address", new DynamicEntity(addressSchema));
+
+        assertTrue(SearchableAttributes.of(person).isEmpty());
+    }
+
+    @Test
+    void listsSearchablePathsOfSchema() {
+        assertEquals(
+                List.of(
+                        "lastName",
+                        "dateOfBirth",
+                        "income",
+                        "isStudent",
+                        "aliases",
+                        "address.city",
+                        "previousAddresses.city"),
+                new ArrayList<>(
+                        SearchableAttributes.paths(
+                                personSchema,
+                                key ->
+                                        "Address".equals(key)
+                                                ? Optional.of(addressSchema)
+                                                : Optional.empty())));
+    }
+
+    private DynamicEntity address(final String line1, final String city) {
+        final DynamicEntity address = new DynamicEntity(addressSchema);
+        address.set("line1", line1);
+        address.set("city", city);
+        return address;
+    }
+}
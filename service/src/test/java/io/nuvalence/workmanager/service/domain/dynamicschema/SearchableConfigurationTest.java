@@ -0,0 +1,43 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration.ValueType;
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+class SearchableConfigurationTest {
+    @Test
+    void testCanApplyTo_WhenTypeIsSearchable() {
+        SearchableConfiguration configuration = new SearchableConfiguration();
+
+        assertTrue(configuration.canApplyTo(String.class));
+        assertTrue(configuration.canApplyTo(BigDecimal.class));
+        assertTrue(configuration.canApplyTo(LocalDate.class));
+    }
+
+    @Test
+    void testCanApplyTo_WhenTypeIsNotSearchable() {
+        SearchableConfiguration configuration = new SearchableConfiguration();
+
+        assertFalse(configuration.canApplyTo(Document.class));
+        assertFalse(configuration.canApplyTo(LocalTime.class));
+    }
+
+    @Test
+    void valueTypeOfEachSearchableType() {
+        assertEquals(ValueType.STRING, ValueType.of(String.class));
+        assertEquals(ValueType.STRING, ValueType.of(Boolean.class));
+        assertEquals(ValueType.NUMBER, ValueType.of(Integer.class));
+        assertEquals(ValueType.NUMBER, ValueType.of(BigDecimal.class));
+        assertEquals(ValueType.DATE, ValueType.of(LocalDate.class));
+        assertNull(ValueType.of(DynamicEntity.class));
+    }
+}
@@ -70,6 +70,8 @@ class TransactionTest {
                 .withPrefabValues(DynaBean.class, redDynaBean, blueDynaBean)
                 .withPrefabValues(CustomerProvidedDocument.class, blueDocument, redDocument)
                 .usingGetClass()
+                // like the id, the optimistic lock version is not part of a transaction's state
+                .withIgnoredFields("version")
                 .verify();
     }
 }
@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import io.nuvalence.workmanager.service.domain.dynamicschema.AttributeConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DocumentProcessingConfiguration;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.AttributeConfigurationJson;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.DocumentProcessingConfigurationJson;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SearchableConfigurationJson;
 import io.nuvalence.workmanager.service.generated.models.AttributeConfigurationModel;
 import io.nuvalence.workmanager.service.generated.models.DocumentProcessorConfigurationModel;
+import io.nuvalence.workmanager.service.generated.models.SearchableConfigurationModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
@@ -71,4 +74,20 @@ class AttributeConfigurationMapperTest {
         assertTrue(result instanceof DocumentProcessingConfiguration);
         assertEquals(processorId, ((DocumentProcessingConfiguration) result).getProcessorId());
     }
+
+    @Test
+    void searchableConfigurationTest() {
+        assertTrue(
+                mapper.attributeJsonToAttribute(new SearchableConfigurationJson())
+                        instanceof SearchableConfiguration);
+        assertTrue(
+                mapper.attributeToAttributeJson(new SearchableConfiguration())
+                        instanceof SearchableConfigurationJson);
+        assertTrue(
+                mapper.attributeToAttributeModel(new SearchableConfiguration())
+                        instanceof SearchableConfigurationModel);
+        assertTrue(
+                mapper.attributeModelToAttribute(new SearchableConfigurationModel())
+                        instanceof SearchableConfiguration);
+    }
 }
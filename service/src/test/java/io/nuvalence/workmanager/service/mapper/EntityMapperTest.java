@@ -1,9 +1,18 @@
 package io.nuvalence.workmanager.service.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import io.nuvalence.workmanager.service.config.SpringConfig;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
@@ -18,9 +27,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -151,4 +162,236 @@ class EntityMapperTest {
 
         assertEquals("Invalid type for key: 'city'. It should be a List.", e.getMessage());
     }
+
+    @Test
+    void testApplyMergePatch() throws MissingSchemaException {
+        when(schemaService.getSchemaByKey("OfficeInfo"))
+                .thenReturn(Optional.ofNullable(officeInfoSchema));
+        DynamicEntity result = new DynamicEntity(schema);
+        entityMapper.applyMappedPropertiesToEntity(result, transactionData);
+        DynamicEntity officeInfo = (DynamicEntity) result.get("officeInfo");
+
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("age", "31");
+        patch.put("company", null);
+        patch.put("officeInfo", Map.of("city", "newCity"));
+        entityMapper.applyMergePatch(result, patch);
+
+        assertEquals(31, result.get("age"));
+        assertNull(result.get("company"));
+        assertEquals("myFirstName", result.get("firstName"));
+        assertSame(officeInfo, result.get("officeInfo"));
+        assertEquals("newCity", officeInfo.get("city"));
+        assertEquals("myOfficeAddress", officeInfo.get("address"));
+    }
+
+    @Test
+    void testApplyMergePatchCreatesMissingNestedEntity() throws MissingSchemaException {
+        when(schemaService.getSchemaByKey("OfficeInfo"))
+                .thenReturn(Optional.ofNullable(officeInfoSchema));
+        DynamicEntity result = new DynamicEntity(schema);
+
+        Map<String, Object> officeInfoPatch = new HashMap<>();
+        officeInfoPatch.put("city", "newCity");
+        officeInfoPatch.put("address", null);
+        entityMapper.applyMergePatch(result, Map.of("officeInfo", officeInfoPatch));
+
+        DynamicEntity officeInfo = (DynamicEntity) result.get("officeInfo");
+        assertEquals("newCity", officeInfo.get("city"));
+        assertNull(officeInfo.get("address"));
+    }
+
+    @Test
+    void testApplyMergePatchConversionError() {
+        DynamicEntity result = new DynamicEntity(schema);
+
+        Exception e =
+                assertThrows(
+                        BusinessLogicException.class,
+                        () -> entityMapper.applyMergePatch(result, Map.of("age", "thirty")));
+
+        assertEquals("Invalid type for key: 'age'. It should be: 'Integer'.", e.getMessage());
+    }
+
+    @Test
+    void testApplyMergePatchKeyNotFound() {
+        DynamicEntity result = new DynamicEntity(schema);
+
+        Exception e =
+                assertThrows(
+                        BusinessLogicException.class,
+                        () -> entityMapper.applyMergePatch(result, Map.of("keyNotFound", "value")));
+
+        assertEquals("Key not found in schema: 'keyNotFound'.", e.getMessage());
+    }
+
+    @Test
+    void testFlattenDynaDataMapForPatch() throws MissingSchemaException {
+        when(schemaService.getSchemaByKey("OfficeInfo"))
+                .thenReturn(Optional.ofNullable(officeInfoSchema));
+        DynamicEntity entity = new DynamicEntity(schema);
+        entityMapper.applyMappedPropertiesToEntity(entity, transactionData);
+
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("age", 31);
+        patch.put("company", null);
+        patch.put("officeInfo", Map.of("city", "newCity"));
+
+        assertEquals(
+                Map.of("age", "30", "company", "myCompany", "officeInfo.city", "myCity"),
+                entityMapper.flattenDynaDataMap(entity, patch));
+    }
+
+    @Test
+    void testApplyMappedPropertiesToEntityResolvesNestedSchemaOnce() throws MissingSchemaException {
+        when(schemaService.getSchemaByKey("OfficeInfo"))
+                .thenReturn(Optional.ofNullable(officeInfoSchema));
+        Schema officesSchema =
+                Schema.builder()
+                        .key("Offices")
+                        .property("offices", List.class, officeInfoSchema)
+                        .relatedSchemas(Map.of("offices", "OfficeInfo"))
+                        .build();
+
+        for (int i = 0; i < 3; i++) {
+            DynamicEntity result = new DynamicEntity(officesSchema);
+            entityMapper.applyMappedPropertiesToEntity(
+                    result,
+                    Map.of(
+                            "offices",
+                            List.of(Map.of("city", "firstCity"), Map.of("city", "secondCity"))));
+
+            List<?> offices = (List<?>) result.get("offices");
+            assertEquals(2, offices.size());
+            assertEquals("secondCity", ((DynamicEntity) offices.get(1)).get("city"));
+        }
+
+        verify(schemaService, times(1)).getSchemaByKey("OfficeInfo");
+    }
+
+    @Test
+    void testApplyMappedPropertiesToEntityMissingNestedSchema() {
+        when(schemaService.getSchemaByKey("OfficeInfo")).thenReturn(Optional.empty());
+        DynamicEntity result = new DynamicEntity(schema);
+
+        Exception e =
+                assertThrows(
+                        MissingSchemaException.class,
+                        () ->
+                                entityMapper.applyMappedPropertiesToEntity(
+                                        result, Map.of("officeInfo", Map.of("city", "myCity"))));
+
+        assertEquals("Schema with name [OfficeInfo] not found.", e.getMessage());
+    }
+
+    @Test
+    void testConvertAttributesToJsonRoundTripsThroughApplyJsonToEntity()
+            throws MissingSchemaException {
+        when(schemaService.getSchemaByKey("OfficeInfo"))
+                .thenReturn(Optional.ofNullable(officeInfoSchema));
+        DynamicEntity entity = new DynamicEntity(schema);
+        entityMapper.applyMappedPropertiesToEntity(entity, transactionData);
+
+        String json = entityMapper.convertAttributesToJson(entity);
+        DynamicEntity result = new DynamicEntity(schema);
+        entityMapper.applyJsonToEntity(result, json);
+
+        assertEquals(LocalDate.of(1993, 12, 21), result.get("dateOfBirth"));
+        assertEquals("myCity", ((DynamicEntity) result.get("officeInfo")).get("city"));
+        assertEquals(json, entityMapper.convertAttributesToJson(result));
+    }
+
+    @Test
+    void testApplyJsonToEntityReadsListsOfEntities() throws MissingSchemaException {
+        when(schemaService.getSchemaByKey("OfficeInfo"))
+                .thenReturn(Optional.ofNullable(officeInfoSchema));
+        DynamicEntity result = new DynamicEntity(createOfficesSchema());
+
+        entityMapper.applyJsonToEntity(
+                result, "{\"offices\": [{\"city\": \"firstCity\"}, null], \"tags\": [\"a\"]}");
+
+        List<?> offices = (List<?>) result.get("offices");
+        assertEquals(2, offices.size());
+        assertEquals("firstCity", ((DynamicEntity) offices.get(0)).get("city"));
+        assertNull(offices.get(1));
+        assertEquals(List.of("a"), result.get("tags"));
+    }
+
+    @Test
+    void testApplyJsonToEntityListOfEntitiesWithScalarElement() {
+        DynamicEntity result = new DynamicEntity(createOfficesSchema());
+
+        Exception e =
+                assertThrows(
+                        BusinessLogicException.class,
+                        () -> entityMapper.applyJsonToEntity(result, "{\"offices\": [1]}"));
+
+        assertEquals(
+                "Invalid type for key: 'offices'. It should be a list of composite objects.",
+                e.getMessage());
+    }
+
+    @Test
+    void testApplyJsonToEntityKeyNotFound() {
+        DynamicEntity result = new DynamicEntity(schema);
+
+        Exception e =
+                assertThrows(
+                        BusinessLogicException.class,
+                        () -> entityMapper.applyJsonToEntity(result, "{\"keyNotFound\": 1}"));
+
+        assertEquals("Key not found in schema: 'keyNotFound'.", e.getMessage());
+    }
+
+    @Test
+    void testSerializableMapWritesTheSameJsonAsTheGenericMap()
+            throws MissingSchemaException, JsonProcessingException {
+        when(schemaService.getSchemaByKey("OfficeInfo"))
+                .thenReturn(Optional.ofNullable(officeInfoSchema));
+        DynamicEntity entity = new DynamicEntity(schema);
+        entityMapper.applyMappedPropertiesToEntity(entity, transactionData);
+        ObjectMapper objectMapper = SpringConfig.getMapper();
+
+        Map<String, Object> attributes = entityMapper.convertAttributesToSerializableMap(entity);
+
+        assertEquals(
+                objectMapper.readTree(
+                        objectMapper.writeValueAsString(
+                                entityMapper.convertAttributesToGenericMap(entity))),
+                objectMapper.readTree(objectMapper.writeValueAsString(attributes)));
+        assertEquals(entityMapper.convertAttributesToGenericMap(entity), attributes);
+    }
+
+    @Test
+    void testObjectMapperReadsEntitiesWithTheirSchema() throws IOException {
+        ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getBean(EntityMapper.class)).thenReturn(entityMapper);
+        entityMapper.setApplicationContext(context);
+        ObjectMapper objectMapper = SpringConfig.getMapper();
+
+        DynamicEntity entity = new DynamicEntity(officeInfoSchema);
+        entity.set("address", "myOfficeAddress");
+        objectMapper.readerForUpdating(entity).readValue("{\"city\": \"myCity\"}");
+        DynamicEntity read =
+                objectMapper
+                        .readerFor(DynamicEntity.class)
+                        .withAttribute(DynamicEntityDeserializer.SCHEMA_ATTRIBUTE, officeInfoSchema)
+                        .readValue("{\"city\": \"otherCity\"}");
+
+        assertEquals("myCity", entity.get("city"));
+        assertEquals("myOfficeAddress", entity.get("address"));
+        assertEquals("otherCity", read.get("city"));
+        assertThrows(
+                MismatchedInputException.class,
+                () -> objectMapper.readValue("{\"city\": \"myCity\"}", DynamicEntity.class));
+    }
+
+    private Schema createOfficesSchema() {
+        return Schema.builder()
+                .key("Offices")
+                .property("offices", List.class, officeInfoSchema)
+                .property("tags", List.class, String.class)
+                .relatedSchemas(Map.of("offices", "OfficeInfo"))
+                .build();
+    }
 }
@@ -1,6 +1,11 @@
 package io.nuvalence.workmanager.service.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.workmanager.service.domain.customerprovideddocument.CustomerProvidedDocument;
@@ -10,6 +15,7 @@ import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowAction;
 import io.nuvalence.workmanager.service.domain.workflow.WorkflowTask;
 import io.nuvalence.workmanager.service.generated.models.CustomerProvidedDocumentModelResponse;
@@ -29,6 +35,8 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @ExtendWith(SpringExtension.class)
@@ -188,4 +196,76 @@ class TransactionMapperTest {
 
         assertEquals(model, mapper.transactionToTransactionModel(transaction));
     }
+
+    @Test
+    void transactionsToTransactionModelsResolvesWorkflowStateOncePerPage() {
+        final List<Transaction> transactions = List.of(transaction);
+        when(transactionTaskService.getActiveTasksForCurrentUserByProcessInstanceId(transactions))
+                .thenReturn(
+                        Map.of(
+                                "process-id",
+                                Collections.singletonList(
+                                        WorkflowTask.builder()
+                                                .key("active-task")
+                                                .name("Active Task")
+                                                .action(
+                                                        WorkflowAction.builder()
+                                                                .key("Complete")
+                                                                .uiLabel("Complete")
+                                                                .uiClass("PRIMARY")
+                                                                .modalContext("complete")
+                                                                .build())
+                                                .build())));
+        when(transactionTaskService.getProcessInstanceIdsThatReachedEndEvent(transactions))
+                .thenReturn(Set.of());
+
+        assertEquals(List.of(model), mapper.transactionsToTransactionModels(transactions));
+        verify(transactionTaskService, never()).getActiveTasksForCurrentUser(any());
+        verify(transactionTaskService, never()).hasReachedEndEvent(any());
+    }
+
+    @Test
+    void transactionsToTransactionModelsMarksEndedTransactionsComplete() {
+        final List<Transaction> transactions = List.of(transaction);
+        when(transactionTaskService.getActiveTasksForCurrentUserByProcessInstanceId(transactions))
+                .thenReturn(Map.of());
+        when(transactionTaskService.getProcessInstanceIdsThatReachedEndEvent(transactions))
+                .thenReturn(Set.of("process-id"));
+
+        final TransactionModel result = mapper.transactionsToTransactionModels(transactions).get(0);
+
+        assertEquals(true, result.getIsComplete());
+        assertEquals(List.of(), result.getActiveTasks());
+    }
+
+    @Test
+    void transactionSummaryToTransactionModelSkipsDataAndWorkflowState() {
+        final TransactionSummary summary =
+                TransactionSummary.builder()
+                        .id(UUID.randomUUID())
+                        .transactionDefinitionKey("test")
+                        .transactionDefinitionId(transaction.getTransactionDefinitionId())
+                        .transactionDefinitionName("testingName")
+                        .processInstanceId("process-id")
+                        .createdBy("Dummy user")
+                        .assignedTo("Dummy Agent")
+                        .priority(TransactionPriority.MEDIUM)
+                        .district("DISTRICT1")
+                        .createdTimestamp(transaction.getCreatedTimestamp())
+                        .lastUpdatedTimestamp(transaction.getLastUpdatedTimestamp())
+                        .status("new")
+                        .build();
+
+        final TransactionModel result = mapper.transactionSummaryToTransactionModel(summary);
+
+        assertEquals(summary.getId(), result.getId());
+        assertEquals(model.getTransactionDefinitionName(), result.getTransactionDefinitionName());
+        assertEquals(model.getPriority(), result.getPriority());
+        assertEquals(model.getStatus(), result.getStatus());
+        assertEquals(model.getAssignedTo(), result.getAssignedTo());
+        assertEquals(Map.of(), result.getData());
+        assertNull(result.getActiveTasks());
+        assertNull(result.getIsComplete());
+        verifyNoInteractions(transactionTaskService);
+    }
 }
@@ -0,0 +1,94 @@
+package io.nuvalence.workmanager.service.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+class KeysetPageTokenTest {
+
+    @Test
+    void roundTripsTimestampPosition() {
+        final Transaction transaction =
+                Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .createdTimestamp(
+                                OffsetDateTime.of(2023, 5, 4, 3, 2, 1, 123456000, ZoneOffset.UTC))
+                        .build();
+        final Sort.Order order = Sort.Order.desc("createdTimestamp");
+
+        final String token = KeysetPageToken.of(transaction, transaction.getId(), order).encode();
+        final KeysetPageToken decoded = KeysetPageToken.decode(token, Transaction.class, order);
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals("createdTimestamp", decoded.getSortBy());
+        assertEquals(Sort.Direction.DESC, decoded.getDirection());
+        assertEquals(
+                transaction.getCreatedTimestamp().toInstant(),
+                ((OffsetDateTime) decoded.getLastValue()).toInstant());
+        assertEquals(transaction.getId(), decoded.getLastId());
+    }
+
+    @Test
+    void roundTripsEnumAndNullPositions() {
+        final Sort.Order order = Sort.Order.asc("priority");
+        final UUID id = UUID.randomUUID();
+
+        assertEquals(
+                TransactionPriority.URGENT,
+                KeysetPageToken.decode(
+                                new KeysetPageToken(
+                                                "priority",
+                                                Sort.Direction.ASC,
+                                                TransactionPriority.URGENT,
+                                                id)
+                                        .encode(),
+                                Transaction.class,
+                                order)
+                        .getLastValue());
+        assertNull(
+                KeysetPageToken.decode(
+                                new KeysetPageToken("priority", Sort.Direction.ASC, null, id)
+                                        .encode(),
+                                Transaction.class,
+                                order)
+                        .getLastValue());
+    }
+
+    @Test
+    void rejectsTokenOfAnotherSortDirection() {
+        final String token =
+                new KeysetPageToken("status", Sort.Direction.ASC, "new", UUID.randomUUID())
+                        .encode();
+
+        assertThrows(
+                ProvidedDataException.class,
+                () -> KeysetPageToken.decode(token, Transaction.class, Sort.Order.desc("status")));
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        KeysetPageToken.decode(
+                                "not a token", Transaction.class, Sort.Order.asc("status")));
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        KeysetPageToken.decode(
+                                "eyJzb3J0QnkiOiJzdGF0dXMifQ",
+                                Transaction.class,
+                                Sort.Order.asc("status")));
+    }
+}
@@ -0,0 +1,237 @@
+package io.nuvalence.workmanager.service.repositoryimpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs the json to jsonb migrations of {@code db.changelog-027} and {@code db.changelog-031}
+ * against a PostgreSQL container, with rows written before and while they run, and checks the
+ * data and indexes they leave. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JsonbMigrationTest {
+    private static final String CHANGELOG = "db/changelog/changelog-master.xml";
+
+    private static final String SHADOW_COLUMN_CHANGESET = "add_transaction_data_jsonb_column";
+
+    private static final String COLUMN_TYPE =
+            "SELECT data_type FROM information_schema.columns WHERE table_schema = current_schema()"
+                    + " AND table_name = ? AND column_name = ?";
+
+    private static final String COLUMN_NULLABLE =
+            "SELECT is_nullable FROM information_schema.columns WHERE table_schema ="
+                    + " current_schema() AND table_name = ? AND column_name = ?";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:14-alpine");
+
+    private Connection connection;
+
+    private Liquibase liquibase;
+
+    @BeforeEach
+    void setup() throws Exception {
+        connection =
+                DriverManager.getConnection(
+                        POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        liquibase =
+                new Liquibase(
+                        CHANGELOG,
+                        new ClassLoaderResourceAccessor(),
+                        DatabaseFactory.getInstance()
+                                .findCorrectDatabaseImplementation(new JdbcConnection(connection)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        liquibase.close();
+    }
+
+    @Test
+    void movesTransactionDataAndTabFiltersToJsonb() throws Exception {
+        update(changeSetsBefore("db.changelog-027.xml"));
+        assertEquals("json", columnType("transaction", "data"));
+
+        final String schemaId = UUID.randomUUID().toString();
+        final String definitionId = UUID.randomUUID().toString();
+        execute(
+                "INSERT INTO dynamic_schema (id, key, name, schema_json, created_by,"
+                        + " last_updated_by) VALUES ('"
+                        + schemaId
+                        + "', 'applicant', 'applicant', '{}', 'test', 'test')");
+        execute(
+                "INSERT INTO transaction_definition (id, transaction_definition_key, name,"
+                        + " process_definition_key, schema_key, default_status, created_by,"
+                        + " last_updated_by) VALUES ('"
+                        + definitionId
+                        + "', 'permit', 'permit', 'test_process', 'applicant', 'Draft', 'test',"
+                        + " 'test')");
+        execute(
+                "INSERT INTO dashboard_tab_configuration (id, tab_label, tab_filter) VALUES ('"
+                        + UUID.randomUUID()
+                        + "', 'Drafts', '{\"status\": \"Dra\\u0000ft\"}')");
+        final String backfilled =
+                insertTransaction(schemaId, definitionId, "{\"lastName\": \"Smith\"}");
+        // json accepts \u0000 escapes, jsonb does not
+        final String escaped =
+                insertTransaction(
+                        schemaId,
+                        definitionId,
+                        "{\"lastName\": \"Smi\\u0000th\", \"note\": \"\\\\u0000\"}");
+
+        // rows written between adding the shadow column and swapping it in are kept by the trigger
+        update(changeSetsBefore(SHADOW_COLUMN_CHANGESET) + 1);
+        final String synced =
+                insertTransaction(schemaId, definitionId, "{\"lastName\": \"Do\\u0000e\"}");
+        execute(
+                "UPDATE transaction SET data = '{\"lastName\": \"Jones\"}' WHERE id = '"
+                        + backfilled
+                        + "'");
+
+        liquibase.update(new Contexts(), new LabelExpression());
+
+        assertEquals("jsonb", columnType("transaction", "data"));
+        assertEquals("NO", queryString(COLUMN_NULLABLE, "transaction", "data"));
+        assertEquals("Jones", lastName(backfilled));
+        assertEquals("Smith", lastName(escaped));
+        assertEquals(
+                "\\u0000",
+                queryString("SELECT data ->> 'note' FROM transaction WHERE id = ?", escaped));
+        assertEquals("Doe", lastName(synced));
+        assertTrue(
+                queryString(
+                                "SELECT indexdef FROM pg_indexes WHERE schemaname ="
+                                        + " current_schema() AND indexname ="
+                                        + " 'idx_transaction_data'")
+                        .contains("jsonb_path_ops"));
+        assertEquals(
+                List.of(),
+                queryStrings(
+                        "SELECT tgname FROM pg_trigger WHERE tgrelid = 'transaction'::regclass"
+                                + " AND NOT tgisinternal"));
+        assertEquals(
+                List.of(),
+                queryStrings(
+                        "SELECT routine_name FROM information_schema.routines WHERE"
+                                + " routine_schema = current_schema()"));
+        assertEquals(
+                List.of(),
+                queryStrings(
+                        "SELECT constraint_name FROM information_schema.table_constraints WHERE"
+                                + " constraint_schema = current_schema() AND constraint_name ="
+                                + " 'transaction_data_jsonb_not_null'"));
+
+        assertEquals("jsonb", columnType("dashboard_tab_configuration", "tab_filter"));
+        assertEquals(
+                "Draft",
+                queryString(
+                        "SELECT tab_filter ->> 'status' FROM dashboard_tab_configuration WHERE"
+                                + " tab_label = ?",
+                        "Drafts"));
+    }
+
+    private int changeSetsBefore(final String idOrFile) throws Exception {
+        final List<ChangeSet> unrun =
+                liquibase.listUnrunChangeSets(new Contexts(), new LabelExpression());
+        for (int i = 0; i < unrun.size(); i++) {
+            final ChangeSet changeSet = unrun.get(i);
+            if (changeSet.getId().equals(idOrFile) || changeSet.getFilePath().endsWith(idOrFile)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No pending change set " + idOrFile);
+    }
+
+    private void update(final int changeSets) throws Exception {
+        liquibase.update(changeSets, new Contexts(), new LabelExpression());
+    }
+
+    private String insertTransaction(
+            final String schemaId, final String definitionId, final String data)
+            throws SQLException {
+        final String id = UUID.randomUUID().toString();
+        try (PreparedStatement statement =
+                connection.prepareStatement(
+                        "INSERT INTO transaction (id, transaction_definition_id,"
+                                + " transaction_definition_key, process_instance_id, created_by,"
+                                + " last_updated_by, external_id, dynamic_schema_id, data) VALUES"
+                                + " (?, ?, 'permit', 'process', 'test', 'test', ?, ?, ?::json)")) {
+            statement.setString(1, id);
+            statement.setString(2, definitionId);
+            statement.setString(3, id.substring(0, 8));
+            statement.setString(4, schemaId);
+            statement.setString(5, data);
+            statement.executeUpdate();
+        }
+        commit();
+        return id;
+    }
+
+    private String lastName(final String id) throws SQLException {
+        return queryString("SELECT data ->> 'lastName' FROM transaction WHERE id = ?", id);
+    }
+
+    private String columnType(final String table, final String column) throws SQLException {
+        return queryString(COLUMN_TYPE, table, column);
+    }
+
+    private String queryString(final String sql, final String... parameters) throws SQLException {
+        final List<String> values = queryStrings(sql, parameters);
+        assertEquals(1, values.size(), sql);
+        return values.get(0);
+    }
+
+    private List<String> queryStrings(final String sql, final String... parameters)
+            throws SQLException {
+        final List<String> values = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+            }
+            try (ResultSet results = statement.executeQuery()) {
+                while (results.next()) {
+                    values.add(results.getString(1));
+                }
+            }
+        }
+        return values;
+    }
+
+    private void execute(final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+        commit();
+    }
+
+    private void commit() throws SQLException {
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+}
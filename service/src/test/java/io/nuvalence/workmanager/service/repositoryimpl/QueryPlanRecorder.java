@@ -0,0 +1,158 @@
+package io.nuvalence.workmanager.service.repositoryimpl;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps a data source so that, while recording, every query prepared through it is also run
+ * through {@code EXPLAIN} with the same bind values, on the same connection.
+ *
+ * <p>On PostgreSQL sequential scans are disabled while explaining, so a plan only shows one when
+ * no index can serve the query at all, regardless of how much data the test database holds.</p>
+ */
+final class QueryPlanRecorder {
+
+    /**
+     * An executed query and the plan the database chose for it.
+     *
+     * @param sql  query as sent by hibernate
+     * @param plan textual plan
+     */
+    record QueryPlan(String sql, String plan) {}
+
+    private final ThreadLocal<List<QueryPlan>> recording = new ThreadLocal<>();
+
+    /**
+     * Starts recording the plans of queries issued by the current thread.
+     */
+    void start() {
+        recording.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops recording.
+     *
+     * @return plans of the queries issued since {@link #start()}
+     */
+    List<QueryPlan> stop() {
+        final List<QueryPlan> plans = recording.get();
+        recording.remove();
+        return plans == null ? List.of() : plans;
+    }
+
+    DataSource wrap(final DataSource dataSource) {
+        return proxy(
+                DataSource.class,
+                dataSource,
+                (method, args, result) ->
+                        method.getName().equals("getConnection")
+                                ? wrap((Connection) result)
+                                : result);
+    }
+
+    private Connection wrap(final Connection connection) {
+        return proxy(
+                Connection.class,
+                connection,
+                (method, args, result) ->
+                        method.getName().equals("prepareStatement")
+                                ? wrap((PreparedStatement) result, connection, (String) args[0])
+                                : result);
+    }
+
+    private PreparedStatement wrap(
+            final PreparedStatement statement, final Connection connection, final String sql) {
+        final List<Object[]> bindings = new ArrayList<>();
+        return (PreparedStatement)
+                Proxy.newProxyInstance(
+                        getClass().getClassLoader(),
+                        new Class<?>[] {PreparedStatement.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().startsWith("set")
+                                    && args != null
+                                    && args.length > 1
+                                    && args[0] instanceof Integer) {
+                                bindings.add(new Object[] {method, args});
+                            } else if (method.getName().equals("clearParameters")) {
+                                bindings.clear();
+                            } else if (method.getName().equals("executeQuery")
+                                    && recording.get() != null) {
+                                recording
+                                        .get()
+                                        .add(
+                                                new QueryPlan(
+                                                        sql, explain(connection, sql, bindings)));
+                            }
+                            return invoke(method, statement, args);
+                        });
+    }
+
+    private static String explain(
+            final Connection connection, final String sql, final List<Object[]> bindings)
+            throws SQLException, ReflectiveOperationException {
+        final boolean postgres =
+                connection
+                        .getMetaData()
+                        .getDatabaseProductName()
+                        .toLowerCase(Locale.ROOT)
+                        .contains("postgres");
+        if (postgres) {
+            execute(connection, "SET enable_seqscan = off");
+        }
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Object[] binding : bindings) {
+                ((Method) binding[0]).invoke(explain, (Object[]) binding[1]);
+            }
+            final StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        } finally {
+            if (postgres) {
+                execute(connection, "RESET enable_seqscan");
+            }
+        }
+    }
+
+    private static void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private interface ResultWrapper {
+        Object wrap(Method method, Object[] args, Object result);
+    }
+
+    private <T> T proxy(final Class<T> type, final T target, final ResultWrapper wrapper) {
+        return type.cast(
+                Proxy.newProxyInstance(
+                        getClass().getClassLoader(),
+                        new Class<?>[] {type},
+                        (proxy, method, args) ->
+                                wrapper.wrap(method, args, invoke(method, target, args))));
+    }
+
+    private static Object invoke(final Method method, final Object target, final Object[] args)
+            throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
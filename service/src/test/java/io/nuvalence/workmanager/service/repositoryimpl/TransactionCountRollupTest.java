@@ -0,0 +1,196 @@
+package io.nuvalence.workmanager.service.repositoryimpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.repository.SchemaRepository;
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import io.nuvalence.workmanager.service.service.TransactionAuditEventService;
+import io.nuvalence.workmanager.service.service.TransactionCountReconciler;
+import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
+import io.nuvalence.workmanager.service.service.TransactionService;
+import io.nuvalence.workmanager.service.service.TransactionTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Checks the {@code transaction_counts} rollup against a database, for the cases its unit tests
+ * cannot reach: concurrent updates of one transaction and reconciling drifted rows.
+ */
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=" + TransactionCountRollupTest.H2_URL,
+            "spring.datasource.driver-class-name=",
+            "spring.liquibase.url=" + TransactionCountRollupTest.H2_URL,
+            "spring.liquibase.driver-class-name=",
+            "spring.jpa.database-platform=",
+            "transactionCounts.reconcileCron=-"
+        })
+@ActiveProfiles("test")
+class TransactionCountRollupTest {
+    static final String H2_URL =
+            "jdbc:h2:mem:transactioncounts;DB_CLOSE_DELAY=-1;INIT=CREATE TYPE IF NOT EXISTS"
+                    + " \"JSONB\" AS text";
+
+    @Autowired private SchemaRepository schemaRepository;
+
+    @Autowired private TransactionDefinitionService transactionDefinitionService;
+
+    @Autowired private TransactionService transactionService;
+
+    @Autowired private TransactionRepository transactionRepository;
+
+    @Autowired private TransactionCountReconciler reconciler;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    @MockBean private TransactionTaskService transactionTaskService;
+
+    @MockBean private TransactionAuditEventService transactionAuditEventService;
+
+    private TransactionDefinition definition;
+
+    @BeforeEach
+    void setup() {
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        UserToken.builder()
+                                .applicationUserId(UUID.randomUUID().toString())
+                                .providerUserId("user")
+                                .authorities(List.of())
+                                .build());
+
+        final String key = "counts" + UUID.randomUUID().toString().replace("-", "");
+        schemaRepository.save(
+                SchemaRow.builder()
+                        .key(key)
+                        .name(key)
+                        .schemaJson(
+                                "{\"key\": \""
+                                        + key
+                                        + "\", \"name\": \""
+                                        + key
+                                        + "\", \"attributes\": []}")
+                        .createdBy("test")
+                        .lastUpdatedBy("test")
+                        .createdTimestamp(OffsetDateTime.now())
+                        .lastUpdatedTimestamp(OffsetDateTime.now())
+                        .build());
+        definition =
+                transactionDefinitionService.saveTransactionDefinition(
+                        TransactionDefinition.builder()
+                                .id(UUID.randomUUID())
+                                .key(key)
+                                .name(key)
+                                .processDefinitionKey("test_process")
+                                .schemaKey(key)
+                                .defaultStatus("Draft")
+                                .category("application")
+                                .defaultFormConfigurationKey("form")
+                                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void staleUpdateOfAConcurrentlyUpdatedTransactionIsRejected() throws Exception {
+        final UUID id = createTransaction("Draft");
+        final TransactionTemplate concurrent =
+                new TransactionTemplate(transactionTemplate.getTransactionManager());
+        concurrent.setPropagationBehavior(Propagation.REQUIRES_NEW.value());
+
+        assertThrows(
+                ObjectOptimisticLockingFailureException.class,
+                () ->
+                        transactionTemplate.executeWithoutResult(
+                                status -> {
+                                    final Transaction stale =
+                                            transactionRepository.findById(id).orElseThrow();
+                                    concurrent.executeWithoutResult(
+                                            inner ->
+                                                    transactionRepository
+                                                            .findById(id)
+                                                            .orElseThrow()
+                                                            .setStatus("Review"));
+                                    stale.setStatus("Closed");
+                                    transactionRepository.save(stale);
+                                }));
+
+        assertEquals(Map.of("Review", 1L), counts());
+    }
+
+    @Test
+    void reconcileRecomputesDriftedCounts() throws Exception {
+        createTransaction("Draft");
+        createTransaction("Draft");
+        createTransaction("Review");
+        jdbcTemplate.update(
+                "UPDATE transaction_counts SET transaction_count = 7 WHERE"
+                        + " transaction_definition_key = ? AND status = 'Draft'",
+                definition.getKey());
+        jdbcTemplate.update(
+                "INSERT INTO transaction_counts (transaction_definition_key, status, priority,"
+                        + " assigned_to, transaction_count) VALUES (?, 'Closed', 0, '', 3)",
+                definition.getKey());
+        jdbcTemplate.update(
+                "DELETE FROM transaction_counts WHERE transaction_definition_key = ? AND"
+                        + " status = 'Review'",
+                definition.getKey());
+
+        reconciler.reconcile();
+
+        assertEquals(Map.of("Draft", 2L, "Review", 1L), counts());
+    }
+
+    private UUID createTransaction(final String status) throws Exception {
+        final Transaction transaction = transactionService.createTransaction(definition);
+        return transactionTemplate.execute(
+                ignored -> {
+                    final Transaction saved =
+                            transactionRepository.findById(transaction.getId()).orElseThrow();
+                    saved.setStatus(status);
+                    return saved.getId();
+                });
+    }
+
+    private Map<String, Long> counts() {
+        final Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT status, SUM(transaction_count) FROM transaction_counts"
+                        + " WHERE transaction_definition_key = ? GROUP BY status"
+                        + " HAVING SUM(transaction_count) > 0",
+                row -> {
+                    counts.put(row.getString(1), row.getLong(2));
+                },
+                definition.getKey());
+        return counts;
+    }
+}
@@ -0,0 +1,226 @@
+package io.nuvalence.workmanager.service.repositoryimpl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration.ValueType;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.models.KeysetPageToken;
+import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter.Operator;
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL generated for each transaction search filter shape and fails
+ * when the transaction table would be read with a sequential scan.
+ *
+ * <p>Runs against an in memory H2 database by default. Pass {@code -DqueryPlan.url},
+ * {@code -DqueryPlan.username} and {@code -DqueryPlan.password} to check the plans of a
+ * PostgreSQL database instead, which also covers the lower(external_id) index H2 cannot
+ * create.</p>
+ */
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=${queryPlan.url:" + TransactionSearchQueryPlanTest.H2_URL + "}",
+            "spring.datasource.username=${queryPlan.username:sa}",
+            "spring.datasource.password=${queryPlan.password:sa}",
+            "spring.datasource.driver-class-name=",
+            "spring.liquibase.url=${queryPlan.url:" + TransactionSearchQueryPlanTest.H2_URL + "}",
+            "spring.liquibase.user=${queryPlan.username:sa}",
+            "spring.liquibase.password=${queryPlan.password:sa}",
+            "spring.liquibase.driver-class-name=",
+            "spring.jpa.database-platform="
+        })
+@ActiveProfiles("test")
+@Transactional
+class TransactionSearchQueryPlanTest {
+    static final String H2_URL =
+            "jdbc:h2:mem:queryplans;DB_CLOSE_DELAY=-1;INIT=CREATE TYPE IF NOT EXISTS \"JSONB\" AS"
+                    + " text";
+
+    private static final Pattern TRANSACTION_SCAN =
+            Pattern.compile("Seq Scan on transaction\\b|\\bTRANSACTION\\.tableScan\\b");
+
+    private static final QueryPlanRecorder RECORDER = new QueryPlanRecorder();
+
+    @Autowired private TransactionRepository transactionRepository;
+
+    @Autowired private DataSource dataSource;
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    @TestConfiguration
+    static class QueryPlanConfiguration {
+        @Bean
+        static BeanPostProcessor queryPlanRecordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(
+                        final Object bean, final String beanName) {
+                    return bean instanceof DataSource source ? RECORDER.wrap(source) : bean;
+                }
+            };
+        }
+    }
+
+    static Stream<Arguments> filterShapes() {
+        final Map<String, Consumer<SearchTransactionsFilters>> drivingFilters =
+                Map.of(
+                        "definition keys",
+                        filters -> filters.setTransactionDefinitionKeys(List.of("key1", "key2")),
+                        "assigned to",
+                        filters -> filters.setAssignedTo(List.of(UUID.randomUUID().toString())),
+                        "subject user",
+                        filters -> filters.setSubjectUserId(UUID.randomUUID().toString()),
+                        "external id",
+                        filters -> filters.setExternalId("AbC123"),
+                        "created range",
+                        filters -> {
+                            filters.setStartDate(OffsetDateTime.now().minusDays(7));
+                            filters.setEndDate(OffsetDateTime.now());
+                        },
+                        "category",
+                        filters -> filters.setCategory("permits"));
+        final Map<String, Consumer<SearchTransactionsFilters>> refinements =
+                Map.of(
+                        "",
+                        filters -> {},
+                        " + status",
+                        filters -> filters.setStatus(List.of("Draft", "Review")),
+                        " + priority",
+                        filters -> filters.setPriority(List.of(TransactionPriority.HIGH)),
+                        " + status + priority",
+                        filters -> {
+                            filters.setStatus(List.of("Draft"));
+                            filters.setPriority(
+                                    List.of(TransactionPriority.HIGH, TransactionPriority.URGENT));
+                        },
+                        " + data",
+                        filters ->
+                                filters.setDataFilters(
+                                        List.of(
+                                                new TransactionDataFilter(
+                                                        "applicant.lastName",
+                                                        ValueType.STRING,
+                                                        Operator.PREFIX,
+                                                        "Smi"),
+                                                new TransactionDataFilter(
+                                                        "income",
+                                                        ValueType.NUMBER,
+                                                        Operator.GREATER_OR_EQUAL,
+                                                        BigDecimal.TEN))));
+
+        final Stream.Builder<Arguments> shapes = Stream.builder();
+        for (String sortBy : List.of("createdTimestamp", "lastUpdatedTimestamp")) {
+            drivingFilters.forEach(
+                    (drivingName, drivingFilter) ->
+                            refinements.forEach(
+                                    (refinementName, refinement) ->
+                                            shapes.add(
+                                                    Arguments.of(
+                                                            drivingName
+                                                                    + refinementName
+                                                                    + " by "
+                                                                    + sortBy,
+                                                            drivingFilter.andThen(refinement),
+                                                            sortBy))));
+        }
+        return shapes.build();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterShapes")
+    void searchDoesNotScanTransactionTable(
+            final String shape,
+            final Consumer<SearchTransactionsFilters> filter,
+            final String sortBy)
+            throws SQLException {
+        final boolean expressionIndexes = supportsExpressionIndexes();
+        final SearchTransactionsFilters filters =
+                SearchTransactionsFilters.builder()
+                        .sortBy(sortBy)
+                        .sortOrder("DESC")
+                        .pageNumber(0)
+                        .pageSize(25)
+                        .build();
+        filter.accept(filters);
+        assumeTrue(
+                filters.getExternalId() == null || expressionIndexes,
+                "lower(external_id) can only be indexed on PostgreSQL");
+        final Sort.Order order = filters.getSort().iterator().next();
+
+        RECORDER.start();
+        final List<QueryPlanRecorder.QueryPlan> plans;
+        try {
+            transactionRepository.findAll(
+                    filters.getTransactionSpecifications(), filters.getPageRequest());
+            transactionRepository.count(filters.getTransactionSpecifications());
+            transactionRepository.findAllByKeyset(
+                    filters.getTransactionSpecifications(),
+                    order,
+                    new KeysetPageToken(
+                            sortBy, order.getDirection(), OffsetDateTime.now(), UUID.randomUUID()),
+                    26);
+            transactionRepository.findAllSummaries(
+                    filters.getTransactionSpecifications(), filters.getPageRequest());
+            transactionRepository.findAllSummariesByKeyset(
+                    filters.getTransactionSpecifications(),
+                    order,
+                    new KeysetPageToken(
+                            sortBy, order.getDirection(), OffsetDateTime.now(), UUID.randomUUID()),
+                    26);
+        } finally {
+            plans = RECORDER.stop();
+        }
+
+        assertFalse(plans.isEmpty(), "No queries were recorded for " + shape);
+        for (QueryPlanRecorder.QueryPlan plan : plans) {
+            assertFalse(
+                    TRANSACTION_SCAN.matcher(plan.plan()).find(),
+                    () ->
+                            shape
+                                    + " scans the transaction table:\n"
+                                    + plan.sql()
+                                    + "\n"
+                                    + plan.plan());
+        }
+    }
+
+    private boolean supportsExpressionIndexes() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection
+                    .getMetaData()
+                    .getDatabaseProductName()
+                    .toLowerCase(Locale.ROOT)
+                    .contains("postgres");
+        }
+    }
+}
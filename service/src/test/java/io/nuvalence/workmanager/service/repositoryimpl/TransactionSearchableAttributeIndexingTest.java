@@ -0,0 +1,221 @@
+package io.nuvalence.workmanager.service.repositoryimpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.repository.SchemaRepository;
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
+import io.nuvalence.workmanager.service.service.TransactionAuditEventService;
+import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
+import io.nuvalence.workmanager.service.service.TransactionSearchableAttributeIndexer;
+import io.nuvalence.workmanager.service.service.TransactionService;
+import io.nuvalence.workmanager.service.service.TransactionTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Checks that the searchable attributes of existing transactions are indexed against a database,
+ * for the transactions saved before their attributes were made searchable.
+ */
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=" + TransactionSearchableAttributeIndexingTest.H2_URL,
+            "spring.datasource.driver-class-name=",
+            "spring.liquibase.url=" + TransactionSearchableAttributeIndexingTest.H2_URL,
+            "spring.liquibase.driver-class-name=",
+            "spring.jpa.database-platform=",
+            "transactionSearch.indexIntervalMillis=3600000",
+            "transactionSearch.indexBatchSize=2"
+        })
+@ActiveProfiles("test")
+class TransactionSearchableAttributeIndexingTest {
+    static final String H2_URL =
+            "jdbc:h2:mem:searchableattributes;DB_CLOSE_DELAY=-1;INIT=CREATE TYPE IF NOT EXISTS"
+                    + " \"JSONB\" AS text";
+
+    @Autowired private SchemaRepository schemaRepository;
+
+    @Autowired private TransactionDefinitionService transactionDefinitionService;
+
+    @Autowired private TransactionService transactionService;
+
+    @Autowired private TransactionRepository transactionRepository;
+
+    @Autowired private TransactionSearchableAttributeRepository searchableAttributeRepository;
+
+    @Autowired private TransactionSearchableAttributeIndexer indexer;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    @MockBean private TransactionTaskService transactionTaskService;
+
+    @MockBean private TransactionAuditEventService transactionAuditEventService;
+
+    private TransactionDefinition definition;
+
+    @BeforeEach
+    void setup() {
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        UserToken.builder()
+                                .applicationUserId(UUID.randomUUID().toString())
+                                .providerUserId("user")
+                                .authorities(List.of())
+                                .build());
+
+        final String key = "search" + UUID.randomUUID().toString().replace("-", "");
+        schemaRepository.save(
+                SchemaRow.builder()
+                        .key(key)
+                        .name(key)
+                        .schemaJson(
+                                "{\"key\": \""
+                                        + key
+                                        + "\", \"name\": \""
+                                        + key
+                                        + "\", \"attributes\": [{\"name\": \"lastName\","
+                                        + " \"type\": \"String\", \"attributeConfigurations\":"
+                                        + " [{\"type\": \"Searchable\"}]}]}")
+                        .createdBy("test")
+                        .lastUpdatedBy("test")
+                        .createdTimestamp(OffsetDateTime.now())
+                        .lastUpdatedTimestamp(OffsetDateTime.now())
+                        .build());
+        definition =
+                transactionDefinitionService.saveTransactionDefinition(
+                        TransactionDefinition.builder()
+                                .id(UUID.randomUUID())
+                                .key(key)
+                                .name(key)
+                                .processDefinitionKey("test_process")
+                                .schemaKey(key)
+                                .defaultStatus("Draft")
+                                .category("application")
+                                .defaultFormConfigurationKey("form")
+                                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void indexesTransactionsSavedBeforeTheirAttributesWereIndexed() throws Exception {
+        final UUID smith = createTransaction("Smith");
+        final UUID jones = createTransaction("Jones");
+        final UUID doe = createTransaction("Doe");
+        final long version = transactionRepository.findById(smith).orElseThrow().getVersion();
+        // as if the transactions had been saved before the attribute was made searchable
+        jdbcTemplate.update(
+                "DELETE FROM transaction_searchable_attribute WHERE transaction_id IN (?, ?, ?)",
+                smith.toString(),
+                jones.toString(),
+                doe.toString());
+
+        assertEquals(Set.of(), searchableAttributeRepository.findIndexedPaths(definition.getKey()));
+
+        indexer.index();
+
+        assertEquals(
+                Set.of("lastName"),
+                searchableAttributeRepository.findIndexedPaths(definition.getKey()));
+        assertEquals(Map.of(smith, "Smith", jones, "Jones", doe, "Doe"), indexedLastNames());
+        assertEquals(version, transactionRepository.findById(smith).orElseThrow().getVersion());
+    }
+
+    @Test
+    void removesPathsThatAreNoLongerSearchable() throws Exception {
+        final UUID smith = createTransaction("Smith");
+        indexer.index();
+        jdbcTemplate.update(
+                "INSERT INTO transaction_searchable_path (transaction_definition_key, path,"
+                        + " indexed) VALUES (?, 'firstName', TRUE)",
+                definition.getKey());
+        jdbcTemplate.update(
+                "INSERT INTO transaction_searchable_attribute (transaction_id, path, value_index,"
+                        + " string_value) VALUES (?, 'firstName', 0, 'John')",
+                smith.toString());
+
+        indexer.index();
+
+        assertEquals(
+                Set.of("lastName"),
+                searchableAttributeRepository.findIndexedPaths(definition.getKey()));
+        assertEquals(
+                List.of("lastName"),
+                jdbcTemplate.queryForList(
+                        "SELECT path FROM transaction_searchable_attribute WHERE transaction_id"
+                                + " = ?",
+                        String.class,
+                        smith.toString()));
+    }
+
+    @Test
+    void changingTheSearchableConfigurationInvalidatesNestedAndTopLevelPaths() {
+        jdbcTemplate.update(
+                "INSERT INTO transaction_searchable_path (transaction_definition_key, path,"
+                        + " indexed) VALUES (?, 'lastName', TRUE), (?, 'applicant.lastName',"
+                        + " TRUE), (?, 'income', TRUE)",
+                definition.getKey(),
+                definition.getKey(),
+                definition.getKey());
+
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        searchableAttributeRepository.invalidateSearchablePaths(
+                                Set.of(definition.getSchemaKey()), Set.of("lastName")));
+
+        assertEquals(
+                Set.of("income"),
+                searchableAttributeRepository.findIndexedPaths(definition.getKey()));
+    }
+
+    private UUID createTransaction(final String lastName) throws Exception {
+        final Transaction transaction = transactionService.createTransaction(definition);
+        return transactionTemplate.execute(
+                ignored -> {
+                    final Transaction saved =
+                            transactionRepository.findById(transaction.getId()).orElseThrow();
+                    saved.getData().set("lastName", lastName);
+                    return saved.getId();
+                });
+    }
+
+    private Map<UUID, String> indexedLastNames() {
+        final Map<UUID, String> lastNames = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT transaction_id, string_value FROM transaction_searchable_attribute"
+                        + " WHERE path = 'lastName' AND transaction_id IN (SELECT id FROM"
+                        + " transaction WHERE transaction_definition_key = ?)",
+                row -> {
+                    lastNames.put(UUID.fromString(row.getString(1)), row.getString(2));
+                },
+                definition.getKey());
+        return lastNames;
+    }
+}
@@ -4,19 +4,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.domain.transaction.DashboardConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.DashboardTabConfiguration;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinitionSet;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
 import io.nuvalence.workmanager.service.repository.DashboardConfigurationRepository;
-import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import io.nuvalence.workmanager.service.repository.TransactionCountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,7 +38,7 @@ class DashboardConfigurationServiceTest {
 
     @Mock private TransactionDefinitionSetOrderService transactionDefinitionSetOrderService;
 
-    @Mock private TransactionRepository transactionRepository;
+    @Mock private TransactionCountRepository transactionCountRepository;
 
     @Mock private TransactionDefinitionService transactionDefinitionService;
 
@@ -44,7 +50,7 @@ class DashboardConfigurationServiceTest {
                 new DashboardConfigurationService(
                         repository,
                         transactionDefinitionSetOrderService,
-                        transactionRepository,
+                        transactionCountRepository,
                         transactionDefinitionService);
     }
 
@@ -105,24 +111,20 @@ class DashboardConfigurationServiceTest {
 
     @Test
     void testCountTabsForDashboardSimpleStatus() {
-        DashboardTabConfiguration tabConfiguration =
-                DashboardTabConfiguration.builder()
-                        .tabLabel("one")
-                        .filter(Map.of("status", "Draft"))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
-
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
+        mockDashboard(tab("one", Map.of("status", "Draft")));
 
         List<String> transactionDefinitionKeys = List.of("key");
         when(transactionDefinitionService.createTransactionDefinitionKeysList(any(), any()))
                 .thenReturn(transactionDefinitionKeys);
 
-        when(transactionRepository.getTransactionCountsByStatusSimplified(
-                        Set.of("Draft"), transactionDefinitionKeys))
-                .thenReturn(Map.of("Draft", 1L));
+        when(transactionCountRepository.countEach(
+                        argThat(
+                                filters ->
+                                        filters.get("one").getStatus().equals(List.of("Draft"))
+                                                && filters.get("one")
+                                                        .getTransactionDefinitionKeys()
+                                                        .equals(transactionDefinitionKeys))))
+                .thenReturn(Map.of("one", 1L));
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
@@ -133,24 +135,22 @@ class DashboardConfigurationServiceTest {
 
     @Test
     void testCountTabsForDashboardSimplePriority() {
-        DashboardTabConfiguration tabConfiguration =
-                DashboardTabConfiguration.builder()
-                        .tabLabel("one")
-                        .filter(Map.of("priority", "LOW"))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
-
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
+        mockDashboard(tab("one", Map.of("priority", "LOW")));
 
         List<String> transactionDefinitionKeys = List.of("key");
         when(transactionDefinitionService.createTransactionDefinitionKeysList(any(), any()))
                 .thenReturn(transactionDefinitionKeys);
 
-        when(transactionRepository.getTransactionCountsByPrioritySimplified(
-                        Set.of("LOW"), transactionDefinitionKeys))
-                .thenReturn(Map.of("LOW", 1L));
+        when(transactionCountRepository.countEach(
+                        argThat(
+                                filters ->
+                                        filters.get("one")
+                                                        .getPriority()
+                                                        .equals(List.of(TransactionPriority.LOW))
+                                                && filters.get("one")
+                                                        .getTransactionDefinitionKeys()
+                                                        .equals(transactionDefinitionKeys))))
+                .thenReturn(Map.of("one", 1L));
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
@@ -161,17 +161,10 @@ class DashboardConfigurationServiceTest {
 
     @Test
     void testCountTabsForDashboardSimpleAssignedToMe() {
-        DashboardTabConfiguration tabConfiguration =
-                DashboardTabConfiguration.builder()
-                        .tabLabel("one")
-                        .filter(Map.of("assignedToMe", true))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
-
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
-        when(transactionRepository.count(any())).thenReturn(1L);
+        mockDashboard(tab("one", Map.of("assignedToMe", true)));
+        when(transactionCountRepository.countEach(
+                        argThat(filters -> filters.get("one").getAssignedToMe())))
+                .thenReturn(Map.of("one", 1L));
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
@@ -182,18 +175,14 @@ class DashboardConfigurationServiceTest {
 
     @Test
     void testCountTabsForDashboardList() {
-        DashboardTabConfiguration tabConfiguration =
-                DashboardTabConfiguration.builder()
-                        .tabLabel("one")
-                        .filter(Map.of("status", List.of("Draft", "Review")))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
-
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
-        when(transactionRepository.getTransactionCountsByStatusSimplified(any(), any()))
-                .thenReturn(Map.of("Draft", 3L, "Review", 2L));
+        mockDashboard(tab("one", Map.of("status", List.of("Draft", "Review"))));
+        when(transactionCountRepository.countEach(
+                        argThat(
+                                filters ->
+                                        filters.get("one")
+                                                .getStatus()
+                                                .equals(List.of("Draft", "Review")))))
+                .thenReturn(Map.of("one", 5L));
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
@@ -204,17 +193,15 @@ class DashboardConfigurationServiceTest {
 
     @Test
     void testCountTabsForComplex() {
-        DashboardTabConfiguration tabConfiguration =
-                DashboardTabConfiguration.builder()
-                        .tabLabel("one")
-                        .filter(Map.of("status", "Draft", "priority", "LOW"))
-                        .build();
-        DashboardConfiguration dashboardConfiguration =
-                DashboardConfiguration.builder().tabs(List.of(tabConfiguration)).build();
-
-        when(repository.findByTransactionDefinitionSetKey("key"))
-                .thenReturn(Optional.of(dashboardConfiguration));
-        when(transactionRepository.count(any())).thenReturn(4L);
+        mockDashboard(tab("one", Map.of("status", "Draft", "priority", "LOW")));
+        when(transactionCountRepository.countEach(
+                        argThat(
+                                filters ->
+                                        filters.get("one").getStatus().equals(List.of("Draft"))
+                                                && filters.get("one")
+                                                        .getPriority()
+                                                        .equals(List.of(TransactionPriority.LOW)))))
+                .thenReturn(Map.of("one", 4L));
 
         Map<String, Long> result = service.countTabsForDashboard("key");
 
@@ -222,4 +209,52 @@ class DashboardConfigurationServiceTest {
         assertTrue(result.keySet().contains("one"));
         assertEquals(4L, result.get("one"));
     }
+
+    @Test
+    void testCountTabsForDashboardCountsAllTabsTogether() {
+        mockDashboard(
+                tab("drafts", Map.of("status", "Draft")),
+                tab("urgent", Map.of("priority", List.of("URGENT"))),
+                tab("urgent drafts", Map.of("status", "Draft", "priority", "URGENT")),
+                tab("none", Map.of("status", List.of())),
+                tab("empty", Map.of()),
+                tab("unknown", Map.of("category", "permits")));
+        when(transactionCountRepository.countEach(
+                        argThat(
+                                filters ->
+                                        filters.keySet()
+                                                .equals(
+                                                        Set.of(
+                                                                "drafts",
+                                                                "urgent",
+                                                                "urgent drafts")))))
+                .thenReturn(Map.of("drafts", 3L, "urgent", 2L, "urgent drafts", 1L));
+
+        Map<String, Long> result = service.countTabsForDashboard("key");
+
+        verify(transactionCountRepository).countEach(any());
+        verifyNoMoreInteractions(transactionCountRepository);
+        assertEquals(
+                Map.of("drafts", 3L, "urgent", 2L, "urgent drafts", 1L, "none", 0L, "empty", 0L),
+                result);
+    }
+
+    @Test
+    void testCountTabsForDashboardRejectsNullFilterValue() {
+        Map<String, Object> filter = new HashMap<>();
+        filter.put("status", null);
+        mockDashboard(tab("one", filter));
+
+        assertThrows(BusinessLogicException.class, () -> service.countTabsForDashboard("key"));
+    }
+
+    private void mockDashboard(DashboardTabConfiguration... tabs) {
+        when(repository.findByTransactionDefinitionSetKey("key"))
+                .thenReturn(
+                        Optional.of(DashboardConfiguration.builder().tabs(List.of(tabs)).build()));
+    }
+
+    private static DashboardTabConfiguration tab(String label, Map<String, Object> filter) {
+        return DashboardTabConfiguration.builder().tabLabel(label).filter(filter).build();
+    }
 }
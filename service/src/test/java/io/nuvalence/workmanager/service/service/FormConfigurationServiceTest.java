@@ -10,6 +10,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.service.cache.ConfigurationCache;
+import io.nuvalence.workmanager.service.cache.ConfigurationChangeBus;
+import io.nuvalence.workmanager.service.cache.ConfigurationRegion;
 import io.nuvalence.workmanager.service.config.exceptions.NuvalenceFormioValidationException;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
@@ -67,7 +70,11 @@ class FormConfigurationServiceTest {
                         repository,
                         transactionDefinitionService,
                         transactionTaskService,
-                        schemaService);
+                        schemaService,
+                        new ConfigurationCache<>(
+                                mock(ConfigurationChangeBus.class),
+                                ConfigurationRegion.FORM_CONFIGURATION,
+                                "formConfigurationsByKeys"));
     }
 
     @Test
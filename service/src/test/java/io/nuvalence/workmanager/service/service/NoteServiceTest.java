@@ -6,7 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventId;
 import io.nuvalence.workmanager.service.config.exceptions.ApiException;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.domain.Note;
@@ -192,23 +191,8 @@ class NoteServiceTest {
                         note.getCreatedBy(), note.getId().toString(), note.getTitle());
 
         final String summary = "Transaction " + activityType.getValue().replace("_", " ") + ".";
-        AuditEventId expectedEventId = new AuditEventId();
-        expectedEventId.setEventId(UUID.randomUUID());
 
-        when(transactionAuditEventService.postActivityAuditEvent(
-                        note.getCreatedBy(),
-                        note.getCreatedBy(),
-                        summary,
-                        transactionId,
-                        AuditEventBusinessObject.TRANSACTION,
-                        noteInfo.toJson(),
-                        activityType))
-                .thenReturn(expectedEventId);
-
-        AuditEventId resultEventId =
-                noteService.postAuditEventForTransactionNote(transactionId, note, activityType);
-
-        assertEquals(expectedEventId, resultEventId);
+        noteService.postAuditEventForTransactionNote(transactionId, note, activityType);
 
         verify(transactionAuditEventService)
                 .postActivityAuditEvent(
@@ -2,21 +2,28 @@ package io.nuvalence.workmanager.service.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.cache.ConfigurationChangeBus;
+import io.nuvalence.workmanager.service.cache.ConfigurationRegion;
+import io.nuvalence.workmanager.service.cache.SchemaCache;
 import io.nuvalence.workmanager.service.config.SpringConfig;
 import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import io.nuvalence.workmanager.service.domain.VersionedEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DocumentProcessingConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
 import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaJson;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
@@ -25,6 +32,7 @@ import io.nuvalence.workmanager.service.mapper.DynamicSchemaMapper;
 import io.nuvalence.workmanager.service.mapper.InvalidRegexPatternException;
 import io.nuvalence.workmanager.service.models.SchemaFilters;
 import io.nuvalence.workmanager.service.repository.SchemaRepository;
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +47,7 @@ import org.springframework.data.jpa.domain.Specification;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.ws.rs.NotFoundException;
@@ -48,6 +57,8 @@ class SchemaServiceTest {
 
     private final ObjectMapper objectMapper = SpringConfig.getMapper();
     @Mock private SchemaRepository schemaRepository;
+    @Mock private ConfigurationChangeBus changeBus;
+    @Mock private TransactionSearchableAttributeRepository searchableAttributeRepository;
     private SchemaService schemaService;
     private DynamicSchemaMapper mapper;
 
@@ -57,7 +68,12 @@ class SchemaServiceTest {
         mapper.setObjectMapper(objectMapper);
         mapper.setAttributeConfigurationMapper(
                 Mappers.getMapper(AttributeConfigurationMapper.class));
-        schemaService = new SchemaService(schemaRepository, mapper);
+        schemaService =
+                new SchemaService(
+                        schemaRepository,
+                        mapper,
+                        new SchemaCache(changeBus),
+                        searchableAttributeRepository);
     }
 
     @Test
@@ -84,6 +100,50 @@ class SchemaServiceTest {
         assertEquals(Optional.of(schema), schemaService.getSchemaByKey(schema.getKey()));
     }
 
+    @Test
+    void getSchemaByKeyServesRepeatedLookupsFromCache() throws JsonProcessingException {
+        final Schema schema =
+                Schema.builder()
+                        .id(UUID.fromString("d7bb1296-e931-11ed-a05b-0242ac120003"))
+                        .name("testschema")
+                        .key("testschemaKey")
+                        .property("attribute", String.class)
+                        .build();
+        final SchemaRow row = mapper.schemaToSchemaRow(schema);
+        when(schemaRepository.findByKey(schema.getKey())).thenReturn(Optional.of(row));
+
+        final Schema first = schemaService.getSchemaByKey(schema.getKey()).orElseThrow();
+        final Schema second = schemaService.getSchemaByKey(schema.getKey()).orElseThrow();
+        final Schema byId = schemaService.getSchemaById(schema.getId()).orElseThrow();
+
+        assertSame(first, second);
+        assertSame(first, byId);
+        verify(schemaRepository, times(1)).findByKey(schema.getKey());
+        verify(schemaRepository, never()).findById(any());
+    }
+
+    @Test
+    void deleteSchemaInvalidatesCachedSchema() throws JsonProcessingException {
+        final Schema schema =
+                Schema.builder()
+                        .id(UUID.fromString("d7bb1296-e931-11ed-a05b-0242ac120003"))
+                        .name("testschema")
+                        .key("testschemaKey")
+                        .property("attribute", String.class)
+                        .build();
+        final SchemaRow row = mapper.schemaToSchemaRow(schema);
+        when(schemaRepository.findById(schema.getId())).thenReturn(Optional.of(row));
+
+        schemaService.getSchemaById(schema.getId());
+        schemaService.deleteSchema(schema);
+        when(schemaRepository.findById(schema.getId())).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), schemaService.getSchemaById(schema.getId()));
+        assertEquals(Optional.empty(), schemaService.getSchemaByKey(schema.getKey()));
+        verify(schemaRepository, times(2)).findById(schema.getId());
+        verify(changeBus).publish(ConfigurationRegion.SCHEMA);
+    }
+
     @Test
     void getSchemaByKeyReturnsEmptyOptionalWhenSchemaNotFound() throws JsonProcessingException {
         // Arrange
@@ -429,6 +489,67 @@ class SchemaServiceTest {
         assertTrue(exception.getMessage().contains(expectedException.getMessage()));
     }
 
+    @Test
+    void saveSchemaInvalidatesPathsOfAttributesWhoseSearchabilityChanged()
+            throws JsonProcessingException {
+        final Schema previous =
+                Schema.builder()
+                        .id(UUID.randomUUID())
+                        .key("applicant")
+                        .name("applicant")
+                        .property("firstName", String.class)
+                        .property("lastName", String.class)
+                        .property("age", Integer.class)
+                        .attributeConfiguration("firstName", new SearchableConfiguration())
+                        .attributeConfiguration("age", new SearchableConfiguration())
+                        .build();
+        final Schema schema =
+                Schema.builder()
+                        .id(previous.getId())
+                        .key("applicant")
+                        .name("applicant")
+                        .property("firstName", String.class)
+                        .property("lastName", String.class)
+                        .property("age", String.class)
+                        .attributeConfiguration("lastName", new SearchableConfiguration())
+                        .attributeConfiguration("age", new SearchableConfiguration())
+                        .build();
+        final Schema parent =
+                Schema.builder().id(UUID.randomUUID()).key("application").name("app").build();
+        when(schemaRepository.findByKey("applicant"))
+                .thenReturn(Optional.of(mapper.schemaToSchemaRow(previous)));
+        when(schemaRepository.getSchemaParents("applicant"))
+                .thenReturn(List.of(mapper.schemaToSchemaRow(parent)));
+        when(schemaRepository.save(any(SchemaRow.class)))
+                .thenReturn(mapper.schemaToSchemaRow(schema));
+
+        schemaService.saveSchema(schema);
+
+        verify(searchableAttributeRepository)
+                .invalidateSearchablePaths(
+                        Set.of("applicant", "application"), Set.of("firstName", "lastName", "age"));
+    }
+
+    @Test
+    void saveSchemaKeepsPathsWhenSearchabilityIsUnchanged() throws JsonProcessingException {
+        final Schema schema =
+                Schema.builder()
+                        .id(UUID.randomUUID())
+                        .key("applicant")
+                        .name("applicant")
+                        .property("firstName", String.class)
+                        .attributeConfiguration("firstName", new SearchableConfiguration())
+                        .build();
+        when(schemaRepository.findByKey("applicant"))
+                .thenReturn(Optional.of(mapper.schemaToSchemaRow(schema)));
+        when(schemaRepository.save(any(SchemaRow.class)))
+                .thenReturn(mapper.schemaToSchemaRow(schema));
+
+        schemaService.saveSchema(schema);
+
+        verify(searchableAttributeRepository, never()).invalidateSearchablePaths(any(), any());
+    }
+
     @Test
     void getDocumentProcessorsInASchemaPath_success() throws JsonProcessingException {
         // Arrange
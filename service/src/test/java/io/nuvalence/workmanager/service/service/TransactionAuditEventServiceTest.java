@@ -1,27 +1,24 @@
 package io.nuvalence.workmanager.service.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.nuvalence.logging.util.CorrelationIdContext;
 import io.nuvalence.workmanager.auditservice.client.ApiException;
-import io.nuvalence.workmanager.auditservice.client.generated.api.AuditEventsApi;
-import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventId;
-import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventRequest;
-import io.nuvalence.workmanager.service.audit.AuditServiceApiClient;
+import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.domain.AuditEventOutboxEntry;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
 import io.nuvalence.workmanager.service.models.auditevents.AuditEventBusinessObject;
+import io.nuvalence.workmanager.service.repository.AuditEventOutboxRepository;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
 import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
@@ -32,7 +29,7 @@ import java.util.UUID;
 @ExtendWith(MockitoExtension.class)
 class TransactionAuditEventServiceTest {
 
-    @Mock private AuditServiceApiClient auditServiceTokenApiClient;
+    @Mock private AuditEventOutboxRepository auditEventOutboxRepository;
 
     @Mock private RequestContextTimestamp requestContextTimestamp;
 
@@ -42,9 +39,8 @@ class TransactionAuditEventServiceTest {
     @BeforeEach
     void setup() {
         transactionAuditEventService =
-                Mockito.spy(
-                        new TransactionAuditEventService(
-                                auditServiceTokenApiClient, requestContextTimestamp));
+                new TransactionAuditEventService(
+                        auditEventOutboxRepository, requestContextTimestamp);
 
         // Store the old correlation ID
         oldCorrelationId = CorrelationIdContext.getCorrelationId();
@@ -57,25 +53,10 @@ class TransactionAuditEventServiceTest {
     }
 
     @Test
-    @SuppressWarnings("checkstyle:VariableDeclarationUsageDistance")
-    void testPostStateChangeEvent() throws ApiException {
+    void testPostStateChangeEvent() throws ApiException, JsonProcessingException {
         String originatorId = UUID.randomUUID().toString();
         String userId = UUID.randomUUID().toString();
-        String summary = "summary";
         UUID businessObjectId = UUID.randomUUID();
-        AuditEventBusinessObject auditEventBusinessObject = AuditEventBusinessObject.TRANSACTION;
-        String oldState = "oldState";
-        String newState = "newState";
-
-        AuditEventsApi auditEventsApi = mock(AuditEventsApi.class);
-        ArgumentCaptor<AuditEventRequest> auditEventRequestCaptor =
-                ArgumentCaptor.forClass(AuditEventRequest.class);
-
-        doReturn(auditEventsApi).when(transactionAuditEventService).createAuditEventsApi(any());
-
-        AuditEventId expected = new AuditEventId();
-        expected.setEventId(UUID.randomUUID());
-        when(auditEventsApi.postEvent(anyString(), any(), any())).thenReturn(expected);
 
         OffsetDateTime eventTime = OffsetDateTime.now();
         when(requestContextTimestamp.getCurrentTimestamp()).thenReturn(eventTime);
@@ -83,81 +64,68 @@ class TransactionAuditEventServiceTest {
         String correlationId = UUID.randomUUID().toString();
         CorrelationIdContext.setCorrelationId(correlationId);
 
-        AuditEventId result =
-                transactionAuditEventService.postStateChangeEvent(
-                        originatorId,
-                        userId,
-                        summary,
-                        businessObjectId,
-                        auditEventBusinessObject,
-                        oldState,
-                        newState,
-                        "someActivityType");
-
-        verify(auditEventsApi).postEvent(anyString(), any(), auditEventRequestCaptor.capture());
-        AuditEventRequest capturedAuditEventRequest = auditEventRequestCaptor.getValue();
-
-        UUID capturedTraceId = capturedAuditEventRequest.getRequestContext().getTraceId();
-        assertNotNull(capturedTraceId);
-        assertEquals(correlationId, capturedTraceId.toString());
-        assertEquals(eventTime, capturedAuditEventRequest.getTimestamp());
-        assertNotNull(result);
-        assertEquals(expected, result);
+        transactionAuditEventService.postStateChangeEvent(
+                originatorId,
+                userId,
+                "summary",
+                businessObjectId,
+                AuditEventBusinessObject.TRANSACTION,
+                "oldState",
+                "newState",
+                "someActivityType");
+
+        AuditEventOutboxEntry entry = captureQueuedEntry();
+        assertEquals(
+                AuditEventBusinessObject.TRANSACTION.getValue(), entry.getBusinessObjectType());
+        assertEquals(businessObjectId, entry.getBusinessObjectId());
+        assertEquals(0, entry.getAttempts());
+        assertEquals(entry.getCreatedTimestamp(), entry.getNextAttemptTimestamp());
+
+        JsonNode request = SpringConfig.getMapper().readTree(entry.getPayload());
+        assertEquals("summary", request.get("summary").asText());
+        assertEquals(correlationId, request.at("/requestContext/traceId").asText());
+        assertEquals(originatorId, request.at("/requestContext/originatorId").asText());
+        assertEquals(userId, request.at("/requestContext/userId").asText());
+        assertEquals(
+                eventTime.toInstant(),
+                OffsetDateTime.parse(request.get("timestamp").asText()).toInstant());
+        assertEquals("oldState", request.at("/eventData/oldState").asText());
+        assertEquals("newState", request.at("/eventData/newState").asText());
+        assertEquals("someActivityType", request.at("/eventData/activityType").asText());
     }
 
     @Test
-    @SuppressWarnings("checkstyle:VariableDeclarationUsageDistance")
-    void testPostActivityAuditEvent() throws ApiException {
+    void testPostActivityAuditEvent() throws ApiException, JsonProcessingException {
         String originatorId = UUID.randomUUID().toString();
         String userId = UUID.randomUUID().toString();
-        String summary = "summary";
         UUID businessObjectId = UUID.randomUUID();
-        AuditEventBusinessObject auditEventBusinessObject = AuditEventBusinessObject.TRANSACTION;
-        String jsonData = "{}";
-        AuditActivityType activityType = AuditActivityType.NOTE_ADDED;
 
-        AuditEventsApi auditEventsApi = mock(AuditEventsApi.class);
-        ArgumentCaptor<AuditEventRequest> auditEventRequestCaptor =
-                ArgumentCaptor.forClass(AuditEventRequest.class);
-
-        doReturn(auditEventsApi).when(transactionAuditEventService).createAuditEventsApi(any());
-
-        AuditEventId expected = new AuditEventId();
-        expected.setEventId(UUID.randomUUID());
-        when(auditEventsApi.postEvent(anyString(), any(), any())).thenReturn(expected);
         OffsetDateTime eventTime = OffsetDateTime.now();
         when(requestContextTimestamp.getCurrentTimestamp()).thenReturn(eventTime);
         String correlationId = UUID.randomUUID().toString();
         CorrelationIdContext.setCorrelationId(correlationId);
 
-        AuditEventId result =
-                transactionAuditEventService.postActivityAuditEvent(
-                        originatorId,
-                        userId,
-                        summary,
-                        businessObjectId,
-                        auditEventBusinessObject,
-                        jsonData,
-                        activityType);
-
-        verify(auditEventsApi).postEvent(anyString(), any(), auditEventRequestCaptor.capture());
-        AuditEventRequest capturedAuditEventRequest = auditEventRequestCaptor.getValue();
-        UUID capturedTraceId = capturedAuditEventRequest.getRequestContext().getTraceId();
-        assertNotNull(capturedTraceId);
-        assertEquals(correlationId, capturedTraceId.toString());
-        assertEquals(eventTime, capturedAuditEventRequest.getTimestamp());
-        assertNotNull(result);
-        assertEquals(expected, result);
-    }
+        transactionAuditEventService.postActivityAuditEvent(
+                originatorId,
+                userId,
+                "summary",
+                businessObjectId,
+                AuditEventBusinessObject.TRANSACTION,
+                "{}",
+                AuditActivityType.NOTE_ADDED);
 
-    @Test
-    void testCreateAuditEventsApi() {
-        AuditEventsApi auditEventsApi = new AuditEventsApi();
-        AuditEventsApi createdApi =
-                transactionAuditEventService.createAuditEventsApi(auditServiceTokenApiClient);
-        Assertions.assertNotNull(createdApi, "AuditEventsApi should not be null");
-        Assertions.assertEquals(
-                auditEventsApi.getClass(), createdApi.getClass(), "ApiClients should be equal");
+        AuditEventOutboxEntry entry = captureQueuedEntry();
+        assertEquals(businessObjectId, entry.getBusinessObjectId());
+
+        JsonNode request = SpringConfig.getMapper().readTree(entry.getPayload());
+        assertEquals(correlationId, request.at("/requestContext/traceId").asText());
+        assertEquals(
+                eventTime.toInstant(),
+                OffsetDateTime.parse(request.get("timestamp").asText()).toInstant());
+        assertEquals("{}", request.at("/eventData/data").asText());
+        assertEquals(
+                AuditActivityType.NOTE_ADDED.getValue(),
+                request.at("/eventData/activityType").asText());
     }
 
     @Test
@@ -170,52 +138,43 @@ class TransactionAuditEventServiceTest {
         newStateMap.put("key3", "value3");
         newStateMap.put("key4", "value4");
 
-        AuditEventsApi auditEventsApi = mock(AuditEventsApi.class);
-        final ArgumentCaptor<AuditEventRequest> auditEventRequestCaptor =
-                ArgumentCaptor.forClass(AuditEventRequest.class);
-
-        doReturn(auditEventsApi).when(transactionAuditEventService).createAuditEventsApi(any());
-
-        AuditEventId expectedAuditEventId = new AuditEventId();
-        UUID expectedEventId = UUID.randomUUID();
-        expectedAuditEventId.setEventId(expectedEventId);
-        when(auditEventsApi.postEvent(any(), any(), any())).thenReturn(expectedAuditEventId);
-
         String originatorId = UUID.randomUUID().toString();
         String userId = UUID.randomUUID().toString();
-        String summary = "summary";
         UUID businessObjectId = UUID.randomUUID();
-        AuditEventBusinessObject auditEventBusinessObject = AuditEventBusinessObject.TRANSACTION;
 
         String correlationId = UUID.randomUUID().toString();
         CorrelationIdContext.setCorrelationId(correlationId);
 
         // Act
-        final AuditEventId result =
-                transactionAuditEventService.postStateChangeEvent(
-                        originatorId,
-                        userId,
-                        summary,
-                        businessObjectId,
-                        auditEventBusinessObject,
-                        oldStateMap,
-                        newStateMap,
-                        "test",
-                        "someActivityType");
-
-        verify(auditEventsApi).postEvent(anyString(), any(), auditEventRequestCaptor.capture());
-        AuditEventRequest capturedAuditEventRequest = auditEventRequestCaptor.getValue();
-
-        UUID capturedTraceId = capturedAuditEventRequest.getRequestContext().getTraceId();
-        assertNotNull(capturedTraceId);
-        assertEquals(correlationId, capturedTraceId.toString());
-        assertEquals(
+        transactionAuditEventService.postStateChangeEvent(
+                originatorId,
+                userId,
+                "summary",
+                businessObjectId,
+                AuditEventBusinessObject.TRANSACTION,
+                oldStateMap,
+                newStateMap,
                 "test",
-                capturedAuditEventRequest.getEventData().getStateChangeEventData().getData());
+                "someActivityType");
 
         // Assert
-        assertNotNull(result);
-        assertEquals(expectedEventId, result.getEventId());
-        verify(auditEventsApi).postEvent(any(), any(), any());
+        JsonNode request = SpringConfig.getMapper().readTree(captureQueuedEntry().getPayload());
+        assertEquals(correlationId, request.at("/requestContext/traceId").asText());
+        assertEquals("test", request.at("/eventData/data").asText());
+        assertEquals(
+                oldStateMap,
+                SpringConfig.getMapper()
+                        .readValue(request.at("/eventData/oldState").asText(), Map.class));
+        assertEquals(
+                newStateMap,
+                SpringConfig.getMapper()
+                        .readValue(request.at("/eventData/newState").asText(), Map.class));
+    }
+
+    private AuditEventOutboxEntry captureQueuedEntry() {
+        ArgumentCaptor<AuditEventOutboxEntry> entryCaptor =
+                ArgumentCaptor.forClass(AuditEventOutboxEntry.class);
+        verify(auditEventOutboxRepository).save(entryCaptor.capture());
+        return entryCaptor.getValue();
     }
 }
@@ -0,0 +1,125 @@
+package io.nuvalence.workmanager.service.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionCountKey;
+import io.nuvalence.workmanager.service.repository.TransactionCountRepository;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TransactionRequiredException;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("PMD.AvoidAccessibilityAlteration")
+class TransactionCountRecorderTest {
+    private static final TransactionCountKey DRAFT = key("Draft", "");
+    private static final TransactionCountKey REVIEW = key("Review", "");
+    private static final TransactionCountKey REVIEW_ASSIGNED = key("Review", "user");
+
+    @Mock private TransactionCountRepository repository;
+
+    @Mock private EntityManager entityManager;
+
+    @Mock private SessionImplementor session;
+
+    @Mock private ActionQueue actionQueue;
+
+    private TransactionCountRecorder recorder;
+
+    @BeforeEach
+    void setup() throws NoSuchFieldException, IllegalAccessException {
+        recorder = new TransactionCountRecorder(repository);
+        Field entityManagerField = TransactionCountRecorder.class.getDeclaredField("entityManager");
+        entityManagerField.setAccessible(true);
+        entityManagerField.set(recorder, entityManager);
+        when(entityManager.unwrap(SessionImplementor.class)).thenReturn(session);
+    }
+
+    @Test
+    void writesNettedCountsInKeyOrderBeforeCommit() {
+        when(session.isTransactionInProgress()).thenReturn(true);
+        when(session.getActionQueue()).thenReturn(actionQueue);
+
+        recorder.move(null, DRAFT);
+        recorder.move(DRAFT, REVIEW_ASSIGNED);
+        recorder.move(REVIEW, DRAFT);
+        verifyNoInteractions(repository);
+
+        commit();
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).addToCount(DRAFT, 1);
+        order.verify(repository).addToCount(REVIEW, -1);
+        order.verify(repository).addToCount(REVIEW_ASSIGNED, 1);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void skipsRowsWhoseChangesCancelOut() {
+        when(session.isTransactionInProgress()).thenReturn(true);
+        when(session.getActionQueue()).thenReturn(actionQueue);
+
+        recorder.move(DRAFT, REVIEW);
+        recorder.move(REVIEW, DRAFT);
+        recorder.move(DRAFT, DRAFT);
+        commit();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void startsOverAfterTransactionCompletes() {
+        when(session.isTransactionInProgress()).thenReturn(true);
+        when(session.getActionQueue()).thenReturn(actionQueue);
+
+        recorder.move(DRAFT, REVIEW);
+        commit();
+        recorder.move(REVIEW, DRAFT);
+
+        verify(actionQueue, times(2))
+                .registerProcess(any(BeforeTransactionCompletionProcess.class));
+    }
+
+    @Test
+    void requiresTransaction() {
+        assertThrows(TransactionRequiredException.class, () -> recorder.move(DRAFT, REVIEW));
+
+        verifyNoInteractions(repository);
+        verifyNoInteractions(actionQueue);
+    }
+
+    private void commit() {
+        ArgumentCaptor<BeforeTransactionCompletionProcess> before =
+                ArgumentCaptor.forClass(BeforeTransactionCompletionProcess.class);
+        verify(actionQueue).registerProcess(before.capture());
+        ArgumentCaptor<AfterTransactionCompletionProcess> after =
+                ArgumentCaptor.forClass(AfterTransactionCompletionProcess.class);
+        verify(actionQueue).registerProcess(after.capture());
+
+        before.getValue().doBeforeTransactionCompletion(session);
+        after.getValue().doAfterTransactionCompletion(true, session);
+    }
+
+    private static TransactionCountKey key(final String status, final String assignedTo) {
+        return new TransactionCountKey("definition", status, 20, assignedTo);
+    }
+}
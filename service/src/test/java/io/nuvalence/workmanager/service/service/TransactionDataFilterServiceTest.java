@@ -0,0 +1,231 @@
+package io.nuvalence.workmanager.service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration;
+import io.nuvalence.workmanager.service.domain.dynamicschema.SearchableConfiguration.ValueType;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter;
+import io.nuvalence.workmanager.service.models.TransactionDataFilter.Operator;
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionDataFilterServiceTest {
+    @Mock private TransactionDefinitionService transactionDefinitionService;
+    @Mock private SchemaService schemaService;
+    @Mock private TransactionSearchableAttributeRepository searchableAttributeRepository;
+
+    private TransactionDataFilterService service;
+
+    private final Schema addressSchema =
+            Schema.builder()
+                    .key("Address")
+                    .name("Address")
+                    .property("city", String.class)
+                    .property("line1", String.class)
+                    .attributeConfiguration("city", new SearchableConfiguration())
+                    .build();
+
+    private final Schema applicationSchema =
+            Schema.builder()
+                    .key("Application")
+                    .name("Application")
+                    .property("lastName", String.class)
+                    .property("income", BigDecimal.class)
+                    .property("submittedOn", LocalDate.class)
+                    .property("aliases", List.class, String.class)
+                    .property("address", addressSchema)
+                    .property("notes", String.class)
+                    .attributeConfiguration("lastName", new SearchableConfiguration())
+                    .attributeConfiguration("income", new SearchableConfiguration())
+                    .attributeConfiguration("submittedOn", new SearchableConfiguration())
+                    .attributeConfiguration("aliases", new SearchableConfiguration())
+                    .build();
+
+    @BeforeEach
+    void setup() {
+        service =
+                new TransactionDataFilterService(
+                        transactionDefinitionService, schemaService, searchableAttributeRepository);
+    }
+
+    @Test
+    void parsesFiltersOnSearchableAttributes() {
+        stubDefinition("application", applicationSchema);
+        when(schemaService.getSchemaByKey("Address")).thenReturn(Optional.of(addressSchema));
+        final Map<String, String[]> parameters = new LinkedHashMap<>();
+        parameters.put("status", new String[] {"Draft"});
+        parameters.put("data.lastName[prefix]", new String[] {"Smi"});
+        parameters.put("data.income[gte]", new String[] {"1000.50"});
+        parameters.put("data.submittedOn[lte]", new String[] {"2023-11-02"});
+        parameters.put("data.aliases", new String[] {"Neo", "The One"});
+        parameters.put("data.address.city", new String[] {"Springfield"});
+
+        assertEquals(
+                List.of(
+                        new TransactionDataFilter(
+                                "lastName", ValueType.STRING, Operator.PREFIX, "Smi"),
+                        new TransactionDataFilter(
+                                "income",
+                                ValueType.NUMBER,
+                                Operator.GREATER_OR_EQUAL,
+                                new BigDecimal("1000.50")),
+                        new TransactionDataFilter(
+                                "submittedOn",
+                                ValueType.DATE,
+                                Operator.LESS_OR_EQUAL,
+                                LocalDate.of(2023, 11, 2)),
+                        new TransactionDataFilter(
+                                "aliases", ValueType.STRING, Operator.EQUAL, "Neo"),
+                        new TransactionDataFilter(
+                                "aliases", ValueType.STRING, Operator.EQUAL, "The One"),
+                        new TransactionDataFilter(
+                                "address.city", ValueType.STRING, Operator.EQUAL, "Springfield")),
+                service.parse(parameters, List.of("application")));
+    }
+
+    @Test
+    void ignoresOtherParameters() {
+        assertTrue(service.parse(Map.of("status", new String[] {"Draft"}), null).isEmpty());
+        verifyNoInteractions(
+                transactionDefinitionService, schemaService, searchableAttributeRepository);
+    }
+
+    @Test
+    void requiresTransactionDefinitions() {
+        final Map<String, String[]> parameters = Map.of("data.lastName", new String[] {"Smith"});
+
+        assertThrows(ProvidedDataException.class, () -> service.parse(parameters, null));
+    }
+
+    @Test
+    void matchesNothingWithoutTransactionDefinitions() {
+        final Map<String, String[]> parameters = Map.of("data.lastName", new String[] {"Smith"});
+
+        assertTrue(service.parse(parameters, List.of()).isEmpty());
+        verifyNoInteractions(
+                transactionDefinitionService, schemaService, searchableAttributeRepository);
+    }
+
+    @Test
+    void rejectsAttributesThatAreNotSearchable() {
+        stubDefinition("application", applicationSchema);
+
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        service.parse(
+                                Map.of("data.notes", new String[] {"urgent"}),
+                                List.of("application")));
+    }
+
+    @Test
+    void rejectsUnknownAttributes() {
+        stubDefinition("application", applicationSchema);
+
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        service.parse(
+                                Map.of("data.applicant.lastName", new String[] {"Smith"}),
+                                List.of("application")));
+    }
+
+    @Test
+    void rejectsAttributesOfDifferentTypesAcrossDefinitions() {
+        stubDefinition("application", applicationSchema);
+        stubDefinition(
+                "renewal",
+                Schema.builder()
+                        .key("Renewal")
+                        .name("Renewal")
+                        .property("income", String.class)
+                        .attributeConfiguration("income", new SearchableConfiguration())
+                        .build());
+
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        service.parse(
+                                Map.of("data.income", new String[] {"1000"}),
+                                List.of("application", "renewal")));
+    }
+
+    @Test
+    void rejectsOperatorsTheValueTypeDoesNotSupport() {
+        stubDefinition("application", applicationSchema);
+
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        service.parse(
+                                Map.of("data.income[prefix]", new String[] {"10"}),
+                                List.of("application")));
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        service.parse(
+                                Map.of("data.lastName[gte]", new String[] {"M"}),
+                                List.of("application")));
+    }
+
+    @Test
+    void rejectsValuesOfTheWrongType() {
+        stubDefinition("application", applicationSchema);
+
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        service.parse(
+                                Map.of("data.submittedOn", new String[] {"yesterday"}),
+                                List.of("application")));
+    }
+
+    @Test
+    void rejectsAttributesThatAreNotIndexedYet() {
+        stubDefinition("application", applicationSchema);
+        when(searchableAttributeRepository.findIndexedPaths("application"))
+                .thenReturn(Set.of("income"));
+
+        assertThrows(
+                ProvidedDataException.class,
+                () ->
+                        service.parse(
+                                Map.of("data.lastName", new String[] {"Smith"}),
+                                List.of("application")));
+    }
+
+    private void stubDefinition(final String key, final Schema schema) {
+        when(transactionDefinitionService.getTransactionDefinitionByKey(key))
+                .thenReturn(
+                        Optional.of(
+                                TransactionDefinition.builder()
+                                        .key(key)
+                                        .schemaKey(schema.getKey())
+                                        .build()));
+        when(schemaService.getSchemaByKey(schema.getKey())).thenReturn(Optional.of(schema));
+        Mockito.lenient()
+                .when(searchableAttributeRepository.findIndexedPaths(key))
+                .thenReturn(Set.of("lastName", "income", "submittedOn", "aliases", "address.city"));
+    }
+}
@@ -12,6 +12,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.nuvalence.workmanager.service.cache.ConfigurationCache;
+import io.nuvalence.workmanager.service.cache.ConfigurationChangeBus;
+import io.nuvalence.workmanager.service.cache.ConfigurationRegion;
 import io.nuvalence.workmanager.service.config.exceptions.BusinessLogicException;
 import io.nuvalence.workmanager.service.domain.VersionedEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
@@ -42,6 +45,7 @@ class TransactionDefinitionServiceTest {
     @Mock private TransactionDefinitionRepository repository;
     @Mock private TransactionDefinitionSetService transactionDefinitionSetService;
     @Mock private SchemaService schemaService;
+    @Mock private ConfigurationChangeBus changeBus;
 
     private TransactionDefinitionService service;
 
@@ -49,7 +53,13 @@ class TransactionDefinitionServiceTest {
     void setup() {
         service =
                 new TransactionDefinitionService(
-                        repository, transactionDefinitionSetService, schemaService);
+                        repository,
+                        transactionDefinitionSetService,
+                        schemaService,
+                        new ConfigurationCache<>(
+                                changeBus, ConfigurationRegion.TRANSACTION_DEFINITION, "byId"),
+                        new ConfigurationCache<>(
+                                changeBus, ConfigurationRegion.TRANSACTION_DEFINITION, "byKey"));
     }
 
     @Test
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import io.nuvalence.auth.token.UserToken;
+import io.nuvalence.workmanager.service.cache.FormValidationPlanCache;
 import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
@@ -16,6 +17,7 @@ import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.repository.CustomerProvidedDocumentRepository;
+import io.nuvalence.workmanager.service.repository.TransactionCountRepository;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
@@ -46,6 +48,8 @@ class TransactionFactoryTest {
 
     @Mock private TransactionRepository repository;
 
+    @Mock private TransactionCountRepository transactionCountRepository;
+
     @Mock private CustomerProvidedDocumentRepository customerProvidedDocumentRepository;
 
     @Mock private TransactionTaskService transactionTaskService;
@@ -72,6 +76,7 @@ class TransactionFactoryTest {
         transactionService =
                 new TransactionService(
                         repository,
+                        transactionCountRepository,
                         customerProvidedDocumentRepository,
                         transactionDefinitionService,
                         factory,
@@ -80,7 +85,8 @@ class TransactionFactoryTest {
                         transactionAuditEventService,
                         schemaService,
                         requestContextTimestamp,
-                        formConfigurationService);
+                        formConfigurationService,
+                        new FormValidationPlanCache());
     }
 
     @Test
@@ -0,0 +1,107 @@
+package io.nuvalence.workmanager.service.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.workmanager.service.repository.TransactionSearchableAttributeRepository;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TransactionRequiredException;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("PMD.AvoidAccessibilityAlteration")
+class TransactionSearchableAttributeRecorderTest {
+    private static final UUID FIRST = UUID.randomUUID();
+    private static final UUID SECOND = UUID.randomUUID();
+
+    @Mock private TransactionSearchableAttributeRepository repository;
+
+    @Mock private EntityManager entityManager;
+
+    @Mock private SessionImplementor session;
+
+    @Mock private ActionQueue actionQueue;
+
+    private TransactionSearchableAttributeRecorder recorder;
+
+    @BeforeEach
+    void setup() throws NoSuchFieldException, IllegalAccessException {
+        recorder = new TransactionSearchableAttributeRecorder(repository);
+        Field entityManagerField =
+                TransactionSearchableAttributeRecorder.class.getDeclaredField("entityManager");
+        entityManagerField.setAccessible(true);
+        entityManagerField.set(recorder, entityManager);
+        when(entityManager.unwrap(SessionImplementor.class)).thenReturn(session);
+    }
+
+    @Test
+    void writesLastValuesOfEachTransactionBeforeCommit() {
+        when(session.isTransactionInProgress()).thenReturn(true);
+        when(session.getActionQueue()).thenReturn(actionQueue);
+
+        recorder.replace(FIRST, Map.of("lastName", List.of("Smith")));
+        recorder.replace(SECOND, Map.of());
+        recorder.replace(FIRST, Map.of("lastName", List.of("Jones")));
+        verifyNoInteractions(repository);
+
+        commit();
+
+        verify(repository).replaceAttributes(FIRST, Map.of("lastName", List.of("Jones")));
+        verify(repository).replaceAttributes(SECOND, Map.of());
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void startsOverAfterTransactionCompletes() {
+        when(session.isTransactionInProgress()).thenReturn(true);
+        when(session.getActionQueue()).thenReturn(actionQueue);
+
+        recorder.replace(FIRST, Map.of());
+        commit();
+        recorder.replace(FIRST, Map.of());
+
+        verify(actionQueue, times(2))
+                .registerProcess(any(BeforeTransactionCompletionProcess.class));
+    }
+
+    @Test
+    void requiresTransaction() {
+        final Map<String, List<Object>> values = Map.of("lastName", List.of("Smith"));
+
+        assertThrows(TransactionRequiredException.class, () -> recorder.replace(FIRST, values));
+
+        verifyNoInteractions(repository, actionQueue);
+    }
+
+    private void commit() {
+        ArgumentCaptor<BeforeTransactionCompletionProcess> before =
+                ArgumentCaptor.forClass(BeforeTransactionCompletionProcess.class);
+        verify(actionQueue).registerProcess(before.capture());
+        ArgumentCaptor<AfterTransactionCompletionProcess> after =
+                ArgumentCaptor.forClass(AfterTransactionCompletionProcess.class);
+        verify(actionQueue).registerProcess(after.capture());
+
+        before.getValue().doBeforeTransactionCompletion(session);
+        after.getValue().doAfterTransactionCompletion(true, session);
+    }
+}
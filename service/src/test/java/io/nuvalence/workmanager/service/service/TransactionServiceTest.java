@@ -10,7 +10,10 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -20,7 +23,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.nuvalence.auth.token.UserToken;
 import io.nuvalence.workmanager.auditservice.client.ApiException;
-import io.nuvalence.workmanager.auditservice.client.generated.models.AuditEventId;
+import io.nuvalence.workmanager.service.cache.FormValidationPlanCache;
 import io.nuvalence.workmanager.service.config.exceptions.NuvalenceFormioValidationException;
 import io.nuvalence.workmanager.service.config.exceptions.ProvidedDataException;
 import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExItem;
@@ -37,9 +40,12 @@ import io.nuvalence.workmanager.service.domain.transaction.MissingTransactionExc
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionPriority;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionSummary;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.models.ByUserTransactionsFilters;
+import io.nuvalence.workmanager.service.models.KeysetPage;
+import io.nuvalence.workmanager.service.models.KeysetPageToken;
 import io.nuvalence.workmanager.service.models.SearchTransactionsFilters;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.models.auditevents.AuditActivityType;
@@ -47,6 +53,7 @@ import io.nuvalence.workmanager.service.models.auditevents.AuditEventBusinessObj
 import io.nuvalence.workmanager.service.models.auditevents.DocumentStatusChangedAuditEventDto;
 import io.nuvalence.workmanager.service.models.auditevents.TransactionCreatedAuditEventDto;
 import io.nuvalence.workmanager.service.repository.CustomerProvidedDocumentRepository;
+import io.nuvalence.workmanager.service.repository.TransactionCountRepository;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
 import io.nuvalence.workmanager.service.utils.RequestContextTimestamp;
 import io.nuvalence.workmanager.service.utils.auth.CurrentUserUtility;
@@ -62,6 +69,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -83,6 +93,8 @@ import jakarta.ws.rs.NotFoundException;
 class TransactionServiceTest {
     @Mock private TransactionRepository repository;
 
+    @Mock private TransactionCountRepository transactionCountRepository;
+
     @Mock private CustomerProvidedDocumentRepository customerProvidedDocumentRepository;
 
     @Mock private TransactionFactory factory;
@@ -109,6 +121,7 @@ class TransactionServiceTest {
                 spy(
                         new TransactionService(
                                 repository,
+                                transactionCountRepository,
                                 customerProvidedDocumentRepository,
                                 transactionDefinitionService,
                                 factory,
@@ -117,7 +130,8 @@ class TransactionServiceTest {
                                 transactionAuditEventService,
                                 schemaService,
                                 requestContextTimestamp,
-                                formConfigurationService));
+                                formConfigurationService,
+                                new FormValidationPlanCache()));
     }
 
     @Test
@@ -126,6 +140,7 @@ class TransactionServiceTest {
         final TransactionDefinition definition = TransactionDefinition.builder().build();
         final Transaction transaction = Transaction.builder().build();
         when(factory.createTransaction(definition)).thenReturn(transaction);
+        when(repository.save(transaction)).thenReturn(transaction);
 
         // Act
         service.createTransaction(definition);
@@ -141,6 +156,7 @@ class TransactionServiceTest {
         final Transaction transaction = Transaction.builder().build();
         final String token = "token";
         when(factory.createTransaction(definition)).thenReturn(transaction);
+        when(repository.save(transaction)).thenReturn(transaction);
 
         // Act
         service.createTransaction(definition, token);
@@ -149,6 +165,56 @@ class TransactionServiceTest {
         Mockito.verify(repository).save(transaction);
     }
 
+    @Test
+    void createTransactionQueuesCreationAuditEvent() throws Exception {
+        // Arrange
+        final TransactionDefinition definition = TransactionDefinition.builder().build();
+        final Transaction transaction = getCommonTransactionBuilder().build();
+        when(factory.createTransaction(definition)).thenReturn(transaction);
+        when(repository.save(transaction)).thenReturn(transaction);
+
+        // Act
+        service.createTransaction(definition, "token");
+
+        // Assert
+        verify(transactionAuditEventService)
+                .postActivityAuditEvent(
+                        transaction.getCreatedBy(),
+                        transaction.getCreatedBy(),
+                        "Transaction Created.",
+                        transaction.getId(),
+                        AuditEventBusinessObject.TRANSACTION,
+                        new TransactionCreatedAuditEventDto(transaction.getCreatedBy()).toJson(),
+                        AuditActivityType.TRANSACTION_CREATED);
+    }
+
+    @Test
+    @ExtendWith(OutputCaptureExtension.class)
+    void createTransactionLogsAuditEventsThatCannotBeQueued(CapturedOutput output)
+            throws Exception {
+        // Arrange
+        final TransactionDefinition definition = TransactionDefinition.builder().build();
+        final Transaction transaction = getCommonTransactionBuilder().build();
+        when(factory.createTransaction(definition)).thenReturn(transaction);
+        when(repository.save(transaction)).thenReturn(transaction);
+        doThrow(ApiException.class)
+                .when(transactionAuditEventService)
+                .postActivityAuditEvent(
+                        any(), any(), any(), any(), any(), any(), any(AuditActivityType.class));
+
+        // Act
+        final Transaction created = service.createTransaction(definition, "token");
+
+        // Assert
+        assertEquals(transaction, created);
+        assertTrue(
+                output.getOut()
+                        .contains(
+                                "An error has occurred when recording a creation audit event for a"
+                                        + " transaction with user id "
+                                        + transaction.getCreatedBy()));
+    }
+
     @Test
     void getTransactionByIdFound() {
         // Arrange
@@ -270,6 +336,127 @@ class TransactionServiceTest {
         assertEquals(pagedResults, service.getFilteredTransactions(filters));
     }
 
+    @Test
+    void getFilteredTransactionsByKeysetReturnsTokenOfLastRowWhenMoreRowsFollow() {
+        final List<Transaction> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(
+                    Transaction.builder()
+                            .id(UUID.randomUUID())
+                            .createdTimestamp(OffsetDateTime.now().minusDays(i))
+                            .build());
+        }
+        final Sort.Order order = Sort.Order.desc("createdTimestamp");
+        when(repository.findAllByKeyset(any(), any(), any(), ArgumentMatchers.anyInt()))
+                .thenReturn(rows);
+
+        final KeysetPage<Transaction> page =
+                service.getFilteredTransactions(keysetFilters("createdTimestamp", 2), "");
+
+        assertEquals(rows.subList(0, 2), page.getContent());
+        assertEquals(2, page.getSize());
+        final KeysetPageToken next =
+                KeysetPageToken.decode(page.getNextPageToken(), Transaction.class, order);
+        assertEquals(rows.get(1).getId(), next.getLastId());
+        assertEquals(
+                rows.get(1).getCreatedTimestamp().toInstant(),
+                ((OffsetDateTime) next.getLastValue()).toInstant());
+        // one extra row is read to find out whether another page follows
+        verify(repository)
+                .findAllByKeyset(
+                        any(),
+                        ArgumentMatchers.eq(order),
+                        ArgumentMatchers.isNull(),
+                        ArgumentMatchers.eq(3));
+    }
+
+    @Test
+    void getFilteredTransactionsByKeysetSeeksPastTokenAndEndsOnShortPage() {
+        final Transaction row = Transaction.builder().id(UUID.randomUUID()).build();
+        final Sort.Order order = Sort.Order.desc("createdTimestamp");
+        final KeysetPageToken token =
+                new KeysetPageToken(
+                        "createdTimestamp",
+                        Sort.Direction.DESC,
+                        OffsetDateTime.now(),
+                        UUID.randomUUID());
+        when(repository.findAllByKeyset(any(), any(), any(), ArgumentMatchers.anyInt()))
+                .thenReturn(List.of(row));
+
+        final KeysetPage<Transaction> page =
+                service.getFilteredTransactions(
+                        keysetFilters("createdTimestamp", 2), token.encode());
+
+        assertEquals(List.of(row), page.getContent());
+        assertFalse(page.hasNext());
+        verify(repository)
+                .findAllByKeyset(
+                        any(),
+                        ArgumentMatchers.eq(order),
+                        ArgumentMatchers.argThat(
+                                after -> token.getLastId().equals(after.getLastId())),
+                        ArgumentMatchers.eq(3));
+    }
+
+    @Test
+    void getFilteredTransactionsByKeysetRejectsTokenOfAnotherSort() {
+        final String token =
+                new KeysetPageToken("status", Sort.Direction.DESC, "new", UUID.randomUUID())
+                        .encode();
+        final TransactionFilters filters = keysetFilters("createdTimestamp", 2);
+
+        assertThrows(
+                ProvidedDataException.class, () -> service.getFilteredTransactions(filters, token));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void getFilteredTransactionSummaries() {
+        final TransactionSummary summary =
+                TransactionSummary.builder().id(UUID.randomUUID()).build();
+        final Page<TransactionSummary> pagedResults = new PageImpl<>(List.of(summary));
+        when(repository.findAllSummaries(any(), ArgumentMatchers.<Pageable>any()))
+                .thenReturn(pagedResults);
+
+        assertEquals(
+                pagedResults,
+                service.getFilteredTransactionSummaries(keysetFilters("createdTimestamp", 2)));
+        verify(repository, never()).findAll(any(), ArgumentMatchers.<Pageable>any());
+    }
+
+    @Test
+    void getFilteredTransactionSummariesByKeysetReturnsTokenOfLastRow() {
+        final List<TransactionSummary> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(
+                    TransactionSummary.builder()
+                            .id(UUID.randomUUID())
+                            .createdTimestamp(OffsetDateTime.now().minusDays(i))
+                            .build());
+        }
+        final Sort.Order order = Sort.Order.desc("createdTimestamp");
+        when(repository.findAllSummariesByKeyset(any(), any(), any(), ArgumentMatchers.anyInt()))
+                .thenReturn(rows);
+
+        final KeysetPage<TransactionSummary> page =
+                service.getFilteredTransactionSummaries(keysetFilters("createdTimestamp", 2), "");
+
+        assertEquals(rows.subList(0, 2), page.getContent());
+        final KeysetPageToken next =
+                KeysetPageToken.decode(page.getNextPageToken(), Transaction.class, order);
+        assertEquals(rows.get(1).getId(), next.getLastId());
+        verify(repository, never()).findAllByKeyset(any(), any(), any(), ArgumentMatchers.anyInt());
+    }
+
+    private static TransactionFilters keysetFilters(final String sortBy, final int pageSize) {
+        return SearchTransactionsFilters.builder()
+                .sortBy(sortBy)
+                .sortOrder("DESC")
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .build();
+    }
+
     @Test
     void getTransactionCountsByStatus() {
         // Arrange
@@ -324,6 +511,33 @@ class TransactionServiceTest {
         assertEquals(withTasksPublicStatus, response.get(1).getStatus());
     }
 
+    @Test
+    void getTransactionCountsByStatusFromRollup() {
+        final SearchTransactionsFilters filters =
+                SearchTransactionsFilters.builder()
+                        .transactionDefinitionKeys(List.of("dummy"))
+                        .priority(List.of(TransactionPriority.MEDIUM))
+                        .status(List.of("public"))
+                        .build();
+
+        when(workflowTasksService.getCamundaStatuses(
+                        WorkflowTasksService.StatusType.PUBLIC.name(),
+                        null,
+                        filters.getTransactionDefinitionKeys()))
+                .thenReturn(List.of("public"));
+        when(workflowTasksService.getStatusMap(null, filters.getTransactionDefinitionKeys()))
+                .thenReturn(Map.of("public", List.of("internal")));
+        when(transactionCountRepository.countByStatus(filters)).thenReturn(Map.of("internal", 7L));
+
+        List<TransactionCountByStatusModel> response =
+                service.getTransactionCountsByStatus(filters);
+
+        assertEquals(1, response.size());
+        assertEquals("public", response.get(0).getStatus());
+        assertEquals(7, response.get(0).getCount());
+        verify(repository, never()).getTransactionCountsByStatus(any());
+    }
+
     @Test
     void updateCustomerProvidedDocumentTest_ValidationFails_RejectedButNoReasonGiven() {
         Transaction transaction = getCommonTransactionBuilder().build();
@@ -1260,6 +1474,61 @@ class TransactionServiceTest {
         verify(existingTransaction).setAssignedTo(null);
     }
 
+    @Test
+    void updateTransactionFromDataPatchSkipsDocumentsThePatchDoesNotName() {
+        Transaction transaction = createTransactionWithDocumentAttribute();
+        when(repository.save(transaction)).thenReturn(transaction);
+
+        Transaction result =
+                service.updateTransactionFromDataPatch(
+                        transaction, Map.of("name", "new name"), Map.of());
+
+        assertEquals(transaction, result);
+        verify(service, never()).updateDocuments(any(), any(), any());
+    }
+
+    @Test
+    void updateTransactionFromDataPatchUpdatesDocumentsThePatchNames() {
+        Transaction transaction = createTransactionWithDocumentAttribute();
+        when(repository.save(transaction)).thenReturn(transaction);
+        doReturn(List.of()).when(service).updateDocuments(transaction, transaction, Map.of());
+
+        service.updateTransactionFromDataPatch(
+                transaction,
+                Map.of("document1", Map.of("documentId", UUID.randomUUID().toString())),
+                Map.of());
+
+        verify(service).updateDocuments(transaction, transaction, Map.of());
+        verify(repository).save(transaction);
+    }
+
+    @Test
+    void updateTransactionFromDataPatchAndCompleteTaskCompletesTheTaskWithThePatchedData()
+            throws MissingTaskException, JsonProcessingException {
+        Transaction transaction = createTransactionWithDocumentAttribute();
+        when(repository.save(transaction)).thenReturn(transaction);
+
+        Transaction result =
+                service.updateTransactionFromDataPatchAndCompleteTask(
+                        transaction, Map.of("name", "new name"), "taskId", Map.of());
+
+        assertEquals(transaction, result);
+        verify(transactionTaskService).completeTask(transaction, "taskId", null);
+    }
+
+    private Transaction createTransactionWithDocumentAttribute() {
+        Schema schema =
+                Schema.builder()
+                        .key("testSchemaKey")
+                        .properties(
+                                List.of(
+                                        new DynaProperty("name", String.class),
+                                        new DynaProperty("document1", Document.class)))
+                        .build();
+
+        return Transaction.builder().id(UUID.randomUUID()).data(new DynamicEntity(schema)).build();
+    }
+
     @Test
     void testGetTransactionByProcessInstanceId_WhenTransactionExists() {
         Transaction transaction = getCommonTransactionBuilder().build();
@@ -1350,21 +1619,10 @@ class TransactionServiceTest {
 
         String summary = "Transaction Created.";
 
-        when(transactionAuditEventService.postActivityAuditEvent(
-                        transaction.getCreatedBy(),
-                        transaction.getCreatedBy(),
-                        summary,
-                        transaction.getId(),
-                        AuditEventBusinessObject.TRANSACTION,
-                        transactionInfo.toJson(),
-                        AuditActivityType.TRANSACTION_CREATED))
-                .thenReturn(new AuditEventId());
-
         // Act
-        AuditEventId result = service.postAuditEventForTransactionCreated(transaction);
+        service.postAuditEventForTransactionCreated(transaction);
 
         // Assert
-        assertEquals(AuditEventId.class, result.getClass());
 
         verify(transactionAuditEventService, times(1))
                 .postActivityAuditEvent(
@@ -1526,23 +1784,11 @@ class TransactionServiceTest {
                         documentFieldPath,
                         rejectionReasonsStrings);
 
-        when(transactionAuditEventService.postActivityAuditEvent(
-                        document.getCreatedBy(),
-                        document.getCreatedBy(),
-                        summary,
-                        document.getTransactionId(),
-                        AuditEventBusinessObject.TRANSACTION,
-                        documentInfo.toJson(),
-                        auditActivityType))
-                .thenReturn(new AuditEventId());
-
         // Act
-        AuditEventId result =
-                service.postAuditEventForDocumentStatusChanged(
-                        document, documentFieldPath, auditActivityType, summary);
+        service.postAuditEventForDocumentStatusChanged(
+                document, documentFieldPath, auditActivityType, summary);
 
         // Assert
-        assertEquals(AuditEventId.class, result.getClass());
 
         verify(transactionAuditEventService, times(1))
                 .postActivityAuditEvent(
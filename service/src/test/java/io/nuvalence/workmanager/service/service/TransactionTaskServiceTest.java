@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,6 +46,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -195,6 +197,66 @@ class TransactionTaskServiceTest {
         assertEquals("task1", tasks.get(0).getKey());
     }
 
+    @Test
+    void getActiveTasksForCurrentUserByProcessInstanceIdUsesSingleQuery() {
+        final Transaction first =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("pi-1").build();
+        final Transaction second =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("pi-2").build();
+        final Transaction notStarted =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("").build();
+        final TaskEntity task = new TaskEntity("task1");
+        task.setTaskDefinitionKey("task1");
+        task.setProcessInstanceId("pi-2");
+        task.setProcessDefinitionId("process-definition-id");
+        when(taskQuery.processInstanceIdIn("pi-1", "pi-2")).thenReturn(taskQuery);
+        when(taskQuery.list()).thenReturn(List.of(task));
+
+        Map<String, List<WorkflowTask>> tasks =
+                service.getActiveTasksForCurrentUserByProcessInstanceId(
+                        List.of(first, second, notStarted));
+
+        assertEquals(Set.of("pi-2"), tasks.keySet());
+        assertEquals("task1", tasks.get("pi-2").get(0).getKey());
+        verify(taskService, times(1)).createTaskQuery();
+        verify(camundaWorkflowInspectorCache, never()).getByProcessInstanceId(any());
+    }
+
+    @Test
+    void getActiveTasksForCurrentUserByProcessInstanceIdSkipsQueryWhenNoWorkflowStarted() {
+        final Transaction notStarted =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("").build();
+
+        assertTrue(
+                service.getActiveTasksForCurrentUserByProcessInstanceId(List.of(notStarted))
+                        .isEmpty());
+        verify(taskService, never()).createTaskQuery();
+    }
+
+    @Test
+    void getProcessInstanceIdsThatReachedEndEventUsesSingleQuery() {
+        final Transaction ended =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("pi-1").build();
+        final Transaction running =
+                Transaction.builder().id(UUID.randomUUID()).processInstanceId("pi-2").build();
+        final HistoricProcessInstanceQuery historicProcessInstanceQuery =
+                mock(HistoricProcessInstanceQuery.class);
+        final HistoricProcessInstance historicProcessInstance = mock(HistoricProcessInstance.class);
+        when(historicProcessInstance.getId()).thenReturn("pi-1");
+        when(historyService.createHistoricProcessInstanceQuery())
+                .thenReturn(historicProcessInstanceQuery);
+        when(historicProcessInstanceQuery.processInstanceIds(Set.of("pi-1", "pi-2")))
+                .thenReturn(historicProcessInstanceQuery);
+        when(historicProcessInstanceQuery.finished()).thenReturn(historicProcessInstanceQuery);
+        when(historicProcessInstanceQuery.list()).thenReturn(List.of(historicProcessInstance));
+
+        Set<String> endedIds =
+                service.getProcessInstanceIdsThatReachedEndEvent(List.of(ended, running));
+
+        assertEquals(Set.of("pi-1"), endedIds);
+        verify(historyService, times(1)).createHistoricProcessInstanceQuery();
+    }
+
     @Test
     void hasReachedEndEvent_ReturnsTrueWhenProcessHasEnded() {
         final Transaction transaction =
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.utils.camunda.WorkflowStatusIndexCache;
 import org.camunda.bpm.engine.HistoryService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.RepositoryService;
@@ -23,6 +24,7 @@ import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.repository.ProcessDefinitionQuery;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.task.TaskQuery;
+import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.bpmn.instance.UserTask;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,7 +60,9 @@ class WorkflowTasksServiceTest {
         processEngine = mock(ProcessEngine.class);
 
         // init service
-        service = new WorkflowTasksService(processEngine, transactionDefService);
+        service =
+                new WorkflowTasksService(
+                        processEngine, transactionDefService, new WorkflowStatusIndexCache());
     }
 
     @Test
@@ -244,6 +248,31 @@ class WorkflowTasksServiceTest {
         assert (new File(resourceName).exists() == false);
     }
 
+    @Test
+    void statusIndexIsBuiltOncePerProcessDefinition() throws Exception {
+
+        // vars
+        String resourceName = "statusIndexIsBuiltOncePerProcessDefinition";
+
+        // readable bpmn model
+        Files.write(Paths.get(resourceName), getBpmnModelString().getBytes("UTF-8"));
+
+        // process def query
+        initProcessDefinitionQuery(resourceName, null);
+
+        // method test
+        service.getStatusMap(null, null);
+        service.getCamundaStatuses("internal", null, null);
+        Map<String, List<String>> response = service.getStatusMap(null, null);
+
+        // checks and asserts
+        verify(processEngine.getRepositoryService(), times(1)).getBpmnModelInstance(resourceName);
+        assertEquals(List.of("internalPropValue"), response.get("publicPropValue"));
+
+        Files.delete(Paths.get(resourceName));
+        assert (new File(resourceName).exists() == false);
+    }
+
     @Test
     void getCamundaStatusesMapModelResourceNotFound() throws Exception {
 
@@ -404,8 +433,16 @@ class WorkflowTasksServiceTest {
             processDefinition.setKey(processId.toString());
         }
 
+        processDefinition.setId(resourceName);
         processDefinition.setResourceName(resourceName);
 
+        // deployed bpmn model, when the test provides one
+        if (Files.exists(Paths.get(resourceName))) {
+            lenient()
+                    .when(repositoryService.getBpmnModelInstance(resourceName))
+                    .thenReturn(Bpmn.readModelFromFile(new File(resourceName)));
+        }
+
         List<ProcessDefinition> processDefinitions = new ArrayList<ProcessDefinition>();
         processDefinitions.add(processDefinition);
 
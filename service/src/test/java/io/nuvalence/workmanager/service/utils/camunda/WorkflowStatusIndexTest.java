@@ -0,0 +1,119 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.nuvalence.workmanager.service.service.WorkflowTasksService.StatusType;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.helpers.AttributesImpl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+class WorkflowStatusIndexTest {
+    private static final String BPMN_NAMESPACE = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+    private static final String CAMUNDA_NAMESPACE = "http://camunda.org/schema/1.0/bpmn";
+
+    @Test
+    void fromModelIndexesStatusProperties() {
+        final WorkflowStatusIndex index =
+                WorkflowStatusIndex.fromModel(
+                        Bpmn.readModelFromStream(
+                                new ByteArrayInputStream(bpmn().getBytes(StandardCharsets.UTF_8))));
+
+        assertIndex(index);
+    }
+
+    @Test
+    void fromElementIndexesStatusPropertiesLikeFromModel() {
+        final Element root = element(BPMN_NAMESPACE, "definitions");
+        final Element process = element(BPMN_NAMESPACE, "process");
+        root.add(process);
+        process.add(userTask("Draft", "new"));
+        process.add(userTask("In Review", "review"));
+        process.add(userTask("In Review", "secondReview"));
+
+        final WorkflowStatusIndex index = WorkflowStatusIndex.fromElement(root);
+
+        assertIndex(index);
+    }
+
+    @Test
+    void emptyIndexHasNoStatuses() {
+        assertEquals(List.of(), WorkflowStatusIndex.EMPTY.getStatuses(StatusType.PUBLIC));
+        assertEquals(Map.of(), WorkflowStatusIndex.EMPTY.getPublicToInternalStatuses());
+    }
+
+    private static void assertIndex(final WorkflowStatusIndex index) {
+        assertEquals(List.of("Draft", "In Review"), index.getStatuses(StatusType.PUBLIC));
+        assertEquals(
+                List.of("new", "review", "secondReview"), index.getStatuses(StatusType.INTERNAL));
+        assertEquals(
+                Map.of("Draft", List.of("new"), "In Review", List.of("review", "secondReview")),
+                index.getPublicToInternalStatuses());
+        assertEquals(
+                Map.of(
+                        "new", List.of("Draft"),
+                        "review", List.of("In Review"),
+                        "secondReview", List.of("In Review")),
+                index.getInternalToPublicStatuses());
+    }
+
+    private static Element userTask(final String publicStatus, final String internalStatus) {
+        final Element userTask = element(BPMN_NAMESPACE, "userTask");
+        final Element extensionElements = element(BPMN_NAMESPACE, "extensionElements");
+        final Element properties = element(CAMUNDA_NAMESPACE, "properties");
+        properties.add(property("publicStatus", publicStatus));
+        properties.add(property("status", internalStatus));
+        extensionElements.add(properties);
+        userTask.add(extensionElements);
+        return userTask;
+    }
+
+    private static Element property(final String name, final String value) {
+        final AttributesImpl attributes = new AttributesImpl();
+        attributes.addAttribute("", "name", "name", "CDATA", name);
+        attributes.addAttribute("", "value", "value", "CDATA", value);
+        return new Element(CAMUNDA_NAMESPACE, "property", "camunda:property", attributes, null);
+    }
+
+    private static Element element(final String uri, final String localName) {
+        return new Element(uri, localName, localName, new AttributesImpl(), null);
+    }
+
+    private static String bpmn() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<bpmn:definitions xmlns:bpmn=\""
+                + BPMN_NAMESPACE
+                + "\" xmlns:camunda=\""
+                + CAMUNDA_NAMESPACE
+                + "\" id=\"definitions\" targetNamespace=\"http://bpmn.io/schema/bpmn\">\n"
+                + "  <bpmn:process id=\"process\" isExecutable=\"true\">\n"
+                + userTaskXml("task1", "Draft", "new")
+                + userTaskXml("task2", "In Review", "review")
+                + userTaskXml("task3", "In Review", "secondReview")
+                + "  </bpmn:process>\n"
+                + "</bpmn:definitions>\n";
+    }
+
+    private static String userTaskXml(
+            final String id, final String publicStatus, final String internalStatus) {
+        return "    <bpmn:userTask id=\""
+                + id
+                + "\">\n"
+                + "      <bpmn:extensionElements>\n"
+                + "        <camunda:properties>\n"
+                + "          <camunda:property name=\"publicStatus\" value=\""
+                + publicStatus
+                + "\" />\n"
+                + "          <camunda:property name=\"status\" value=\""
+                + internalStatus
+                + "\" />\n"
+                + "        </camunda:properties>\n"
+                + "      </bpmn:extensionElements>\n"
+                + "    </bpmn:userTask>\n";
+    }
+}
@@ -0,0 +1,121 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class FormioExpressionTest {
+    private static final Map<String, Object> MODEL = new HashMap<>();
+
+    static {
+        MODEL.putAll(
+                Map.of(
+                        "isMailingAddressNeeded",
+                        true,
+                        "employmentStatus",
+                        "employed",
+                        "age",
+                        42,
+                        "income",
+                        new BigDecimal("1250.50"),
+                        "emptyName",
+                        "",
+                        "employer",
+                        Map.of("name", "Nuvalence"),
+                        "children",
+                        List.of(Map.of("name", "first"), Map.of("name", "second")),
+                        "numericString",
+                        "1e3",
+                        "suffixedNumber",
+                        "1d"));
+        MODEL.put("nothing", null);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = ';',
+            value = {
+                "model.isMailingAddressNeeded ; true",
+                "!model.isMailingAddressNeeded ; false",
+                "!model.missing ; true",
+                "model.employmentStatus == 'employed' ; true",
+                "model.employmentStatus === \"employed\" ; true",
+                "model.employmentStatus != 'employed' ; false",
+                "model.age == '42' ; true",
+                "model.age === '42' ; false",
+                "model.age !== 42 ; false",
+                "model.age >= 18 && model.age < 65 ; true",
+                "model.income > 1000.5 ; true",
+                "model.emptyName ; false",
+                "model.emptyName || model.employmentStatus ; true",
+                "model.employer?.name == 'Nuvalence' ; true",
+                "model.missing?.name ; false",
+                "model.missing == null ; true",
+                "model.missing === undefined ; true",
+                "model.missing === null ; false",
+                "model.missing < 5 ; false",
+                "model.missing >= 0 ; false",
+                "model.nothing === undefined ; false",
+                "model.nothing === null ; true",
+                "model.nothing == undefined ; true",
+                "model.nothing < 5 ; true",
+                "model.nothing >= 0 ; true",
+                "model.nothing == 0 ; false",
+                "model.children[5] === undefined ; true",
+                "model.employer?.missing === undefined ; true",
+                "model.numericString == 1000 ; true",
+                "model.numericString > 999 ; true",
+                "model.suffixedNumber == 1 ; false",
+                "model.suffixedNumber < 2 ; false",
+                "' 0x10 ' == 16 ; true",
+                "'Infinity' > 1 ; true",
+                "'NaN' == 'NaN' ; true",
+                "'1f' == 1 ; false",
+                "model.children.length == 2 ; true",
+                "model.children[1].name == 'second' ; true",
+                "model['employmentStatus'] == 'employed' ; true",
+                "!(model.age > 40 || model.age < -1) ; false",
+            })
+    void evaluatesUsingJavaScriptSemantics(final String expression, final boolean expected)
+            throws FormioExpressionException {
+        assertEquals(expected, FormioExpression.compile(expression).test(MODEL));
+    }
+
+    @Test
+    void compiledExpressionsAreCachedBySource() throws FormioExpressionException {
+        assertSame(
+                FormioExpression.compile("model.age > 1"),
+                FormioExpression.compile("model.age > 1"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            value = {
+                "java.lang.System.exit(0)",
+                "model.age + 1",
+                "model.name.toUpperCase()",
+                "model.age >",
+                "'unterminated",
+            })
+    void rejectsExpressionsOutsideTheSupportedSubset(final String expression) {
+        assertThrows(FormioExpressionException.class, () -> FormioExpression.compile(expression));
+    }
+
+    @Test
+    void readingPropertyOfMissingValueWithoutOptionalChainingFails()
+            throws FormioExpressionException {
+        final FormioExpression expression = FormioExpression.compile("model.missing.name");
+
+        assertThrows(FormioExpressionException.class, () -> expression.test(MODEL));
+    }
+}
@@ -0,0 +1,236 @@
+package io.nuvalence.workmanager.service.utils.formconfig.formio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.workmanager.service.config.SpringConfig;
+import io.nuvalence.workmanager.service.config.exceptions.model.NuvalenceFormioValidationExItem;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DynamicEntity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.formconfig.formio.NuvalenceFormioComponent;
+import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class FormioValidationPlanTest {
+    private static final Schema CONTACT_SCHEMA =
+            Schema.builder()
+                    .name("Contact")
+                    .property("hasContact", Boolean.class)
+                    .property("phone", String.class)
+                    .property("email", String.class)
+                    .property("since", LocalDate.class)
+                    .build();
+    private static final Schema SCHEMA =
+            Schema.builder()
+                    .name("Test")
+                    .property("name", String.class)
+                    .property("contact", CONTACT_SCHEMA)
+                    .build();
+
+    private Object previousApplicationContext;
+
+    // a static mock is only visible to the thread that created it, so the concurrency test needs
+    // EntityMapper.getInstance() to resolve through an application context instead
+    @BeforeEach
+    void setUp() {
+        previousApplicationContext =
+                ReflectionTestUtils.getField(EntityMapper.class, "applicationContext");
+        final EntityMapper entityMapper = Mappers.getMapper(EntityMapper.class);
+        final ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBean(EntityMapper.class)).thenReturn(entityMapper);
+        entityMapper.setApplicationContext(applicationContext);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(
+                EntityMapper.class, "applicationContext", previousApplicationContext);
+    }
+
+    @Test
+    void hiddenComponentLiftsConstraintsOfNestedComponents() {
+        final FormioValidationPlan plan = FormioValidationPlan.compile(step());
+
+        assertEquals(List.of(), errors(plan, contact(false, null, null)));
+    }
+
+    @Test
+    void requireExpressionOverridesRequiredFlag() {
+        final FormioValidationPlan plan = FormioValidationPlan.compile(step());
+
+        assertEquals(
+                List.of("contact.phone:required", "contact.email:required"),
+                errors(plan, contact(true, null, null)));
+    }
+
+    @Test
+    void validationStateDoesNotLeakBetweenValidations() {
+        final FormioValidationPlan plan = FormioValidationPlan.compile(step());
+
+        errors(plan, contact(false, null, null));
+
+        assertEquals(
+                List.of("contact.phone:pattern", "contact.email:required"),
+                errors(plan, contact(true, "not-a-phone", null)));
+        assertEquals(List.of(), errors(plan, contact(false, "not-a-phone", null)));
+    }
+
+    @Test
+    void validationDoesNotModifySourceComponents() {
+        final NuvalenceFormioComponent step = step();
+        final NuvalenceFormioComponent phone = step.getComponents().get(0);
+
+        FormioValidationPlan.compile(step).validate(contact(false, null, null), new ArrayList<>());
+
+        assertTrue(phone.getProps().isRequired());
+        assertEquals("[0-9]{10}", phone.getProps().getPattern());
+    }
+
+    @Test
+    void malformedRulesOnlyFailTheirOwnComponent() {
+        final NuvalenceFormioComponent step =
+                SpringConfig.getMapper()
+                        .convertValue(
+                                Map.of(
+                                        "key",
+                                        "contact",
+                                        "components",
+                                        List.of(
+                                                Map.of(
+                                                        "key",
+                                                        "contact.phone",
+                                                        "props",
+                                                        Map.of("pattern", "[0-9")),
+                                                Map.of(
+                                                        "key",
+                                                        "contact.email",
+                                                        "props",
+                                                        Map.of("pattern", ".+@example\\.com")),
+                                                Map.of(
+                                                        "key",
+                                                        "contact.since",
+                                                        "props",
+                                                        Map.of(
+                                                                "relativeMaxDate",
+                                                                "2-fortnight",
+                                                                "relativeMinDate",
+                                                                "-1-year")))),
+                                NuvalenceFormioComponent.class);
+        final DynamicEntity entity = contact(true, "5555555555", "someone@example.com");
+        ((DynamicEntity) entity.get("contact")).set("since", LocalDate.now());
+
+        final FormioValidationPlan plan = FormioValidationPlan.compile(step);
+
+        assertEquals(
+                List.of("contact.phone:pattern", "contact.since:relativeMaxDate"),
+                errors(plan, entity));
+    }
+
+    @Test
+    void sharedPlanValidatesConcurrently() throws Exception {
+        final FormioValidationPlan plan = FormioValidationPlan.compile(step());
+        final List<DynamicEntity> entities =
+                List.of(
+                        contact(false, "not-a-phone", null),
+                        contact(true, null, null),
+                        contact(true, "not-a-phone", "someone@example.com"),
+                        contact(true, "5555555555", "someone@example.com"));
+        final List<List<String>> expected =
+                entities.stream().map(entity -> errors(plan, entity)).toList();
+
+        final int threads = 8;
+        final int validationsPerThread = 2_000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                final Callable<Integer> worker =
+                        () -> {
+                            start.await();
+                            int mismatches = 0;
+                            for (int i = 0; i < validationsPerThread; i++) {
+                                final int index = (i + offset) % entities.size();
+                                if (!expected.get(index)
+                                        .equals(errors(plan, entities.get(index)))) {
+                                    mismatches++;
+                                }
+                            }
+                            return mismatches;
+                        };
+                results.add(executor.submit(worker));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> errors(
+            final FormioValidationPlan plan, final DynamicEntity entity) {
+        final List<NuvalenceFormioValidationExItem> errors = new ArrayList<>();
+        plan.validate(entity, errors);
+        return errors.stream()
+                .map(error -> error.getControlName() + ":" + error.getErrorName())
+                .toList();
+    }
+
+    private static DynamicEntity contact(
+            final boolean hasContact, final String phone, final String email) {
+        final DynamicEntity contact = new DynamicEntity(CONTACT_SCHEMA);
+        contact.set("hasContact", hasContact);
+        contact.set("phone", phone);
+        contact.set("email", email);
+        final DynamicEntity entity = new DynamicEntity(SCHEMA);
+        entity.set("contact", contact);
+        return entity;
+    }
+
+    private static NuvalenceFormioComponent step() {
+        return SpringConfig.getMapper()
+                .convertValue(
+                        Map.of(
+                                "key",
+                                "contact",
+                                "expressions",
+                                Map.of("hide", "!model.contact.hasContact"),
+                                "components",
+                                List.of(
+                                        Map.of(
+                                                "key",
+                                                "contact.phone",
+                                                "props",
+                                                Map.of("required", true, "pattern", "[0-9]{10}")),
+                                        Map.of(
+                                                "key",
+                                                "contact.email",
+                                                "props",
+                                                Map.of("required", false),
+                                                "expressions",
+                                                Map.of("require", "model.contact?.hasContact")))),
+                        NuvalenceFormioComponent.class);
+    }
+}